@@ -19,6 +19,9 @@ package com.alibaba.nacos.api.config;
 import com.alibaba.nacos.api.config.listener.Listener;
 import com.alibaba.nacos.api.exception.NacosException;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * Config Service Interface.
  *
@@ -37,6 +40,18 @@ public interface ConfigService {
      */
     String getConfig(String dataId, String group, long timeoutMs) throws NacosException;
     
+    /**
+     * Get a batch of configs in the namespace of this config service with as few server round trips as possible.
+     *
+     * <p>The result keeps the order of {@code configKeys}; configs which do not exist are mapped to {@code null}.
+     *
+     * @param configKeys keys of configs to get
+     * @param timeoutMs  read timeout
+     * @return config values of the keys
+     * @throws NacosException NacosException
+     */
+    Map<ConfigKey, String> getConfigs(List<ConfigKey> configKeys, long timeoutMs) throws NacosException;
+    
     /**
      * Get config and register Listener.
      *
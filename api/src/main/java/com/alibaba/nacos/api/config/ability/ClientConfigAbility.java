@@ -33,6 +33,11 @@ public class ClientConfigAbility implements Serializable {
      */
     private boolean supportRemoteMetrics;
     
+    /**
+     * support applying the config content carried by config change notify request.
+     */
+    private boolean supportContentPush;
+    
     public boolean isSupportRemoteMetrics() {
         return supportRemoteMetrics;
     }
@@ -40,4 +45,12 @@ public class ClientConfigAbility implements Serializable {
     public void setSupportRemoteMetrics(boolean supportRemoteMetrics) {
         this.supportRemoteMetrics = supportRemoteMetrics;
     }
+    
+    public boolean isSupportContentPush() {
+        return supportContentPush;
+    }
+    
+    public void setSupportContentPush(boolean supportContentPush) {
+        this.supportContentPush = supportContentPush;
+    }
 }
@@ -34,6 +34,11 @@ public class ServerConfigAbility implements Serializable {
      */
     private boolean supportRemoteMetrics;
     
+    /**
+     * support receiving config changes from other members in batch.
+     */
+    private boolean supportBatchClusterSync;
+    
     public boolean isSupportRemoteMetrics() {
         return supportRemoteMetrics;
     }
@@ -42,6 +47,14 @@ public class ServerConfigAbility implements Serializable {
         this.supportRemoteMetrics = supportRemoteMetrics;
     }
     
+    public boolean isSupportBatchClusterSync() {
+        return supportBatchClusterSync;
+    }
+    
+    public void setSupportBatchClusterSync(boolean supportBatchClusterSync) {
+        this.supportBatchClusterSync = supportBatchClusterSync;
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -51,11 +64,12 @@ public class ServerConfigAbility implements Serializable {
             return false;
         }
         ServerConfigAbility that = (ServerConfigAbility) o;
-        return supportRemoteMetrics == that.supportRemoteMetrics;
+        return supportRemoteMetrics == that.supportRemoteMetrics
+                && supportBatchClusterSync == that.supportBatchClusterSync;
     }
     
     @Override
     public int hashCode() {
-        return Objects.hash(supportRemoteMetrics);
+        return Objects.hash(supportRemoteMetrics, supportBatchClusterSync);
     }
 }
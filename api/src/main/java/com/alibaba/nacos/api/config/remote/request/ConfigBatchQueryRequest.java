@@ -0,0 +1,69 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.request;
+
+import com.alibaba.nacos.api.config.ConfigKey;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * request of querying a batch of configs in one namespace.
+ *
+ * @author Nacos
+ */
+public class ConfigBatchQueryRequest extends AbstractConfigRequest {
+    
+    /**
+     * max count of configs in one batch query request.
+     */
+    public static final int MAX_BATCH_SIZE = 500;
+    
+    private String tenant;
+    
+    private List<ConfigKey> configKeys = new ArrayList<>();
+    
+    /**
+     * build a batch query request.
+     *
+     * @param tenant     tenant.
+     * @param configKeys keys of configs to query.
+     * @return request.
+     */
+    public static ConfigBatchQueryRequest build(String tenant, List<ConfigKey> configKeys) {
+        ConfigBatchQueryRequest request = new ConfigBatchQueryRequest();
+        request.setTenant(tenant);
+        request.setConfigKeys(new ArrayList<>(configKeys));
+        return request;
+    }
+    
+    public String getTenant() {
+        return tenant;
+    }
+    
+    public void setTenant(String tenant) {
+        this.tenant = tenant;
+    }
+    
+    public List<ConfigKey> getConfigKeys() {
+        return configKeys;
+    }
+    
+    public void setConfigKeys(List<ConfigKey> configKeys) {
+        this.configKeys = configKeys;
+    }
+}
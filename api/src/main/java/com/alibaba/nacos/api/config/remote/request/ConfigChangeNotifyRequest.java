@@ -22,6 +22,10 @@ import com.alibaba.nacos.api.remote.request.ServerRequest;
 /**
  * ConfigChangeNotifyRequest.
  *
+ * <p>The request carries the content, md5, type and encrypted data key of the changed config only if the client
+ * supports content push and the config is small enough, otherwise the client should query the content from server.
+ * The last modified time of the carried content lets the client ignore pushes that arrive out of order.
+ *
  * @author liuzunfei
  * @version $Id: ConfigChangeNotifyRequest.java, v 0.1 2020年07月14日 3:20 PM liuzunfei Exp $
  */
@@ -33,6 +37,16 @@ public class ConfigChangeNotifyRequest extends ServerRequest {
     
     String tenant;
     
+    String content;
+    
+    String md5;
+    
+    String contentType;
+    
+    String encryptedDataKey;
+    
+    long lastModified;
+    
     public String getDataId() {
         return dataId;
     }
@@ -57,6 +71,46 @@ public class ConfigChangeNotifyRequest extends ServerRequest {
         this.tenant = tenant;
     }
     
+    public String getContent() {
+        return content;
+    }
+    
+    public void setContent(String content) {
+        this.content = content;
+    }
+    
+    public String getMd5() {
+        return md5;
+    }
+    
+    public void setMd5(String md5) {
+        this.md5 = md5;
+    }
+    
+    public String getContentType() {
+        return contentType;
+    }
+    
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+    
+    public String getEncryptedDataKey() {
+        return encryptedDataKey;
+    }
+    
+    public void setEncryptedDataKey(String encryptedDataKey) {
+        this.encryptedDataKey = encryptedDataKey;
+    }
+    
+    public long getLastModified() {
+        return lastModified;
+    }
+    
+    public void setLastModified(long lastModified) {
+        this.lastModified = lastModified;
+    }
+    
     /**
      * build success response.
      *
@@ -0,0 +1,41 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.api.config.remote.request.cluster;
+
+import com.alibaba.nacos.api.config.remote.request.AbstractConfigRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * config change sync request on clusters which carries a batch of changes, ordered by the last modified time.
+ *
+ * @author Nacos
+ */
+public class ConfigChangeClusterBatchSyncRequest extends AbstractConfigRequest {
+    
+    private List<ConfigChangeClusterSyncRequest> changes = new ArrayList<>();
+    
+    public List<ConfigChangeClusterSyncRequest> getChanges() {
+        return changes;
+    }
+    
+    public void setChanges(List<ConfigChangeClusterSyncRequest> changes) {
+        this.changes = changes;
+    }
+    
+}
@@ -21,6 +21,9 @@ import com.alibaba.nacos.api.config.remote.request.AbstractConfigRequest;
 /**
  * config change sync request on clusters.
  *
+ * <p>The content, md5, type and encryptedDataKey are optional, the sender may carry the content of a small formal
+ * config so the receiver could apply it without reading the database again.
+ *
  * @author liuzunfei
  * @version $Id: ConfigChangeClusterSyncRequest.java, v 0.1 2020年08月11日 4:30 PM liuzunfei Exp $
  */
@@ -38,6 +41,14 @@ public class ConfigChangeClusterSyncRequest extends AbstractConfigRequest {
     
     boolean isBeta;
     
+    String content;
+    
+    String md5;
+    
+    String type;
+    
+    String encryptedDataKey;
+    
     public boolean isBeta() {
         return isBeta;
     }
@@ -136,4 +147,36 @@ public class ConfigChangeClusterSyncRequest extends AbstractConfigRequest {
         this.lastModified = lastModified;
     }
     
+    public String getContent() {
+        return content;
+    }
+    
+    public void setContent(String content) {
+        this.content = content;
+    }
+    
+    public String getMd5() {
+        return md5;
+    }
+    
+    public void setMd5(String md5) {
+        this.md5 = md5;
+    }
+    
+    public String getType() {
+        return type;
+    }
+    
+    public void setType(String type) {
+        this.type = type;
+    }
+    
+    public String getEncryptedDataKey() {
+        return encryptedDataKey;
+    }
+    
+    public void setEncryptedDataKey(String encryptedDataKey) {
+        this.encryptedDataKey = encryptedDataKey;
+    }
+    
 }
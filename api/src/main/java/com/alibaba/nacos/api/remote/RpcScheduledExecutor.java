@@ -34,6 +34,9 @@ public class RpcScheduledExecutor extends ScheduledThreadPoolExecutor {
     public static final RpcScheduledExecutor COMMON_SERVER_EXECUTOR = new RpcScheduledExecutor(1,
             "com.alibaba.nacos.remote.ServerCommonScheduler");
     
+    public static final RpcScheduledExecutor CLIENT_RETRY_SCHEDULER = new RpcScheduledExecutor(1,
+            "com.alibaba.nacos.remote.ClientRetryScheduler");
+    
     public RpcScheduledExecutor(int corePoolSize, final String threadName) {
         super(corePoolSize, new ThreadFactory() {
             private AtomicLong index = new AtomicLong();
@@ -33,6 +33,11 @@ public class ClientRemoteAbility implements Serializable {
      */
     private boolean supportRemoteConnection;
     
+    /**
+     * if support binary encoded payload body.
+     */
+    private boolean supportBinaryPayload;
+    
     public boolean isSupportRemoteConnection() {
         return this.supportRemoteConnection;
     }
@@ -40,4 +45,12 @@ public class ClientRemoteAbility implements Serializable {
     public void setSupportRemoteConnection(boolean supportRemoteConnection) {
         this.supportRemoteConnection = supportRemoteConnection;
     }
+    
+    public boolean isSupportBinaryPayload() {
+        return supportBinaryPayload;
+    }
+    
+    public void setSupportBinaryPayload(boolean supportBinaryPayload) {
+        this.supportBinaryPayload = supportBinaryPayload;
+    }
 }
@@ -34,6 +34,11 @@ public class ServerRemoteAbility implements Serializable {
      */
     private boolean supportRemoteConnection;
     
+    /**
+     * if support binary encoded payload body.
+     */
+    private boolean supportBinaryPayload;
+    
     public boolean isSupportRemoteConnection() {
         return this.supportRemoteConnection;
     }
@@ -42,6 +47,14 @@ public class ServerRemoteAbility implements Serializable {
         this.supportRemoteConnection = supportRemoteConnection;
     }
     
+    public boolean isSupportBinaryPayload() {
+        return supportBinaryPayload;
+    }
+    
+    public void setSupportBinaryPayload(boolean supportBinaryPayload) {
+        this.supportBinaryPayload = supportBinaryPayload;
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -51,11 +64,12 @@ public class ServerRemoteAbility implements Serializable {
             return false;
         }
         ServerRemoteAbility that = (ServerRemoteAbility) o;
-        return supportRemoteConnection == that.supportRemoteConnection;
+        return supportRemoteConnection == that.supportRemoteConnection
+                && supportBinaryPayload == that.supportBinaryPayload;
     }
     
     @Override
     public int hashCode() {
-        return Objects.hash(supportRemoteConnection);
+        return Objects.hash(supportRemoteConnection, supportBinaryPayload);
     }
 }
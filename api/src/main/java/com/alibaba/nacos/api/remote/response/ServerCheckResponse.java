@@ -26,8 +26,10 @@ public class ServerCheckResponse extends Response {
     
     private String connectionId;
     
-    public ServerCheckResponse() {
+    private boolean supportBinaryPayload;
     
+    public ServerCheckResponse() {
+        
     }
     
     public ServerCheckResponse(String connectionId) {
@@ -41,4 +43,12 @@ public class ServerCheckResponse extends Response {
     public void setConnectionId(String connectionId) {
         this.connectionId = connectionId;
     }
+    
+    public boolean isSupportBinaryPayload() {
+        return supportBinaryPayload;
+    }
+    
+    public void setSupportBinaryPayload(boolean supportBinaryPayload) {
+        this.supportBinaryPayload = supportBinaryPayload;
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark;
+
+import org.openjdk.jmh.Main;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Entry of nacos benchmarks, which accepts all options of JMH command line.
+ *
+ * <p>Results are written into {@value #DEFAULT_RESULT_FILE} as JSON by default, so that they can be compared with the
+ * results of former versions by tools. Use {@code -rf} and {@code -rff} to change the format and file of results.
+ *
+ * @author Nacos
+ */
+public class NacosBenchmarkRunner {
+    
+    static final String DEFAULT_RESULT_FILE = "nacos-benchmark-result.json";
+    
+    private static final String RESULT_FORMAT_OPTION = "-rf";
+    
+    private static final String RESULT_FILE_OPTION = "-rff";
+    
+    /**
+     * Run benchmarks.
+     *
+     * @param args JMH command line options, for example {@code ConfigCacheServiceBenchmark -f 1}
+     * @throws Exception exception during running benchmarks
+     */
+    public static void main(String[] args) throws Exception {
+        Main.main(withDefaultResultOptions(args));
+    }
+    
+    static String[] withDefaultResultOptions(String[] args) {
+        List<String> result = new ArrayList<>(Arrays.asList(args));
+        if (!result.contains(RESULT_FORMAT_OPTION) && !result.contains(RESULT_FILE_OPTION)) {
+            result.add(RESULT_FORMAT_OPTION);
+            result.add("json");
+            result.add(RESULT_FILE_OPTION);
+            result.add(DEFAULT_RESULT_FILE);
+        }
+        return result.toArray(new String[0]);
+    }
+}
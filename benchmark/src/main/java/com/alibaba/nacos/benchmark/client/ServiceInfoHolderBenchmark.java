@@ -0,0 +1,128 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.client;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.client.env.NacosClientProperties;
+import com.alibaba.nacos.client.naming.cache.ServiceInfoHolder;
+import com.alibaba.nacos.sys.utils.DiskUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link ServiceInfoHolder#processServiceInfo(ServiceInfo)} of client, which handles every push.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceInfoHolderBenchmark {
+    
+    @Param({"10", "1000"})
+    private int instanceCount;
+    
+    private File cacheDir;
+    
+    private ServiceInfoHolder holder;
+    
+    private ServiceInfo[] unchanged;
+    
+    private ServiceInfo[] changed;
+    
+    private long lastRefTime;
+    
+    private int index;
+    
+    /**
+     * Create holder with temporary cache directory and the pushed service infos, every kind of push alternates two
+     * equal objects as they are deserialized from different pushes.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        cacheDir = Files.createTempDirectory("nacos-benchmark").toFile();
+        Properties properties = new Properties();
+        properties.setProperty("JM.SNAPSHOT.PATH", cacheDir.getAbsolutePath());
+        holder = new ServiceInfoHolder("public", "benchmark", NacosClientProperties.PROTOTYPE.derive(properties));
+        unchanged = new ServiceInfo[] {newServiceInfo(-1), newServiceInfo(-1)};
+        changed = new ServiceInfo[] {newServiceInfo(0), newServiceInfo(1)};
+        holder.processServiceInfo(unchanged[1]);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        DiskUtils.deleteQuietly(cacheDir);
+    }
+    
+    private ServiceInfo newServiceInfo(int changedWeight) {
+        ServiceInfo result = new ServiceInfo("DEFAULT_GROUP@@benchmark");
+        List<Instance> instances = new ArrayList<>(instanceCount);
+        for (int i = 0; i < instanceCount; i++) {
+            Instance instance = new Instance();
+            instance.setIp("192.168." + (i / 256) + "." + (i % 256));
+            instance.setPort(8080);
+            instance.setClusterName("DEFAULT");
+            instance.setWeight(0 == i ? changedWeight + 2 : 1);
+            instances.add(instance);
+        }
+        result.setHosts(instances);
+        return result;
+    }
+    
+    /**
+     * Process a push whose instances are same as the cached ones.
+     */
+    @Benchmark
+    public ServiceInfo processUnchanged() {
+        ServiceInfo serviceInfo = unchanged[index++ & 1];
+        serviceInfo.setLastRefTime(++lastRefTime);
+        return holder.processServiceInfo(serviceInfo);
+    }
+    
+    /**
+     * Process a push whose one instance is changed, which notifies listeners and writes disk cache.
+     */
+    @Benchmark
+    public ServiceInfo processOneInstanceChanged() {
+        ServiceInfo serviceInfo = changed[index++ & 1];
+        serviceInfo.setLastRefTime(++lastRefTime);
+        return holder.processServiceInfo(serviceInfo);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.common;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.common.task.AbstractDelayTask;
+import com.alibaba.nacos.common.task.engine.NacosDelayTaskExecuteEngine;
+import com.alibaba.nacos.common.task.engine.NacosTaskExecuteEngine;
+import com.alibaba.nacos.common.task.engine.NacosTimingWheelDelayTaskExecuteEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@code addTask} of delay task execute engines, while the engine processes the due tasks.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class DelayTaskExecuteEngineBenchmark {
+    
+    private static final String SCAN_ENGINE = "scan";
+    
+    private static final String TIMING_WHEEL_ENGINE = "timingWheel";
+    
+    @Param({SCAN_ENGINE, TIMING_WHEEL_ENGINE})
+    private String engineType;
+    
+    @Param({"100000"})
+    private int keyCount;
+    
+    @Param({"1000"})
+    private long taskDelay;
+    
+    private NacosTaskExecuteEngine<AbstractDelayTask> engine;
+    
+    /**
+     * Create engine whose processor drops all tasks.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        String name = DelayTaskExecuteEngineBenchmark.class.getSimpleName();
+        engine = TIMING_WHEEL_ENGINE.equals(engineType) ? new NacosTimingWheelDelayTaskExecuteEngine(name)
+                : new NacosDelayTaskExecuteEngine(name);
+        engine.setDefaultTaskProcessor(task -> true);
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() throws NacosException {
+        engine.shutdown();
+    }
+    
+    @Benchmark
+    public void addTask() {
+        engine.addTask(ThreadLocalRandom.current().nextInt(keyCount), new BenchmarkDelayTask(taskDelay));
+    }
+    
+    private static class BenchmarkDelayTask extends AbstractDelayTask {
+        
+        private BenchmarkDelayTask(long delay) {
+            setTaskInterval(delay);
+            setLastProcessTime(System.currentTimeMillis());
+        }
+        
+        @Override
+        public void merge(AbstractDelayTask task) {
+            setLastProcessTime(Math.min(getLastProcessTime(), task.getLastProcessTime()));
+        }
+    }
+}
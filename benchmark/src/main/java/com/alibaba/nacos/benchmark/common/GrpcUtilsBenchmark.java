@@ -0,0 +1,93 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.common;
+
+import com.alibaba.nacos.api.grpc.auto.Payload;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.remote.NamingRemoteConstants;
+import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
+import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link GrpcUtils#convert} and {@link GrpcUtils#parse(Payload)} of instance register request.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GrpcUtilsBenchmark {
+    
+    @Param({"false", "true"})
+    private boolean binaryPayload;
+    
+    private InstanceRequest request;
+    
+    private Payload payload;
+    
+    /**
+     * Build the instance request and its payload.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        PayloadRegistry.init();
+        Instance instance = new Instance();
+        instance.setIp("192.168.0.1");
+        instance.setPort(8848);
+        instance.setClusterName("DEFAULT");
+        instance.setServiceName("DEFAULT_GROUP@@benchmark");
+        Map<String, String> metadata = new HashMap<>(4);
+        metadata.put("version", "1.0.0");
+        metadata.put("zone", "zone-a");
+        instance.setMetadata(metadata);
+        request = new InstanceRequest("public", "benchmark", "DEFAULT_GROUP",
+                NamingRemoteConstants.REGISTER_INSTANCE, instance);
+        request.setRequestId("1");
+        request.putHeader("accessToken", "token");
+        payload = GrpcUtils.convert(request, binaryPayload);
+    }
+    
+    @Benchmark
+    public Payload convert() {
+        return GrpcUtils.convert(request, binaryPayload);
+    }
+    
+    @Benchmark
+    public Object parse() {
+        return GrpcUtils.parse(payload);
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.common;
+
+import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.RingBufferEventPublisherFactory;
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Benchmark for {@link NotifyCenter#publishEvent(Event)} with different publishers.
+ *
+ * <p>When the queue of publisher is full, the event is handled by the publishing thread itself, which is reported as
+ * the {@code handledByPublisher} counter, so that a result measured with overflowed queues can be told.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class NotifyCenterBenchmark {
+    
+    private static final String DEFAULT_PUBLISHER = "default";
+    
+    private static final String RING_BUFFER_PUBLISHER = "ringBuffer";
+    
+    @Param({DEFAULT_PUBLISHER, RING_BUFFER_PUBLISHER})
+    private String publisher;
+    
+    @Param({"16384", "262144"})
+    private int queueMaxSize;
+    
+    @Param({"1000"})
+    private int keyCount;
+    
+    /**
+     * Sink of the consumer thread, the blackhole of JMH can't be used out of the benchmark threads.
+     */
+    private final LongAdder consumed = new LongAdder();
+    
+    /**
+     * Register publisher and a subscriber which consumes the events.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        if (RING_BUFFER_PUBLISHER.equals(publisher)) {
+            NotifyCenter.registerToPublisher(BenchmarkEvent.class, RingBufferEventPublisherFactory.getInstance(),
+                    queueMaxSize);
+        } else {
+            NotifyCenter.registerToPublisher(BenchmarkEvent.class, queueMaxSize);
+        }
+        NotifyCenter.registerSubscriber(new Subscriber<BenchmarkEvent>() {
+            @Override
+            public void onEvent(BenchmarkEvent event) {
+                consumed.add(event.key);
+                if (event.counters.isOwner()) {
+                    event.counters.handledByPublisher++;
+                }
+            }
+            
+            @Override
+            public Class<? extends Event> subscribeType() {
+                return BenchmarkEvent.class;
+            }
+        });
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        NotifyCenter.deregisterPublisher(BenchmarkEvent.class);
+    }
+    
+    @Benchmark
+    public boolean publishEvent(PublishCounters counters) {
+        return NotifyCenter.publishEvent(new BenchmarkEvent(ThreadLocalRandom.current().nextInt(keyCount), counters));
+    }
+    
+    /**
+     * Counters of each benchmark thread, only updated by the owner thread.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PublishCounters {
+        
+        public long handledByPublisher;
+        
+        private Thread owner;
+        
+        /**
+         * Reset the counters and record the benchmark thread.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            handledByPublisher = 0;
+            owner = Thread.currentThread();
+        }
+        
+        private boolean isOwner() {
+            return Thread.currentThread() == owner;
+        }
+    }
+    
+    private static class BenchmarkEvent extends Event {
+        
+        private static final long serialVersionUID = 3957312861473040567L;
+        
+        private final int key;
+        
+        private final transient PublishCounters counters;
+        
+        private BenchmarkEvent(int key, PublishCounters counters) {
+            this.key = key;
+            this.counters = counters;
+        }
+        
+        @Override
+        public Object shardingKey() {
+            return key;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.config;
+
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.config.server.constant.Constants;
+import com.alibaba.nacos.config.server.constant.PropertiesConstant;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.service.disk.ConfigDiskServiceFactory;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import com.alibaba.nacos.sys.utils.DiskUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Benchmark for {@link ConfigCacheService#dump} and {@link ConfigCacheService#getContentMd5(String)}.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class ConfigCacheServiceBenchmark {
+    
+    private static final String GROUP = "DEFAULT_GROUP";
+    
+    private static final String TENANT = "public";
+    
+    @Param({"10000"})
+    private int configCount;
+    
+    @Param({"1024"})
+    private int contentSize;
+    
+    @Param({ConfigDiskServiceFactory.TYPE_RAW, ConfigDiskServiceFactory.TYPE_MMAP})
+    private String diskType;
+    
+    private final AtomicLong lastModified = new AtomicLong(System.currentTimeMillis());
+    
+    private File nacosHome;
+    
+    private String[] dataIds;
+    
+    private String[] groupKeys;
+    
+    private String[] contents;
+    
+    private String[] md5s;
+    
+    /**
+     * Dump all configs into a temporary nacos home.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        nacosHome = Files.createTempDirectory("nacos-benchmark").toFile();
+        System.setProperty("nacos.home", nacosHome.getAbsolutePath());
+        System.setProperty(PropertiesConstant.CONFIG_DISK_TYPE, diskType);
+        EnvUtil.setEnvironment(new StandardEnvironment());
+        dataIds = new String[configCount];
+        groupKeys = new String[configCount];
+        contents = new String[configCount];
+        md5s = new String[configCount];
+        char[] chars = new char[contentSize];
+        for (int i = 0; i < configCount; i++) {
+            dataIds[i] = "dataId" + i;
+            groupKeys[i] = GroupKey2.getKey(dataIds[i], GROUP, TENANT);
+            Arrays.fill(chars, (char) ('a' + i % 26));
+            contents[i] = new String(chars);
+            md5s[i] = MD5Utils.md5Hex(contents[i], Constants.ENCODE);
+            ConfigCacheService.dump(dataIds[i], GROUP, TENANT, contents[i], md5s[i], lastModified.incrementAndGet(),
+                    "text", null);
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        DiskUtils.deleteQuietly(nacosHome);
+    }
+    
+    /**
+     * Dump a random config with new content, which writes the disk.
+     */
+    @Benchmark
+    public boolean dumpChanged() {
+        int index = ThreadLocalRandom.current().nextInt(configCount);
+        String content = contents[index] + lastModified.incrementAndGet();
+        return ConfigCacheService.dump(dataIds[index], GROUP, TENANT, content, lastModified.get(), "text", null);
+    }
+    
+    /**
+     * Dump a random config with same content, which only checks md5.
+     */
+    @Benchmark
+    public boolean dumpUnchanged() {
+        int index = ThreadLocalRandom.current().nextInt(configCount);
+        return ConfigCacheService.dump(dataIds[index], GROUP, TENANT, contents[index], md5s[index],
+                lastModified.incrementAndGet(), "text", null);
+    }
+    
+    @Benchmark
+    public String getContentMd5() {
+        return ConfigCacheService.getContentMd5(groupKeys[ThreadLocalRandom.current().nextInt(configCount)]);
+    }
+}
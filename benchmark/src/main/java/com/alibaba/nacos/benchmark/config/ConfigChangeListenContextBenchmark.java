@@ -0,0 +1,122 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.config;
+
+import com.alibaba.nacos.config.server.remote.ConfigChangeListenContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link ConfigChangeListenContext} under mixed listen, cancel listen and config change push load.
+ *
+ * @author Nacos
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConfigChangeListenContextBenchmark {
+    
+    @Param({"10000"})
+    private int connectionCount;
+    
+    @Param({"1000"})
+    private int groupKeyCount;
+    
+    private String[] connectionIds;
+    
+    private String[] groupKeys;
+    
+    private ConfigChangeListenContext context;
+    
+    /**
+     * Build a context which every connection listens 10 random group keys.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new ConfigChangeListenContext();
+        connectionIds = new String[connectionCount];
+        groupKeys = new String[groupKeyCount];
+        for (int i = 0; i < groupKeyCount; i++) {
+            groupKeys[i] = "dataId" + i + "+DEFAULT_GROUP+public";
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < connectionCount; i++) {
+            connectionIds[i] = "connection_" + i;
+            for (int j = 0; j < 10; j++) {
+                context.addListen(groupKeys[random.nextInt(groupKeyCount)], "md5", connectionIds[i]);
+            }
+        }
+    }
+    
+    /**
+     * Listen a random group key by a random connection.
+     */
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(4)
+    public void addListen() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        context.addListen(groupKeys[random.nextInt(groupKeyCount)], "md5",
+                connectionIds[random.nextInt(connectionCount)]);
+    }
+    
+    /**
+     * Cancel listen a random group key by a random connection.
+     */
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(2)
+    public void removeListen() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        context.removeListen(groupKeys[random.nextInt(groupKeyCount)], connectionIds[random.nextInt(connectionCount)]);
+    }
+    
+    /**
+     * Iterate the listeners of a random group key as config change push does.
+     */
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(2)
+    public void getListeners(Blackhole blackhole) {
+        Set<String> listeners = context.getListeners(groupKeys[ThreadLocalRandom.current().nextInt(groupKeyCount)]);
+        if (null != listeners) {
+            for (String each : listeners) {
+                blackhole.consume(each);
+            }
+        }
+    }
+}
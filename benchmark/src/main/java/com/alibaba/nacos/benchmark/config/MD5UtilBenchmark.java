@@ -0,0 +1,79 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.config;
+
+import com.alibaba.nacos.config.server.constant.Constants;
+import com.alibaba.nacos.config.server.utils.MD5Util;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link MD5Util#getClientMd5Map(String)}, which parses the listening configs of long polling request.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MD5UtilBenchmark {
+    
+    @Param({"10", "100", "1000"})
+    private int configCount;
+    
+    @Param({"true", "false"})
+    private boolean withTenant;
+    
+    private String configKeysString;
+    
+    /**
+     * Build the listening configs string of client.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < configCount; i++) {
+            builder.append("dataId").append(i).append(Constants.WORD_SEPARATOR).append("DEFAULT_GROUP")
+                    .append(Constants.WORD_SEPARATOR).append("2c8c4f4e1b3e4b9b8a1f2f6a9d7c5e3b");
+            if (withTenant) {
+                builder.append(Constants.WORD_SEPARATOR).append("tenant");
+            }
+            builder.append(Constants.LINE_SEPARATOR);
+        }
+        configKeysString = builder.toString();
+    }
+    
+    @Benchmark
+    public Map<String, String> getClientMd5Map() {
+        return MD5Util.getClientMd5Map(configKeysString);
+    }
+}
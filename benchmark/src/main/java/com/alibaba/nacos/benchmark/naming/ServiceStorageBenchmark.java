@@ -0,0 +1,115 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.naming;
+
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.naming.core.v2.ServiceManager;
+import com.alibaba.nacos.naming.core.v2.client.impl.ConnectionBasedClient;
+import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
+import com.alibaba.nacos.naming.core.v2.client.manager.impl.ConnectionBasedClientManager;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.core.v2.event.service.ServiceEvent;
+import com.alibaba.nacos.naming.core.v2.index.ClientServiceIndexesManager;
+import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
+import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
+import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.misc.SwitchDomain;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link ServiceStorage#getPushData(Service)} with unchanged instances and with one changed client.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceStorageBenchmark {
+    
+    @Param({"100", "1000"})
+    private int clientCount;
+    
+    private final Service service = Service.newService("public", "DEFAULT_GROUP", "benchmark");
+    
+    private ConnectionBasedClient[] clients;
+    
+    private ServiceStorage serviceStorage;
+    
+    /**
+     * Register one instance for each client.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        EnvUtil.setEnvironment(new StandardEnvironment());
+        ClientManagerDelegate clientManager = new ClientManagerDelegate(new ConnectionBasedClientManager(), null, null);
+        ClientServiceIndexesManager indexesManager = new ClientServiceIndexesManager();
+        serviceStorage = new ServiceStorage(indexesManager, clientManager, new SwitchDomain(),
+                new NamingMetadataManager());
+        Service singleton = ServiceManager.getInstance().getSingleton(service);
+        clients = new ConnectionBasedClient[clientCount];
+        for (int i = 0; i < clientCount; i++) {
+            clients[i] = new ConnectionBasedClient("connection_" + i, true, 0L);
+            clientManager.clientConnected(clients[i]);
+            clients[i].addServiceInstance(singleton, newInstance(i, true));
+            indexesManager.onEvent(new ClientOperationEvent.ClientRegisterServiceEvent(singleton, clients[i].getClientId()));
+        }
+        serviceStorage.getPushData(service);
+    }
+    
+    private InstancePublishInfo newInstance(int index, boolean healthy) {
+        InstancePublishInfo result = new InstancePublishInfo("192.168." + (index / 256) + "." + (index % 256), 8080);
+        result.setCluster("DEFAULT");
+        result.setHealthy(healthy);
+        return result;
+    }
+    
+    @Benchmark
+    public ServiceInfo getPushDataUnchanged() {
+        return serviceStorage.getPushData(service);
+    }
+    
+    /**
+     * Change the instance of a random client and get push data, as push after instance registered.
+     */
+    @Benchmark
+    public ServiceInfo getPushDataOneClientChanged() {
+        int index = ThreadLocalRandom.current().nextInt(clientCount);
+        clients[index].addServiceInstance(service, newInstance(index, ThreadLocalRandom.current().nextBoolean()));
+        serviceStorage.onEvent(new ServiceEvent.ServiceChangedEvent(service));
+        return serviceStorage.getPushData(service);
+    }
+}
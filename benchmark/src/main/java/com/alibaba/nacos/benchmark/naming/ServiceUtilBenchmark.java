@@ -0,0 +1,99 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.benchmark.naming;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
+import com.alibaba.nacos.naming.selector.SelectorManager;
+import com.alibaba.nacos.naming.utils.ServiceUtil;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import com.alibaba.nacos.sys.utils.ApplicationUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link ServiceUtil#selectInstancesWithHealthyProtection}, which is called for every subscriber in push.
+ *
+ * @author Nacos
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ServiceUtilBenchmark {
+    
+    @Param({"10", "1000"})
+    private int instanceCount;
+    
+    @Param({"0.1", "0.8"})
+    private float unhealthyRatio;
+    
+    @Param({"", "DEFAULT"})
+    private String cluster;
+    
+    private ServiceInfo serviceInfo;
+    
+    private ServiceMetadata serviceMetadata;
+    
+    /**
+     * Build service info with unhealthy instances and metadata with protect threshold 0.5.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        EnvUtil.setEnvironment(new StandardEnvironment());
+        ApplicationUtils.injectContext(new AnnotationConfigApplicationContext(SelectorManager.class));
+        serviceInfo = new ServiceInfo("DEFAULT_GROUP@@benchmark");
+        List<Instance> instances = new ArrayList<>(instanceCount);
+        int unhealthyCount = (int) (instanceCount * unhealthyRatio);
+        for (int i = 0; i < instanceCount; i++) {
+            Instance instance = new Instance();
+            instance.setIp("192.168." + (i / 256) + "." + (i % 256));
+            instance.setPort(8080);
+            instance.setClusterName(i % 2 == 0 ? "DEFAULT" : "OTHER");
+            instance.setHealthy(i >= unhealthyCount);
+            instances.add(instance);
+        }
+        serviceInfo.setHosts(instances);
+        serviceMetadata = new ServiceMetadata();
+        serviceMetadata.setProtectThreshold(0.5F);
+    }
+    
+    @Benchmark
+    public ServiceInfo selectInstancesWithHealthyProtection() {
+        return ServiceUtil.selectInstancesWithHealthyProtection(serviceInfo, serviceMetadata, cluster, false, false,
+                "127.0.0.1");
+    }
+}
@@ -18,6 +18,7 @@ package com.alibaba.nacos.client.config;
 
 import com.alibaba.nacos.api.PropertyKeyConst;
 import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.config.ConfigKey;
 import com.alibaba.nacos.api.config.ConfigService;
 import com.alibaba.nacos.api.config.ConfigType;
 import com.alibaba.nacos.api.config.listener.Listener;
@@ -39,7 +40,12 @@ import com.alibaba.nacos.client.utils.ValidatorUtils;
 import com.alibaba.nacos.common.utils.StringUtils;
 import org.slf4j.Logger;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 
 /**
@@ -100,6 +106,50 @@ public class NacosConfigService implements ConfigService {
         return getConfigInner(namespace, dataId, group, timeoutMs);
     }
     
+    @Override
+    public Map<ConfigKey, String> getConfigs(List<ConfigKey> configKeys, long timeoutMs) throws NacosException {
+        List<ConfigKey> queryKeys = new ArrayList<>(configKeys.size());
+        for (ConfigKey each : configKeys) {
+            String group = blank2defaultGroup(each.getGroup());
+            ParamUtils.checkKeyParam(each.getDataId(), group);
+            // configs with local failover content are got one by one, and never queried from server
+            if (LocalConfigInfoProcessor.getFailover(worker.getAgentName(), each.getDataId(), group, namespace) == null) {
+                queryKeys.add(new ConfigKey(each.getDataId(), group));
+            }
+        }
+        Map<ConfigKey, ConfigResponse> responses = Collections.emptyMap();
+        if (!queryKeys.isEmpty()) {
+            try {
+                responses = worker.getServerConfigs(queryKeys, namespace, timeoutMs);
+            } catch (NacosException e) {
+                if (NacosException.NO_RIGHT == e.getErrCode()) {
+                    throw e;
+                }
+                LOGGER.warn("[{}] [get-configs] batch get from server error, tenant={}, size={}, msg={}",
+                        worker.getAgentName(), namespace, queryKeys.size(), e.toString());
+            }
+        }
+        Map<ConfigKey, String> result = new LinkedHashMap<>(configKeys.size() * 2);
+        for (ConfigKey each : configKeys) {
+            String group = blank2defaultGroup(each.getGroup());
+            ConfigResponse response = responses.get(new ConfigKey(each.getDataId(), group));
+            if (response == null) {
+                // not resolved by the batch query, fall back to the failover and snapshot aware single get
+                result.put(each, getConfigInner(namespace, each.getDataId(), group, timeoutMs));
+                continue;
+            }
+            ConfigResponse cr = new ConfigResponse();
+            cr.setDataId(each.getDataId());
+            cr.setTenant(namespace);
+            cr.setGroup(group);
+            cr.setContent(response.getContent());
+            cr.setEncryptedDataKey(response.getEncryptedDataKey());
+            configFilterChainManager.doFilter(null, cr);
+            result.put(each, cr.getContent());
+        }
+        return result;
+    }
+    
     @Override
     public String getConfigAndSignListener(String dataId, String group, long timeoutMs, Listener listener)
             throws NacosException {
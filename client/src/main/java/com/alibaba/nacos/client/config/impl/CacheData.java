@@ -103,6 +103,11 @@ public class CacheData {
      */
     private volatile AtomicLong lastModifiedTs = new AtomicLong(0);
     
+    /**
+     * server last modified time of the content applied from change notify, to ignore the reordered notifies.
+     */
+    private volatile long pushedContentLastModified = 0;
+    
     private int taskId;
     
     private volatile boolean isInitializing = true;
@@ -119,6 +124,14 @@ public class CacheData {
     
     private String type;
     
+    public long getPushedContentLastModified() {
+        return pushedContentLastModified;
+    }
+    
+    public void setPushedContentLastModified(long pushedContentLastModified) {
+        this.pushedContentLastModified = pushedContentLastModified;
+    }
+    
     public boolean isInitializing() {
         return isInitializing;
     }
@@ -19,15 +19,18 @@ package com.alibaba.nacos.client.config.impl;
 import com.alibaba.nacos.api.PropertyKeyConst;
 import com.alibaba.nacos.api.ability.ClientAbilities;
 import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.config.ConfigKey;
 import com.alibaba.nacos.api.config.ConfigType;
 import com.alibaba.nacos.api.config.listener.Listener;
 import com.alibaba.nacos.api.config.remote.request.ClientConfigMetricRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchQueryRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigPublishRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
 import com.alibaba.nacos.api.config.remote.request.ConfigRemoveRequest;
 import com.alibaba.nacos.api.config.remote.response.ClientConfigMetricResponse;
+import com.alibaba.nacos.api.config.remote.response.ConfigBatchQueryResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigChangeBatchListenResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigChangeNotifyResponse;
 import com.alibaba.nacos.api.config.remote.response.ConfigPublishResponse;
@@ -69,7 +72,9 @@ import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import org.slf4j.Logger;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -80,6 +85,8 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -404,6 +411,24 @@ public class ClientWorker implements Closeable {
         return this.agent.queryConfig(dataId, group, tenant, readTimeout, notify);
     }
     
+    /**
+     * Get a batch of configs of one tenant from server.
+     *
+     * @param configKeys  keys of configs, blank groups are taken as default group
+     * @param tenant      tenant of configs
+     * @param readTimeout read timeout of each batch request
+     * @return responses of the configs resolved by server, keys failed to query are absent
+     * @throws NacosException if the batch query fails, for example the server does not support it
+     */
+    public Map<ConfigKey, ConfigResponse> getServerConfigs(List<ConfigKey> configKeys, String tenant,
+            long readTimeout) throws NacosException {
+        List<ConfigKey> queryKeys = new ArrayList<>(configKeys.size());
+        for (ConfigKey each : configKeys) {
+            queryKeys.add(new ConfigKey(each.getDataId(), blank2defaultGroup(each.getGroup())));
+        }
+        return this.agent.queryConfigs(queryKeys, tenant, readTimeout);
+    }
+    
     private String blank2defaultGroup(String group) {
         return StringUtils.isBlank(group) ? Constants.DEFAULT_GROUP : group.trim();
     }
@@ -443,23 +468,112 @@ public class ClientWorker implements Closeable {
         try {
             ConfigResponse response = getServerConfig(cacheData.dataId, cacheData.group, cacheData.tenant, 3000L,
                     notify);
-            cacheData.setEncryptedDataKey(response.getEncryptedDataKey());
-            cacheData.setContent(response.getContent());
-            if (null != response.getConfigType()) {
-                cacheData.setType(response.getConfigType());
-            }
-            if (notify) {
-                LOGGER.info("[{}] [data-received] dataId={}, group={}, tenant={}, md5={}, content={}, type={}",
-                        agent.getName(), cacheData.dataId, cacheData.group, cacheData.tenant, cacheData.getMd5(),
-                        ContentUtils.truncateContent(response.getContent()), response.getConfigType());
-            }
-            cacheData.checkListenerMd5();
+            applyContentAndCheck(cacheData, response, notify);
         } catch (Exception e) {
             LOGGER.error("refresh content and check md5 fail ,dataId={},group={},tenant={} ", cacheData.dataId,
                     cacheData.group, cacheData.tenant, e);
         }
     }
     
+    /**
+     * Refresh the content of initializing caches with batch queries, one query per tenant.
+     *
+     * <p>Caches not resolved by the batch query, or all of them if the server does not support batch query, are
+     * refreshed one by one.
+     *
+     * @param caches initializing caches whose content is changed
+     */
+    private void refreshContentAndCheck(List<CacheData> caches) {
+        if (caches.size() <= 1) {
+            for (CacheData each : caches) {
+                refreshContentAndCheck(each, false);
+            }
+            return;
+        }
+        Map<String, List<CacheData>> tenantCaches = new HashMap<>(4);
+        for (CacheData each : caches) {
+            tenantCaches.computeIfAbsent(each.tenant, key -> new ArrayList<>()).add(each);
+        }
+        for (Map.Entry<String, List<CacheData>> entry : tenantCaches.entrySet()) {
+            List<ConfigKey> configKeys = new ArrayList<>(entry.getValue().size());
+            for (CacheData each : entry.getValue()) {
+                configKeys.add(new ConfigKey(each.dataId, each.group));
+            }
+            Map<ConfigKey, ConfigResponse> responses = Collections.emptyMap();
+            try {
+                responses = getServerConfigs(configKeys, entry.getKey(), 3000L);
+            } catch (Exception e) {
+                LOGGER.warn("[{}] [batch-query] batch query config fail, tenant={}, size={}, msg={}",
+                        agent.getName(), entry.getKey(), configKeys.size(), e.toString());
+            }
+            for (CacheData each : entry.getValue()) {
+                ConfigResponse response = responses.get(new ConfigKey(each.dataId, each.group));
+                if (response == null) {
+                    refreshContentAndCheck(each, false);
+                } else {
+                    applyContentAndCheck(each, response, false);
+                }
+            }
+        }
+    }
+    
+    private void applyContentAndCheck(CacheData cacheData, ConfigResponse response, boolean notify) {
+        cacheData.setEncryptedDataKey(response.getEncryptedDataKey());
+        cacheData.setContent(response.getContent());
+        if (null != response.getConfigType()) {
+            cacheData.setType(response.getConfigType());
+        }
+        if (notify) {
+            LOGGER.info("[{}] [data-received] dataId={}, group={}, tenant={}, md5={}, content={}, type={}",
+                    agent.getName(), cacheData.dataId, cacheData.group, cacheData.tenant, cacheData.getMd5(),
+                    ContentUtils.truncateContent(response.getContent()), response.getConfigType());
+        }
+        cacheData.checkListenerMd5();
+    }
+    
+    /**
+     * Apply the content carried by the change notify, so the content need not be queried from server again.
+     *
+     * <p>The cache is still not synced with server after applying, the following listen request checks the md5 of
+     * the applied content and queries the content if it is out of date. Notifies whose content is not newer than the
+     * last applied one are reordered by the network and ignored.
+     *
+     * @param cacheData     cache data of changed config
+     * @param notifyRequest change notify request
+     */
+    private void applyPushedContent(CacheData cacheData, ConfigChangeNotifyRequest notifyRequest) {
+        String content = notifyRequest.getContent();
+        if (null == content || null == notifyRequest.getMd5() || cacheData.isInitializing() || cacheData
+                .isUseLocalConfigInfo()) {
+            return;
+        }
+        long lastModified = notifyRequest.getLastModified();
+        if (lastModified > 0 && lastModified <= cacheData.getPushedContentLastModified()) {
+            LOGGER.warn("[{}] [server-push] ignore stale pushed content, dataId={}, group={}, tenant={}, "
+                            + "lastModified={}, applied={}", agent.getName(), cacheData.dataId, cacheData.group,
+                    cacheData.tenant, lastModified, cacheData.getPushedContentLastModified());
+            return;
+        }
+        if (!notifyRequest.getMd5().equals(MD5Utils.md5Hex(content, Constants.ENCODE))) {
+            LOGGER.warn("[{}] [server-push] md5 of pushed content not match, dataId={}, group={}, tenant={}",
+                    agent.getName(), cacheData.dataId, cacheData.group, cacheData.tenant);
+            return;
+        }
+        LocalConfigInfoProcessor.saveSnapshot(agent.getName(), cacheData.dataId, cacheData.group, cacheData.tenant,
+                content);
+        LocalEncryptedDataKeyProcessor.saveEncryptDataKeySnapshot(agent.getName(), cacheData.dataId, cacheData.group,
+                cacheData.tenant, notifyRequest.getEncryptedDataKey());
+        cacheData.setEncryptedDataKey(notifyRequest.getEncryptedDataKey());
+        cacheData.setContent(content);
+        cacheData.setPushedContentLastModified(lastModified);
+        cacheData.setType(StringUtils.isNotBlank(notifyRequest.getContentType()) ? notifyRequest.getContentType()
+                : ConfigType.TEXT.getType());
+        LOGGER.info("[{}] [data-received] dataId={}, group={}, tenant={}, md5={}, content={}, type={}",
+                agent.getName(), cacheData.dataId, cacheData.group, cacheData.tenant, cacheData.getMd5(),
+                ContentUtils.truncateContent(content), cacheData.getType());
+        cacheData.checkListenerMd5();
+    }
+    
     private void init(NacosClientProperties properties) {
         // 长轮询的超时时间，默认为30秒，此参数会被放到请求头中带到服务端，服务端会根据该参数去做长轮询的hold
         timeout = Math.max(ConvertUtils.toInt(properties.getProperty(PropertyKeyConst.CONFIG_LONG_POLL_TIMEOUT),
@@ -616,6 +730,7 @@ public class ClientWorker implements Closeable {
                         synchronized (cacheData) {
                             cacheData.getLastModifiedTs().set(System.currentTimeMillis());
                             cacheData.setSyncWithServer(false);
+                            applyPushedContent(cacheData, configChangeNotifyRequest);
                             notifyListenConfig();
                         }
                         
@@ -801,14 +916,22 @@ public class ClientWorker implements Closeable {
                             //handle changed keys,notify listener
                             if (!CollectionUtils.isEmpty(configChangeBatchListenResponse.getChangedConfigs())) {
                                 hasChangedKeys = true;
+                                List<CacheData> initializingCaches = new ArrayList<>();
                                 for (ConfigChangeBatchListenResponse.ConfigContext changeConfig : configChangeBatchListenResponse
                                         .getChangedConfigs()) {
                                     String changeKey = GroupKey
                                             .getKeyTenant(changeConfig.getDataId(), changeConfig.getGroup(),
                                                     changeConfig.getTenant());
                                     changeKeys.add(changeKey);
-                                    refreshContentAndCheck(changeKey);
+                                    CacheData changeCache = cacheMap.get().get(changeKey);
+                                    if (changeCache != null && changeCache.isInitializing()) {
+                                        initializingCaches.add(changeCache);
+                                    } else {
+                                        refreshContentAndCheck(changeKey);
+                                    }
                                 }
+                                // the initial load of many configs is queried in batch
+                                refreshContentAndCheck(initializingCaches);
                                 
                             }
                             
@@ -912,6 +1035,7 @@ public class ClientWorker implements Closeable {
             ClientAbilities clientAbilities = new ClientAbilities();
             clientAbilities.getRemoteAbility().setSupportRemoteConnection(true);
             clientAbilities.getConfigAbility().setSupportRemoteMetrics(true);
+            clientAbilities.getConfigAbility().setSupportContentPush(true);
             return clientAbilities;
         }
         
@@ -963,7 +1087,49 @@ public class ClientWorker implements Closeable {
                 }
             }
             ConfigQueryResponse response = (ConfigQueryResponse) requestProxy(rpcClient, request, readTimeouts);
-            
+            return convertQueryResponse(dataId, group, tenant, response);
+        }
+        
+        @Override
+        public Map<ConfigKey, ConfigResponse> queryConfigs(List<ConfigKey> configKeys, String tenant,
+                long readTimeout) throws NacosException {
+            Map<ConfigKey, ConfigResponse> result = new HashMap<>(configKeys.size() * 2);
+            RpcClient rpcClient = getOneRunningClient();
+            // batches are sent together without waiting the responses of each other.
+            List<List<ConfigKey>> batches = new ArrayList<>();
+            List<CompletableFuture<Response>> futures = new ArrayList<>();
+            for (int from = 0; from < configKeys.size(); from += ConfigBatchQueryRequest.MAX_BATCH_SIZE) {
+                List<ConfigKey> batchKeys = configKeys
+                        .subList(from, Math.min(from + ConfigBatchQueryRequest.MAX_BATCH_SIZE, configKeys.size()));
+                batches.add(batchKeys);
+                futures.add(requestProxyAsync(rpcClient, ConfigBatchQueryRequest.build(tenant, batchKeys),
+                        readTimeout));
+            }
+            for (int index = 0; index < batches.size(); index++) {
+                List<ConfigKey> batchKeys = batches.get(index);
+                ConfigBatchQueryResponse response = (ConfigBatchQueryResponse) waitResponse(futures.get(index));
+                if (!response.isSuccess()) {
+                    throw new NacosException(response.getErrorCode(),
+                            "batch query config fail, code=" + response.getErrorCode() + ",msg=" + response
+                                    .getMessage() + ",tenant=" + tenant);
+                }
+                List<ConfigQueryResponse> itemResponses = response.getConfigQueryResponses();
+                for (int i = 0; i < batchKeys.size() && i < itemResponses.size(); i++) {
+                    ConfigKey configKey = batchKeys.get(i);
+                    ConfigQueryResponse itemResponse = itemResponses.get(i);
+                    if (itemResponse.isSuccess()
+                            || itemResponse.getErrorCode() == ConfigQueryResponse.CONFIG_NOT_FOUND) {
+                        result.put(configKey,
+                                convertQueryResponse(configKey.getDataId(), configKey.getGroup(), tenant,
+                                        itemResponse));
+                    }
+                }
+            }
+            return result;
+        }
+        
+        private ConfigResponse convertQueryResponse(String dataId, String group, String tenant,
+                ConfigQueryResponse response) throws NacosException {
             ConfigResponse configResponse = new ConfigResponse();
             if (response.isSuccess()) {
                 LocalConfigInfoProcessor.saveSnapshot(this.getName(), dataId, group, tenant, response.getContent());
@@ -1006,6 +1172,36 @@ public class ClientWorker implements Closeable {
         
         private Response requestProxy(RpcClient rpcClientInner, Request request, long timeoutMills)
                 throws NacosException {
+            prepareRequest(request);
+            return rpcClientInner.request(request, timeoutMills);
+        }
+        
+        private CompletableFuture<Response> requestProxyAsync(RpcClient rpcClientInner, Request request,
+                long timeoutMills) {
+            try {
+                prepareRequest(request);
+            } catch (NacosException e) {
+                CompletableFuture<Response> future = new CompletableFuture<>();
+                future.completeExceptionally(e);
+                return future;
+            }
+            return rpcClientInner.requestAsync(request, timeoutMills);
+        }
+        
+        private Response waitResponse(CompletableFuture<Response> future) throws NacosException {
+            try {
+                return future.get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                throw cause instanceof NacosException ? (NacosException) cause
+                        : new NacosException(NacosException.SERVER_ERROR, cause);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new NacosException(NacosException.CLIENT_ERROR, e);
+            }
+        }
+        
+        private void prepareRequest(Request request) throws NacosException {
             try {
                 request.putAllHeader(super.getSecurityHeaders(resourceBuild(request)));
                 request.putAllHeader(super.getCommonHeader());
@@ -1020,7 +1216,6 @@ public class ClientWorker implements Closeable {
                 throw new NacosException(NacosException.CLIENT_OVER_THRESHOLD,
                         "More than client-side current limit threshold");
             }
-            return rpcClientInner.request(request, timeoutMills);
         }
         
         private RequestResource resourceBuild(Request request) {
@@ -1043,6 +1238,11 @@ public class ClientWorker implements Closeable {
                 String dataId = ((ConfigRemoveRequest) request).getDataId();
                 return buildResource(tenant, group, dataId);
             }
+            
+            if (request instanceof ConfigBatchQueryRequest) {
+                String tenant = ((ConfigBatchQueryRequest) request).getTenant();
+                return buildResource(tenant, null, null);
+            }
             return RequestResource.configBuilder().build();
         }
         
@@ -18,6 +18,7 @@ package com.alibaba.nacos.client.config.impl;
 
 import com.alibaba.nacos.api.PropertyKeyConst;
 import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.api.config.ConfigKey;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.client.env.NacosClientProperties;
 import com.alibaba.nacos.plugin.auth.api.RequestResource;
@@ -29,6 +30,7 @@ import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.common.utils.StringUtils;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.ScheduledExecutorService;
@@ -204,6 +206,18 @@ public abstract class ConfigTransportClient {
     public abstract ConfigResponse queryConfig(String dataId, String group, String tenat, long readTimeous,
             boolean notify) throws NacosException;
     
+    /**
+     * query a batch of configs of one tenant.
+     *
+     * @param configKeys  keys of configs, groups should not be blank.
+     * @param tenant      tenant.
+     * @param readTimeout readTimeout.
+     * @return responses of the configs resolved by server, keys failed to query are absent.
+     * @throws NacosException throw where the batch query fail.
+     */
+    public abstract Map<ConfigKey, ConfigResponse> queryConfigs(List<ConfigKey> configKeys, String tenant,
+            long readTimeout) throws NacosException;
+    
     /**
      * publish config.
      *
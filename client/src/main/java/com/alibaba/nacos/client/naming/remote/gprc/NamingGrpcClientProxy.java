@@ -61,6 +61,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -326,6 +327,23 @@ public class NamingGrpcClientProxy extends AbstractNamingClientProxy {
         return response.getServiceInfo();
     }
     
+    /**
+     * Execute subscribe operation without blocking the calling thread.
+     *
+     * @param serviceName service name
+     * @param groupName   group name
+     * @param clusters    clusters, current only support subscribe all clusters, maybe deprecated
+     * @return future of current service info of subscribe service, completed exceptionally when subscribe fails
+     */
+    public CompletableFuture<ServiceInfo> doSubscribeAsync(String serviceName, String groupName, String clusters) {
+        SubscribeServiceRequest request = new SubscribeServiceRequest(namespaceId, groupName, serviceName, clusters,
+                true);
+        return requestToServerAsync(request, SubscribeServiceResponse.class).thenApply(response -> {
+            redoService.subscriberRegistered(serviceName, groupName, clusters);
+            return response.getServiceInfo();
+        });
+    }
+    
     @Override
     public void unsubscribe(String serviceName, String groupName, String clusters) throws NacosException {
         if (NAMING_LOGGER.isDebugEnabled()) {
@@ -370,19 +388,52 @@ public class NamingGrpcClientProxy extends AbstractNamingClientProxy {
             // 请求
             Response response =
                     requestTimeout < 0 ? rpcClient.request(request) : rpcClient.request(request, requestTimeout);
-            if (ResponseCode.SUCCESS.getCode() != response.getResultCode()) {
-                throw new NacosException(response.getErrorCode(), response.getMessage());
-            }
-            if (responseClass.isAssignableFrom(response.getClass())) {
-                return (T) response;
-            }
-            NAMING_LOGGER.error("Server return unexpected response '{}', expected response should be '{}'",
-                    response.getClass().getName(), responseClass.getName());
+            return checkResponse(response, responseClass);
         } catch (NacosException e) {
             throw e;
         } catch (Exception e) {
             throw new NacosException(NacosException.SERVER_ERROR, "Request nacos server failed: ", e);
         }
+    }
+    
+    private <T extends Response> CompletableFuture<T> requestToServerAsync(AbstractNamingRequest request,
+            Class<T> responseClass) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        CompletableFuture<Response> responseFuture;
+        try {
+            request.putAllHeader(
+                    getSecurityHeaders(request.getNamespace(), request.getGroupName(), request.getServiceName()));
+            responseFuture = requestTimeout < 0 ? rpcClient.requestAsync(request)
+                    : rpcClient.requestAsync(request, requestTimeout);
+        } catch (Exception e) {
+            result.completeExceptionally(
+                    new NacosException(NacosException.SERVER_ERROR, "Request nacos server failed: ", e));
+            return result;
+        }
+        responseFuture.whenComplete((response, throwable) -> {
+            if (throwable != null) {
+                result.completeExceptionally(throwable instanceof NacosException ? throwable
+                        : new NacosException(NacosException.SERVER_ERROR, "Request nacos server failed: ", throwable));
+                return;
+            }
+            try {
+                result.complete(checkResponse(response, responseClass));
+            } catch (NacosException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+    
+    private <T extends Response> T checkResponse(Response response, Class<T> responseClass) throws NacosException {
+        if (ResponseCode.SUCCESS.getCode() != response.getResultCode()) {
+            throw new NacosException(response.getErrorCode(), response.getMessage());
+        }
+        if (responseClass.isAssignableFrom(response.getClass())) {
+            return (T) response;
+        }
+        NAMING_LOGGER.error("Server return unexpected response '{}', expected response should be '{}'",
+                response.getClass().getName(), responseClass.getName());
         throw new NacosException(NacosException.SERVER_ERROR, "Server return invalid response");
     }
     
@@ -17,6 +17,7 @@
 package com.alibaba.nacos.client.naming.remote.gprc.redo;
 
 import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.client.naming.remote.gprc.NamingGrpcClientProxy;
 import com.alibaba.nacos.client.naming.remote.gprc.redo.data.BatchInstanceRedoData;
 import com.alibaba.nacos.client.naming.remote.gprc.redo.data.InstanceRedoData;
@@ -25,6 +26,13 @@ import com.alibaba.nacos.client.naming.remote.gprc.redo.data.SubscriberRedoData;
 import com.alibaba.nacos.client.utils.LogUtils;
 import com.alibaba.nacos.common.task.AbstractExecuteTask;
 
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
 /**
  * Redo task.
  *
@@ -32,6 +40,8 @@ import com.alibaba.nacos.common.task.AbstractExecuteTask;
  */
 public class RedoScheduledTask extends AbstractExecuteTask {
     
+    static final int MAX_IN_FLIGHT_REDO_SUBSCRIBES = 16;
+    
     private final NamingGrpcClientProxy clientProxy;
     
     private final NamingGrpcRedoService redoService;
@@ -103,17 +113,45 @@ public class RedoScheduledTask extends AbstractExecuteTask {
     }
     
     private void redoForSubscribes() {
+        // subscribes are sent without waiting each other, but at most MAX_IN_FLIGHT_REDO_SUBSCRIBES at the same time.
+        Deque<Map.Entry<SubscriberRedoData, CompletableFuture<ServiceInfo>>> inFlight = new ArrayDeque<>();
         for (SubscriberRedoData each : redoService.findSubscriberRedoData()) {
+            if (inFlight.size() >= MAX_IN_FLIGHT_REDO_SUBSCRIBES && !awaitSubscribe(inFlight.poll())) {
+                return;
+            }
             try {
-                redoForSubscribe(each);
+                CompletableFuture<ServiceInfo> subscribeFuture = redoForSubscribe(each);
+                if (null != subscribeFuture) {
+                    inFlight.offer(new AbstractMap.SimpleImmutableEntry<>(each, subscribeFuture));
+                }
             } catch (NacosException e) {
                 LogUtils.NAMING_LOGGER.error("Redo subscriber operation {} for {}@@{}#{} failed. ", each.getRedoType(),
                         each.getGroupName(), each.getServiceName(), each.get(), e);
             }
         }
+        // wait the rest of subscribes so the next redo task does not overlap.
+        while (!inFlight.isEmpty()) {
+            if (!awaitSubscribe(inFlight.poll())) {
+                return;
+            }
+        }
     }
     
-    private void redoForSubscribe(SubscriberRedoData redoData) throws NacosException {
+    private boolean awaitSubscribe(Map.Entry<SubscriberRedoData, CompletableFuture<ServiceInfo>> entry) {
+        SubscriberRedoData each = entry.getKey();
+        try {
+            entry.getValue().get();
+        } catch (ExecutionException e) {
+            LogUtils.NAMING_LOGGER.error("Redo subscriber operation {} for {}@@{}#{} failed. ", each.getRedoType(),
+                    each.getGroupName(), each.getServiceName(), each.get(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return true;
+    }
+    
+    private CompletableFuture<ServiceInfo> redoForSubscribe(SubscriberRedoData redoData) throws NacosException {
         RedoData.RedoType redoType = redoData.getRedoType();
         String serviceName = redoData.getServiceName();
         String groupName = redoData.getGroupName();
@@ -122,13 +160,12 @@ public class RedoScheduledTask extends AbstractExecuteTask {
         switch (redoData.getRedoType()) {
             case REGISTER:
                 if (isClientDisabled()) {
-                    return;
+                    return null;
                 }
-                clientProxy.doSubscribe(serviceName, groupName, cluster);
-                break;
+                return clientProxy.doSubscribeAsync(serviceName, groupName, cluster);
             case UNREGISTER:
                 if (isClientDisabled()) {
-                    return;
+                    return null;
                 }
                 clientProxy.doUnsubscribe(serviceName, groupName, cluster);
                 break;
@@ -137,6 +174,7 @@ public class RedoScheduledTask extends AbstractExecuteTask {
                 break;
             default:
         }
+        return null;
     }
     
     private boolean isClientDisabled() {
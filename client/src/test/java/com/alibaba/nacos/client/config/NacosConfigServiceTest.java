@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.client.config;
 
+import com.alibaba.nacos.api.config.ConfigKey;
 import com.alibaba.nacos.api.config.ConfigType;
 import com.alibaba.nacos.api.config.listener.Listener;
 import com.alibaba.nacos.api.exception.NacosException;
@@ -32,7 +33,12 @@ import org.junit.Test;
 import org.mockito.Mockito;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.Executor;
 
@@ -140,6 +146,12 @@ public class NacosConfigServiceTest {
                 return configResponse;
             }
     
+            @Override
+            public Map<ConfigKey, ConfigResponse> queryConfigs(List<ConfigKey> configKeys, String tenant,
+                    long readTimeout) throws NacosException {
+                return Collections.emptyMap();
+            }
+    
             @Override
             public boolean publishConfig(String dataId, String group, String tenant, String appName, String tag,
                     String betaIps, String content, String encryptedDataKey, String casMd5, String type)
@@ -160,6 +172,53 @@ public class NacosConfigServiceTest {
                 .addTenantListenersWithContent(dataId, group, content, null, Arrays.asList(listener));
     }
     
+    @Test
+    public void testGetConfigs() throws NacosException {
+        final int timeout = 3000;
+        ConfigResponse response = new ConfigResponse();
+        response.setContent("aa");
+        Map<ConfigKey, ConfigResponse> responses = new HashMap<>();
+        responses.put(new ConfigKey("1", "2"), response);
+        responses.put(new ConfigKey("3", "DEFAULT_GROUP"), new ConfigResponse());
+        Mockito.when(mockWoker.getServerConfigs(Mockito.anyList(), Mockito.eq(""), Mockito.eq((long) timeout)))
+                .thenReturn(responses);
+        ConfigResponse singleResponse = new ConfigResponse();
+        singleResponse.setContent("bb");
+        Mockito.when(mockWoker.getServerConfig("4", "2", "", timeout, false)).thenReturn(singleResponse);
+        
+        List<ConfigKey> configKeys = Arrays.asList(new ConfigKey("1", "2"), new ConfigKey("3", ""),
+                new ConfigKey("4", "2"));
+        Map<ConfigKey, String> configs = nacosConfigService.getConfigs(configKeys, timeout);
+        
+        Assert.assertEquals(configKeys, new ArrayList<>(configs.keySet()));
+        Assert.assertEquals("aa", configs.get(new ConfigKey("1", "2")));
+        Assert.assertNull(configs.get(new ConfigKey("3", "")));
+        Assert.assertEquals("bb", configs.get(new ConfigKey("4", "2")));
+        Mockito.verify(mockWoker, Mockito.never()).getServerConfig("1", "2", "", timeout, false);
+    }
+    
+    @Test
+    public void testGetConfigsFallbackWhenBatchNotSupported() throws NacosException {
+        final int timeout = 3000;
+        Mockito.when(mockWoker.getServerConfigs(Mockito.anyList(), Mockito.eq(""), Mockito.eq((long) timeout)))
+                .thenThrow(new NacosException(NacosException.NO_HANDLER, "no handler"));
+        ConfigResponse response = new ConfigResponse();
+        response.setContent("aa");
+        Mockito.when(mockWoker.getServerConfig("1", "2", "", timeout, false)).thenReturn(response);
+        
+        Map<ConfigKey, String> configs = nacosConfigService
+                .getConfigs(Collections.singletonList(new ConfigKey("1", "2")), timeout);
+        
+        Assert.assertEquals("aa", configs.get(new ConfigKey("1", "2")));
+    }
+    
+    @Test(expected = NacosException.class)
+    public void testGetConfigsNoRight() throws NacosException {
+        Mockito.when(mockWoker.getServerConfigs(Mockito.anyList(), Mockito.eq(""), Mockito.anyLong()))
+                .thenThrow(new NacosException(NacosException.NO_RIGHT, "no right"));
+        nacosConfigService.getConfigs(Collections.singletonList(new ConfigKey("1", "2")), 3000L);
+    }
+    
     @Test
     public void testAddListener() throws NacosException {
         String dataId = "1";
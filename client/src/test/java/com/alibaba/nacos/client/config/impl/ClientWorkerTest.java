@@ -16,17 +16,22 @@
 
 package com.alibaba.nacos.client.config.impl;
 
+import com.alibaba.nacos.api.config.ConfigKey;
 import com.alibaba.nacos.api.config.listener.AbstractListener;
 import com.alibaba.nacos.api.config.listener.Listener;
+import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.client.config.filter.impl.ConfigFilterChainManager;
 import com.alibaba.nacos.client.env.NacosClientProperties;
+import com.alibaba.nacos.common.utils.MD5Utils;
 import org.junit.Assert;
 import org.junit.Test;
 import org.mockito.Mockito;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Properties;
 
@@ -162,6 +167,22 @@ public class ClientWorkerTest {
         }
     }
     
+    @Test
+    public void testGetServerConfigsNotConnected() throws NacosException {
+        ConfigFilterChainManager filter = new ConfigFilterChainManager(new Properties());
+        ServerListManager agent = Mockito.mock(ServerListManager.class);
+        final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(new Properties());
+        ClientWorker clientWorker = new ClientWorker(filter, agent, nacosClientProperties);
+        try {
+            clientWorker.getServerConfigs(Collections.singletonList(new ConfigKey("a", "")), "c", 100);
+            Assert.fail();
+        } catch (NacosException e) {
+            Assert.assertEquals("Client not connected, current status:STARTING", e.getErrMsg());
+            Assert.assertEquals(-401, e.getErrCode());
+        }
+        clientWorker.shutdown();
+    }
+    
     @Test
     public void testShutdown() throws NacosException, NoSuchFieldException, IllegalAccessException {
         Properties prop = new Properties();
@@ -186,4 +207,48 @@ public class ClientWorkerTest {
         Assert.assertEquals(null, clientWorker.getAgentName());
     }
     
+    @Test
+    public void testApplyPushedContent() throws Exception {
+        ConfigFilterChainManager filter = new ConfigFilterChainManager(new Properties());
+        ServerListManager agent = Mockito.mock(ServerListManager.class);
+        final NacosClientProperties nacosClientProperties = NacosClientProperties.PROTOTYPE.derive(new Properties());
+        ClientWorker clientWorker = new ClientWorker(filter, agent, nacosClientProperties);
+        Method applyPushedContent = ClientWorker.class
+                .getDeclaredMethod("applyPushedContent", CacheData.class, ConfigChangeNotifyRequest.class);
+        applyPushedContent.setAccessible(true);
+        // remove the snapshot left by previous runs, which is loaded as the initial content of cache.
+        LocalConfigInfoProcessor.saveSnapshot(clientWorker.getAgentName(), "pushedDataId", "group", "tenant", null);
+        final CacheData cacheData = clientWorker.addCacheDataIfAbsent("pushedDataId", "group", "tenant");
+        ConfigChangeNotifyRequest request = ConfigChangeNotifyRequest.build("pushedDataId", "group", "tenant");
+        request.setContent("content");
+        request.setMd5(MD5Utils.md5Hex("content", "UTF-8"));
+        request.setContentType("yaml");
+        
+        // the initializing cache still queries content from server.
+        applyPushedContent.invoke(clientWorker, cacheData, request);
+        Assert.assertNull(cacheData.getContent());
+        
+        cacheData.setInitializing(false);
+        request.setMd5("wrongMd5");
+        applyPushedContent.invoke(clientWorker, cacheData, request);
+        Assert.assertNull(cacheData.getContent());
+        
+        request.setMd5(MD5Utils.md5Hex("content", "UTF-8"));
+        applyPushedContent.invoke(clientWorker, cacheData, request);
+        Assert.assertEquals("content", cacheData.getContent());
+        Assert.assertEquals(request.getMd5(), cacheData.getMd5());
+        Assert.assertEquals("yaml", cacheData.getType());
+        
+        // the notify reordered by network carries the older content, which is ignored.
+        request.setLastModified(2000L);
+        applyPushedContent.invoke(clientWorker, cacheData, request);
+        ConfigChangeNotifyRequest staleRequest = ConfigChangeNotifyRequest.build("pushedDataId", "group", "tenant");
+        staleRequest.setContent("staleContent");
+        staleRequest.setMd5(MD5Utils.md5Hex("staleContent", "UTF-8"));
+        staleRequest.setLastModified(1000L);
+        applyPushedContent.invoke(clientWorker, cacheData, staleRequest);
+        Assert.assertEquals("content", cacheData.getContent());
+        Assert.assertEquals(2000L, cacheData.getPushedContentLastModified());
+        clientWorker.shutdown();
+    }
 }
@@ -70,12 +70,15 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -310,6 +313,30 @@ public class NamingGrpcClientProxyTest {
         }));
     }
     
+    @Test
+    public void testDoSubscribeAsync() throws Exception {
+        SubscribeServiceResponse res = new SubscribeServiceResponse();
+        ServiceInfo info = new ServiceInfo(GROUP_NAME + "@@" + SERVICE_NAME + "@@" + CLUSTERS);
+        res.setServiceInfo(info);
+        when(this.rpcClient.requestAsync(any())).thenReturn(CompletableFuture.completedFuture(res));
+        ServiceInfo actual = client.doSubscribeAsync(SERVICE_NAME, GROUP_NAME, CLUSTERS).get();
+        Assert.assertEquals(info, actual);
+        verify(this.rpcClient, never()).request(any());
+    }
+    
+    @Test
+    public void testDoSubscribeAsyncWithFailResponse() throws Exception {
+        SubscribeServiceResponse res = new SubscribeServiceResponse();
+        res.setErrorInfo(NacosException.SERVER_ERROR, "fail");
+        when(this.rpcClient.requestAsync(any())).thenReturn(CompletableFuture.completedFuture(res));
+        try {
+            client.doSubscribeAsync(SERVICE_NAME, GROUP_NAME, CLUSTERS).get();
+            Assert.fail();
+        } catch (ExecutionException e) {
+            Assert.assertEquals(NacosException.SERVER_ERROR, ((NacosException) e.getCause()).getErrCode());
+        }
+    }
+    
     @Test
     public void testServerHealthy() {
         when(this.rpcClient.isRunning()).thenReturn(true);
@@ -18,6 +18,7 @@ package com.alibaba.nacos.client.naming.remote.gprc.redo;
 
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.client.naming.remote.gprc.NamingGrpcClientProxy;
 import com.alibaba.nacos.client.naming.remote.gprc.redo.data.InstanceRedoData;
 import com.alibaba.nacos.client.naming.remote.gprc.redo.data.SubscriberRedoData;
@@ -28,9 +29,20 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -106,8 +118,55 @@ public class RedoScheduledTaskTest {
     public void testRunRedoRegisterSubscriber() throws NacosException {
         Set<SubscriberRedoData> mockData = generateMockSubscriberData(false, false);
         when(redoService.findSubscriberRedoData()).thenReturn(mockData);
+        when(clientProxy.doSubscribeAsync(SERVICE, GROUP, CLUSTER))
+                .thenReturn(CompletableFuture.completedFuture(new ServiceInfo()));
         redoTask.run();
-        verify(clientProxy).doSubscribe(SERVICE, GROUP, CLUSTER);
+        verify(clientProxy).doSubscribeAsync(SERVICE, GROUP, CLUSTER);
+    }
+    
+    @Test
+    public void testRunRedoRegisterSubscriberFailed() throws NacosException {
+        Set<SubscriberRedoData> mockData = generateMockSubscriberData(false, false);
+        when(redoService.findSubscriberRedoData()).thenReturn(mockData);
+        CompletableFuture<ServiceInfo> future = new CompletableFuture<>();
+        future.completeExceptionally(new NacosException(NacosException.SERVER_ERROR, "test"));
+        when(clientProxy.doSubscribeAsync(SERVICE, GROUP, CLUSTER)).thenReturn(future);
+        redoTask.run();
+        verify(clientProxy).doSubscribeAsync(SERVICE, GROUP, CLUSTER);
+        verify(redoService, never()).subscriberRegistered(SERVICE, GROUP, CLUSTER);
+    }
+    
+    @Test
+    public void testRunRedoRegisterSubscriberBoundInFlight() throws Exception {
+        Set<SubscriberRedoData> mockData = new LinkedHashSet<>();
+        int total = RedoScheduledTask.MAX_IN_FLIGHT_REDO_SUBSCRIBES + 2;
+        for (int i = 0; i < total; i++) {
+            mockData.add(SubscriberRedoData.build(SERVICE + i, GROUP, CLUSTER));
+        }
+        when(redoService.findSubscriberRedoData()).thenReturn(mockData);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(total);
+        try {
+            when(clientProxy.doSubscribeAsync(anyString(), eq(GROUP), eq(CLUSTER))).thenAnswer(invocation -> {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                return CompletableFuture.supplyAsync(() -> {
+                    try {
+                        TimeUnit.MILLISECONDS.sleep(20);
+                    } catch (InterruptedException ignored) {
+                        Thread.currentThread().interrupt();
+                    }
+                    inFlight.decrementAndGet();
+                    return new ServiceInfo();
+                }, executor);
+            });
+            redoTask.run();
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(clientProxy, times(total)).doSubscribeAsync(anyString(), eq(GROUP), eq(CLUSTER));
+        assertTrue(maxInFlight.get() <= RedoScheduledTask.MAX_IN_FLIGHT_REDO_SUBSCRIBES);
+        assertEquals(0, inFlight.get());
     }
     
     @Test
@@ -132,7 +191,7 @@ public class RedoScheduledTaskTest {
         Set<SubscriberRedoData> mockData = generateMockSubscriberData(false, false);
         when(redoService.findSubscriberRedoData()).thenReturn(mockData);
         redoTask.run();
-        verify(clientProxy, never()).doSubscribe(SERVICE, GROUP, CLUSTER);
+        verify(clientProxy, never()).doSubscribeAsync(SERVICE, GROUP, CLUSTER);
     }
     
     private Set<SubscriberRedoData> generateMockSubscriberData(boolean registered, boolean unregistering) {
@@ -52,6 +52,16 @@ public abstract class Event implements Serializable {
         return null;
     }
     
+    /**
+     * Sharding key of event, the events with same key are handled in order by the publishers which handle events in
+     * parallel, such as {@link RingBufferEventPublisher}.
+     *
+     * @return sharding key, return null if the event should be in order with all other events without key
+     */
+    public Object shardingKey() {
+        return null;
+    }
+    
     /**
      * Whether is plugin event. If so, the event can be dropped when no publish and subscriber without any hint. Default
      * false
@@ -50,6 +50,8 @@ public class NotifyCenter {
     
     public static int shareBufferSize;
     
+    public static int ringBufferParallelism;
+    
     private static final AtomicBoolean CLOSED = new AtomicBoolean(false);
     
     private static final EventPublisherFactory DEFAULT_PUBLISHER_FACTORY;
@@ -75,6 +77,11 @@ public class NotifyCenter {
         String shareBufferSizeProperty = "nacos.core.notify.share-buffer-size";
         shareBufferSize = Integer.getInteger(shareBufferSizeProperty, 1024);
         
+        // The consumer threads of the ring buffer publisher, events with same sharding key are handled by same thread.
+        String ringBufferParallelismProperty = "nacos.core.notify.ring-buffer-parallelism";
+        ringBufferParallelism = Integer
+                .getInteger(ringBufferParallelismProperty, Math.min(ThreadUtils.getSuitableThreadCount(1), 8));
+        
         final Collection<EventPublisher> publishers = NacosServiceLoader.load(EventPublisher.class);
         Iterator<EventPublisher> iterator = publishers.iterator();
         
@@ -0,0 +1,441 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import com.alibaba.nacos.common.utils.ConcurrentHashSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.alibaba.nacos.common.notify.NotifyCenter.ringBufferParallelism;
+
+/**
+ * Event publisher which stages events in preallocated ring buffers and consumes them by several threads.
+ *
+ * <p>Events are sharded by the hash of {@link Event#shardingKey()}, every shard is a ring buffer with one consumer
+ * thread, so the events with same key are handled in order and the events with different keys are handled in
+ * parallel. The consumer drains all published events of its ring buffer in a batch before releasing the slots.
+ *
+ * <p>When the ring buffer is full, the event is staged in the unbounded overflow queue of the shard and counted in
+ * {@link #getOverflowCount()}, so the publishing thread is never blocked and no event is dropped. Later events of the
+ * shard are staged behind it until the overflow queue is drained, and the consumer handles the events claimed in the
+ * ring buffer before each overflowed event, so the events with same key are still handled in order.
+ *
+ * @author Nacos
+ */
+public class RingBufferEventPublisher implements ShardedEventPublisher {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(NotifyCenter.class);
+    
+    private static final String THREAD_NAME = "nacos.publisher-";
+    
+    private static final int DEFAULT_WAIT_TIME = 60;
+    
+    private static final int MIN_SHARD_SIZE = 1024;
+    
+    private static final int MAX_BATCH_SIZE = 512;
+    
+    private static final int SPIN_TIMES = 64;
+    
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    
+    private final Map<Class<? extends Event>, Set<Subscriber<? extends Event>>> subscribes = new ConcurrentHashMap<>();
+    
+    private final LongAdder overflow = new LongAdder();
+    
+    private final int parallelism;
+    
+    private volatile Shard[] shards;
+    
+    private String publisherName;
+    
+    private volatile boolean initialized = false;
+    
+    private volatile boolean shutdown = false;
+    
+    public RingBufferEventPublisher() {
+        this(ringBufferParallelism);
+    }
+    
+    public RingBufferEventPublisher(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+    
+    @Override
+    public synchronized void init(Class<? extends Event> type, int bufferSize) {
+        if (initialized) {
+            return;
+        }
+        this.publisherName = type.getName();
+        int shardSize = ceilingPowerOfTwo(Math.max(bufferSize / parallelism, Math.min(bufferSize, MIN_SHARD_SIZE)));
+        this.shards = new Shard[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            shards[i] = new Shard(shardSize);
+            shards[i].setName(THREAD_NAME + publisherName + "-" + i);
+            shards[i].setDaemon(true);
+            shards[i].start();
+        }
+        initialized = true;
+    }
+    
+    private static int ceilingPowerOfTwo(int size) {
+        int result = 1;
+        while (result < size) {
+            result <<= 1;
+        }
+        return result;
+    }
+    
+    @Override
+    public long currentEventSize() {
+        long result = 0;
+        for (Shard each : shards) {
+            result += each.size();
+        }
+        return result;
+    }
+    
+    /**
+     * Get the waiting time of the oldest event which is not handled yet.
+     *
+     * @return lag in milliseconds, 0 if all events are handled
+     */
+    public long getLagMillis() {
+        long now = System.currentTimeMillis();
+        long result = 0;
+        for (Shard each : shards) {
+            result = Math.max(result, each.lag(now));
+        }
+        return result;
+    }
+    
+    /**
+     * Get the count of events staged in overflow queues because of the full ring buffer.
+     *
+     * @return overflow count
+     */
+    public long getOverflowCount() {
+        return overflow.sum();
+    }
+    
+    public int getParallelism() {
+        return parallelism;
+    }
+    
+    @Override
+    public void addSubscriber(Subscriber subscriber) {
+        addSubscriber(subscriber, subscriber.subscribeType());
+    }
+    
+    @Override
+    public void addSubscriber(Subscriber subscriber, Class<? extends Event> subscribeType) {
+        subscribes.computeIfAbsent(subscribeType, inputType -> new ConcurrentHashSet<>()).add(subscriber);
+        wakeUpShards();
+    }
+    
+    @Override
+    public void removeSubscriber(Subscriber subscriber) {
+        removeSubscriber(subscriber, subscriber.subscribeType());
+    }
+    
+    @Override
+    public void removeSubscriber(Subscriber subscriber, Class<? extends Event> subscribeType) {
+        subscribes.computeIfPresent(subscribeType, (inputType, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+    
+    @Override
+    public boolean publish(Event event) {
+        checkIsStart();
+        Shard shard = selectShard(event);
+        if (shard.offer(event)) {
+            return true;
+        }
+        overflow.increment();
+        if (shard.offerOverflow(event)) {
+            LOGGER.warn("[NotifyCenter] ring buffer of {} is full, stage events in overflow queue from : {}",
+                    publisherName, event);
+        }
+        return true;
+    }
+    
+    private Shard selectShard(Event event) {
+        if (1 == parallelism) {
+            return shards[0];
+        }
+        Object key = event.shardingKey();
+        if (null == key) {
+            return shards[0];
+        }
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return shards[(hash & Integer.MAX_VALUE) % parallelism];
+    }
+    
+    @Override
+    public void notifySubscriber(Subscriber subscriber, Event event) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("[NotifyCenter] the {} will received by {}", event, subscriber);
+        }
+        final Runnable job = () -> subscriber.onEvent(event);
+        final Executor executor = subscriber.executor();
+        if (executor != null) {
+            executor.execute(job);
+        } else {
+            try {
+                job.run();
+            } catch (Throwable e) {
+                LOGGER.error("Event callback exception: ", e);
+            }
+        }
+    }
+    
+    @Override
+    public void shutdown() {
+        this.shutdown = true;
+        wakeUpShards();
+    }
+    
+    private void wakeUpShards() {
+        Shard[] current = shards;
+        if (null == current) {
+            return;
+        }
+        for (Shard each : current) {
+            LockSupport.unpark(each);
+        }
+    }
+    
+    private void handleEvent(Shard shard, Event event) {
+        Set<Subscriber<? extends Event>> subscribers = subscribes.get(event.getClass());
+        if (null == subscribers) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("[NotifyCenter] No subscribers for event {}", event.getClass().getName());
+            }
+            return;
+        }
+        long currentEventSequence = event.sequence();
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.scopeMatches(event)) {
+                continue;
+            }
+            if (subscriber.ignoreExpireEvent() && shard.lastEventSequence > currentEventSequence) {
+                continue;
+            }
+            notifySubscriber(subscriber, event);
+        }
+        shard.lastEventSequence = Math.max(shard.lastEventSequence, currentEventSequence);
+    }
+    
+    void checkIsStart() {
+        if (!initialized) {
+            throw new IllegalStateException("Publisher does not start");
+        }
+    }
+    
+    public String getStatus() {
+        return String.format("Publisher %-30s: shutdown=%5s, queue=%7d, parallelism=%3d, lag=%6dms, overflow=%d",
+                publisherName, shutdown, currentEventSize(), parallelism, getLagMillis(), getOverflowCount());
+    }
+    
+    /**
+     * One shard of publisher, which is a multi-producer and single-consumer ring buffer.
+     */
+    private class Shard extends Thread {
+        
+        private final int capacity;
+        
+        private final int mask;
+        
+        private final AtomicReferenceArray<Event> slots;
+        
+        private final AtomicLongArray publishTimes;
+        
+        /**
+         * Next sequence to be claimed by producers.
+         */
+        private final AtomicLong claimed = new AtomicLong();
+        
+        /**
+         * Next sequence to be handled by consumer, the slots before it can be reused.
+         */
+        private final AtomicLong consumed = new AtomicLong();
+        
+        /**
+         * Events published when the ring buffer is full, handled by the consumer after the earlier claimed ones.
+         */
+        private final ConcurrentLinkedQueue<Event> overflowEvents = new ConcurrentLinkedQueue<>();
+        
+        private final AtomicLong overflowSize = new AtomicLong();
+        
+        private volatile boolean waiting = false;
+        
+        private volatile long lastEventSequence = -1L;
+        
+        private Shard(int capacity) {
+            this.capacity = capacity;
+            this.mask = capacity - 1;
+            this.slots = new AtomicReferenceArray<>(capacity);
+            this.publishTimes = new AtomicLongArray(capacity);
+        }
+        
+        private boolean offer(Event event) {
+            if (overflowSize.get() > 0) {
+                // stage behind the overflowed events to keep the order
+                return false;
+            }
+            long sequence;
+            do {
+                sequence = claimed.get();
+                if (sequence - consumed.get() >= capacity) {
+                    return false;
+                }
+            } while (!claimed.compareAndSet(sequence, sequence + 1));
+            int index = (int) sequence & mask;
+            publishTimes.lazySet(index, System.currentTimeMillis());
+            slots.set(index, event);
+            if (waiting) {
+                LockSupport.unpark(this);
+            }
+            return true;
+        }
+        
+        /**
+         * Stage event into overflow queue.
+         *
+         * @param event event
+         * @return {@code true} if the overflow queue was empty before
+         */
+        private boolean offerOverflow(Event event) {
+            overflowEvents.offer(event);
+            boolean first = 1 == overflowSize.incrementAndGet();
+            if (waiting) {
+                LockSupport.unpark(this);
+            }
+            return first;
+        }
+        
+        private long size() {
+            return Math.max(0L, claimed.get() - consumed.get()) + overflowSize.get();
+        }
+        
+        private long lag(long now) {
+            long sequence = consumed.get();
+            if (sequence >= claimed.get()) {
+                return 0L;
+            }
+            return Math.max(0L, now - publishTimes.get((int) sequence & mask));
+        }
+        
+        @Override
+        public void run() {
+            try {
+                waitSubscriberForInit();
+                handleEvents();
+            } catch (Throwable e) {
+                LOGGER.error("Event publisher {} stop to handle event due to unexpected exception: ", getName(), e);
+            }
+        }
+        
+        private void waitSubscriberForInit() {
+            // To ensure that messages are not lost, enable EventHandler when
+            // waiting for the first Subscriber to register
+            for (int waitTimes = DEFAULT_WAIT_TIME; waitTimes > 0; waitTimes--) {
+                if (shutdown || !subscribes.isEmpty()) {
+                    break;
+                }
+                LockSupport.parkNanos(this, TimeUnit.SECONDS.toNanos(1));
+            }
+        }
+        
+        private void handleEvents() {
+            int batchSize = Math.min(capacity, MAX_BATCH_SIZE);
+            int idleTimes = 0;
+            while (!shutdown) {
+                if (overflowSize.get() > 0) {
+                    handleOverflowEvents();
+                    idleTimes = 0;
+                    continue;
+                }
+                long sequence = consumed.get();
+                int handled = 0;
+                Event event;
+                while (handled < batchSize && null != (event = slots.get((int) (sequence + handled) & mask))) {
+                    slots.lazySet((int) (sequence + handled) & mask, null);
+                    handled++;
+                    handleEvent(this, event);
+                }
+                if (handled > 0) {
+                    consumed.lazySet(sequence + handled);
+                    idleTimes = 0;
+                } else if (++idleTimes > SPIN_TIMES) {
+                    waitForEvent((int) sequence & mask);
+                } else {
+                    Thread.yield();
+                }
+            }
+        }
+        
+        private void handleOverflowEvents() {
+            Event event;
+            while (!shutdown && null != (event = overflowEvents.poll())) {
+                // the events claimed before the overflowed one is polled may be published earlier, handle them first.
+                handleEventsBefore(claimed.get());
+                handleEvent(this, event);
+                overflowSize.decrementAndGet();
+            }
+        }
+        
+        private void handleEventsBefore(long target) {
+            long sequence = consumed.get();
+            while (!shutdown && sequence < target) {
+                int index = (int) sequence & mask;
+                Event event = slots.get(index);
+                if (null == event) {
+                    // claimed but not set by producer yet
+                    Thread.yield();
+                    continue;
+                }
+                slots.lazySet(index, null);
+                handleEvent(this, event);
+                consumed.lazySet(++sequence);
+            }
+        }
+        
+        private void waitForEvent(int index) {
+            waiting = true;
+            if (!shutdown && null == slots.get(index) && 0 == overflowSize.get()) {
+                LockSupport.parkNanos(this, PARK_NANOS);
+            }
+            waiting = false;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+/**
+ * Event publisher factory of {@link RingBufferEventPublisher}.
+ *
+ * @author Nacos
+ */
+public class RingBufferEventPublisherFactory implements EventPublisherFactory {
+    
+    private static final RingBufferEventPublisherFactory INSTANCE = new RingBufferEventPublisherFactory();
+    
+    private RingBufferEventPublisherFactory() {
+    }
+    
+    public static RingBufferEventPublisherFactory getInstance() {
+        return INSTANCE;
+    }
+    
+    @Override
+    public EventPublisher apply(final Class<? extends Event> eventType, final Integer maxQueueSize) {
+        RingBufferEventPublisher result = new RingBufferEventPublisher();
+        result.init(eventType, maxQueueSize);
+        return result;
+    }
+}
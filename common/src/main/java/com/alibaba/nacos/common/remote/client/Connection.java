@@ -18,6 +18,8 @@ package com.alibaba.nacos.common.remote.client;
 
 import com.alibaba.nacos.api.remote.Requester;
 
+import java.util.concurrent.Executor;
+
 /**
  * connection on client side.
  *
@@ -70,4 +72,13 @@ public abstract class Connection implements Requester {
         this.abandon = abandon;
     }
     
+    /**
+     * Get the executor which runs the callbacks of async requests on this connection.
+     *
+     * @return executor of connection, or {@code null} if the connection has no own executor
+     */
+    public Executor getExecutor() {
+        return null;
+    }
+    
 }
@@ -21,6 +21,7 @@ import com.alibaba.nacos.api.common.Constants;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.RequestCallBack;
 import com.alibaba.nacos.api.remote.RequestFuture;
+import com.alibaba.nacos.api.remote.RpcScheduledExecutor;
 import com.alibaba.nacos.api.remote.request.ClientDetectionRequest;
 import com.alibaba.nacos.api.remote.request.ConnectResetRequest;
 import com.alibaba.nacos.api.remote.request.HealthCheckRequest;
@@ -46,7 +47,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -794,6 +798,130 @@ public abstract class RpcClient implements Closeable {
         
     }
     
+    /**
+     * send request without blocking the calling thread, with the default timeout of client.
+     *
+     * @param request request.
+     * @return future of response from server, completed exceptionally with {@link NacosException} when fail.
+     */
+    public CompletableFuture<Response> requestAsync(Request request) {
+        return requestAsync(request, rpcClientConfig.timeOutMills());
+    }
+    
+    /**
+     * send request without blocking the calling thread.
+     *
+     * <p>The request is sent by the asynchronous api of connection. The waiting for reconnect before a retry is
+     * scheduled by {@link RpcScheduledExecutor#CLIENT_RETRY_SCHEDULER} instead of sleeping, and the retry itself is
+     * handed to the executor of connection. The returned future is completed on the callback thread of connection,
+     * so the dependent actions which may block should be run with an executor of caller.
+     *
+     * @param request      request.
+     * @param timeoutMills timeout mills of each try, no more retry after timeout since the first try.
+     * @return future of response from server, completed exceptionally with {@link NacosException} when fail.
+     */
+    public CompletableFuture<Response> requestAsync(Request request, long timeoutMills) {
+        CompletableFuture<Response> future = new CompletableFuture<>();
+        doRequestAsync(request, timeoutMills, System.currentTimeMillis(), 0, null, future);
+        return future;
+    }
+    
+    private void doRequestAsync(Request request, long timeoutMills, long start, int retryTimes,
+            Throwable lastException, CompletableFuture<Response> future) {
+        if (retryTimes >= rpcClientConfig.retryTimes() || System.currentTimeMillis() >= timeoutMills + start) {
+            if (rpcClientStatus.compareAndSet(RpcClientStatus.RUNNING, RpcClientStatus.UNHEALTHY)) {
+                switchServerAsyncOnRequestFail();
+            }
+            if (lastException instanceof NacosException) {
+                future.completeExceptionally(lastException);
+            } else if (lastException != null) {
+                future.completeExceptionally(new NacosException(SERVER_ERROR, lastException));
+            } else {
+                future.completeExceptionally(new NacosException(SERVER_ERROR, "Request fail, unknown Error"));
+            }
+            return;
+        }
+        Connection connection = this.currentConnection;
+        if (connection == null || !isRunning()) {
+            retryRequestAsync(request, timeoutMills, start, retryTimes,
+                    new NacosException(NacosException.CLIENT_DISCONNECT,
+                            "Client not connected, current status:" + rpcClientStatus.get()), true, future);
+            return;
+        }
+        try {
+            connection.asyncRequest(request, new RequestCallBack<Response>() {
+                @Override
+                public Executor getExecutor() {
+                    return null;
+                }
+                
+                @Override
+                public long getTimeout() {
+                    return timeoutMills;
+                }
+                
+                @Override
+                public void onResponse(Response response) {
+                    lastActiveTimeStamp = System.currentTimeMillis();
+                    future.complete(response);
+                }
+                
+                @Override
+                public void onException(Throwable e) {
+                    boolean waitReconnect = false;
+                    if (e instanceof NacosException && ((NacosException) e).getErrCode() == NacosException.UN_REGISTER) {
+                        synchronized (RpcClient.this) {
+                            waitReconnect = true;
+                            if (rpcClientStatus.compareAndSet(RpcClientStatus.RUNNING, RpcClientStatus.UNHEALTHY)) {
+                                LoggerUtils.printIfErrorEnabled(LOGGER,
+                                        "Connection is unregistered, switch server, connectionId = {}, request = {}",
+                                        connection.getConnectionId(), request.getClass().getSimpleName());
+                                switchServerAsync();
+                            }
+                        }
+                    }
+                    retryRequestAsync(request, timeoutMills, start, retryTimes, e, waitReconnect, future);
+                }
+            });
+        } catch (Throwable e) {
+            retryRequestAsync(request, timeoutMills, start, retryTimes, e, false, future);
+        }
+    }
+    
+    private void retryRequestAsync(Request request, long timeoutMills, long start, int retryTimes, Throwable e,
+            boolean waitReconnect, CompletableFuture<Response> future) {
+        LoggerUtils.printIfErrorEnabled(LOGGER, "[{}] Send request fail, request = {}, retryTimes = {}, errorMessage = {}",
+                rpcClientConfig.name(), request, retryTimes, e.getMessage());
+        // wait client to reconnect without holding the thread.
+        long delay = waitReconnect ? Math.min(100, timeoutMills / 3) : 0L;
+        Runnable resend = () -> doRequestAsync(request, timeoutMills, start, retryTimes + 1, e, future);
+        try {
+            if (delay <= 0L) {
+                dispatchResend(resend, e, future);
+                return;
+            }
+            // the shared scheduler only waits the delay, the resend itself runs on the executor of connection.
+            RpcScheduledExecutor.CLIENT_RETRY_SCHEDULER
+                    .schedule(() -> dispatchResend(resend, e, future), delay, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException rejectedException) {
+            future.completeExceptionally(new NacosException(SERVER_ERROR, e));
+        }
+    }
+    
+    private void dispatchResend(Runnable resend, Throwable e, CompletableFuture<Response> future) {
+        Connection connection = this.currentConnection;
+        Executor executor = null == connection ? null : connection.getExecutor();
+        if (null == executor) {
+            resend.run();
+            return;
+        }
+        try {
+            executor.execute(resend);
+        } catch (RejectedExecutionException rejectedException) {
+            future.completeExceptionally(new NacosException(SERVER_ERROR, e));
+        }
+    }
+    
     /**
      * connect to server.
      *
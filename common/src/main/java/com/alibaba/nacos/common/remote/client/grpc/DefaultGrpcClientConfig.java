@@ -56,6 +56,8 @@ public class DefaultGrpcClientConfig implements GrpcClientConfig {
     
     private long healthCheckTimeOut;
     
+    private boolean binaryPayload;
+    
     private Map<String, String> labels;
     
     /**
@@ -82,6 +84,7 @@ public class DefaultGrpcClientConfig implements GrpcClientConfig {
         this.healthCheckRetryTimes = loadIntegerConfig(GrpcConstants.GRPC_HEALTHCHECK_RETRY_TIMES,
                 builder.healthCheckRetryTimes);
         this.healthCheckTimeOut = loadLongConfig(GrpcConstants.GRPC_HEALTHCHECK_TIMEOUT, builder.healthCheckTimeOut);
+        this.binaryPayload = loadBooleanConfig(GrpcConstants.GRPC_BINARY_PAYLOAD, builder.binaryPayload);
         this.labels = builder.labels;
     }
     
@@ -93,6 +96,11 @@ public class DefaultGrpcClientConfig implements GrpcClientConfig {
         return Long.getLong(key, builderValue);
     }
     
+    private boolean loadBooleanConfig(String key, boolean builderValue) {
+        String value = System.getProperty(key);
+        return null == value ? builderValue : Boolean.parseBoolean(value);
+    }
+    
     @Override
     public String name() {
         return this.name;
@@ -158,6 +166,11 @@ public class DefaultGrpcClientConfig implements GrpcClientConfig {
         return healthCheckTimeOut;
     }
     
+    @Override
+    public boolean binaryPayload() {
+        return binaryPayload;
+    }
+    
     @Override
     public Map<String, String> labels() {
         return this.labels;
@@ -195,6 +208,8 @@ public class DefaultGrpcClientConfig implements GrpcClientConfig {
         
         private long healthCheckTimeOut = 3000L;
         
+        private boolean binaryPayload = true;
+        
         private Map<String, String> labels = new HashMap<>();
         
         private Builder() {
@@ -255,6 +270,9 @@ public class DefaultGrpcClientConfig implements GrpcClientConfig {
                 this.healthCheckTimeOut = Long
                         .parseLong(properties.getProperty(GrpcConstants.GRPC_HEALTHCHECK_TIMEOUT));
             }
+            if (properties.contains(GrpcConstants.GRPC_BINARY_PAYLOAD)) {
+                this.binaryPayload = Boolean.parseBoolean(properties.getProperty(GrpcConstants.GRPC_BINARY_PAYLOAD));
+            }
             return this;
         }
         
@@ -366,6 +384,14 @@ public class DefaultGrpcClientConfig implements GrpcClientConfig {
             return this;
         }
         
+        /**
+         * set binaryPayload.
+         */
+        public Builder setBinaryPayload(boolean binaryPayload) {
+            this.binaryPayload = binaryPayload;
+            return this;
+        }
+        
         /**
          * set labels.
          */
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.common.remote.client.grpc;
 
+import com.alibaba.nacos.api.ability.ClientAbilities;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.grpc.auto.BiRequestStreamGrpc;
 import com.alibaba.nacos.api.grpc.auto.Payload;
@@ -293,6 +294,29 @@ public abstract class GrpcClient extends RpcClient {
         }
     }
     
+    /**
+     * Build the abilities of connection, the binary payload ability is only declared when server supports it.
+     *
+     * @param binaryPayload whether binary payload is negotiated
+     * @return abilities of connection
+     */
+    private ClientAbilities buildConnectionAbilities(boolean binaryPayload) {
+        if (!binaryPayload) {
+            return super.clientAbilities;
+        }
+        ClientAbilities abilities = new ClientAbilities();
+        if (null != super.clientAbilities) {
+            abilities.setConfigAbility(super.clientAbilities.getConfigAbility());
+            abilities.setNamingAbility(super.clientAbilities.getNamingAbility());
+            if (null != super.clientAbilities.getRemoteAbility()) {
+                abilities.getRemoteAbility().setSupportRemoteConnection(
+                        super.clientAbilities.getRemoteAbility().isSupportRemoteConnection());
+            }
+        }
+        abilities.getRemoteAbility().setSupportBinaryPayload(true);
+        return abilities;
+    }
+    
     @Override
     public Connection connectToServer(ServerInfo serverInfo) {
         try {
@@ -312,8 +336,11 @@ public abstract class GrpcClient extends RpcClient {
                 
                 BiRequestStreamGrpc.BiRequestStreamStub biRequestStreamStub = BiRequestStreamGrpc
                         .newStub(newChannelStubTemp.getChannel());
+                ServerCheckResponse serverCheckResponse = (ServerCheckResponse) response;
+                boolean binaryPayload = clientConfig.binaryPayload() && serverCheckResponse.isSupportBinaryPayload();
                 GrpcConnection grpcConn = new GrpcConnection(serverInfo, grpcExecutor);
-                grpcConn.setConnectionId(((ServerCheckResponse) response).getConnectionId());
+                grpcConn.setConnectionId(serverCheckResponse.getConnectionId());
+                grpcConn.setBinaryPayload(binaryPayload);
                 
                 //create stream request and bind connection event to this connection.
                 StreamObserver<Payload> payloadStreamObserver = bindRequestStream(biRequestStreamStub, grpcConn);
@@ -326,7 +353,7 @@ public abstract class GrpcClient extends RpcClient {
                 ConnectionSetupRequest conSetupRequest = new ConnectionSetupRequest();
                 conSetupRequest.setClientVersion(VersionUtils.getFullClientVersion());
                 conSetupRequest.setLabels(super.getLabels());
-                conSetupRequest.setAbilities(super.clientAbilities);
+                conSetupRequest.setAbilities(buildConnectionAbilities(binaryPayload));
                 conSetupRequest.setTenant(super.getTenant());
                 grpcConn.sendRequest(conSetupRequest);
                 //wait to register connection setup
@@ -74,4 +74,11 @@ public interface GrpcClientConfig extends RpcClientConfig {
      */
     int channelKeepAlive();
     
+    /**
+     * whether to use binary payload if the server supports.
+     *
+     * @return binaryPayload.
+     */
+    boolean binaryPayload();
+    
 }
@@ -65,15 +65,25 @@ public class GrpcConnection extends Connection {
     
     protected StreamObserver<Payload> payloadStreamObserver;
     
+    /**
+     * whether the body of request is encoded by binary codec, negotiated with server when connecting.
+     */
+    protected boolean binaryPayload;
+    
     public GrpcConnection(RpcClient.ServerInfo serverInfo, Executor executor) {
         super(serverInfo);
         this.executor = executor;
     }
 
+    @Override
+    public Executor getExecutor() {
+        return executor;
+    }
+    
     // Grpc普通模式下的请求参数对象
     @Override
     public Response request(Request request, long timeouts) throws NacosException {
-        Payload grpcRequest = GrpcUtils.convert(request);
+        Payload grpcRequest = GrpcUtils.convert(request, binaryPayload);
         ListenableFuture<Payload> requestFuture = grpcFutureServiceStub.request(grpcRequest);
         Payload grpcResponse;
         try {
@@ -89,7 +99,7 @@ public class GrpcConnection extends Connection {
     // 支持请求回调处理的Grpc请求（Future模式）
     @Override
     public RequestFuture requestFuture(Request request) throws NacosException {
-        Payload grpcRequest = GrpcUtils.convert(request);
+        Payload grpcRequest = GrpcUtils.convert(request, binaryPayload);
         
         final ListenableFuture<Payload> requestFuture = grpcFutureServiceStub.request(grpcRequest);
         return new RequestFuture() {
@@ -129,14 +139,14 @@ public class GrpcConnection extends Connection {
 
     // Grpc流式请求处理
     public void sendRequest(Request request) {
-        Payload convert = GrpcUtils.convert(request);
+        Payload convert = GrpcUtils.convert(request, binaryPayload);
         payloadStreamObserver.onNext(convert);
     }
 
     // 异步的请求，并支持RequestCallBack的请求回调（回调根据是否有执行器来决定回调是否异步处理）
     @Override
     public void asyncRequest(Request request, final RequestCallBack requestCallBack) throws NacosException {
-        Payload grpcRequest = GrpcUtils.convert(request);
+        Payload grpcRequest = GrpcUtils.convert(request, binaryPayload);
         ListenableFuture<Payload> requestFuture = grpcFutureServiceStub.request(grpcRequest);
         
         //set callback .
@@ -245,4 +255,22 @@ public class GrpcConnection extends Connection {
     public void setPayloadStreamObserver(StreamObserver<Payload> payloadStreamObserver) {
         this.payloadStreamObserver = payloadStreamObserver;
     }
+    
+    /**
+     * Getter method for property <tt>binaryPayload</tt>.
+     *
+     * @return property value of binaryPayload
+     */
+    public boolean isBinaryPayload() {
+        return binaryPayload;
+    }
+    
+    /**
+     * Setter method for property <tt>binaryPayload</tt>.
+     *
+     * @param binaryPayload value to be assigned to property binaryPayload
+     */
+    public void setBinaryPayload(boolean binaryPayload) {
+        this.binaryPayload = binaryPayload;
+    }
 }
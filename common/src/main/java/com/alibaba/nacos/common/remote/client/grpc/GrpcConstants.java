@@ -76,13 +76,16 @@ public class GrpcConstants {
     @GRpcConfigLabel
     public static final String GRPC_CHANNEL_KEEP_ALIVE_TIME = NACOS_CLIENT_GRPC + ".channel.keep.alive";
     
+    @GRpcConfigLabel
+    public static final String GRPC_BINARY_PAYLOAD = NACOS_CLIENT_GRPC + ".binary.payload";
+    
     private static final Set<String> CONFIG_NAMES = new HashSet<>();
     
     @Documented
     @Target(ElementType.FIELD)
     @Retention(RetentionPolicy.RUNTIME)
     protected @interface GRpcConfigLabel {
-    
+        
     }
     
     static {
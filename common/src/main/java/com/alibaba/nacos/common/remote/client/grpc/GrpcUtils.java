@@ -24,6 +24,7 @@ import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.api.utils.NetUtils;
 import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.codec.BinaryRequestCodecs;
 import com.alibaba.nacos.common.remote.exception.RemoteException;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
@@ -34,6 +35,7 @@ import com.google.protobuf.UnsafeByteOperations;
 import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * gRPC utils, use to parse request and response.
@@ -75,10 +77,29 @@ public class GrpcUtils {
      * @return payload.
      */
     public static Payload convert(Request request) {
+        return convert(request, false);
+    }
+    
+    /**
+     * convert request to payload, the body is encoded by binary codec if the connection supports binary payload and
+     * the request type has a binary codec, otherwise it is encoded by json.
+     *
+     * @param request       request.
+     * @param binaryPayload whether the connection supports binary payload.
+     * @return payload.
+     */
+    public static Payload convert(Request request, boolean binaryPayload) {
         
         Metadata newMeta = Metadata.newBuilder().setType(request.getClass().getSimpleName())
                 .setClientIp(NetUtils.localIP()).putAllHeaders(request.getHeaders()).build();
         
+        ByteString binaryBody = binaryPayload ? BinaryRequestCodecs.encode(request) : null;
+        if (null != binaryBody) {
+            return Payload.newBuilder()
+                    .setBody(Any.newBuilder().setTypeUrl(BinaryRequestCodecs.BINARY_TYPE_URL).setValue(binaryBody))
+                    .setMetadata(newMeta).build();
+        }
+        
         byte[] jsonBytes = convertRequestToByte(request);
         
         Payload.Builder builder = Payload.newBuilder();
@@ -104,6 +125,50 @@ public class GrpcUtils {
                 .setMetadata(metaBuilder.build()).build();
     }
     
+    /**
+     * prepare the payload template of request, the body is serialized once and shared by the payloads which are built
+     * from the template with different request ids. The binary body is prepared too if the request type has a binary
+     * codec.
+     *
+     * @param request request.
+     * @return payload template.
+     */
+    public static RequestPayloadTemplate prepare(Request request) {
+        Metadata newMeta = Metadata.newBuilder().setType(request.getClass().getSimpleName())
+                .setClientIp(NetUtils.localIP()).putAllHeaders(request.getHeaders()).build();
+        String requestId = request.getRequestId();
+        String placeholder = UUID.randomUUID().toString();
+        byte[] jsonBytes;
+        try {
+            request.setRequestId(placeholder);
+            jsonBytes = convertRequestToByte(request);
+        } finally {
+            request.setRequestId(requestId);
+        }
+        byte[] placeholderBytes = JacksonUtils.toJsonBytes(placeholder);
+        int index = indexOf(jsonBytes, placeholderBytes);
+        if (index < 0) {
+            throw new RemoteException(NacosException.SERVER_ERROR,
+                    "Request id not found in payload of " + request.getClass().getSimpleName());
+        }
+        ByteString body = UnsafeByteOperations.unsafeWrap(jsonBytes);
+        return new RequestPayloadTemplate(newMeta, body.substring(0, index),
+                body.substring(index + placeholderBytes.length), BinaryRequestCodecs.encodeWithoutRequestId(request));
+    }
+    
+    private static int indexOf(byte[] source, byte[] target) {
+        for (int i = 0; i <= source.length - target.length; i++) {
+            int j = 0;
+            while (j < target.length && source[i + j] == target[j]) {
+                j++;
+            }
+            if (j == target.length) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
     private static byte[] convertRequestToByte(Request request) {
         Map<String, String> requestHeaders = new HashMap<>(request.getHeaders());
         request.clearHeaders();
@@ -121,6 +186,11 @@ public class GrpcUtils {
     public static Object parse(Payload payload) {
         Class classType = PayloadRegistry.getClassByType(payload.getMetadata().getType());
         if (classType != null) {
+            if (BinaryRequestCodecs.BINARY_TYPE_URL.equals(payload.getBody().getTypeUrl())) {
+                Request request = BinaryRequestCodecs.decode(payload.getMetadata().getType(), payload.getBody().getValue());
+                request.putAllHeader(payload.getMetadata().getHeadersMap());
+                return request;
+            }
             ByteString byteString = payload.getBody().getValue();
             ByteBuffer byteBuffer = byteString.asReadOnlyByteBuffer();
             Object obj = JacksonUtils.toObj(new ByteBufferBackedInputStream(byteBuffer), classType);
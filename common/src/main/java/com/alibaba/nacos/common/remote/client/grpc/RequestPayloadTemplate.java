@@ -0,0 +1,90 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.client.grpc;
+
+import com.alibaba.nacos.api.grpc.auto.Metadata;
+import com.alibaba.nacos.api.grpc.auto.Payload;
+import com.alibaba.nacos.common.remote.codec.BinaryRequestCodecs;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Serialized payload of a request without request id, which can be sent to many connections.
+ *
+ * <p>The body is split around the request id, so building the payload for each connection only concatenates the
+ * shared bytes with the request id of the connection instead of serializing the whole request again.
+ *
+ * @author Nacos
+ */
+public class RequestPayloadTemplate {
+    
+    private final Metadata metadata;
+    
+    private final ByteString bodyPrefix;
+    
+    private final ByteString bodySuffix;
+    
+    private final ByteString binaryBody;
+    
+    RequestPayloadTemplate(Metadata metadata, ByteString bodyPrefix, ByteString bodySuffix, ByteString binaryBody) {
+        this.metadata = metadata;
+        this.bodyPrefix = bodyPrefix;
+        this.bodySuffix = bodySuffix;
+        this.binaryBody = binaryBody;
+    }
+    
+    /**
+     * Build payload with the request id.
+     *
+     * @param requestId request id
+     * @return payload
+     */
+    public Payload build(String requestId) {
+        ByteString requestIdBytes = ByteString.copyFrom(JacksonUtils.toJson(requestId), StandardCharsets.UTF_8);
+        ByteString body = bodyPrefix.concat(requestIdBytes).concat(bodySuffix);
+        return Payload.newBuilder().setBody(Any.newBuilder().setValue(body)).setMetadata(metadata).build();
+    }
+    
+    /**
+     * Build payload with the request id, the binary body is used if the connection supports binary payload and the
+     * template has binary body.
+     *
+     * @param requestId     request id
+     * @param binaryPayload whether the connection supports binary payload
+     * @return payload
+     */
+    public Payload build(String requestId, boolean binaryPayload) {
+        if (!binaryPayload || null == binaryBody) {
+            return build(requestId);
+        }
+        ByteString body = binaryBody.concat(BinaryRequestCodecs.encodeRequestId(requestId));
+        return Payload.newBuilder().setBody(Any.newBuilder().setTypeUrl(BinaryRequestCodecs.BINARY_TYPE_URL).setValue(body))
+                .setMetadata(metadata).build();
+    }
+    
+    /**
+     * Get size of the shared body bytes.
+     *
+     * @return size of body without request id
+     */
+    public int size() {
+        return bodyPrefix.size() + bodySuffix.size();
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Utils to write and read the common fields of binary codec.
+ *
+ * <p>Nullable values are written with a varint of {@code size + 1}, so {@code 0} stands for {@code null}.
+ *
+ * @author Nacos
+ */
+public class BinaryCodecUtils {
+    
+    private static final int NULL_MARK = 0;
+    
+    /**
+     * Write nullable string.
+     *
+     * @param value  string value
+     * @param output output stream
+     * @throws IOException if write failed
+     */
+    public static void writeString(String value, CodedOutputStream output) throws IOException {
+        if (null == value) {
+            output.writeUInt32NoTag(NULL_MARK);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeUInt32NoTag(bytes.length + 1);
+        output.writeRawBytes(bytes);
+    }
+    
+    /**
+     * Read nullable string.
+     *
+     * @param input input stream
+     * @return string value
+     * @throws IOException if read failed
+     */
+    public static String readString(CodedInputStream input) throws IOException {
+        int size = input.readUInt32();
+        if (NULL_MARK == size) {
+            return null;
+        }
+        return new String(input.readRawBytes(size - 1), StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * Write nullable string map.
+     *
+     * @param map    map value
+     * @param output output stream
+     * @throws IOException if write failed
+     */
+    public static void writeStringMap(Map<String, String> map, CodedOutputStream output) throws IOException {
+        if (null == map) {
+            output.writeUInt32NoTag(NULL_MARK);
+            return;
+        }
+        output.writeUInt32NoTag(map.size() + 1);
+        for (Map.Entry<String, String> entry : map.entrySet()) {
+            writeString(entry.getKey(), output);
+            writeString(entry.getValue(), output);
+        }
+    }
+    
+    /**
+     * Read nullable string map.
+     *
+     * @param input input stream
+     * @return map value
+     * @throws IOException if read failed
+     */
+    public static Map<String, String> readStringMap(CodedInputStream input) throws IOException {
+        int size = input.readUInt32();
+        if (NULL_MARK == size) {
+            return null;
+        }
+        Map<String, String> result = new HashMap<>(Math.max(16, (int) ((size - 1) / 0.75f) + 1));
+        for (int i = 1; i < size; i++) {
+            result.put(readString(input), readString(input));
+        }
+        return result;
+    }
+    
+    /**
+     * Write nullable instance.
+     *
+     * @param instance instance
+     * @param output   output stream
+     * @throws IOException if write failed
+     */
+    public static void writeInstance(Instance instance, CodedOutputStream output) throws IOException {
+        output.writeBoolNoTag(null != instance);
+        if (null == instance) {
+            return;
+        }
+        writeString(instance.getInstanceId(), output);
+        writeString(instance.getIp(), output);
+        output.writeInt32NoTag(instance.getPort());
+        output.writeDoubleNoTag(instance.getWeight());
+        output.writeBoolNoTag(instance.isHealthy());
+        output.writeBoolNoTag(instance.isEnabled());
+        output.writeBoolNoTag(instance.isEphemeral());
+        writeString(instance.getClusterName(), output);
+        writeString(instance.getServiceName(), output);
+        writeStringMap(instance.getMetadata(), output);
+    }
+    
+    /**
+     * Read nullable instance.
+     *
+     * @param input input stream
+     * @return instance
+     * @throws IOException if read failed
+     */
+    public static Instance readInstance(CodedInputStream input) throws IOException {
+        if (!input.readBool()) {
+            return null;
+        }
+        Instance instance = new Instance();
+        instance.setInstanceId(readString(input));
+        instance.setIp(readString(input));
+        instance.setPort(input.readInt32());
+        instance.setWeight(input.readDouble());
+        instance.setHealthy(input.readBool());
+        instance.setEnabled(input.readBool());
+        instance.setEphemeral(input.readBool());
+        instance.setClusterName(readString(input));
+        instance.setServiceName(readString(input));
+        Map<String, String> metadata = readStringMap(input);
+        if (null != metadata) {
+            instance.setMetadata(metadata);
+        }
+        return instance;
+    }
+}
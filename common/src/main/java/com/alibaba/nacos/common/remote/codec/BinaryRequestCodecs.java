@@ -0,0 +1,143 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.Request;
+import com.alibaba.nacos.common.remote.exception.RemoteException;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Registry of binary request codecs.
+ *
+ * <p>The binary body is {@code [version][fields written by codec][request id]}. Request id is written at the end, so
+ * the body without request id can be shared by the payloads sent to different connections.
+ *
+ * @author Nacos
+ */
+public class BinaryRequestCodecs {
+    
+    /**
+     * Type url of the payload body which is encoded by binary codec, the body of json payload has empty type url.
+     */
+    public static final String BINARY_TYPE_URL = "type.nacos.io/binary";
+    
+    private static final byte VERSION = 1;
+    
+    private static final Map<String, RequestCodec<? extends Request>> CODECS = new HashMap<>();
+    
+    static {
+        register(new ConfigBatchListenRequestCodec());
+        register(new NotifySubscriberRequestCodec());
+        register(new InstanceRequestCodec());
+    }
+    
+    private static void register(RequestCodec<? extends Request> codec) {
+        CODECS.put(codec.getRequestClass().getSimpleName(), codec);
+    }
+    
+    /**
+     * Encode request with its request id.
+     *
+     * @param request request
+     * @return binary body, {@code null} if no binary codec for the request type
+     */
+    public static ByteString encode(Request request) {
+        ByteString body = encodeWithoutRequestId(request);
+        return null == body ? null : body.concat(encodeRequestId(request.getRequestId()));
+    }
+    
+    /**
+     * Encode request without request id, the request id should be appended by {@link #encodeRequestId(String)}.
+     *
+     * @param request request
+     * @return binary body without request id, {@code null} if no binary codec for the request type
+     */
+    @SuppressWarnings("unchecked")
+    public static ByteString encodeWithoutRequestId(Request request) {
+        RequestCodec<Request> codec = (RequestCodec<Request>) getCodec(request);
+        if (null == codec) {
+            return null;
+        }
+        try {
+            ByteString.Output buffer = ByteString.newOutput();
+            CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+            output.writeRawByte(VERSION);
+            codec.encode(request, output);
+            output.flush();
+            return buffer.toByteString();
+        } catch (IOException e) {
+            throw new RemoteException(NacosException.SERVER_ERROR, e);
+        }
+    }
+    
+    /**
+     * Encode the request id which is the tail of binary body.
+     *
+     * @param requestId request id
+     * @return encoded request id
+     */
+    public static ByteString encodeRequestId(String requestId) {
+        try {
+            ByteString.Output buffer = ByteString.newOutput();
+            CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+            BinaryCodecUtils.writeString(requestId, output);
+            output.flush();
+            return buffer.toByteString();
+        } catch (IOException e) {
+            throw new RemoteException(NacosException.SERVER_ERROR, e);
+        }
+    }
+    
+    /**
+     * Decode binary body to request.
+     *
+     * @param type type of request
+     * @param body binary body
+     * @return request
+     */
+    public static Request decode(String type, ByteString body) {
+        RequestCodec<? extends Request> codec = CODECS.get(type);
+        if (null == codec) {
+            throw new RemoteException(NacosException.SERVER_ERROR, "Unknown binary payload type:" + type);
+        }
+        try {
+            CodedInputStream input = body.newCodedInput();
+            byte version = input.readRawByte();
+            if (VERSION != version) {
+                throw new RemoteException(NacosException.SERVER_ERROR,
+                        "Unsupported binary payload version " + version + " of type:" + type);
+            }
+            Request request = codec.decode(input);
+            request.setRequestId(BinaryCodecUtils.readString(input));
+            return request;
+        } catch (IOException e) {
+            throw new RemoteException(NacosException.SERVER_ERROR, e);
+        }
+    }
+    
+    private static RequestCodec<? extends Request> getCodec(Request request) {
+        RequestCodec<? extends Request> codec = CODECS.get(request.getClass().getSimpleName());
+        return null != codec && codec.getRequestClass() == request.getClass() ? codec : null;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary codec of {@link ConfigBatchListenRequest}.
+ *
+ * @author Nacos
+ */
+public class ConfigBatchListenRequestCodec implements RequestCodec<ConfigBatchListenRequest> {
+    
+    @Override
+    public Class<ConfigBatchListenRequest> getRequestClass() {
+        return ConfigBatchListenRequest.class;
+    }
+    
+    @Override
+    public void encode(ConfigBatchListenRequest request, CodedOutputStream output) throws IOException {
+        output.writeBoolNoTag(request.isListen());
+        List<ConfigBatchListenRequest.ConfigListenContext> contexts = request.getConfigListenContexts();
+        int size = null == contexts ? 0 : contexts.size();
+        output.writeUInt32NoTag(size);
+        for (int i = 0; i < size; i++) {
+            ConfigBatchListenRequest.ConfigListenContext context = contexts.get(i);
+            BinaryCodecUtils.writeString(context.getGroup(), output);
+            BinaryCodecUtils.writeString(context.getDataId(), output);
+            BinaryCodecUtils.writeString(context.getTenant(), output);
+            BinaryCodecUtils.writeString(context.getMd5(), output);
+        }
+    }
+    
+    @Override
+    public ConfigBatchListenRequest decode(CodedInputStream input) throws IOException {
+        ConfigBatchListenRequest request = new ConfigBatchListenRequest();
+        request.setListen(input.readBool());
+        int size = input.readUInt32();
+        List<ConfigBatchListenRequest.ConfigListenContext> contexts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ConfigBatchListenRequest.ConfigListenContext context = new ConfigBatchListenRequest.ConfigListenContext();
+            context.setGroup(BinaryCodecUtils.readString(input));
+            context.setDataId(BinaryCodecUtils.readString(input));
+            context.setTenant(BinaryCodecUtils.readString(input));
+            context.setMd5(BinaryCodecUtils.readString(input));
+            contexts.add(context);
+        }
+        request.setConfigListenContexts(contexts);
+        return request;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+
+/**
+ * Binary codec of {@link InstanceRequest}.
+ *
+ * @author Nacos
+ */
+public class InstanceRequestCodec implements RequestCodec<InstanceRequest> {
+    
+    @Override
+    public Class<InstanceRequest> getRequestClass() {
+        return InstanceRequest.class;
+    }
+    
+    @Override
+    public void encode(InstanceRequest request, CodedOutputStream output) throws IOException {
+        BinaryCodecUtils.writeString(request.getNamespace(), output);
+        BinaryCodecUtils.writeString(request.getServiceName(), output);
+        BinaryCodecUtils.writeString(request.getGroupName(), output);
+        BinaryCodecUtils.writeString(request.getType(), output);
+        BinaryCodecUtils.writeInstance(request.getInstance(), output);
+    }
+    
+    @Override
+    public InstanceRequest decode(CodedInputStream input) throws IOException {
+        InstanceRequest request = new InstanceRequest();
+        request.setNamespace(BinaryCodecUtils.readString(input));
+        request.setServiceName(BinaryCodecUtils.readString(input));
+        request.setGroupName(BinaryCodecUtils.readString(input));
+        request.setType(BinaryCodecUtils.readString(input));
+        request.setInstance(BinaryCodecUtils.readInstance(input));
+        return request;
+    }
+}
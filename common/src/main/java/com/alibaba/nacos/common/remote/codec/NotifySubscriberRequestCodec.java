@@ -0,0 +1,94 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Binary codec of {@link NotifySubscriberRequest}.
+ *
+ * @author Nacos
+ */
+public class NotifySubscriberRequestCodec implements RequestCodec<NotifySubscriberRequest> {
+    
+    @Override
+    public Class<NotifySubscriberRequest> getRequestClass() {
+        return NotifySubscriberRequest.class;
+    }
+    
+    @Override
+    public void encode(NotifySubscriberRequest request, CodedOutputStream output) throws IOException {
+        BinaryCodecUtils.writeString(request.getNamespace(), output);
+        BinaryCodecUtils.writeString(request.getServiceName(), output);
+        BinaryCodecUtils.writeString(request.getGroupName(), output);
+        ServiceInfo serviceInfo = request.getServiceInfo();
+        output.writeBoolNoTag(null != serviceInfo);
+        if (null == serviceInfo) {
+            return;
+        }
+        BinaryCodecUtils.writeString(serviceInfo.getName(), output);
+        BinaryCodecUtils.writeString(serviceInfo.getGroupName(), output);
+        BinaryCodecUtils.writeString(serviceInfo.getClusters(), output);
+        output.writeInt64NoTag(serviceInfo.getCacheMillis());
+        output.writeInt64NoTag(serviceInfo.getLastRefTime());
+        BinaryCodecUtils.writeString(serviceInfo.getChecksum(), output);
+        output.writeBoolNoTag(serviceInfo.isAllIPs());
+        output.writeBoolNoTag(serviceInfo.isReachProtectionThreshold());
+        List<Instance> hosts = serviceInfo.isValid() ? serviceInfo.getHosts() : Collections.<Instance>emptyList();
+        output.writeUInt32NoTag(hosts.size());
+        for (Instance each : hosts) {
+            BinaryCodecUtils.writeInstance(each, output);
+        }
+    }
+    
+    @Override
+    public NotifySubscriberRequest decode(CodedInputStream input) throws IOException {
+        NotifySubscriberRequest request = new NotifySubscriberRequest();
+        request.setNamespace(BinaryCodecUtils.readString(input));
+        request.setServiceName(BinaryCodecUtils.readString(input));
+        request.setGroupName(BinaryCodecUtils.readString(input));
+        if (!input.readBool()) {
+            return request;
+        }
+        ServiceInfo serviceInfo = new ServiceInfo();
+        serviceInfo.setName(BinaryCodecUtils.readString(input));
+        serviceInfo.setGroupName(BinaryCodecUtils.readString(input));
+        serviceInfo.setClusters(BinaryCodecUtils.readString(input));
+        serviceInfo.setCacheMillis(input.readInt64());
+        serviceInfo.setLastRefTime(input.readInt64());
+        serviceInfo.setChecksum(BinaryCodecUtils.readString(input));
+        serviceInfo.setAllIPs(input.readBool());
+        serviceInfo.setReachProtectionThreshold(input.readBool());
+        int size = input.readUInt32();
+        List<Instance> hosts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            hosts.add(BinaryCodecUtils.readInstance(input));
+        }
+        serviceInfo.setHosts(hosts);
+        request.setServiceInfo(serviceInfo);
+        return request;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.remote.request.Request;
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+
+import java.io.IOException;
+
+/**
+ * Binary codec of request body, used instead of json for the hot request types when both side of connection support
+ * binary payload.
+ *
+ * <p>The request id and headers are not part of the body written by codec, request id is appended by
+ * {@link BinaryRequestCodecs} and headers are carried by metadata of payload.
+ *
+ * @author Nacos
+ */
+public interface RequestCodec<T extends Request> {
+    
+    /**
+     * Get the request type which this codec can handle.
+     *
+     * @return request class
+     */
+    Class<T> getRequestClass();
+    
+    /**
+     * Write the fields of request into output.
+     *
+     * @param request request to encode
+     * @param output  output stream
+     * @throws IOException if write failed
+     */
+    void encode(T request, CodedOutputStream output) throws IOException;
+    
+    /**
+     * Read the fields of request from input.
+     *
+     * @param input input stream
+     * @return decoded request
+     * @throws IOException if the input is malformed
+     */
+    T decode(CodedInputStream input) throws IOException;
+}
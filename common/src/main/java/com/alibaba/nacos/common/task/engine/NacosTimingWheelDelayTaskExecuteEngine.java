@@ -0,0 +1,254 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.task.engine;
+
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.common.task.AbstractDelayTask;
+import com.alibaba.nacos.common.task.NacosTaskProcessor;
+import org.slf4j.Logger;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Nacos delay task execute engine based on hashed timing wheel.
+ *
+ * <p>Different from {@link NacosDelayTaskExecuteEngine}, which scans all tasks every interval, this engine puts the key
+ * of task into the wheel bucket of its due time, so only the due tasks are touched in every tick. Tasks with same key
+ * are still merged by {@link AbstractDelayTask#merge(AbstractDelayTask)}, and adding task only locks the key.
+ *
+ * @author Nacos
+ */
+public class NacosTimingWheelDelayTaskExecuteEngine extends AbstractNacosTaskExecuteEngine<AbstractDelayTask> {
+    
+    private static final int DEFAULT_WHEEL_SIZE = 512;
+    
+    private final ScheduledExecutorService processingExecutor;
+    
+    protected final ConcurrentHashMap<Object, AbstractDelayTask> tasks;
+    
+    private final long tickInterval;
+    
+    private final long startTime;
+    
+    private final List<TimeoutEntry>[] wheel;
+    
+    private final int mask;
+    
+    /**
+     * Entries added by any thread, which will be moved into wheel by processing thread.
+     */
+    private final Queue<TimeoutEntry> pendingEntries = new ConcurrentLinkedQueue<>();
+    
+    /**
+     * Keys of due tasks, only accessed by processing thread.
+     */
+    private final Queue<Object> dueKeys = new ArrayDeque<>();
+    
+    private long currentTick;
+    
+    public NacosTimingWheelDelayTaskExecuteEngine(String name) {
+        this(name, null);
+    }
+    
+    public NacosTimingWheelDelayTaskExecuteEngine(String name, Logger logger) {
+        this(name, logger, 100L);
+    }
+    
+    public NacosTimingWheelDelayTaskExecuteEngine(String name, Logger logger, long tickInterval) {
+        this(name, logger, tickInterval, DEFAULT_WHEEL_SIZE);
+    }
+    
+    @SuppressWarnings("unchecked")
+    public NacosTimingWheelDelayTaskExecuteEngine(String name, Logger logger, long tickInterval, int wheelSize) {
+        super(logger);
+        this.tasks = new ConcurrentHashMap<>(32);
+        this.tickInterval = tickInterval;
+        int actualWheelSize = Integer.highestOneBit(Math.max(wheelSize, 2) - 1) << 1;
+        this.wheel = new List[actualWheelSize];
+        for (int i = 0; i < actualWheelSize; i++) {
+            wheel[i] = new ArrayList<>();
+        }
+        this.mask = actualWheelSize - 1;
+        this.startTime = System.currentTimeMillis();
+        processingExecutor = ExecutorFactory.newSingleScheduledExecutorService(new NameThreadFactory(name));
+        processingExecutor
+                .scheduleWithFixedDelay(new ProcessRunnable(), tickInterval, tickInterval, TimeUnit.MILLISECONDS);
+    }
+    
+    @Override
+    public int size() {
+        return tasks.size();
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return tasks.isEmpty();
+    }
+    
+    @Override
+    public AbstractDelayTask removeTask(Object key) {
+        AbstractDelayTask[] result = new AbstractDelayTask[1];
+        tasks.computeIfPresent(key, (taskKey, task) -> {
+            if (task.shouldProcess()) {
+                result[0] = task;
+                return null;
+            }
+            return task;
+        });
+        return result[0];
+    }
+    
+    @Override
+    public Collection<Object> getAllTaskKeys() {
+        return new HashSet<>(tasks.keySet());
+    }
+    
+    @Override
+    public void shutdown() throws NacosException {
+        tasks.clear();
+        processingExecutor.shutdown();
+    }
+    
+    @Override
+    public void addTask(Object key, AbstractDelayTask newTask) {
+        AbstractDelayTask[] existTask = new AbstractDelayTask[1];
+        tasks.compute(key, (taskKey, task) -> {
+            if (null != task) {
+                newTask.merge(task);
+                existTask[0] = task;
+            }
+            return newTask;
+        });
+        // The exist task has been in wheel already, only schedule again when the merged task should be processed earlier.
+        if (null == existTask[0] || dueTime(newTask) < dueTime(existTask[0])) {
+            pendingEntries.offer(new TimeoutEntry(key, dueTime(newTask)));
+        }
+    }
+    
+    private long dueTime(AbstractDelayTask task) {
+        return task.getLastProcessTime() + task.getTaskInterval();
+    }
+    
+    /**
+     * Move the wheel to current time and collect the keys of due tasks.
+     */
+    private void advanceWheel() {
+        long targetTick = (System.currentTimeMillis() - startTime) / tickInterval;
+        transferPendingEntries();
+        while (currentTick < targetTick) {
+            currentTick++;
+            Iterator<TimeoutEntry> iterator = wheel[(int) (currentTick & mask)].iterator();
+            while (iterator.hasNext()) {
+                TimeoutEntry entry = iterator.next();
+                if (entry.deadlineTick <= currentTick) {
+                    iterator.remove();
+                    dueKeys.offer(entry.key);
+                }
+            }
+        }
+    }
+    
+    private void transferPendingEntries() {
+        TimeoutEntry entry;
+        while (null != (entry = pendingEntries.poll())) {
+            // Round up to make sure the task is due when its tick arrives, and never put it into passed ticks.
+            long deadlineTick = (entry.dueTime - startTime + tickInterval - 1) / tickInterval;
+            entry.deadlineTick = Math.max(deadlineTick, currentTick + 1);
+            wheel[(int) (entry.deadlineTick & mask)].add(entry);
+        }
+    }
+    
+    /**
+     * process due tasks in execute engine.
+     */
+    protected void processTasks() {
+        Object taskKey;
+        while (null != (taskKey = dueKeys.poll())) {
+            AbstractDelayTask task = removeTask(taskKey);
+            if (null == task) {
+                rescheduleIfNotDue(taskKey);
+                continue;
+            }
+            NacosTaskProcessor processor = getProcessor(taskKey);
+            if (null == processor) {
+                getEngineLog().error("processor not found for task, so discarded. " + task);
+                continue;
+            }
+            try {
+                // ReAdd task if process failed
+                if (!processor.process(task)) {
+                    retryFailedTask(taskKey, task);
+                }
+            } catch (Throwable e) {
+                getEngineLog().error("Nacos task execute error ", e);
+                retryFailedTask(taskKey, task);
+            }
+        }
+    }
+    
+    private void rescheduleIfNotDue(Object taskKey) {
+        AbstractDelayTask task = tasks.get(taskKey);
+        // null means the task has been processed by other entry of same key.
+        if (null != task) {
+            pendingEntries.offer(new TimeoutEntry(taskKey, dueTime(task)));
+        }
+    }
+    
+    private void retryFailedTask(Object key, AbstractDelayTask task) {
+        task.setLastProcessTime(System.currentTimeMillis());
+        addTask(key, task);
+    }
+    
+    private static class TimeoutEntry {
+        
+        private final Object key;
+        
+        private final long dueTime;
+        
+        private long deadlineTick;
+        
+        private TimeoutEntry(Object key, long dueTime) {
+            this.key = key;
+            this.dueTime = dueTime;
+        }
+    }
+    
+    private class ProcessRunnable implements Runnable {
+        
+        @Override
+        public void run() {
+            try {
+                advanceWheel();
+                processTasks();
+            } catch (Throwable e) {
+                getEngineLog().error(e.toString(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.notify;
+
+import com.alibaba.nacos.common.notify.listener.Subscriber;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class RingBufferEventPublisherTest {
+    
+    private RingBufferEventPublisher publisher;
+    
+    @After
+    public void tearDown() {
+        if (null != publisher) {
+            publisher.shutdown();
+        }
+    }
+    
+    @Test
+    public void testHandleInOrderForSameKey() throws InterruptedException {
+        publisher = new RingBufferEventPublisher(4);
+        // large enough to hold all events of each shard, so that none of them overflows
+        publisher.init(KeyEvent.class, 8192);
+        int keys = 8;
+        int eventsPerKey = 1000;
+        CountDownLatch latch = new CountDownLatch(keys * eventsPerKey);
+        Map<Integer, List<Integer>> received = new ConcurrentHashMap<>();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        publisher.addSubscriber(new Subscriber<KeyEvent>() {
+            @Override
+            public void onEvent(KeyEvent event) {
+                received.computeIfAbsent(event.key, key -> new ArrayList<>()).add(event.index);
+                threads.add(Thread.currentThread().getName());
+                latch.countDown();
+            }
+            
+            @Override
+            public Class<? extends Event> subscribeType() {
+                return KeyEvent.class;
+            }
+        });
+        for (int i = 0; i < eventsPerKey; i++) {
+            for (int key = 0; key < keys; key++) {
+                Assert.assertTrue(publisher.publish(new KeyEvent(key, i)));
+            }
+        }
+        Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        for (List<Integer> each : received.values()) {
+            Assert.assertEquals(eventsPerKey, each.size());
+            for (int i = 0; i < eventsPerKey; i++) {
+                Assert.assertEquals(i, each.get(i).intValue());
+            }
+        }
+        Assert.assertTrue(threads.size() > 1);
+        waitForReleased();
+        Assert.assertEquals(0, publisher.currentEventSize());
+        Assert.assertEquals(0, publisher.getOverflowCount());
+    }
+    
+    @Test
+    public void testStageOverflowEventsInOrderWhenFull() throws InterruptedException {
+        publisher = new RingBufferEventPublisher(1);
+        publisher.init(KeyEvent.class, 8);
+        final Thread caller = Thread.currentThread();
+        final CountDownLatch blocker = new CountDownLatch(1);
+        Set<Thread> handlerThreads = ConcurrentHashMap.newKeySet();
+        List<Integer> handled = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch latch = new CountDownLatch(12);
+        publisher.addSubscriber(new Subscriber<KeyEvent>() {
+            @Override
+            public void onEvent(KeyEvent event) {
+                // block the consumer so that the ring buffer is filled up
+                try {
+                    blocker.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException ignored) {
+                    Thread.currentThread().interrupt();
+                }
+                handlerThreads.add(Thread.currentThread());
+                handled.add(event.index);
+                latch.countDown();
+            }
+            
+            @Override
+            public Class<? extends Event> subscribeType() {
+                return KeyEvent.class;
+            }
+        });
+        for (int i = 0; i < 8; i++) {
+            Assert.assertTrue(publisher.publish(new KeyEvent(0, i)));
+        }
+        // the overflowed events are staged without blocking or handling by the publishing thread
+        for (int i = 8; i < 12; i++) {
+            Assert.assertTrue(publisher.publish(new KeyEvent(0, i)));
+        }
+        Assert.assertTrue(publisher.getOverflowCount() >= 4);
+        Assert.assertEquals(12, publisher.currentEventSize());
+        Assert.assertTrue(handled.isEmpty());
+        blocker.countDown();
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        waitForReleased();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            expected.add(i);
+        }
+        Assert.assertEquals(expected, handled);
+        Assert.assertFalse(handlerThreads.contains(caller));
+        Assert.assertEquals(0, publisher.currentEventSize());
+        Assert.assertEquals(0, publisher.getLagMillis());
+    }
+    
+    @Test
+    public void testHandleInOrderForSameKeyWithOverflow() throws InterruptedException {
+        publisher = new RingBufferEventPublisher(2);
+        publisher.init(KeyEvent.class, 8);
+        int keys = 4;
+        int eventsPerKey = 5000;
+        CountDownLatch latch = new CountDownLatch(keys * eventsPerKey);
+        Map<Integer, List<Integer>> received = new ConcurrentHashMap<>();
+        publisher.addSubscriber(new Subscriber<KeyEvent>() {
+            @Override
+            public void onEvent(KeyEvent event) {
+                received.computeIfAbsent(event.key, key -> Collections.synchronizedList(new ArrayList<>()))
+                        .add(event.index);
+                latch.countDown();
+            }
+            
+            @Override
+            public Class<? extends Event> subscribeType() {
+                return KeyEvent.class;
+            }
+        });
+        List<Thread> producers = new ArrayList<>();
+        for (int key = 0; key < keys; key++) {
+            final int eventKey = key;
+            Thread producer = new Thread(() -> {
+                for (int i = 0; i < eventsPerKey; i++) {
+                    publisher.publish(new KeyEvent(eventKey, i));
+                }
+            });
+            producers.add(producer);
+            producer.start();
+        }
+        for (Thread each : producers) {
+            each.join();
+        }
+        Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        for (List<Integer> each : received.values()) {
+            Assert.assertEquals(eventsPerKey, each.size());
+            for (int i = 0; i < eventsPerKey; i++) {
+                Assert.assertEquals(i, each.get(i).intValue());
+            }
+        }
+    }
+    
+    private void waitForReleased() throws InterruptedException {
+        // slots are released after the whole batch is handled
+        for (int i = 0; i < 100 && publisher.currentEventSize() > 0; i++) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+    }
+    
+    private static class KeyEvent extends Event {
+        
+        private static final long serialVersionUID = -8466618306880440279L;
+        
+        private final int key;
+        
+        private final int index;
+        
+        private KeyEvent(int key, int index) {
+            this.key = key;
+            this.index = index;
+        }
+        
+        @Override
+        public Object shardingKey() {
+            return key;
+        }
+    }
+}
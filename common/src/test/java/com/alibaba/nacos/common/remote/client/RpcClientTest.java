@@ -20,6 +20,7 @@ import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.RequestCallBack;
 import com.alibaba.nacos.api.remote.request.Request;
 import com.alibaba.nacos.api.remote.response.ErrorResponse;
+import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.common.remote.ConnectionType;
 import com.alibaba.nacos.common.remote.client.grpc.DefaultGrpcClientConfig;
 import com.alibaba.nacos.common.remote.client.grpc.GrpcConnection;
@@ -41,11 +42,16 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -443,6 +449,87 @@ public class RpcClientTest {
         assertEquals(RpcClientStatus.UNHEALTHY, rpcClient.rpcClientStatus.get());
     }
     
+    @Test
+    public void testRequestAsyncWhenResponseThenComplete() throws Exception {
+        rpcClient.rpcClientStatus.set(RpcClientStatus.RUNNING);
+        rpcClient.currentConnection = connection;
+        Response response = new ErrorResponse();
+        doAnswer(invocation -> {
+            ((RequestCallBack<Response>) invocation.getArgument(1)).onResponse(response);
+            return null;
+        }).when(connection).asyncRequest(any(), any());
+        
+        CompletableFuture<Response> future = rpcClient.requestAsync(mock(Request.class), 10000);
+        
+        Assert.assertSame(response, future.get(1, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    public void testRequestAsyncWhenRetryReachMaxRetryTimesThenSwitchServer() throws Exception {
+        when(rpcClientConfig.retryTimes()).thenReturn(3);
+        rpcClient.rpcClientStatus.set(RpcClientStatus.RUNNING);
+        rpcClient.currentConnection = connection;
+        doThrow(new NacosException(NacosException.SERVER_ERROR, "fail")).when(connection)
+                .asyncRequest(any(), any());
+        
+        CompletableFuture<Response> future = rpcClient.requestAsync(mock(Request.class), 10000);
+        
+        try {
+            future.get(1, TimeUnit.SECONDS);
+            Assert.fail();
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof NacosException);
+        }
+        verify(connection, times(3)).asyncRequest(any(), any());
+        verify(rpcClient).switchServerAsyncOnRequestFail();
+        assertEquals(RpcClientStatus.UNHEALTHY, rpcClient.rpcClientStatus.get());
+    }
+    
+    @Test
+    public void testRequestAsyncRetryOnExecutorOfConnection() throws Exception {
+        when(rpcClientConfig.retryTimes()).thenReturn(3);
+        rpcClient.rpcClientStatus.set(RpcClientStatus.RUNNING);
+        rpcClient.currentConnection = connection;
+        AtomicInteger executeCount = new AtomicInteger();
+        when(connection.getExecutor()).thenReturn(command -> {
+            executeCount.incrementAndGet();
+            command.run();
+        });
+        Response response = new ErrorResponse();
+        doThrow(new NacosException(NacosException.SERVER_ERROR, "fail")).doAnswer(invocation -> {
+            ((RequestCallBack<Response>) invocation.getArgument(1)).onResponse(response);
+            return null;
+        }).when(connection).asyncRequest(any(), any());
+        
+        CompletableFuture<Response> future = rpcClient.requestAsync(mock(Request.class), 10000);
+        
+        Assert.assertSame(response, future.get(1, TimeUnit.SECONDS));
+        assertEquals(1, executeCount.get());
+        verify(connection, times(2)).asyncRequest(any(), any());
+    }
+    
+    @Test
+    public void testRequestAsyncWhenResponseUnregisterThenSwitchServer() throws Exception {
+        rpcClient.rpcClientStatus.set(RpcClientStatus.RUNNING);
+        rpcClient.currentConnection = connection;
+        doAnswer(invocation -> {
+            ((RequestCallBack<?>) invocation.getArgument(1))
+                    .onException(new NacosException(NacosException.UN_REGISTER, "unregister"));
+            return null;
+        }).when(connection).asyncRequest(any(), any());
+        
+        CompletableFuture<Response> future = rpcClient.requestAsync(mock(Request.class), 10000);
+        
+        try {
+            future.get(1, TimeUnit.SECONDS);
+            Assert.fail();
+        } catch (ExecutionException e) {
+            assertEquals(NacosException.UN_REGISTER, ((NacosException) e.getCause()).getErrCode());
+        }
+        verify(rpcClient).switchServerAsync();
+        assertEquals(RpcClientStatus.UNHEALTHY, rpcClient.rpcClientStatus.get());
+    }
+    
     @Test
     public void testRpcClientShutdownWhenClientDidntStart() throws NacosException {
         RpcClient rpcClient = new RpcClient(new RpcClientConfig() {
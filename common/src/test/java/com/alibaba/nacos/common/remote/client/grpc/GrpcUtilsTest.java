@@ -0,0 +1,99 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.client.grpc;
+
+import com.alibaba.nacos.api.grpc.auto.Payload;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.remote.request.ServerCheckRequest;
+import com.alibaba.nacos.common.remote.PayloadRegistry;
+import com.alibaba.nacos.common.remote.codec.BinaryRequestCodecs;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class GrpcUtilsTest {
+    
+    @BeforeClass
+    public static void setUpClass() {
+        PayloadRegistry.init();
+    }
+    
+    @Test
+    public void testPrepare() {
+        ServerCheckRequest request = new ServerCheckRequest();
+        request.setRequestId("origin");
+        request.putHeader("key", "value");
+        RequestPayloadTemplate template = GrpcUtils.prepare(request);
+        Assert.assertEquals("origin", request.getRequestId());
+        Assert.assertEquals("value", request.getHeader("key"));
+        
+        Payload payload = template.build("123");
+        ServerCheckRequest actual = (ServerCheckRequest) GrpcUtils.parse(payload);
+        Assert.assertEquals("123", actual.getRequestId());
+        Assert.assertEquals("value", actual.getHeader("key"));
+        Assert.assertEquals(ServerCheckRequest.class.getSimpleName(), payload.getMetadata().getType());
+        
+        request.setRequestId("123");
+        Assert.assertEquals(GrpcUtils.convert(request).getBody().getValue(), payload.getBody().getValue());
+        Assert.assertEquals("\"", ((ServerCheckRequest) GrpcUtils.parse(template.build("\""))).getRequestId());
+    }
+    
+    @Test
+    public void testConvertBinaryPayload() {
+        ServerCheckRequest unsupported = new ServerCheckRequest();
+        Assert.assertTrue(GrpcUtils.convert(unsupported, true).getBody().getTypeUrl().isEmpty());
+        
+        NotifySubscriberRequest request = buildNotifySubscriberRequest();
+        request.setRequestId("1");
+        request.putHeader("key", "value");
+        Payload json = GrpcUtils.convert(request, false);
+        Payload binary = GrpcUtils.convert(request, true);
+        Assert.assertTrue(json.getBody().getTypeUrl().isEmpty());
+        Assert.assertEquals(BinaryRequestCodecs.BINARY_TYPE_URL, binary.getBody().getTypeUrl());
+        Assert.assertTrue(binary.getBody().getValue().size() < json.getBody().getValue().size());
+        
+        NotifySubscriberRequest actual = (NotifySubscriberRequest) GrpcUtils.parse(binary);
+        Assert.assertEquals("1", actual.getRequestId());
+        Assert.assertEquals("value", actual.getHeader("key"));
+        Assert.assertEquals(request.getServiceInfo().getHosts(), actual.getServiceInfo().getHosts());
+    }
+    
+    @Test
+    public void testPrepareBinaryPayload() {
+        NotifySubscriberRequest request = buildNotifySubscriberRequest();
+        RequestPayloadTemplate template = GrpcUtils.prepare(request);
+        Payload payload = template.build("123", true);
+        Assert.assertEquals(BinaryRequestCodecs.BINARY_TYPE_URL, payload.getBody().getTypeUrl());
+        request.setRequestId("123");
+        Assert.assertEquals(GrpcUtils.convert(request, true).getBody().getValue(), payload.getBody().getValue());
+        Assert.assertEquals("123", ((NotifySubscriberRequest) GrpcUtils.parse(payload)).getRequestId());
+        Assert.assertEquals(template.build("123").getBody(), template.build("123", false).getBody());
+    }
+    
+    private NotifySubscriberRequest buildNotifySubscriberRequest() {
+        Instance instance = new Instance();
+        instance.setIp("1.1.1.1");
+        instance.setPort(8848);
+        instance.setClusterName("DEFAULT");
+        instance.getMetadata().put("k", "v");
+        ServiceInfo serviceInfo = new ServiceInfo("G@@S", "");
+        serviceInfo.addHost(instance);
+        return NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.remote.codec;
+
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchListenRequest;
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.api.naming.remote.request.InstanceRequest;
+import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.api.remote.request.Request;
+import com.alibaba.nacos.api.remote.request.ServerCheckRequest;
+import com.alibaba.nacos.common.remote.exception.RemoteException;
+import com.google.protobuf.ByteString;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+public class BinaryRequestCodecsTest {
+    
+    @Test
+    public void testConfigBatchListenRequest() {
+        ConfigBatchListenRequest request = new ConfigBatchListenRequest();
+        request.setListen(false);
+        request.addConfigListenContext("group", "dataId", null, "md5");
+        request.addConfigListenContext("group", "数据", "tenant", "");
+        request.setRequestId("1");
+        
+        ConfigBatchListenRequest actual = (ConfigBatchListenRequest) roundTrip(request);
+        Assert.assertFalse(actual.isListen());
+        Assert.assertEquals("1", actual.getRequestId());
+        List<ConfigBatchListenRequest.ConfigListenContext> contexts = actual.getConfigListenContexts();
+        Assert.assertEquals(2, contexts.size());
+        Assert.assertEquals(request.getConfigListenContexts().get(0).toString(), contexts.get(0).toString());
+        Assert.assertEquals("数据", contexts.get(1).getDataId());
+        Assert.assertEquals("tenant", contexts.get(1).getTenant());
+        Assert.assertEquals("", contexts.get(1).getMd5());
+    }
+    
+    @Test
+    public void testInstanceRequest() {
+        Instance instance = new Instance();
+        instance.setInstanceId("id");
+        instance.setIp("1.1.1.1");
+        instance.setPort(8848);
+        instance.setWeight(0.5D);
+        instance.setHealthy(false);
+        instance.setEphemeral(false);
+        instance.getMetadata().put("k", "v");
+        InstanceRequest request = new InstanceRequest("ns", "service", "group", "registerInstance", instance);
+        
+        InstanceRequest actual = (InstanceRequest) roundTrip(request);
+        Assert.assertNull(actual.getRequestId());
+        Assert.assertEquals("ns", actual.getNamespace());
+        Assert.assertEquals("service", actual.getServiceName());
+        Assert.assertEquals("group", actual.getGroupName());
+        Assert.assertEquals("registerInstance", actual.getType());
+        Assert.assertEquals(instance, actual.getInstance());
+        Assert.assertEquals("id", actual.getInstance().getInstanceId());
+        Assert.assertFalse(actual.getInstance().isEphemeral());
+        Assert.assertTrue(actual.getInstance().isEnabled());
+        
+        Assert.assertNull(((InstanceRequest) roundTrip(new InstanceRequest())).getInstance());
+    }
+    
+    @Test
+    public void testNotifySubscriberRequest() {
+        ServiceInfo serviceInfo = new ServiceInfo("group@@service", "a,b");
+        serviceInfo.setLastRefTime(100L);
+        serviceInfo.setChecksum("checksum");
+        serviceInfo.setReachProtectionThreshold(true);
+        Instance instance = new Instance();
+        instance.setIp("1.1.1.1");
+        instance.setMetadata(null);
+        serviceInfo.addHost(instance);
+        NotifySubscriberRequest request = NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo);
+        request.setNamespace("ns");
+        
+        NotifySubscriberRequest actual = (NotifySubscriberRequest) roundTrip(request);
+        Assert.assertEquals("ns", actual.getNamespace());
+        ServiceInfo actualServiceInfo = actual.getServiceInfo();
+        Assert.assertEquals(serviceInfo.getKey(), actualServiceInfo.getKey());
+        Assert.assertEquals(100L, actualServiceInfo.getLastRefTime());
+        Assert.assertEquals(serviceInfo.getCacheMillis(), actualServiceInfo.getCacheMillis());
+        Assert.assertEquals("checksum", actualServiceInfo.getChecksum());
+        Assert.assertTrue(actualServiceInfo.isReachProtectionThreshold());
+        Assert.assertFalse(actualServiceInfo.isAllIPs());
+        Assert.assertEquals(1, actualServiceInfo.getHosts().size());
+        Assert.assertEquals("1.1.1.1", actualServiceInfo.getHosts().get(0).getIp());
+        Assert.assertTrue(actualServiceInfo.getHosts().get(0).getMetadata().isEmpty());
+    }
+    
+    @Test
+    public void testUnsupportedRequest() {
+        Assert.assertNull(BinaryRequestCodecs.encode(new ServerCheckRequest()));
+    }
+    
+    @Test(expected = RemoteException.class)
+    public void testDecodeUnsupportedVersion() {
+        ByteString body = BinaryRequestCodecs.encode(new InstanceRequest());
+        byte[] bytes = body.toByteArray();
+        bytes[0] = 0;
+        BinaryRequestCodecs.decode(InstanceRequest.class.getSimpleName(), ByteString.copyFrom(bytes));
+    }
+    
+    private Object roundTrip(Request request) {
+        ByteString body = BinaryRequestCodecs.encode(request);
+        return BinaryRequestCodecs.decode(request.getClass().getSimpleName(), body);
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.common.task.engine;
+
+import com.alibaba.nacos.common.task.AbstractDelayTask;
+import com.alibaba.nacos.common.task.NacosTaskProcessor;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.internal.verification.Times;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class NacosTimingWheelDelayTaskExecuteEngineTest {
+    
+    private NacosTimingWheelDelayTaskExecuteEngine executeEngine;
+    
+    @Mock
+    private NacosTaskProcessor taskProcessor;
+    
+    @Mock
+    private NacosTaskProcessor testTaskProcessor;
+    
+    private AbstractDelayTask abstractTask;
+    
+    @Before
+    public void setUp() throws Exception {
+        executeEngine = new NacosTimingWheelDelayTaskExecuteEngine(
+                NacosTimingWheelDelayTaskExecuteEngineTest.class.getName(), null, 50L, 8);
+        executeEngine.setDefaultTaskProcessor(taskProcessor);
+        abstractTask = new CountDelayTask(0L);
+    }
+    
+    @After
+    public void tearDown() throws Exception {
+        executeEngine.shutdown();
+    }
+    
+    @Test
+    public void testSizeAndIsEmpty() {
+        assertTrue(executeEngine.isEmpty());
+        executeEngine.addTask("test", abstractTask);
+        assertEquals(1, executeEngine.size());
+        assertFalse(executeEngine.isEmpty());
+        executeEngine.removeTask("test");
+        assertEquals(0, executeEngine.size());
+        assertTrue(executeEngine.isEmpty());
+    }
+    
+    @Test
+    public void testRemoveTaskNotDue() {
+        executeEngine.addTask("test", new CountDelayTask(10000L));
+        assertNull(executeEngine.removeTask("test"));
+        assertEquals(1, executeEngine.size());
+    }
+    
+    @Test
+    public void testAddProcessor() throws InterruptedException {
+        when(testTaskProcessor.process(abstractTask)).thenReturn(true);
+        executeEngine.addProcessor("test", testTaskProcessor);
+        executeEngine.addTask("test", abstractTask);
+        TimeUnit.MILLISECONDS.sleep(200);
+        verify(testTaskProcessor).process(abstractTask);
+        verify(taskProcessor, never()).process(abstractTask);
+    }
+    
+    @Test
+    public void testRetryTaskAfterFail() throws InterruptedException {
+        when(taskProcessor.process(abstractTask)).thenReturn(false, true);
+        executeEngine.addTask("test", abstractTask);
+        TimeUnit.MILLISECONDS.sleep(300);
+        verify(taskProcessor, new Times(2)).process(abstractTask);
+    }
+    
+    @Test
+    public void testMergeAndProcessOnlyWhenDue() throws InterruptedException {
+        when(taskProcessor.process(any())).thenReturn(true);
+        CountDelayTask first = new CountDelayTask(300L);
+        CountDelayTask second = new CountDelayTask(300L);
+        executeEngine.addTask("test", first);
+        executeEngine.addTask("test", second);
+        assertEquals(1, executeEngine.size());
+        assertEquals(2, second.count);
+        TimeUnit.MILLISECONDS.sleep(150);
+        verify(taskProcessor, never()).process(any());
+        TimeUnit.MILLISECONDS.sleep(400);
+        verify(taskProcessor).process(second);
+        assertTrue(executeEngine.isEmpty());
+    }
+    
+    @Test
+    public void testMergedTaskScheduledEarlier() throws InterruptedException {
+        when(taskProcessor.process(any())).thenReturn(true);
+        executeEngine.addTask("test", new CountDelayTask(10000L));
+        CountDelayTask urgent = new CountDelayTask(0L);
+        executeEngine.addTask("test", urgent);
+        TimeUnit.MILLISECONDS.sleep(200);
+        verify(taskProcessor).process(urgent);
+    }
+    
+    @Test
+    public void testTaskDueAfterOneRound() throws InterruptedException {
+        when(taskProcessor.process(any())).thenReturn(true);
+        // 8 buckets of 50ms is a round of 400ms
+        CountDelayTask task = new CountDelayTask(500L);
+        executeEngine.addTask("test", task);
+        TimeUnit.MILLISECONDS.sleep(300);
+        verify(taskProcessor, never()).process(any());
+        TimeUnit.MILLISECONDS.sleep(400);
+        verify(taskProcessor).process(task);
+    }
+    
+    private static class CountDelayTask extends AbstractDelayTask {
+        
+        private int count = 1;
+        
+        private CountDelayTask(long delay) {
+            setTaskInterval(delay);
+            setLastProcessTime(System.currentTimeMillis());
+        }
+        
+        @Override
+        public void merge(AbstractDelayTask task) {
+            count += ((CountDelayTask) task).count;
+        }
+    }
+}
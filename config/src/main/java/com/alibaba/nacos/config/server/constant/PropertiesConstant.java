@@ -68,4 +68,59 @@ public class PropertiesConstant {
     
     public static final String EMBEDDED_STORAGE = "embeddedStorage";
     
+    /**
+     * Type of the local config content storage, {@code raw} (default, one file per config) or {@code mmap}.
+     */
+    public static final String CONFIG_DISK_TYPE = "configDiskType";
+    
+    /**
+     * Segment file size in bytes of the {@code mmap} config content storage.
+     */
+    public static final String CONFIG_DISK_SEGMENT_SIZE = "configDiskSegmentSize";
+    
+    /**
+     * Count of worker threads which dump configs in parallel during dump all.
+     */
+    public static final String DUMP_ALL_PARALLELISM = "dumpAllParallelism";
+    
+    /**
+     * Whether to carry the config content in the change notify to the clients which support it.
+     */
+    public static final String PUSH_CONTENT_ENABLED = "pushContentEnabled";
+    
+    /**
+     * Max size in bytes of the config content carried in the change notify.
+     */
+    public static final String PUSH_CONTENT_MAX_SIZE = "pushContentMaxSize";
+    
+    /**
+     * Whether to carry the content of the published config in the sync request to the other members.
+     */
+    public static final String CLUSTER_SYNC_CONTENT_ENABLED = "clusterSyncContentEnabled";
+    
+    /**
+     * Max size in bytes of the config content carried in the sync request to the other members.
+     */
+    public static final String CLUSTER_SYNC_CONTENT_MAX_SIZE = "clusterSyncContentMaxSize";
+    
+    /**
+     * Whether to notify the config changes to the other members in batch.
+     */
+    public static final String CLUSTER_SYNC_BATCH_ENABLED = "clusterSyncBatchEnabled";
+    
+    /**
+     * Time window in milliseconds to accumulate the config changes for one member before notifying in batch.
+     */
+    public static final String CLUSTER_SYNC_BATCH_WINDOW = "clusterSyncBatchWindow";
+    
+    /**
+     * Max count of the config changes notified to one member in one batch.
+     */
+    public static final String CLUSTER_SYNC_BATCH_MAX_SIZE = "clusterSyncBatchMaxSize";
+    
+    /**
+     * Max accumulated bytes of the config changes notified to one member in one batch.
+     */
+    public static final String CLUSTER_SYNC_BATCH_MAX_BYTES = "clusterSyncBatchMaxBytes";
+    
 }
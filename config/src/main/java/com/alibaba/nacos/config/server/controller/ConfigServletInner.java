@@ -20,7 +20,6 @@ import com.alibaba.nacos.api.model.v2.ErrorCode;
 import com.alibaba.nacos.api.model.v2.Result;
 import com.alibaba.nacos.common.constant.HttpHeaderConsts;
 import com.alibaba.nacos.common.http.param.MediaType;
-import com.alibaba.nacos.common.utils.IoUtils;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.alibaba.nacos.common.utils.Pair;
 import com.alibaba.nacos.common.utils.StringUtils;
@@ -50,8 +49,6 @@ import org.springframework.stereotype.Service;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
-import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.net.URLEncoder;
@@ -168,7 +165,6 @@ public class ConfigServletInner {
         boolean isSli = false;
         if (lockResult > 0) {
             // LockResult > 0 means cacheItem is not null and other thread can`t delete this cacheItem
-            FileInputStream fis = null;
             try {
                 String md5 = Constants.NULL;
                 long lastModified = 0L;
@@ -188,7 +184,8 @@ public class ConfigServletInner {
                     response.setHeader(HttpHeaderConsts.CONTENT_TYPE, MediaType.APPLICATION_JSON);
                 }
                 
-                File file = null;
+                String content = null;
+                long contentLastModified = 0L;
                 ConfigInfoBase configInfoBase = null;
                 PrintWriter out;
                 if (isBeta) {
@@ -197,7 +194,8 @@ public class ConfigServletInner {
                     if (PropertyUtil.isDirectRead()) {
                         configInfoBase = configInfoBetaPersistService.findConfigInfo4Beta(dataId, group, tenant);
                     } else {
-                        file = DiskUtil.targetBetaFile(dataId, group, tenant);
+                        content = DiskUtil.getBetaContent(dataId, group, tenant);
+                        contentLastModified = DiskUtil.getBetaLastModified(dataId, group, tenant);
                     }
                     response.setHeader("isBeta", "true");
                 } else {
@@ -212,7 +210,8 @@ public class ConfigServletInner {
                             if (PropertyUtil.isDirectRead()) {
                                 configInfoBase = configInfoTagPersistService.findConfigInfo4Tag(dataId, group, tenant, autoTag);
                             } else {
-                                file = DiskUtil.targetTagFile(dataId, group, tenant, autoTag);
+                                content = DiskUtil.getTagContent(dataId, group, tenant, autoTag);
+                                contentLastModified = DiskUtil.getTagLastModified(dataId, group, tenant, autoTag);
                             }
                             
                             response.setHeader(com.alibaba.nacos.api.common.Constants.VIPSERVER_TAG,
@@ -223,9 +222,10 @@ public class ConfigServletInner {
                             if (PropertyUtil.isDirectRead()) {
                                 configInfoBase = configInfoPersistService.findConfigInfo(dataId, group, tenant);
                             } else {
-                                file = DiskUtil.targetFile(dataId, group, tenant);
+                                content = DiskUtil.getContent(dataId, group, tenant);
+                                contentLastModified = DiskUtil.getLastModified(dataId, group, tenant);
                             }
-                            if (configInfoBase == null && fileNotExist(file)) {
+                            if (configInfoBase == null && content == null) {
                                 // FIXME CacheItem
                                 // No longer exists. It is impossible to simply calculate the push delayed. Here, simply record it as - 1.
                                 ConfigTraceService.logPullEvent(dataId, group, tenant, requestIpApp, -1,
@@ -252,9 +252,10 @@ public class ConfigServletInner {
                         if (PropertyUtil.isDirectRead()) {
                             configInfoBase = configInfoTagPersistService.findConfigInfo4Tag(dataId, group, tenant, tag);
                         } else {
-                            file = DiskUtil.targetTagFile(dataId, group, tenant, tag);
+                            content = DiskUtil.getTagContent(dataId, group, tenant, tag);
+                            contentLastModified = DiskUtil.getTagLastModified(dataId, group, tenant, tag);
                         }
-                        if (configInfoBase == null && fileNotExist(file)) {
+                        if (configInfoBase == null && content == null) {
                             // FIXME CacheItem
                             // No longer exists. It is impossible to simply calculate the push delayed. Here, simply record it as - 1.
                             ConfigTraceService.logPullEvent(dataId, group, tenant, requestIpApp, -1,
@@ -269,6 +270,13 @@ public class ConfigServletInner {
                     }
                 }
                 
+                if (!PropertyUtil.isDirectRead() && content == null) {
+                    // The beta or tag content is removed from disk.
+                    ConfigTraceService.logPullEvent(dataId, group, tenant, requestIpApp, -1,
+                            ConfigTraceService.PULL_EVENT_NOTFOUND, -1, requestIp, notify && isSli);
+                    return get404Result(response, isV2);
+                }
+                
                 response.setHeader(Constants.CONTENT_MD5, md5);
                 
                 // Disable cache.
@@ -278,8 +286,7 @@ public class ConfigServletInner {
                 if (PropertyUtil.isDirectRead()) {
                     response.setDateHeader("Last-Modified", lastModified);
                 } else {
-                    fis = new FileInputStream(file);
-                    response.setDateHeader("Last-Modified", file.lastModified());
+                    response.setDateHeader("Last-Modified", contentLastModified);
                 }
                 
                 if (PropertyUtil.isDirectRead()) {
@@ -294,9 +301,8 @@ public class ConfigServletInner {
                     out.flush();
                     out.close();
                 } else {
-                    String fileContent = IoUtils.toString(fis, StandardCharsets.UTF_8.name());
                     String encryptedDataKey = cacheItem.getEncryptedDataKey();
-                    Pair<String, String> pair = EncryptionHandler.decryptHandler(dataId, encryptedDataKey, fileContent);
+                    Pair<String, String> pair = EncryptionHandler.decryptHandler(dataId, encryptedDataKey, content);
                     String decryptContent = pair.getSecond();
                     out = response.getWriter();
                     if (isV2) {
@@ -322,7 +328,6 @@ public class ConfigServletInner {
                 
             } finally {
                 releaseConfigReadLock(groupKey);
-                IoUtils.closeQuietly(fis);
             }
         } else if (lockResult == 0) {
             
@@ -415,8 +420,4 @@ public class ConfigServletInner {
         return false;
     }
     
-    private static boolean fileNotExist(File file) {
-        return file == null || !file.exists();
-    }
-    
 }
@@ -17,11 +17,19 @@
 package com.alibaba.nacos.config.server.controller.v2;
 
 import com.alibaba.nacos.api.annotation.NacosApi;
+import com.alibaba.nacos.api.config.ConfigKey;
 import com.alibaba.nacos.api.config.ConfigType;
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchQueryRequest;
+import com.alibaba.nacos.api.config.remote.response.ConfigBatchQueryResponse;
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.exception.api.NacosApiException;
+import com.alibaba.nacos.api.model.v2.ErrorCode;
 import com.alibaba.nacos.api.model.v2.Result;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.auth.HttpProtocolAuthService;
 import com.alibaba.nacos.auth.annotation.Secured;
+import com.alibaba.nacos.auth.config.AuthConfigs;
 import com.alibaba.nacos.common.utils.NamespaceUtil;
 import com.alibaba.nacos.common.utils.Pair;
 import com.alibaba.nacos.common.utils.StringUtils;
@@ -29,12 +37,15 @@ import com.alibaba.nacos.config.server.constant.Constants;
 import com.alibaba.nacos.config.server.controller.ConfigServletInner;
 import com.alibaba.nacos.config.server.model.ConfigRequestInfo;
 import com.alibaba.nacos.config.server.model.form.ConfigForm;
+import com.alibaba.nacos.config.server.remote.ConfigBatchQueryRequestHandler;
 import com.alibaba.nacos.config.server.service.ConfigOperationService;
 import com.alibaba.nacos.config.server.utils.ParamUtils;
 import com.alibaba.nacos.config.server.utils.RequestUtil;
+import com.alibaba.nacos.plugin.auth.api.IdentityContext;
 import com.alibaba.nacos.plugin.auth.constant.ActionTypes;
 import com.alibaba.nacos.plugin.auth.constant.SignType;
 import com.alibaba.nacos.plugin.encryption.handler.EncryptionHandler;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -46,6 +57,8 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Special controller v2 for soft load client to publish data.
@@ -63,9 +76,17 @@ public class ConfigControllerV2 {
     
     private final ConfigOperationService configOperationService;
     
-    public ConfigControllerV2(ConfigServletInner inner, ConfigOperationService configOperationService) {
+    private final ConfigBatchQueryRequestHandler configBatchQueryRequestHandler;
+    
+    private final HttpProtocolAuthService protocolAuthService;
+    
+    public ConfigControllerV2(ConfigServletInner inner, ConfigOperationService configOperationService,
+            ConfigBatchQueryRequestHandler configBatchQueryRequestHandler, AuthConfigs authConfigs) {
         this.inner = inner;
         this.configOperationService = configOperationService;
+        this.configBatchQueryRequestHandler = configBatchQueryRequestHandler;
+        this.protocolAuthService = new HttpProtocolAuthService(authConfigs);
+        this.protocolAuthService.initialize();
     }
     
     /**
@@ -93,6 +114,51 @@ public class ConfigControllerV2 {
         inner.doGetConfig(request, response, dataId, group, namespaceId, tag, isNotify, clientIp, true);
     }
     
+    /**
+     * Get a batch of configs of one namespace, the i-th dataId is paired with the i-th group.
+     *
+     * <p>The config without read permission gets a response with {@link NacosException#NO_RIGHT} in its place.
+     *
+     * @throws NacosException NacosException.
+     */
+    @GetMapping("/batch")
+    @Secured(action = ActionTypes.READ, signType = SignType.CONFIG)
+    public Result<List<ConfigQueryResponse>> getConfigs(HttpServletRequest request,
+            @RequestParam("dataIds") List<String> dataIds, @RequestParam("groups") List<String> groups,
+            @RequestParam(value = "namespaceId", required = false, defaultValue = StringUtils.EMPTY) String namespaceId)
+            throws NacosException {
+        // check namespaceId
+        ParamUtils.checkTenantV2(namespaceId);
+        namespaceId = NamespaceUtil.processNamespaceParameter(namespaceId);
+        // check params
+        if (dataIds.size() != groups.size()) {
+            throw new NacosApiException(HttpStatus.BAD_REQUEST.value(), ErrorCode.PARAMETER_VALIDATE_ERROR,
+                    "Parameter 'dataIds' and 'groups' should have the same size");
+        }
+        if (dataIds.size() > ConfigBatchQueryRequest.MAX_BATCH_SIZE) {
+            throw new NacosApiException(HttpStatus.BAD_REQUEST.value(), ErrorCode.PARAMETER_VALIDATE_ERROR,
+                    "Too many configs in one batch query, max size is " + ConfigBatchQueryRequest.MAX_BATCH_SIZE);
+        }
+        List<ConfigKey> configKeys = new ArrayList<>(dataIds.size());
+        for (int i = 0; i < dataIds.size(); i++) {
+            ParamUtils.checkParam(dataIds.get(i), groups.get(i), "datumId", "content");
+            configKeys.add(new ConfigKey(dataIds.get(i), groups.get(i)));
+        }
+        ConfigBatchQueryRequest batchQueryRequest = ConfigBatchQueryRequest.build(namespaceId, configKeys);
+        RequestMeta meta = new RequestMeta();
+        meta.setClientIp(RequestUtil.getRemoteIp(request));
+        String appName = RequestUtil.getAppName(request);
+        if (StringUtils.isNotBlank(appName)) {
+            meta.getLabels().put(RequestUtil.CLIENT_APPNAME_HEADER, appName);
+        }
+        // the request is only authorized at namespace level, each config is authorized by the handler.
+        IdentityContext identityContext = configBatchQueryRequestHandler.isAuthEnabled() ? protocolAuthService
+                .parseIdentity(request) : null;
+        ConfigBatchQueryResponse response = configBatchQueryRequestHandler
+                .handle(batchQueryRequest, meta, identityContext);
+        return Result.success(response.getConfigQueryResponses());
+    }
+    
     /**
      * Adds or updates non-aggregated data.
      *
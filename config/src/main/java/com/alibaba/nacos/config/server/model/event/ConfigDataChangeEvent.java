@@ -38,20 +38,21 @@ public class ConfigDataChangeEvent extends Event {
     
     public final long lastModifiedTs;
     
+    /**
+     * Content of the published formal config, null when the publisher does not carry it.
+     */
+    public final String content;
+    
+    public final String type;
+    
+    public final String encryptedDataKey;
+    
     public ConfigDataChangeEvent(String dataId, String group, long gmtModified) {
         this(false, dataId, group, gmtModified);
     }
     
     public ConfigDataChangeEvent(boolean isBeta, String dataId, String group, String tenant, long gmtModified) {
-        if (null == dataId || null == group) {
-            throw new IllegalArgumentException("dataId is null or group is null");
-        }
-        this.isBeta = isBeta;
-        this.dataId = dataId;
-        this.group = group;
-        this.tenant = tenant;
-        this.tag = null;
-        this.lastModifiedTs = gmtModified;
+        this(isBeta, dataId, group, tenant, null, gmtModified);
     }
     
     public ConfigDataChangeEvent(boolean isBeta, String dataId, String group, long gmtModified) {
@@ -60,6 +61,28 @@ public class ConfigDataChangeEvent extends Event {
     
     public ConfigDataChangeEvent(boolean isBeta, String dataId, String group, String tenant, String tag,
             long gmtModified) {
+        this(isBeta, dataId, group, tenant, tag, gmtModified, null, null, null);
+    }
+    
+    /**
+     * Create the change event of a formal config which carries the published content, so that the cluster sync could
+     * deliver it to the other members.
+     *
+     * @param dataId           dataId
+     * @param group            group
+     * @param tenant           tenant
+     * @param gmtModified      modified time of the config
+     * @param content          published content
+     * @param type             type of the config
+     * @param encryptedDataKey encrypted data key
+     */
+    public ConfigDataChangeEvent(String dataId, String group, String tenant, long gmtModified, String content,
+            String type, String encryptedDataKey) {
+        this(false, dataId, group, tenant, null, gmtModified, content, type, encryptedDataKey);
+    }
+    
+    private ConfigDataChangeEvent(boolean isBeta, String dataId, String group, String tenant, String tag,
+            long gmtModified, String content, String type, String encryptedDataKey) {
         if (null == dataId || null == group) {
             throw new IllegalArgumentException("dataId is null or group is null");
         }
@@ -69,6 +92,9 @@ public class ConfigDataChangeEvent extends Event {
         this.tenant = tenant;
         this.tag = tag;
         this.lastModifiedTs = gmtModified;
+        this.content = content;
+        this.type = type;
+        this.encryptedDataKey = encryptedDataKey;
     }
     
 }
@@ -55,4 +55,9 @@ public class LocalDataChangeEvent extends Event {
         this.betaIps = betaIps;
         this.tag = tag;
     }
+    
+    @Override
+    public Object shardingKey() {
+        return groupKey;
+    }
 }
@@ -17,6 +17,7 @@
 package com.alibaba.nacos.config.server.monitor;
 
 import com.alibaba.nacos.common.utils.TopnCounterMetricsContainer;
+import com.alibaba.nacos.config.server.service.dump.processor.DumpAllPipeline;
 import com.alibaba.nacos.core.monitor.NacosMeterRegistryCenter;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.ImmutableTag;
@@ -27,6 +28,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Metrics Monitor.
@@ -65,6 +67,15 @@ public class MetricsMonitor {
      */
     private static AtomicInteger fuzzySearch = new AtomicInteger();
     
+    /**
+     * staged events, waiting milliseconds of the oldest staged event and overflowed events of local data change publisher.
+     */
+    private static AtomicLong localDataChangeEventQueueSize = new AtomicLong();
+    
+    private static AtomicLong localDataChangeEventLag = new AtomicLong();
+    
+    private static AtomicLong localDataChangeEventOverflow = new AtomicLong();
+    
     /**
      * version -> client config subscriber count.
      */
@@ -102,7 +113,7 @@ public class MetricsMonitor {
         tags.add(immutableTag);
         tags.add(new ImmutableTag("name", "notifyTask"));
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, notifyTask);
-    
+        
         tags = new ArrayList<>();
         tags.add(immutableTag);
         tags.add(new ImmutableTag("name", "notifyClientTask"));
@@ -112,22 +123,44 @@ public class MetricsMonitor {
         tags.add(immutableTag);
         tags.add(new ImmutableTag("name", "dumpTask"));
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, dumpTask);
-    
+        
         tags = new ArrayList<>();
         tags.add(immutableTag);
         tags.add(new ImmutableTag("name", "fuzzySearch"));
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, fuzzySearch);
         
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "localDataChangeEventQueueSize"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, localDataChangeEventQueueSize);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "localDataChangeEventLag"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, localDataChangeEventLag);
+        
+        tags = new ArrayList<>();
+        tags.add(immutableTag);
+        tags.add(new ImmutableTag("name", "localDataChangeEventOverflow"));
+        NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_monitor", tags, localDataChangeEventOverflow);
+        
         configSubscriber.put("v1", new AtomicInteger(0));
         configSubscriber.put("v2", new AtomicInteger(0));
         
         tags = new ArrayList<>();
         tags.add(new ImmutableTag("version", "v1"));
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_config_subscriber", tags, configSubscriber.get("v1"));
-    
+        
         tags = new ArrayList<>();
         tags.add(new ImmutableTag("version", "v2"));
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_config_subscriber", tags, configSubscriber.get("v2"));
+        
+        for (String type : new String[] {"config", "beta", "tag"}) {
+            tags = new ArrayList<>();
+            tags.add(immutableTag);
+            tags.add(new ImmutableTag("type", type));
+            NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_config_dump_all_progress", tags, DumpAllPipeline.getProgress(type));
+        }
     }
     
     public static AtomicInteger getConfigMonitor() {
@@ -162,10 +195,26 @@ public class MetricsMonitor {
         return fuzzySearch;
     }
     
+    public static AtomicLong getLocalDataChangeEventQueueSizeMonitor() {
+        return localDataChangeEventQueueSize;
+    }
+    
+    public static AtomicLong getLocalDataChangeEventLagMonitor() {
+        return localDataChangeEventLag;
+    }
+    
+    public static AtomicLong getLocalDataChangeEventOverflowMonitor() {
+        return localDataChangeEventOverflow;
+    }
+    
     public static AtomicInteger getConfigSubscriberMonitor(String version) {
         return configSubscriber.get(version);
     }
     
+    public static AtomicInteger getDumpAllProgressMonitor(String type) {
+        return DumpAllPipeline.getProgress(type);
+    }
+    
     public static TopnCounterMetricsContainer getConfigChangeCount() {
         return configChangeCount;
     }
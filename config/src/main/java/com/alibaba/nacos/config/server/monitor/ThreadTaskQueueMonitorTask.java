@@ -16,6 +16,10 @@
 
 package com.alibaba.nacos.config.server.monitor;
 
+import com.alibaba.nacos.common.notify.EventPublisher;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.RingBufferEventPublisher;
+import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
 import com.alibaba.nacos.config.server.service.notify.AsyncNotifyService;
 import com.alibaba.nacos.config.server.utils.ConfigExecutor;
 
@@ -42,5 +46,12 @@ public class ThreadTaskQueueMonitorTask implements Runnable {
         MEMORY_LOG.info("toClientNotifyTaskSize = {}", notifierClientSize);
         MetricsMonitor.getNotifyTaskMonitor().set(size);
         MetricsMonitor.getNotifyClientTaskMonitor().set(notifierClientSize);
+        EventPublisher publisher = NotifyCenter.getPublisher(LocalDataChangeEvent.class);
+        if (publisher instanceof RingBufferEventPublisher) {
+            RingBufferEventPublisher ringBufferPublisher = (RingBufferEventPublisher) publisher;
+            MetricsMonitor.getLocalDataChangeEventQueueSizeMonitor().set(ringBufferPublisher.currentEventSize());
+            MetricsMonitor.getLocalDataChangeEventLagMonitor().set(ringBufferPublisher.getLagMillis());
+            MetricsMonitor.getLocalDataChangeEventOverflowMonitor().set(ringBufferPublisher.getOverflowCount());
+        }
     }
 }
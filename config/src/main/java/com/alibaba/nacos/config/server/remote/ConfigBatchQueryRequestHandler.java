@@ -0,0 +1,143 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.api.config.ConfigKey;
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchQueryRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
+import com.alibaba.nacos.api.config.remote.response.ConfigBatchQueryResponse;
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.auth.GrpcProtocolAuthService;
+import com.alibaba.nacos.auth.annotation.Secured;
+import com.alibaba.nacos.auth.config.AuthConfigs;
+import com.alibaba.nacos.config.server.utils.LogUtil;
+import com.alibaba.nacos.core.control.TpsControl;
+import com.alibaba.nacos.core.remote.RequestHandler;
+import com.alibaba.nacos.plugin.auth.api.IdentityContext;
+import com.alibaba.nacos.plugin.auth.api.Permission;
+import com.alibaba.nacos.plugin.auth.api.Resource;
+import com.alibaba.nacos.plugin.auth.constant.ActionTypes;
+import com.alibaba.nacos.plugin.auth.constant.SignType;
+import com.alibaba.nacos.plugin.auth.exception.AccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * handler to query a batch of configs of one namespace in one request.
+ *
+ * <p>The request is only authorized at namespace level by the filter, so each config is authorized again before query,
+ * the config without permission gets a {@link NacosException#NO_RIGHT} response.
+ *
+ * @author Nacos
+ */
+@Component
+public class ConfigBatchQueryRequestHandler extends RequestHandler<ConfigBatchQueryRequest, ConfigBatchQueryResponse> {
+    
+    private static final Secured SECURED = getSecured();
+    
+    private final ConfigQueryRequestHandler configQueryRequestHandler;
+    
+    private final AuthConfigs authConfigs;
+    
+    private final GrpcProtocolAuthService protocolAuthService;
+    
+    public ConfigBatchQueryRequestHandler(ConfigQueryRequestHandler configQueryRequestHandler,
+            AuthConfigs authConfigs) {
+        this.configQueryRequestHandler = configQueryRequestHandler;
+        this.authConfigs = authConfigs;
+        this.protocolAuthService = new GrpcProtocolAuthService(authConfigs);
+        this.protocolAuthService.initialize();
+    }
+    
+    @Override
+    @TpsControl(pointName = "ConfigBatchQuery")
+    @Secured(action = ActionTypes.READ, signType = SignType.CONFIG)
+    public ConfigBatchQueryResponse handle(ConfigBatchQueryRequest request, RequestMeta meta) throws NacosException {
+        IdentityContext identityContext = isAuthEnabled() ? protocolAuthService.parseIdentity(request) : null;
+        return handle(request, meta, identityContext);
+    }
+    
+    /**
+     * Query a batch of configs with the identity of requester, which is parsed by the caller from its own protocol.
+     *
+     * @param request         batch query request
+     * @param meta            request meta
+     * @param identityContext identity of requester, {@code null} if auth is disabled
+     * @return batch query response, in the same order of config keys
+     * @throws NacosException nacos exception
+     */
+    public ConfigBatchQueryResponse handle(ConfigBatchQueryRequest request, RequestMeta meta,
+            IdentityContext identityContext) throws NacosException {
+        List<ConfigKey> configKeys = request.getConfigKeys();
+        if (configKeys == null || configKeys.isEmpty()) {
+            return new ConfigBatchQueryResponse();
+        }
+        if (configKeys.size() > ConfigBatchQueryRequest.MAX_BATCH_SIZE) {
+            return ConfigBatchQueryResponse.buildFailResponse(NacosException.INVALID_PARAM,
+                    "too many configs in one batch query, max size is " + ConfigBatchQueryRequest.MAX_BATCH_SIZE);
+        }
+        List<ConfigQueryResponse> responses = new ArrayList<>(configKeys.size());
+        for (ConfigKey each : configKeys) {
+            ConfigQueryRequest queryRequest = ConfigQueryRequest.build(each.getDataId(), each.getGroup(),
+                    request.getTenant());
+            queryRequest.putAllHeader(request.getHeaders());
+            if (null != identityContext && !hasPermission(queryRequest, identityContext)) {
+                responses.add(ConfigQueryResponse.buildFailResponse(NacosException.NO_RIGHT,
+                        "Validate Authority failed."));
+                continue;
+            }
+            responses.add(configQueryRequestHandler.query(queryRequest, meta));
+        }
+        ConfigBatchQueryResponse response = new ConfigBatchQueryResponse();
+        response.setConfigQueryResponses(responses);
+        return response;
+    }
+    
+    /**
+     * Whether the configs of batch query should be authorized one by one.
+     *
+     * @return {@code true} if auth is enabled for config query
+     */
+    public boolean isAuthEnabled() {
+        return authConfigs.isAuthEnabled() && protocolAuthService.enableAuth(SECURED);
+    }
+    
+    private boolean hasPermission(ConfigQueryRequest queryRequest, IdentityContext identityContext) {
+        try {
+            Resource resource = protocolAuthService.parseResource(queryRequest, SECURED);
+            return protocolAuthService
+                    .validateAuthority(identityContext, new Permission(resource, SECURED.action().toString()));
+        } catch (AccessException e) {
+            LogUtil.DEFAULT_LOG.debug("access denied, dataId={}, group={}, tenant={}, reason: {}",
+                    queryRequest.getDataId(), queryRequest.getGroup(), queryRequest.getTenant(), e.getErrMsg());
+            return false;
+        }
+    }
+    
+    private static Secured getSecured() {
+        try {
+            return ConfigBatchQueryRequestHandler.class
+                    .getMethod("handle", ConfigBatchQueryRequest.class, RequestMeta.class).getAnnotation(Secured.class);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
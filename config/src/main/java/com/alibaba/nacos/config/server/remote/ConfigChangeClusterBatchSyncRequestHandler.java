@@ -0,0 +1,56 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterBatchSyncRequest;
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncRequest;
+import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterBatchSyncResponse;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.core.control.TpsControl;
+import com.alibaba.nacos.core.remote.RequestHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * handler to handle a batch of config changes from other servers.
+ *
+ * @author Nacos
+ */
+@Component
+public class ConfigChangeClusterBatchSyncRequestHandler
+        extends RequestHandler<ConfigChangeClusterBatchSyncRequest, ConfigChangeClusterBatchSyncResponse> {
+    
+    private final ConfigChangeClusterSyncRequestHandler configChangeClusterSyncRequestHandler;
+    
+    public ConfigChangeClusterBatchSyncRequestHandler(
+            ConfigChangeClusterSyncRequestHandler configChangeClusterSyncRequestHandler) {
+        this.configChangeClusterSyncRequestHandler = configChangeClusterSyncRequestHandler;
+    }
+    
+    @TpsControl(pointName = "ClusterConfigChangeNotify")
+    @Override
+    public ConfigChangeClusterBatchSyncResponse handle(ConfigChangeClusterBatchSyncRequest request, RequestMeta meta)
+            throws NacosException {
+        if (request.getChanges() != null) {
+            for (ConfigChangeClusterSyncRequest each : request.getChanges()) {
+                configChangeClusterSyncRequestHandler.dumpChange(each, meta.getClientIp());
+            }
+        }
+        return new ConfigChangeClusterBatchSyncResponse();
+    }
+    
+}
@@ -20,6 +20,8 @@ import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSy
 import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterSyncResponse;
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.model.ConfigInfo;
 import com.alibaba.nacos.config.server.service.dump.DumpService;
 import com.alibaba.nacos.core.remote.RequestHandler;
 import com.alibaba.nacos.core.control.TpsControl;
@@ -45,16 +47,37 @@ public class ConfigChangeClusterSyncRequestHandler
     @Override
     public ConfigChangeClusterSyncResponse handle(ConfigChangeClusterSyncRequest configChangeSyncRequest,
             RequestMeta meta) throws NacosException {
-        
+        dumpChange(configChangeSyncRequest, meta.getClientIp());
+        return new ConfigChangeClusterSyncResponse();
+    }
+    
+    /**
+     * Dump the config change synced from other member.
+     *
+     * @param configChangeSyncRequest config change
+     * @param handleIp                ip of the member which sends the change
+     */
+    public void dumpChange(ConfigChangeClusterSyncRequest configChangeSyncRequest, String handleIp) {
         if (configChangeSyncRequest.isBeta()) {
             dumpService.dump(configChangeSyncRequest.getDataId(), configChangeSyncRequest.getGroup(),
-                    configChangeSyncRequest.getTenant(), configChangeSyncRequest.getLastModified(), meta.getClientIp(),
-                    true);
+                    configChangeSyncRequest.getTenant(), configChangeSyncRequest.getLastModified(), handleIp, true);
+        } else if (configChangeSyncRequest.getContent() != null && StringUtils.isBlank(configChangeSyncRequest.getTag())) {
+            dumpService.dump(configChangeSyncRequest.getDataId(), configChangeSyncRequest.getGroup(),
+                    configChangeSyncRequest.getTenant(), configChangeSyncRequest.getLastModified(), handleIp,
+                    buildSyncedConfig(configChangeSyncRequest));
         } else {
             dumpService.dump(configChangeSyncRequest.getDataId(), configChangeSyncRequest.getGroup(),
-                    configChangeSyncRequest.getTenant(), configChangeSyncRequest.getLastModified(), meta.getClientIp());
+                    configChangeSyncRequest.getTenant(), configChangeSyncRequest.getLastModified(), handleIp);
         }
-        return new ConfigChangeClusterSyncResponse();
+    }
+    
+    private ConfigInfo buildSyncedConfig(ConfigChangeClusterSyncRequest request) {
+        ConfigInfo result = new ConfigInfo(request.getDataId(), request.getGroup(), request.getTenant(), null,
+                request.getContent());
+        result.setMd5(request.getMd5());
+        result.setType(request.getType());
+        result.setEncryptedDataKey(request.getEncryptedDataKey());
+        return result;
     }
     
 }
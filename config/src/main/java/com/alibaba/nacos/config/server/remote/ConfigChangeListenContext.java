@@ -19,10 +19,8 @@ package com.alibaba.nacos.config.server.remote;
 import com.alibaba.nacos.common.utils.CollectionUtils;
 import org.springframework.stereotype.Component;
 
-import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -30,21 +28,44 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * config change listen context.
  *
+ * <p>The context is lock free for readers. Writers lock the stripe of the connection id, so that the paired updates of
+ * the two maps for one connection are atomic, while registrations of different connections rarely block each other and
+ * never block the config change push.
+ *
  * @author liuzunfei
  * @version $Id: ConfigChangeListenContext.java, v 0.1 2020年07月20日 1:37 PM liuzunfei Exp $
  */
 @Component
 public class ConfigChangeListenContext {
     
+    private static final int LOCK_STRIPES = 64;
+    
     /**
      * groupKey-> connection set.
      */
-    private ConcurrentHashMap<String, HashSet<String>> groupKeyContext = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<String>> groupKeyContext = new ConcurrentHashMap<>();
     
     /**
      * connectionId-> group key set.
      */
-    private ConcurrentHashMap<String, HashMap<String, String>> connectionIdContext = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, String>> connectionIdContext =
+            new ConcurrentHashMap<>();
+    
+    /**
+     * locks of connection id stripes for writers.
+     */
+    private final Object[] connectionLocks = new Object[LOCK_STRIPES];
+    
+    public ConfigChangeListenContext() {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            connectionLocks[i] = new Object();
+        }
+    }
+    
+    private Object lockOf(String connectionId) {
+        int hash = connectionId.hashCode();
+        return connectionLocks[(hash ^ (hash >>> 16)) & (LOCK_STRIPES - 1)];
+    }
     
     /**
      * add listen.
@@ -52,23 +73,20 @@ public class ConfigChangeListenContext {
      * @param groupKey     groupKey.
      * @param connectionId connectionId.
      */
-    public synchronized void addListen(String groupKey, String md5, String connectionId) {
-        // 1.add groupKeyContext
-        Set<String> listenClients = groupKeyContext.get(groupKey);
-        if (listenClients == null) {
-            groupKeyContext.putIfAbsent(groupKey, new HashSet<>());
-            listenClients = groupKeyContext.get(groupKey);
+    public void addListen(String groupKey, String md5, String connectionId) {
+        synchronized (lockOf(connectionId)) {
+            // 1.add groupKeyContext
+            groupKeyContext.compute(groupKey, (key, listenClients) -> {
+                if (listenClients == null) {
+                    listenClients = ConcurrentHashMap.newKeySet();
+                }
+                listenClients.add(connectionId);
+                return listenClients;
+            });
+            
+            // 2.add connectionIdContext
+            connectionIdContext.computeIfAbsent(connectionId, key -> new ConcurrentHashMap<>(16)).put(groupKey, md5);
         }
-        listenClients.add(connectionId);
-        
-        // 2.add connectionIdContext
-        HashMap<String, String> groupKeys = connectionIdContext.get(connectionId);
-        if (groupKeys == null) {
-            connectionIdContext.putIfAbsent(connectionId, new HashMap<>(16));
-            groupKeys = connectionIdContext.get(connectionId);
-        }
-        groupKeys.put(groupKey, md5);
-        
     }
     
     /**
@@ -77,78 +95,56 @@ public class ConfigChangeListenContext {
      * @param groupKey     groupKey.
      * @param connectionId connection id.
      */
-    public synchronized void removeListen(String groupKey, String connectionId) {
-        
-        //1. remove groupKeyContext
-        Set<String> connectionIds = groupKeyContext.get(groupKey);
-        if (connectionIds != null) {
-            connectionIds.remove(connectionId);
-            if (connectionIds.isEmpty()) {
-                groupKeyContext.remove(groupKey);
+    public void removeListen(String groupKey, String connectionId) {
+        synchronized (lockOf(connectionId)) {
+            //1. remove groupKeyContext
+            removeConnectionFromGroupKey(groupKey, connectionId);
+            
+            //2.remove connectionIdContext
+            Map<String, String> groupKeys = connectionIdContext.get(connectionId);
+            if (groupKeys != null) {
+                groupKeys.remove(groupKey);
             }
         }
-        
-        //2.remove connectionIdContext
-        HashMap<String, String> groupKeys = connectionIdContext.get(connectionId);
-        if (groupKeys != null) {
-            groupKeys.remove(groupKey);
-        }
+    }
+    
+    private void removeConnectionFromGroupKey(String groupKey, String connectionId) {
+        groupKeyContext.computeIfPresent(groupKey, (key, connectionIds) -> {
+            connectionIds.remove(connectionId);
+            return connectionIds.isEmpty() ? null : connectionIds;
+        });
     }
     
     /**
      * get listeners of the group key.
      *
      * @param groupKey groupKey.
-     * @return the copy of listeners, may be return null.
+     * @return the read-only view of listeners, which is weakly consistent with concurrent modifications, may be return
+     *     null.
      */
-    public synchronized Set<String> getListeners(String groupKey) {
-        
-        HashSet<String> strings = groupKeyContext.get(groupKey);
-        if (CollectionUtils.isNotEmpty(strings)) {
-            Set<String> listenConnections = new HashSet<>();
-            safeCopy(strings, listenConnections);
-            return listenConnections;
+    public Set<String> getListeners(String groupKey) {
+        Set<String> listenConnections = groupKeyContext.get(groupKey);
+        if (CollectionUtils.isNotEmpty(listenConnections)) {
+            return Collections.unmodifiableSet(listenConnections);
         }
         return null;
     }
     
-    /**
-     * copy collections.
-     *
-     * @param src  may be modified concurrently
-     * @param dest dest collection
-     */
-    private void safeCopy(Collection src, Collection dest) {
-        Iterator iterator = src.iterator();
-        while (iterator.hasNext()) {
-            dest.add(iterator.next());
-        }
-    }
-    
     /**
      * remove the context related to the connection id.
      *
      * @param connectionId connectionId.
      */
-    public synchronized void clearContextForConnectionId(final String connectionId) {
-        
-        Map<String, String> listenKeys = getListenKeys(connectionId);
-        
-        if (listenKeys == null) {
-            connectionIdContext.remove(connectionId);
-            return;
-        }
-        for (Map.Entry<String, String> groupKey : listenKeys.entrySet()) {
-
-            Set<String> connectionIds = groupKeyContext.get(groupKey.getKey());
-            if (CollectionUtils.isNotEmpty(connectionIds)) {
-                connectionIds.remove(connectionId);
-            } else {
-                groupKeyContext.remove(groupKey.getKey());
+    public void clearContextForConnectionId(final String connectionId) {
+        synchronized (lockOf(connectionId)) {
+            Map<String, String> listenKeys = connectionIdContext.remove(connectionId);
+            if (listenKeys == null) {
+                return;
+            }
+            for (String groupKey : listenKeys.keySet()) {
+                removeConnectionFromGroupKey(groupKey, connectionId);
             }
-
         }
-        connectionIdContext.remove(connectionId);
     }
     
     /**
@@ -157,9 +153,9 @@ public class ConfigChangeListenContext {
      * @param connectionId connection id.
      * @return listen group keys of the connection id, key:group key,value:md5
      */
-    public synchronized Map<String, String> getListenKeys(String connectionId) {
-        HashMap<String, String> stringStringHashMap = connectionIdContext.get(connectionId);
-        return stringStringHashMap == null ? null : new HashMap<>(stringStringHashMap);
+    public Map<String, String> getListenKeys(String connectionId) {
+        Map<String, String> listenKeys = connectionIdContext.get(connectionId);
+        return listenKeys == null ? null : new HashMap<>(listenKeys);
     }
     
     /**
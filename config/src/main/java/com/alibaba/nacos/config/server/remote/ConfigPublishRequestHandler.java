@@ -125,7 +125,8 @@ public class ConfigPublishRequestHandler extends RequestHandler<ConfigPublishReq
                         configInfoPersistService.insertOrUpdate(srcIp, srcUser, configInfo, time, configAdvanceInfo, false);
                     }
                     ConfigChangePublisher.notifyConfigChange(
-                            new ConfigDataChangeEvent(false, dataId, group, tenant, time.getTime()));
+                            new ConfigDataChangeEvent(dataId, group, tenant, time.getTime(), configInfo.getContent(),
+                                    configInfo.getType(), configInfo.getEncryptedDataKey()));
                 } else {
                     if (StringUtils.isNotBlank(request.getCasMd5())) {
                         boolean casSuccess = configInfoTagPersistService
@@ -40,16 +40,12 @@ import com.alibaba.nacos.core.remote.RequestHandler;
 import com.alibaba.nacos.core.control.TpsControl;
 import com.alibaba.nacos.plugin.auth.constant.ActionTypes;
 import com.alibaba.nacos.plugin.auth.constant.SignType;
-import org.apache.commons.io.FileUtils;
 import org.springframework.stereotype.Component;
 
-import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
-import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
 
-import static com.alibaba.nacos.api.common.Constants.ENCODE;
 import static com.alibaba.nacos.config.server.utils.LogUtil.PULL_LOG;
 import static com.alibaba.nacos.config.server.utils.RequestUtil.CLIENT_APPNAME_HEADER;
 
@@ -82,17 +78,26 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
     @TpsControl(pointName = "ConfigQuery")
     @Secured(action = ActionTypes.READ, signType = SignType.CONFIG)
     public ConfigQueryResponse handle(ConfigQueryRequest request, RequestMeta meta) throws NacosException {
-        
+        return query(request, meta);
+    }
+    
+    /**
+     * Query one config without tps control and auth check, which are done by the caller.
+     *
+     * @param request config query request.
+     * @param meta    request meta.
+     * @return config query response.
+     */
+    public ConfigQueryResponse query(ConfigQueryRequest request, RequestMeta meta) {
         try {
             return getContext(request, meta, request.isNotify());
         } catch (Exception e) {
             return ConfigQueryResponse.buildFailResponse(ResponseCode.FAIL.getCode(), e.getMessage());
         }
-        
     }
     
     private ConfigQueryResponse getContext(ConfigQueryRequest configQueryRequest, RequestMeta meta, boolean notify)
-            throws UnsupportedEncodingException {
+            throws IOException {
         String dataId = configQueryRequest.getDataId();
         String group = configQueryRequest.getGroup();
         String tenant = configQueryRequest.getTenant();
@@ -126,7 +131,7 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
                     String configType = cacheItem.getType();
                     response.setContentType((null != configType) ? configType : "text");
                 }
-                File file = null;
+                String content = null;
                 ConfigInfoBase configInfoBase = null;
                 PrintWriter out = null;
                 if (isBeta) {
@@ -135,7 +140,7 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
                     if (PropertyUtil.isDirectRead()) {
                         configInfoBase = configInfoBetaPersistService.findConfigInfo4Beta(dataId, group, tenant);
                     } else {
-                        file = DiskUtil.targetBetaFile(dataId, group, tenant);
+                        content = DiskUtil.getBetaContent(dataId, group, tenant);
                     }
                     response.setBeta(true);
                 } else {
@@ -152,7 +157,7 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
                             if (PropertyUtil.isDirectRead()) {
                                 configInfoBase = configInfoTagPersistService.findConfigInfo4Tag(dataId, group, tenant, autoTag);
                             } else {
-                                file = DiskUtil.targetTagFile(dataId, group, tenant, autoTag);
+                                content = DiskUtil.getTagContent(dataId, group, tenant, autoTag);
                             }
                             response.setTag(URLEncoder.encode(autoTag, Constants.ENCODE));
                             
@@ -162,9 +167,9 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
                             if (PropertyUtil.isDirectRead()) {
                                 configInfoBase = configInfoPersistService.findConfigInfo(dataId, group, tenant);
                             } else {
-                                file = DiskUtil.targetFile(dataId, group, tenant);
+                                content = DiskUtil.getContent(dataId, group, tenant);
                             }
-                            if (configInfoBase == null && fileNotExist(file)) {
+                            if (configInfoBase == null && content == null) {
                                 // FIXME CacheItem
                                 // No longer exists. It is impossible to simply calculate the push delayed. Here, simply record it as - 1.
                                 ConfigTraceService.logPullEvent(dataId, group, tenant, requestIpApp, -1,
@@ -193,9 +198,9 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
                         if (PropertyUtil.isDirectRead()) {
                             configInfoBase = configInfoTagPersistService.findConfigInfo4Tag(dataId, group, tenant, tag);
                         } else {
-                            file = DiskUtil.targetTagFile(dataId, group, tenant, tag);
+                            content = DiskUtil.getTagContent(dataId, group, tenant, tag);
                         }
-                        if (configInfoBase == null && fileNotExist(file)) {
+                        if (configInfoBase == null && content == null) {
                             // FIXME CacheItem
                             // No longer exists. It is impossible to simply calculate the push delayed. Here, simply record it as - 1.
                             ConfigTraceService.logPullEvent(dataId, group, tenant, requestIpApp, -1,
@@ -212,6 +217,14 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
                     }
                 }
                 
+                if (configInfoBase == null && content == null) {
+                    // beta or tag config no longer exists, the same as the missing config above.
+                    ConfigTraceService.logPullEvent(dataId, group, tenant, requestIpApp, -1,
+                            ConfigTraceService.PULL_EVENT_NOTFOUND, -1, clientIp, false);
+                    response.setErrorInfo(ConfigQueryResponse.CONFIG_NOT_FOUND, "config data not exist");
+                    return response;
+                }
+                
                 response.setMd5(md5);
                 
                 if (PropertyUtil.isDirectRead()) {
@@ -221,23 +234,15 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
                     response.setResultCode(ResponseCode.SUCCESS.getCode());
                     
                 } else {
-                    //read from file
-                    String content = null;
-                    try {
-                        content = readFileContent(file);
-                        response.setContent(content);
-                        response.setLastModified(lastModified);
-                        response.setResultCode(ResponseCode.SUCCESS.getCode());
-                        if (isBeta) {
-                            response.setEncryptedDataKey(cacheItem.getEncryptedDataKeyBeta());
-                        } else {
-                            response.setEncryptedDataKey(cacheItem.getEncryptedDataKey());
-                        }
-                    } catch (IOException e) {
-                        response.setErrorInfo(ResponseCode.FAIL.getCode(), e.getMessage());
-                        return response;
+                    //read from local disk
+                    response.setContent(content);
+                    response.setLastModified(lastModified);
+                    response.setResultCode(ResponseCode.SUCCESS.getCode());
+                    if (isBeta) {
+                        response.setEncryptedDataKey(cacheItem.getEncryptedDataKeyBeta());
+                    } else {
+                        response.setEncryptedDataKey(cacheItem.getEncryptedDataKey());
                     }
-                    
                 }
                 
                 LogUtil.PULL_CHECK_LOG.warn("{}|{}|{}|{}", groupKey, clientIp, md5, TimeUtils.getCurrentTimeStr());
@@ -271,25 +276,10 @@ public class ConfigQueryRequestHandler extends RequestHandler<ConfigQueryRequest
         return response;
     }
     
-    /**
-     * read content.
-     *
-     * @param file file to read.
-     * @return content.
-     */
-    public static String readFileContent(File file) throws IOException {
-        return FileUtils.readFileToString(file, ENCODE);
-        
-    }
-    
     private static void releaseConfigReadLock(String groupKey) {
         ConfigCacheService.releaseReadLock(groupKey);
     }
     
-    private static boolean fileNotExist(File file) {
-        return file == null || !file.exists();
-    }
-    
     private static int tryConfigReadLock(String groupKey) {
         
         // Lock failed by default.
@@ -16,16 +16,24 @@
 
 package com.alibaba.nacos.config.server.remote;
 
+import com.alibaba.nacos.api.ability.ClientAbilities;
 import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
 import com.alibaba.nacos.api.remote.AbstractPushCallBack;
 import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.RingBufferEventPublisherFactory;
 import com.alibaba.nacos.common.notify.listener.Subscriber;
 import com.alibaba.nacos.common.utils.CollectionUtils;
 import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.config.server.model.CacheItem;
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
 import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
 import com.alibaba.nacos.config.server.utils.ConfigExecutor;
+import com.alibaba.nacos.config.server.utils.DiskUtil;
 import com.alibaba.nacos.config.server.utils.GroupKey;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.core.remote.Connection;
 import com.alibaba.nacos.core.remote.ConnectionManager;
 import com.alibaba.nacos.core.remote.ConnectionMeta;
@@ -38,6 +46,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -60,7 +70,7 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
     TpsControlManager tpsControlManager = ControlManagerCenter.getInstance().getTpsControlManager();
     
     public RpcConfigChangeNotifier() {
-        NotifyCenter.registerSubscriber(this);
+        NotifyCenter.registerSubscriber(this, RingBufferEventPublisherFactory.getInstance());
     }
     
     @PostConstruct
@@ -80,6 +90,9 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
     @Autowired
     private ConnectionManager connectionManager;
     
+    @Autowired
+    private ConfigInfoPersistService configInfoPersistService;
+    
     /**
      * adaptor to config module ,when server side config change ,invoke this method.
      *
@@ -92,6 +105,10 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
         if (CollectionUtils.isEmpty(listeners)) {
             return;
         }
+        // content is only carried for formal config, beta and tag configs are still queried by the clients.
+        boolean pushContentAllowed = !isBeta && StringUtils.isBlank(tag) && PropertyUtil.isPushContentEnabled();
+        boolean pushContentLoaded = false;
+        PushContent pushContent = null;
         int notifyClientCount = 0;
         for (final String client : listeners) {
             Connection connection = connectionManager.getConnection(client);
@@ -112,6 +129,16 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
             }
             
             ConfigChangeNotifyRequest notifyRequest = ConfigChangeNotifyRequest.build(dataId, group, tenant);
+            if (pushContentAllowed && isSupportContentPush(connection)) {
+                // load the content once, and only if at least one client is able to accept it.
+                if (!pushContentLoaded) {
+                    pushContent = loadPushContent(groupKey, dataId, group, tenant);
+                    pushContentLoaded = true;
+                }
+                if (null != pushContent) {
+                    pushContent.fill(notifyRequest);
+                }
+            }
             
             RpcPushTask rpcPushRetryTask = new RpcPushTask(notifyRequest, 50, client, clientIp, metaInfo.getAppName());
             push(rpcPushRetryTask);
@@ -120,6 +147,51 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
         Loggers.REMOTE_PUSH.info("push [{}] clients ,groupKey=[{}]", notifyClientCount, groupKey);
     }
     
+    /**
+     * Load the content of the changed config to carry in the change notify.
+     *
+     * @return content of config, {@code null} if the config can't be carried
+     */
+    private PushContent loadPushContent(String groupKey, String dataId, String group, String tenant) {
+        if (ConfigCacheService.tryReadLock(groupKey) <= 0) {
+            return null;
+        }
+        try {
+            CacheItem cacheItem = ConfigCacheService.getContentCache(groupKey);
+            // the clients may get beta or tag content by query, so skip the configs with beta or tag.
+            if (null == cacheItem || cacheItem.isBeta() || (null != cacheItem.getTagMd5() && !cacheItem.getTagMd5()
+                    .isEmpty())) {
+                return null;
+            }
+            String content;
+            String encryptedDataKey;
+            if (PropertyUtil.isDirectRead()) {
+                ConfigInfoWrapper configInfo = configInfoPersistService.findConfigInfo(dataId, group, tenant);
+                content = null == configInfo ? null : configInfo.getContent();
+                encryptedDataKey = null == configInfo ? null : configInfo.getEncryptedDataKey();
+            } else {
+                content = DiskUtil.getContent(dataId, group, tenant);
+                encryptedDataKey = cacheItem.getEncryptedDataKey();
+            }
+            if (null == content || content.getBytes(StandardCharsets.UTF_8).length > PropertyUtil.getPushContentMaxSize()) {
+                return null;
+            }
+            return new PushContent(content, cacheItem.getMd5(), cacheItem.getType(), encryptedDataKey,
+                    cacheItem.getLastModifiedTs());
+        } catch (IOException e) {
+            Loggers.REMOTE_PUSH.warn("Load push content fail, groupKey={}, will notify without content.", groupKey, e);
+            return null;
+        } finally {
+            ConfigCacheService.releaseReadLock(groupKey);
+        }
+    }
+    
+    private boolean isSupportContentPush(Connection connection) {
+        ClientAbilities abilities = connection.getAbilities();
+        return null != abilities && null != abilities.getConfigAbility() && abilities.getConfigAbility()
+                .isSupportContentPush();
+    }
+    
     @Override
     public void onEvent(LocalDataChangeEvent event) {
         String groupKey = event.groupKey;
@@ -140,6 +212,38 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
         return LocalDataChangeEvent.class;
     }
     
+    /**
+     * Content of the changed config carried in the change notify.
+     */
+    static class PushContent {
+        
+        private final String content;
+        
+        private final String md5;
+        
+        private final String contentType;
+        
+        private final String encryptedDataKey;
+        
+        private final long lastModified;
+        
+        PushContent(String content, String md5, String contentType, String encryptedDataKey, long lastModified) {
+            this.content = content;
+            this.md5 = md5;
+            this.contentType = contentType;
+            this.encryptedDataKey = encryptedDataKey;
+            this.lastModified = lastModified;
+        }
+        
+        void fill(ConfigChangeNotifyRequest notifyRequest) {
+            notifyRequest.setContent(content);
+            notifyRequest.setMd5(md5);
+            notifyRequest.setContentType(contentType);
+            notifyRequest.setEncryptedDataKey(encryptedDataKey);
+            notifyRequest.setLastModified(lastModified);
+        }
+    }
+    
     class RpcPushTask implements Runnable {
         
         ConfigChangeNotifyRequest notifyRequest;
@@ -171,7 +275,7 @@ public class RpcConfigChangeNotifier extends Subscriber<LocalDataChangeEvent> {
         public void run() {
             tryTimes++;
             TpsCheckRequest tpsCheckRequest = new TpsCheckRequest();
-           
+            
             tpsCheckRequest.setPointName(POINT_CONFIG_PUSH);
             if (!tpsControlManager.check(tpsCheckRequest).isSuccess()) {
                 push(this);
@@ -92,6 +92,24 @@ public class ConfigCacheService {
      */
     public static boolean dump(String dataId, String group, String tenant, String content, long lastModifiedTs,
             String type, String encryptedDataKey) {
+        return dump(dataId, group, tenant, content, MD5Utils.md5Hex(content, Constants.ENCODE), lastModifiedTs, type,
+                encryptedDataKey);
+    }
+    
+    /**
+     * Save config file and update md5 value in cache, the md5 of content has been calculated by caller.
+     *
+     * @param dataId         dataId string value.
+     * @param group          group string value.
+     * @param tenant         tenant string value.
+     * @param content        content string value.
+     * @param md5            md5 of content.
+     * @param lastModifiedTs lastModifiedTs.
+     * @param type           file type.
+     * @return dumpChange success or not.
+     */
+    public static boolean dump(String dataId, String group, String tenant, String content, String md5,
+            long lastModifiedTs, String type, String encryptedDataKey) {
         String groupKey = GroupKey2.getKey(dataId, group, tenant);
         CacheItem ci = makeSure(groupKey, encryptedDataKey, false);
         ci.setType(type);
@@ -104,14 +122,13 @@ public class ConfigCacheService {
         }
         
         try {
-            final String md5 = MD5Utils.md5Hex(content, Constants.ENCODE);
             if (lastModifiedTs < ConfigCacheService.getLastModifiedTs(groupKey)) {
                 DUMP_LOG.warn("[dump-ignore] the content is old. groupKey={}, md5={}, lastModifiedOld={}, "
                                 + "lastModifiedNew={}", groupKey, md5, ConfigCacheService.getLastModifiedTs(groupKey),
                         lastModifiedTs);
                 return true;
             }
-            if (md5.equals(ConfigCacheService.getContentMd5(groupKey)) && DiskUtil.targetFile(dataId, group, tenant).exists()) {
+            if (md5.equals(ConfigCacheService.getContentMd5(groupKey)) && DiskUtil.isConfigExist(dataId, group, tenant)) {
                 DUMP_LOG.warn("[dump-ignore] ignore to save cache file. groupKey={}, md5={}, lastModifiedOld={}, "
                                 + "lastModifiedNew={}", groupKey, md5, ConfigCacheService.getLastModifiedTs(groupKey),
                         lastModifiedTs);
@@ -150,6 +167,24 @@ public class ConfigCacheService {
      */
     public static boolean dumpBeta(String dataId, String group, String tenant, String content, long lastModifiedTs,
             String betaIps, String encryptedDataKey) {
+        return dumpBeta(dataId, group, tenant, content, MD5Utils.md5Hex(content, Constants.ENCODE), lastModifiedTs,
+                betaIps, encryptedDataKey);
+    }
+    
+    /**
+     * Save beta config file and update md5 value in cache, the md5 of content has been calculated by caller.
+     *
+     * @param dataId         dataId string value.
+     * @param group          group string value.
+     * @param tenant         tenant string value.
+     * @param content        content string value.
+     * @param md5            md5 of content.
+     * @param lastModifiedTs lastModifiedTs.
+     * @param betaIps        betaIps string value.
+     * @return dumpChange success or not.
+     */
+    public static boolean dumpBeta(String dataId, String group, String tenant, String content, String md5,
+            long lastModifiedTs, String betaIps, String encryptedDataKey) {
         final String groupKey = GroupKey2.getKey(dataId, group, tenant);
     
         makeSure(groupKey, encryptedDataKey, true);
@@ -162,14 +197,13 @@ public class ConfigCacheService {
         }
         
         try {
-            final String md5 = MD5Utils.md5Hex(content, Constants.ENCODE);
             if (lastModifiedTs < ConfigCacheService.getLastModifiedTs4Beta(groupKey)) {
                 DUMP_LOG.warn("[dump-beta-ignore] the content is old. groupKey={}, md5={}, lastModifiedOld={}, "
                                 + "lastModifiedNew={}", groupKey, md5,
                         ConfigCacheService.getLastModifiedTs4Beta(groupKey), lastModifiedTs);
                 return true;
             }
-            if (md5.equals(ConfigCacheService.getContentBetaMd5(groupKey)) && DiskUtil.targetBetaFile(dataId, group, tenant).exists()) {
+            if (md5.equals(ConfigCacheService.getContentBetaMd5(groupKey)) && DiskUtil.isBetaConfigExist(dataId, group, tenant)) {
                 DUMP_LOG.warn("[dump-beta-ignore] ignore to save cache file. groupKey={}, md5={}, lastModifiedOld={}, "
                                 + "lastModifiedNew={}", groupKey, md5, ConfigCacheService.getLastModifiedTs(groupKey),
                         lastModifiedTs);
@@ -201,6 +235,24 @@ public class ConfigCacheService {
      */
     public static boolean dumpTag(String dataId, String group, String tenant, String tag, String content,
             long lastModifiedTs, String encryptedDataKey) {
+        return dumpTag(dataId, group, tenant, tag, content, MD5Utils.md5Hex(content, Constants.ENCODE),
+                lastModifiedTs, encryptedDataKey);
+    }
+    
+    /**
+     * Save tag config file and update md5 value in cache, the md5 of content has been calculated by caller.
+     *
+     * @param dataId         dataId string value.
+     * @param group          group string value.
+     * @param tenant         tenant string value.
+     * @param tag            tag string value.
+     * @param content        content string value.
+     * @param md5            md5 of content.
+     * @param lastModifiedTs lastModifiedTs.
+     * @return dumpChange success or not.
+     */
+    public static boolean dumpTag(String dataId, String group, String tenant, String tag, String content, String md5,
+            long lastModifiedTs, String encryptedDataKey) {
         final String groupKey = GroupKey2.getKey(dataId, group, tenant);
     
         makeSure(groupKey, encryptedDataKey, false);
@@ -213,14 +265,13 @@ public class ConfigCacheService {
         }
         
         try {
-            final String md5 = MD5Utils.md5Hex(content, Constants.ENCODE);
             if (lastModifiedTs < ConfigCacheService.getTagLastModifiedTs(groupKey, tag)) {
                 DUMP_LOG.warn("[dump-tag-ignore] the tag is old. groupKey={}, md5={}, lastTagModifiedOld={}, "
                                 + "lastModifiedNew={}", groupKey, md5,
                         ConfigCacheService.getTagLastModifiedTs(groupKey, tag), lastModifiedTs);
                 return true;
             }
-            if (md5.equals(ConfigCacheService.getContentTagMd5(groupKey, tag)) && DiskUtil.targetTagFile(dataId, group, tenant, tag).exists()) {
+            if (md5.equals(ConfigCacheService.getContentTagMd5(groupKey, tag)) && DiskUtil.isTagConfigExist(dataId, group, tenant, tag)) {
                 DUMP_LOG.warn("[dump-tag-ignore] ignore to save cache file. groupKey={}, md5={}, lastModifiedOld={}, "
                                 + "lastModifiedNew={}", groupKey, md5, ConfigCacheService.getLastModifiedTs(groupKey),
                         lastModifiedTs);
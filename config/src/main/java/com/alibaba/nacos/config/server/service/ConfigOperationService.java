@@ -97,8 +97,9 @@ public class ConfigOperationService {
                 configInfoPersistService.insertOrUpdate(configRequestInfo.getSrcIp(), configForm.getSrcUser(),
                         configInfo, time, configAdvanceInfo, false);
                 ConfigChangePublisher.notifyConfigChange(
-                        new ConfigDataChangeEvent(false, configForm.getDataId(), configForm.getGroup(),
-                                configForm.getNamespaceId(), time.getTime()));
+                        new ConfigDataChangeEvent(configForm.getDataId(), configForm.getGroup(),
+                                configForm.getNamespaceId(), time.getTime(), configInfo.getContent(),
+                                configInfo.getType(), configInfo.getEncryptedDataKey()));
             } else {
                 configInfoTagPersistService.insertOrUpdateTag(configInfo, configForm.getTag(),
                         configRequestInfo.getSrcIp(), configForm.getSrcUser(), time, false);
@@ -18,6 +18,7 @@ package com.alibaba.nacos.config.server.service;
 
 import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.RingBufferEventPublisherFactory;
 import com.alibaba.nacos.common.notify.listener.Subscriber;
 import com.alibaba.nacos.common.utils.CollectionUtils;
 import com.alibaba.nacos.common.utils.ExceptionUtil;
@@ -40,16 +41,15 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
@@ -101,7 +101,7 @@ public class LongPollingService {
         SampleResult sampleResult = new SampleResult();
         Map<String, String> lisentersGroupkeyStatus = new HashMap<>(50);
         
-        for (ClientLongPolling clientLongPolling : allSubs) {
+        for (ClientLongPolling clientLongPolling : getSubscribers(groupKey)) {
             if (clientLongPolling.clientMd5Map.containsKey(groupKey)) {
                 lisentersGroupkeyStatus.put(clientLongPolling.ip, clientLongPolling.clientMd5Map.get(groupKey));
             }
@@ -300,12 +300,14 @@ public class LongPollingService {
     
     @SuppressWarnings("PMD.ThreadPoolCreationRule")
     public LongPollingService() {
-        allSubs = new ConcurrentLinkedQueue<>();
+        allSubs = ConcurrentHashMap.newKeySet();
+        groupKeySubs = new ConcurrentHashMap<>();
         
         ConfigExecutor.scheduleLongPolling(new StatTask(), 0L, 10L, TimeUnit.SECONDS);
         
         // Register LocalDataChangeEvent to NotifyCenter.
-        NotifyCenter.registerToPublisher(LocalDataChangeEvent.class, NotifyCenter.ringBufferSize);
+        NotifyCenter.registerToPublisher(LocalDataChangeEvent.class, RingBufferEventPublisherFactory.getInstance(),
+                NotifyCenter.ringBufferSize);
         
         // Register A Subscriber to subscribe LocalDataChangeEvent.
         NotifyCenter.registerSubscriber(new Subscriber() {
@@ -326,7 +328,7 @@ public class LongPollingService {
             public Class<? extends Event> subscribeType() {
                 return LocalDataChangeEvent.class;
             }
-        });
+        }, RingBufferEventPublisherFactory.getInstance());
         
     }
     
@@ -337,7 +339,78 @@ public class LongPollingService {
     /**
      * ClientLongPolling subscibers.
      */
-    final Queue<ClientLongPolling> allSubs;
+    final Set<ClientLongPolling> allSubs;
+    
+    /**
+     * Index of hung ClientLongPolling subscribers by the groupKeys they listen, kept in sync with {@link #allSubs}.
+     */
+    final Map<String, Set<ClientLongPolling>> groupKeySubs;
+    
+    private static boolean isLongPollingIndexDisabled() {
+        return SwitchService.getSwitchBoolean(SwitchService.DISABLE_LONG_POLLING_INDEX, false);
+    }
+    
+    /**
+     * Get the hung subscribers which listen the groupKey. Falls back to scan all subscribers if the index is disabled.
+     *
+     * @param groupKey groupKey
+     * @return subscribers listen the groupKey
+     */
+    Collection<ClientLongPolling> getSubscribers(String groupKey) {
+        if (isLongPollingIndexDisabled()) {
+            List<ClientLongPolling> result = new LinkedList<>();
+            for (ClientLongPolling clientLongPolling : allSubs) {
+                if (clientLongPolling.clientMd5Map.containsKey(groupKey)) {
+                    result.add(clientLongPolling);
+                }
+            }
+            return result;
+        }
+        Set<ClientLongPolling> subscribers = groupKeySubs.get(groupKey);
+        return null == subscribers ? Collections.emptySet() : subscribers;
+    }
+    
+    private void addSubscriber(ClientLongPolling clientLongPolling) {
+        // Register first, so that the data change task which finds the subscriber by index can always remove it.
+        allSubs.add(clientLongPolling);
+        for (String groupKey : clientLongPolling.clientMd5Map.keySet()) {
+            groupKeySubs.compute(groupKey, (key, subscribers) -> {
+                if (null == subscribers) {
+                    subscribers = ConcurrentHashMap.newKeySet();
+                }
+                subscribers.add(clientLongPolling);
+                return subscribers;
+            });
+        }
+        // The subscriber may be removed by timeout task before its index relations are built, clean them up.
+        if (!allSubs.contains(clientLongPolling)) {
+            removeIndex(clientLongPolling);
+        }
+    }
+    
+    /**
+     * Remove the subscriber and its index relations. Only one of the data change task and the timeout task can remove
+     * the subscriber successfully, and the winner is responsible for sending response.
+     *
+     * @param clientLongPolling subscriber
+     * @return {@code true} if the subscriber is removed by this invocation
+     */
+    private boolean removeSubscriber(ClientLongPolling clientLongPolling) {
+        if (!allSubs.remove(clientLongPolling)) {
+            return false;
+        }
+        removeIndex(clientLongPolling);
+        return true;
+    }
+    
+    private void removeIndex(ClientLongPolling clientLongPolling) {
+        for (String groupKey : clientLongPolling.clientMd5Map.keySet()) {
+            groupKeySubs.computeIfPresent(groupKey, (key, subscribers) -> {
+                subscribers.remove(clientLongPolling);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+        }
+    }
     
     class DataChangeTask implements Runnable {
         
@@ -345,28 +418,27 @@ public class LongPollingService {
         public void run() {
             try {
                 ConfigCacheService.getContentBetaMd5(groupKey);
-                for (Iterator<ClientLongPolling> iter = allSubs.iterator(); iter.hasNext(); ) {
-                    ClientLongPolling clientSub = iter.next();
-                    if (clientSub.clientMd5Map.containsKey(groupKey)) {
-                        // If published tag is not in the beta list, then it skipped.
-                        if (isBeta && !CollectionUtils.contains(betaIps, clientSub.ip)) {
-                            continue;
-                        }
-                        
-                        // If published tag is not in the tag list, then it skipped.
-                        if (StringUtils.isNotBlank(tag) && !tag.equals(clientSub.tag)) {
-                            continue;
-                        }
-                        
-                        getRetainIps().put(clientSub.ip, System.currentTimeMillis());
-                        iter.remove(); // Delete subscribers' relationships.
-                        LogUtil.CLIENT_LOG
-                                .info("{}|{}|{}|{}|{}|{}|{}", (System.currentTimeMillis() - changeTime), "in-advance",
-                                        RequestUtil
-                                                .getRemoteIp((HttpServletRequest) clientSub.asyncContext.getRequest()),
-                                        "polling", clientSub.clientMd5Map.size(), clientSub.probeRequestSize, groupKey);
-                        clientSub.sendResponse(Arrays.asList(groupKey));
+                for (ClientLongPolling clientSub : getSubscribers(groupKey)) {
+                    // If published tag is not in the beta list, then it skipped.
+                    if (isBeta && !CollectionUtils.contains(betaIps, clientSub.ip)) {
+                        continue;
                     }
+                    
+                    // If published tag is not in the tag list, then it skipped.
+                    if (StringUtils.isNotBlank(tag) && !tag.equals(clientSub.tag)) {
+                        continue;
+                    }
+                    
+                    // Delete subscribers' relationships, skip it if it has been removed by timeout task.
+                    if (!removeSubscriber(clientSub)) {
+                        continue;
+                    }
+                    getRetainIps().put(clientSub.ip, System.currentTimeMillis());
+                    LogUtil.CLIENT_LOG
+                            .info("{}|{}|{}|{}|{}|{}|{}", (System.currentTimeMillis() - changeTime), "in-advance",
+                                    RequestUtil.getRemoteIp((HttpServletRequest) clientSub.asyncContext.getRequest()),
+                                    "polling", clientSub.clientMd5Map.size(), clientSub.probeRequestSize, groupKey);
+                    clientSub.sendResponse(Arrays.asList(groupKey));
                 }
                 
             } catch (Throwable t) {
@@ -414,7 +486,7 @@ public class LongPollingService {
                     getRetainIps().put(ClientLongPolling.this.ip, System.currentTimeMillis());
                     
                     // Delete subscriber's relations.
-                    boolean removeFlag = allSubs.remove(ClientLongPolling.this);
+                    boolean removeFlag = removeSubscriber(ClientLongPolling.this);
                     
                     if (removeFlag) {
                         if (isFixedPolling()) {
@@ -446,7 +518,27 @@ public class LongPollingService {
                 
             }, timeoutTime, TimeUnit.MILLISECONDS);
             
-            allSubs.add(this);
+            addSubscriber(this);
+            if (!isFixedPolling()) {
+                checkChangedAfterSubscribed();
+            }
+        }
+        
+        /**
+         * The config changed after md5 compared and before the subscriber indexed has no data change task to notify the
+         * subscriber, so compare md5 again after indexed.
+         */
+        private void checkChangedAfterSubscribed() {
+            List<String> changedGroups = MD5Util.compareMd5((HttpServletRequest) asyncContext.getRequest(),
+                    (HttpServletResponse) asyncContext.getResponse(), clientMd5Map);
+            if (changedGroups.isEmpty() || !removeSubscriber(this)) {
+                return;
+            }
+            getRetainIps().put(ip, System.currentTimeMillis());
+            LogUtil.CLIENT_LOG.info("{}|{}|{}|{}|{}|{}|{}", (System.currentTimeMillis() - createTime), "in-advance",
+                    RequestUtil.getRemoteIp((HttpServletRequest) asyncContext.getRequest()), "polling",
+                    clientMd5Map.size(), probeRequestSize, changedGroups.size());
+            sendResponse(changedGroups);
         }
         
         void sendResponse(List<String> changedGroups) {
@@ -459,13 +551,13 @@ public class LongPollingService {
         }
         
         void generateResponse(List<String> changedGroups) {
-    
+            
             if (null == changedGroups) {
                 // Tell web container to send http response.
                 asyncContext.complete();
                 return;
             }
-    
+            
             HttpServletResponse response = (HttpServletResponse) asyncContext.getResponse();
             
             try {
@@ -47,6 +47,8 @@ public class SwitchService {
     
     public static final String DISABLE_APP_COLLECTOR = "disableAppCollector";
     
+    public static final String DISABLE_LONG_POLLING_INDEX = "disableLongPollingIndex";
+    
     private static volatile Map<String, String> switches = new HashMap<>();
     
     public static boolean getSwitchBoolean(String key, boolean defaultValue) {
@@ -0,0 +1,200 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.disk;
+
+import java.io.IOException;
+
+/**
+ * Local storage of the config contents dumped from database, which is read by config query instead of database.
+ *
+ * @author Nacos
+ */
+public interface ConfigDiskService {
+    
+    /**
+     * Save config content.
+     *
+     * @param dataId  dataId
+     * @param group   group
+     * @param tenant  tenant
+     * @param content content
+     * @throws IOException io exception
+     */
+    void saveToDisk(String dataId, String group, String tenant, String content) throws IOException;
+    
+    /**
+     * Save beta config content.
+     *
+     * @param dataId  dataId
+     * @param group   group
+     * @param tenant  tenant
+     * @param content content
+     * @throws IOException io exception
+     */
+    void saveBetaToDisk(String dataId, String group, String tenant, String content) throws IOException;
+    
+    /**
+     * Save tag config content.
+     *
+     * @param dataId  dataId
+     * @param group   group
+     * @param tenant  tenant
+     * @param tag     tag
+     * @param content content
+     * @throws IOException io exception
+     */
+    void saveTagToDisk(String dataId, String group, String tenant, String tag, String content) throws IOException;
+    
+    /**
+     * Remove config content.
+     *
+     * @param dataId dataId
+     * @param group  group
+     * @param tenant tenant
+     */
+    void removeConfigInfo(String dataId, String group, String tenant);
+    
+    /**
+     * Remove beta config content.
+     *
+     * @param dataId dataId
+     * @param group  group
+     * @param tenant tenant
+     */
+    void removeConfigInfo4Beta(String dataId, String group, String tenant);
+    
+    /**
+     * Remove tag config content.
+     *
+     * @param dataId dataId
+     * @param group  group
+     * @param tenant tenant
+     * @param tag    tag
+     */
+    void removeConfigInfo4Tag(String dataId, String group, String tenant, String tag);
+    
+    /**
+     * Get config content.
+     *
+     * @param dataId dataId
+     * @param group  group
+     * @param tenant tenant
+     * @return content, null if not exist
+     * @throws IOException io exception
+     */
+    String getContent(String dataId, String group, String tenant) throws IOException;
+    
+    /**
+     * Get beta config content.
+     *
+     * @param dataId dataId
+     * @param group  group
+     * @param tenant tenant
+     * @return content, null if not exist
+     * @throws IOException io exception
+     */
+    String getBetaContent(String dataId, String group, String tenant) throws IOException;
+    
+    /**
+     * Get tag config content.
+     *
+     * @param dataId dataId
+     * @param group  group
+     * @param tenant tenant
+     * @param tag    tag
+     * @return content, null if not exist
+     * @throws IOException io exception
+     */
+    String getTagContent(String dataId, String group, String tenant, String tag) throws IOException;
+    
+    /**
+     * Get last modified time of config content.
+     *
+     * @param dataId dataId
+     * @param group  group
+     * @param tenant tenant
+     * @return last modified time in milliseconds, 0 if not exist
+     */
+    long getLastModified(String dataId, String group, String tenant);
+    
+    /**
+     * Get last modified time of beta config content.
+     *
+     * @param dataId dataId
+     * @param group  group
+     * @param tenant tenant
+     * @return last modified time in milliseconds, 0 if not exist
+     */
+    long getBetaLastModified(String dataId, String group, String tenant);
+    
+    /**
+     * Get last modified time of tag config content.
+     *
+     * @param dataId dataId
+     * @param group  group
+     * @param tenant tenant
+     * @param tag    tag
+     * @return last modified time in milliseconds, 0 if not exist
+     */
+    long getTagLastModified(String dataId, String group, String tenant, String tag);
+    
+    /**
+     * Whether the config content exists.
+     *
+     * @param dataId dataId
+     * @param group  group
+     * @param tenant tenant
+     * @return true if exists
+     */
+    boolean exists(String dataId, String group, String tenant);
+    
+    /**
+     * Whether the beta config content exists.
+     *
+     * @param dataId dataId
+     * @param group  group
+     * @param tenant tenant
+     * @return true if exists
+     */
+    boolean existsBeta(String dataId, String group, String tenant);
+    
+    /**
+     * Whether the tag config content exists.
+     *
+     * @param dataId dataId
+     * @param group  group
+     * @param tenant tenant
+     * @param tag    tag
+     * @return true if exists
+     */
+    boolean existsTag(String dataId, String group, String tenant, String tag);
+    
+    /**
+     * Clear all config contents.
+     */
+    void clearAll();
+    
+    /**
+     * Clear all beta config contents.
+     */
+    void clearAllBeta();
+    
+    /**
+     * Clear all tag config contents.
+     */
+    void clearAllTag();
+}
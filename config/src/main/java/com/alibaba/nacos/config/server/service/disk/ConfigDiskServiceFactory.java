@@ -0,0 +1,78 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.disk;
+
+import com.alibaba.nacos.common.utils.ThreadUtils;
+import com.alibaba.nacos.config.server.constant.PropertiesConstant;
+import com.alibaba.nacos.config.server.utils.LogUtil;
+import com.alibaba.nacos.sys.env.EnvUtil;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Factory of {@link ConfigDiskService}, the type is selected by property {@link PropertiesConstant#CONFIG_DISK_TYPE}.
+ *
+ * @author Nacos
+ */
+public class ConfigDiskServiceFactory {
+    
+    public static final String TYPE_RAW = "raw";
+    
+    public static final String TYPE_MMAP = "mmap";
+    
+    private static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+    
+    private static volatile ConfigDiskService configDiskService;
+    
+    /**
+     * Get the config disk service, create it at the first time.
+     *
+     * @return config disk service
+     */
+    public static ConfigDiskService getInstance() {
+        if (null == configDiskService) {
+            synchronized (ConfigDiskServiceFactory.class) {
+                if (null == configDiskService) {
+                    configDiskService = createConfigDiskService();
+                }
+            }
+        }
+        return configDiskService;
+    }
+    
+    private static ConfigDiskService createConfigDiskService() {
+        if (null == EnvUtil.getEnvironment()) {
+            return new ConfigRawDiskService();
+        }
+        String type = EnvUtil.getProperty(PropertiesConstant.CONFIG_DISK_TYPE, TYPE_RAW);
+        if (TYPE_MMAP.equalsIgnoreCase(type)) {
+            int segmentSize = EnvUtil
+                    .getProperty(PropertiesConstant.CONFIG_DISK_SEGMENT_SIZE, Integer.class, DEFAULT_SEGMENT_SIZE);
+            try {
+                ConfigMmapDiskService result = new ConfigMmapDiskService(
+                        new File(EnvUtil.getNacosHome(), ConfigMmapDiskService.SEGMENT_DIR), segmentSize);
+                ThreadUtils.addShutdownHook(result::flush);
+                LogUtil.DEFAULT_LOG.info("use mmap config disk service, segment size {}.", segmentSize);
+                return result;
+            } catch (IOException e) {
+                LogUtil.FATAL_LOG.error("init mmap config disk service failed, fall back to raw.", e);
+            }
+        }
+        return new ConfigRawDiskService();
+    }
+}
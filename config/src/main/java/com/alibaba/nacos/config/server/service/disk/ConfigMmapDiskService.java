@@ -0,0 +1,627 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.disk;
+
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.config.server.utils.LogUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * Config disk service which appends config contents into memory-mapped segment files and keeps an in-memory index of
+ * their offsets, so that dump and query don't create, open or look up a file for every config.
+ *
+ * <p>Record layout: {@code [int payloadSize][long crc32(payload)][payload]}, payload is
+ * {@code [byte op][int keySize][key][long lastModified][int valueSize][value]} for put and
+ * {@code [byte op][int keySize][key]} for delete. The payload size is written at last, records which are torn by crash
+ * are detected by checksum and dropped in recovery.
+ *
+ * <p>Segments whose live records fall below {@link #COMPACT_PERCENT} percent are compacted by a background thread
+ * after a new segment is rolled, by re-appending the live records into the active segment and deleting the old segment
+ * file. Delete records are kept only while an older segment still holds a put record of the key. The mapping of a
+ * compacted segment is released once no reader uses it.
+ *
+ * @author Nacos
+ */
+public class ConfigMmapDiskService implements ConfigDiskService {
+    
+    public static final String SEGMENT_DIR = "data" + File.separator + "config-segment";
+    
+    static final String SEGMENT_SUFFIX = ".segment";
+    
+    private static final byte OP_PUT = 1;
+    
+    private static final byte OP_DELETE = 2;
+    
+    private static final char KIND_CONFIG = 'c';
+    
+    private static final char KIND_BETA = 'b';
+    
+    private static final char KIND_TAG = 't';
+    
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES + Long.BYTES;
+    
+    private static final int COMPACT_PERCENT = 50;
+    
+    private final File segmentDir;
+    
+    private final int segmentSize;
+    
+    /**
+     * storage key -> location of the content.
+     */
+    private final Map<String, ContentLocation> index = new ConcurrentHashMap<>();
+    
+    /**
+     * segment id -> segment, guarded by {@link #writeLock}.
+     */
+    private final NavigableMap<Long, Segment> segments = new TreeMap<>();
+    
+    private final ReentrantLock writeLock = new ReentrantLock();
+    
+    private final ExecutorService compactExecutor;
+    
+    private final AtomicBoolean compactScheduled = new AtomicBoolean(false);
+    
+    private Segment activeSegment;
+    
+    public ConfigMmapDiskService(File segmentDir, int segmentSize) throws IOException {
+        this.segmentDir = segmentDir;
+        this.segmentSize = segmentSize;
+        this.compactExecutor = ExecutorFactory
+                .newSingleExecutorService(new NameThreadFactory("com.alibaba.nacos.config.segment.compact"));
+        if (!segmentDir.exists() && !segmentDir.mkdirs()) {
+            throw new IOException("create config segment dir failed, " + segmentDir.getAbsolutePath());
+        }
+        recover();
+    }
+    
+    @Override
+    public void saveToDisk(String dataId, String group, String tenant, String content) throws IOException {
+        append(OP_PUT, configKey(KIND_CONFIG, dataId, group, tenant), content);
+    }
+    
+    @Override
+    public void saveBetaToDisk(String dataId, String group, String tenant, String content) throws IOException {
+        append(OP_PUT, configKey(KIND_BETA, dataId, group, tenant), content);
+    }
+    
+    @Override
+    public void saveTagToDisk(String dataId, String group, String tenant, String tag, String content)
+            throws IOException {
+        append(OP_PUT, tagKey(dataId, group, tenant, tag), content);
+    }
+    
+    @Override
+    public void removeConfigInfo(String dataId, String group, String tenant) {
+        remove(configKey(KIND_CONFIG, dataId, group, tenant));
+    }
+    
+    @Override
+    public void removeConfigInfo4Beta(String dataId, String group, String tenant) {
+        remove(configKey(KIND_BETA, dataId, group, tenant));
+    }
+    
+    @Override
+    public void removeConfigInfo4Tag(String dataId, String group, String tenant, String tag) {
+        remove(tagKey(dataId, group, tenant, tag));
+    }
+    
+    @Override
+    public String getContent(String dataId, String group, String tenant) {
+        return read(configKey(KIND_CONFIG, dataId, group, tenant));
+    }
+    
+    @Override
+    public String getBetaContent(String dataId, String group, String tenant) {
+        return read(configKey(KIND_BETA, dataId, group, tenant));
+    }
+    
+    @Override
+    public String getTagContent(String dataId, String group, String tenant, String tag) {
+        return read(tagKey(dataId, group, tenant, tag));
+    }
+    
+    @Override
+    public long getLastModified(String dataId, String group, String tenant) {
+        return lastModified(configKey(KIND_CONFIG, dataId, group, tenant));
+    }
+    
+    @Override
+    public long getBetaLastModified(String dataId, String group, String tenant) {
+        return lastModified(configKey(KIND_BETA, dataId, group, tenant));
+    }
+    
+    @Override
+    public long getTagLastModified(String dataId, String group, String tenant, String tag) {
+        return lastModified(tagKey(dataId, group, tenant, tag));
+    }
+    
+    @Override
+    public boolean exists(String dataId, String group, String tenant) {
+        return index.containsKey(configKey(KIND_CONFIG, dataId, group, tenant));
+    }
+    
+    @Override
+    public boolean existsBeta(String dataId, String group, String tenant) {
+        return index.containsKey(configKey(KIND_BETA, dataId, group, tenant));
+    }
+    
+    @Override
+    public boolean existsTag(String dataId, String group, String tenant, String tag) {
+        return index.containsKey(tagKey(dataId, group, tenant, tag));
+    }
+    
+    @Override
+    public void clearAll() {
+        clearKind(KIND_CONFIG);
+    }
+    
+    @Override
+    public void clearAllBeta() {
+        clearKind(KIND_BETA);
+    }
+    
+    @Override
+    public void clearAllTag() {
+        clearKind(KIND_TAG);
+    }
+    
+    private void clearKind(char kind) {
+        int count = 0;
+        for (String key : index.keySet()) {
+            if (key.charAt(0) == kind) {
+                remove(key);
+                count++;
+            }
+        }
+        LogUtil.DEFAULT_LOG.info("clear {} config contents of kind {} in segments.", count, kind);
+    }
+    
+    private static String configKey(char kind, String dataId, String group, String tenant) {
+        return kind + GroupKey2.getKey(dataId, group, tenant);
+    }
+    
+    private static String tagKey(String dataId, String group, String tenant, String tag) {
+        return KIND_TAG + GroupKey2.getKey(GroupKey2.getKey(dataId, group, tenant), tag);
+    }
+    
+    private String read(String key) {
+        while (true) {
+            ContentLocation location = index.get(key);
+            if (null == location) {
+                return null;
+            }
+            Segment segment = location.segment;
+            if (!segment.retain()) {
+                // The segment is compacted and the content has been moved, look up the new location.
+                continue;
+            }
+            try {
+                ByteBuffer buffer = segment.buffer.duplicate();
+                buffer.position(location.offset);
+                buffer.limit(location.offset + location.size);
+                return StandardCharsets.UTF_8.decode(buffer).toString();
+            } finally {
+                segment.release();
+            }
+        }
+    }
+    
+    private long lastModified(String key) {
+        ContentLocation location = index.get(key);
+        return null == location ? 0L : location.lastModified;
+    }
+    
+    private void remove(String key) {
+        if (!index.containsKey(key)) {
+            return;
+        }
+        try {
+            append(OP_DELETE, key, null);
+        } catch (IOException e) {
+            LogUtil.DEFAULT_LOG.error("remove config content {} from segment failed.", key, e);
+        }
+    }
+    
+    private void append(byte op, String key, String content) throws IOException {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        byte[] valueBytes = OP_PUT == op ? content.getBytes(StandardCharsets.UTF_8) : null;
+        boolean rolled;
+        writeLock.lock();
+        try {
+            rolled = appendRecord(op, keyBytes, valueBytes, System.currentTimeMillis());
+        } finally {
+            writeLock.unlock();
+        }
+        if (rolled) {
+            scheduleCompact();
+        }
+    }
+    
+    /**
+     * Append a record into active segment, must be called with {@link #writeLock} held.
+     *
+     * @return true if a new segment is rolled.
+     */
+    private boolean appendRecord(byte op, byte[] keyBytes, byte[] valueBytes, long lastModified) throws IOException {
+        int payloadSize = 1 + Integer.BYTES + keyBytes.length;
+        if (OP_PUT == op) {
+            payloadSize += Long.BYTES + Integer.BYTES + valueBytes.length;
+        }
+        int recordSize = RECORD_HEADER_SIZE + payloadSize;
+        boolean rolled = false;
+        if (activeSegment.writePosition + recordSize > activeSegment.capacity) {
+            activeSegment.buffer.force();
+            roll(Math.max(segmentSize, recordSize));
+            rolled = true;
+        }
+        Segment segment = activeSegment;
+        int position = segment.writePosition;
+        int payloadStart = position + RECORD_HEADER_SIZE;
+        ByteBuffer buffer = segment.buffer.duplicate();
+        buffer.position(payloadStart);
+        buffer.put(op).putInt(keyBytes.length).put(keyBytes);
+        if (OP_PUT == op) {
+            buffer.putLong(lastModified).putInt(valueBytes.length).put(valueBytes);
+        }
+        buffer.putLong(position + Integer.BYTES, checksum(segment.buffer, payloadStart, payloadSize));
+        // The payload size marks the record complete, so it is written at last.
+        buffer.putInt(position, payloadSize);
+        segment.writePosition += recordSize;
+        
+        String key = new String(keyBytes, StandardCharsets.UTF_8);
+        if (OP_PUT == op) {
+            int valueOffset = payloadStart + 1 + Integer.BYTES + keyBytes.length + Long.BYTES + Integer.BYTES;
+            apply(key, new ContentLocation(segment, position, valueOffset, valueBytes.length, recordSize,
+                    lastModified));
+        } else {
+            apply(key, null);
+        }
+        return rolled;
+    }
+    
+    private void apply(String key, ContentLocation location) {
+        ContentLocation old = null == location ? index.remove(key) : index.put(key, location);
+        if (null != old) {
+            old.segment.liveBytes -= old.recordSize;
+        }
+        if (null != location) {
+            location.segment.liveBytes += location.recordSize;
+        }
+    }
+    
+    private static long checksum(ByteBuffer source, int offset, int size) {
+        ByteBuffer buffer = source.duplicate();
+        buffer.position(offset);
+        buffer.limit(offset + size);
+        CRC32 crc32 = new CRC32();
+        crc32.update(buffer);
+        return crc32.getValue();
+    }
+    
+    private void roll(int capacity) throws IOException {
+        long id = segments.isEmpty() ? 0L : segments.lastKey() + 1;
+        File file = new File(segmentDir, String.format("%020d", id) + SEGMENT_SUFFIX);
+        activeSegment = Segment.open(id, file, capacity);
+        segments.put(id, activeSegment);
+    }
+    
+    private void scheduleCompact() {
+        if (!compactScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        compactExecutor.execute(() -> {
+            compactScheduled.set(false);
+            try {
+                compact();
+            } catch (Throwable e) {
+                LogUtil.DEFAULT_LOG.error("compact config segments failed.", e);
+            }
+        });
+    }
+    
+    /**
+     * Compact the sealed segments which have too many garbage records.
+     */
+    void compact() throws IOException {
+        writeLock.lock();
+        try {
+            Segment active = activeSegment;
+            // Keys of put records in the older segments which are kept, the delete records of them are still needed.
+            Set<String> olderPutKeys = new HashSet<>();
+            for (Segment each : new ArrayList<>(segments.values())) {
+                if (each == active) {
+                    break;
+                }
+                if (each.liveBytes * 100L < (long) each.writePosition * COMPACT_PERCENT) {
+                    compact(each, olderPutKeys);
+                } else {
+                    collectPutKeys(each, olderPutKeys);
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+    
+    private void compact(Segment segment, Set<String> olderPutKeys) throws IOException {
+        int moved = 0;
+        ByteBuffer buffer = segment.buffer;
+        int position = 0;
+        while (position < segment.writePosition) {
+            int payloadSize = buffer.getInt(position);
+            int payloadStart = position + RECORD_HEADER_SIZE;
+            byte op = buffer.get(payloadStart);
+            byte[] keyBytes = readBytes(buffer, payloadStart + 1);
+            String key = new String(keyBytes, StandardCharsets.UTF_8);
+            ContentLocation location = index.get(key);
+            if (OP_PUT == op && null != location && location.segment == segment && location.position == position) {
+                appendRecord(OP_PUT, keyBytes, readBytes(buffer, location.offset - Integer.BYTES),
+                        location.lastModified);
+                moved++;
+            } else if (OP_DELETE == op && null == location && olderPutKeys.contains(key)) {
+                appendRecord(OP_DELETE, keyBytes, null, 0L);
+            }
+            position += RECORD_HEADER_SIZE + payloadSize;
+        }
+        segments.remove(segment.id);
+        if (!segment.file.delete()) {
+            LogUtil.DEFAULT_LOG.warn("delete compacted config segment {} failed.", segment.file.getName());
+        }
+        // The mapping is released after the readers still holding the locations in this segment finish.
+        segment.release();
+        LogUtil.DEFAULT_LOG.info("compact config segment {}, {} live contents moved.", segment.file.getName(), moved);
+    }
+    
+    private static void collectPutKeys(Segment segment, Set<String> keys) {
+        ByteBuffer buffer = segment.buffer;
+        int position = 0;
+        while (position < segment.writePosition) {
+            int payloadStart = position + RECORD_HEADER_SIZE;
+            if (OP_PUT == buffer.get(payloadStart)) {
+                keys.add(new String(readBytes(buffer, payloadStart + 1), StandardCharsets.UTF_8));
+            }
+            position += RECORD_HEADER_SIZE + buffer.getInt(position);
+        }
+    }
+    
+    private static byte[] readBytes(ByteBuffer source, int sizeOffset) {
+        ByteBuffer buffer = source.duplicate();
+        int size = buffer.getInt(sizeOffset);
+        byte[] result = new byte[size];
+        buffer.position(sizeOffset + Integer.BYTES);
+        buffer.get(result);
+        return result;
+    }
+    
+    private void recover() throws IOException {
+        File[] files = segmentDir.listFiles((dir, name) -> name.endsWith(SEGMENT_SUFFIX));
+        if (null != files) {
+            Arrays.sort(files);
+            for (File each : files) {
+                long id = Long.parseLong(each.getName().substring(0, each.getName().length() - SEGMENT_SUFFIX.length()));
+                Segment segment = Segment.open(id, each, (int) each.length());
+                segments.put(id, segment);
+                replay(segment);
+            }
+        }
+        if (segments.isEmpty()) {
+            roll(segmentSize);
+        } else {
+            activeSegment = segments.lastEntry().getValue();
+        }
+        LogUtil.DEFAULT_LOG.info("recover {} config contents from {} segments.", index.size(), segments.size());
+    }
+    
+    private void replay(Segment segment) {
+        ByteBuffer buffer = segment.buffer;
+        int position = 0;
+        while (position + RECORD_HEADER_SIZE <= segment.capacity) {
+            int payloadSize = buffer.getInt(position);
+            if (payloadSize <= 0) {
+                break;
+            }
+            int payloadStart = position + RECORD_HEADER_SIZE;
+            if (payloadStart + payloadSize > segment.capacity
+                    || buffer.getLong(position + Integer.BYTES) != checksum(buffer, payloadStart, payloadSize)) {
+                LogUtil.DEFAULT_LOG.warn("drop torn record at {} of config segment {}.", position,
+                        segment.file.getName());
+                clearTail(segment, position);
+                break;
+            }
+            int recordSize = RECORD_HEADER_SIZE + payloadSize;
+            byte op = buffer.get(payloadStart);
+            int keySize = buffer.getInt(payloadStart + 1);
+            String key = new String(readBytes(buffer, payloadStart + 1), StandardCharsets.UTF_8);
+            if (OP_PUT == op) {
+                int lastModifiedOffset = payloadStart + 1 + Integer.BYTES + keySize;
+                int valueSizeOffset = lastModifiedOffset + Long.BYTES;
+                int valueSize = buffer.getInt(valueSizeOffset);
+                apply(key, new ContentLocation(segment, position, valueSizeOffset + Integer.BYTES, valueSize,
+                        recordSize, buffer.getLong(lastModifiedOffset)));
+            } else {
+                apply(key, null);
+            }
+            position += recordSize;
+        }
+        segment.writePosition = position;
+    }
+    
+    private static void clearTail(Segment segment, int from) {
+        for (int i = from; i < segment.capacity; i++) {
+            segment.buffer.put(i, (byte) 0);
+        }
+        segment.buffer.force();
+    }
+    
+    /**
+     * Flush the segments to disk.
+     */
+    public void flush() {
+        writeLock.lock();
+        try {
+            for (Segment each : segments.values()) {
+                each.buffer.force();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+    
+    private static class Segment {
+        
+        private final long id;
+        
+        private final File file;
+        
+        private final MappedByteBuffer buffer;
+        
+        private final int capacity;
+        
+        /**
+         * Guarded by writeLock.
+         */
+        private int writePosition;
+        
+        /**
+         * Guarded by writeLock.
+         */
+        private long liveBytes;
+        
+        /**
+         * One reference is held by the service until the segment is compacted, the others are held by readers.
+         */
+        private final AtomicInteger references = new AtomicInteger(1);
+        
+        private Segment(long id, File file, MappedByteBuffer buffer, int capacity) {
+            this.id = id;
+            this.file = file;
+            this.buffer = buffer;
+            this.capacity = capacity;
+        }
+        
+        private static Segment open(long id, File file, int capacity) throws IOException {
+            try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+                if (randomAccessFile.length() < capacity) {
+                    randomAccessFile.setLength(capacity);
+                }
+                MappedByteBuffer buffer = randomAccessFile.getChannel()
+                        .map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+                return new Segment(id, file, buffer, capacity);
+            }
+        }
+        
+        private boolean retain() {
+            while (true) {
+                int current = references.get();
+                if (current <= 0) {
+                    return false;
+                }
+                if (references.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+        
+        private void release() {
+            if (0 == references.decrementAndGet()) {
+                unmap(buffer);
+            }
+        }
+    }
+    
+    /**
+     * Release the mapping now instead of waiting for the buffer to be collected, which keeps the deleted segment file
+     * and its address space occupied.
+     */
+    private static void unmap(MappedByteBuffer buffer) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Method invokeCleaner;
+            try {
+                invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+            } catch (NoSuchMethodException e) {
+                // Before java 9, the buffer holds the cleaner itself.
+                Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+                cleanerMethod.setAccessible(true);
+                Object cleaner = cleanerMethod.invoke(buffer);
+                cleaner.getClass().getMethod("clean").invoke(cleaner);
+                return;
+            }
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            invokeCleaner.invoke(theUnsafe.get(null), buffer);
+        } catch (Throwable e) {
+            LogUtil.DEFAULT_LOG.warn("unmap compacted config segment failed, left it to gc.", e);
+        }
+    }
+    
+    private static class ContentLocation {
+        
+        private final Segment segment;
+        
+        /**
+         * Start position of the record in segment.
+         */
+        private final int position;
+        
+        /**
+         * Start position of the content in segment.
+         */
+        private final int offset;
+        
+        private final int size;
+        
+        private final int recordSize;
+        
+        private final long lastModified;
+        
+        private ContentLocation(Segment segment, int position, int offset, int size, int recordSize,
+                long lastModified) {
+            this.segment = segment;
+            this.position = position;
+            this.offset = offset;
+            this.size = size;
+            this.recordSize = recordSize;
+            this.lastModified = lastModified;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.disk;
+
+import com.alibaba.nacos.common.utils.IoUtils;
+import com.alibaba.nacos.config.server.constant.Constants;
+import com.alibaba.nacos.config.server.utils.DiskUtil;
+import com.alibaba.nacos.config.server.utils.LogUtil;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.apache.commons.io.FileUtils;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+
+/**
+ * Config disk service which saves every config into its own file, layout as
+ * {@code data/config-data/<group>/<dataId>} and {@code data/tenant-config-data/<tenant>/<group>/<dataId>}.
+ *
+ * @author Nacos
+ */
+public class ConfigRawDiskService implements ConfigDiskService {
+    
+    @Override
+    public void saveToDisk(String dataId, String group, String tenant, String content) throws IOException {
+        FileUtils.writeStringToFile(DiskUtil.targetFile(dataId, group, tenant), content, Constants.ENCODE);
+    }
+    
+    @Override
+    public void saveBetaToDisk(String dataId, String group, String tenant, String content) throws IOException {
+        FileUtils.writeStringToFile(DiskUtil.targetBetaFile(dataId, group, tenant), content, Constants.ENCODE);
+    }
+    
+    @Override
+    public void saveTagToDisk(String dataId, String group, String tenant, String tag, String content)
+            throws IOException {
+        FileUtils.writeStringToFile(DiskUtil.targetTagFile(dataId, group, tenant, tag), content, Constants.ENCODE);
+    }
+    
+    @Override
+    public void removeConfigInfo(String dataId, String group, String tenant) {
+        FileUtils.deleteQuietly(DiskUtil.targetFile(dataId, group, tenant));
+    }
+    
+    @Override
+    public void removeConfigInfo4Beta(String dataId, String group, String tenant) {
+        FileUtils.deleteQuietly(DiskUtil.targetBetaFile(dataId, group, tenant));
+    }
+    
+    @Override
+    public void removeConfigInfo4Tag(String dataId, String group, String tenant, String tag) {
+        FileUtils.deleteQuietly(DiskUtil.targetTagFile(dataId, group, tenant, tag));
+    }
+    
+    @Override
+    public String getContent(String dataId, String group, String tenant) throws IOException {
+        return readFile(DiskUtil.targetFile(dataId, group, tenant));
+    }
+    
+    @Override
+    public String getBetaContent(String dataId, String group, String tenant) throws IOException {
+        return readFile(DiskUtil.targetBetaFile(dataId, group, tenant));
+    }
+    
+    @Override
+    public String getTagContent(String dataId, String group, String tenant, String tag) throws IOException {
+        return readFile(DiskUtil.targetTagFile(dataId, group, tenant, tag));
+    }
+    
+    private String readFile(File file) throws IOException {
+        if (!file.exists()) {
+            return null;
+        }
+        try (FileInputStream fis = new FileInputStream(file)) {
+            return IoUtils.toString(fis, Constants.ENCODE);
+        } catch (FileNotFoundException e) {
+            return null;
+        }
+    }
+    
+    @Override
+    public long getLastModified(String dataId, String group, String tenant) {
+        return DiskUtil.targetFile(dataId, group, tenant).lastModified();
+    }
+    
+    @Override
+    public long getBetaLastModified(String dataId, String group, String tenant) {
+        return DiskUtil.targetBetaFile(dataId, group, tenant).lastModified();
+    }
+    
+    @Override
+    public long getTagLastModified(String dataId, String group, String tenant, String tag) {
+        return DiskUtil.targetTagFile(dataId, group, tenant, tag).lastModified();
+    }
+    
+    @Override
+    public boolean exists(String dataId, String group, String tenant) {
+        return DiskUtil.targetFile(dataId, group, tenant).exists();
+    }
+    
+    @Override
+    public boolean existsBeta(String dataId, String group, String tenant) {
+        return DiskUtil.targetBetaFile(dataId, group, tenant).exists();
+    }
+    
+    @Override
+    public boolean existsTag(String dataId, String group, String tenant, String tag) {
+        return DiskUtil.targetTagFile(dataId, group, tenant, tag).exists();
+    }
+    
+    @Override
+    public void clearAll() {
+        clearDir(DiskUtil.BASE_DIR, "config-info");
+        clearDir(DiskUtil.TENANT_BASE_DIR, "config-info-tenant");
+    }
+    
+    @Override
+    public void clearAllBeta() {
+        clearDir(DiskUtil.BETA_DIR, "config-info-beta");
+        clearDir(DiskUtil.TENANT_BETA_DIR, "config-info-beta-tenant");
+    }
+    
+    @Override
+    public void clearAllTag() {
+        clearDir(DiskUtil.TAG_DIR, "config-info-tag");
+        clearDir(DiskUtil.TENANT_TAG_DIR, "config-info-tag-tenant");
+    }
+    
+    private void clearDir(String dir, String name) {
+        if (FileUtils.deleteQuietly(new File(EnvUtil.getNacosHome(), dir))) {
+            LogUtil.DEFAULT_LOG.info("clear all {} success.", name);
+        } else {
+            LogUtil.DEFAULT_LOG.warn("clear all {} failed.", name);
+        }
+    }
+}
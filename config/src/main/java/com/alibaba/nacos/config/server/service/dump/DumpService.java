@@ -421,6 +421,18 @@ public abstract class DumpService {
         DUMP_LOG.info("[dump-task] add task. groupKey={}, taskKey={}", groupKey, taskKey);
     }
     
+    /**
+     * Add DumpTask of formal config which carries the content synced from other member to TaskManager, the content is
+     * applied without reading the database if it is still valid when the task executes.
+     */
+    public void dump(String dataId, String group, String tenant, long lastModified, String handleIp,
+            ConfigInfo syncedConfig) {
+        String groupKey = GroupKey2.getKey(dataId, group, tenant);
+        String taskKey = String.join("+", dataId, group, tenant, String.valueOf(false));
+        dumpTaskMgr.addTask(taskKey, new DumpTask(groupKey, lastModified, handleIp, syncedConfig));
+        DUMP_LOG.info("[dump-task] add task with synced content. groupKey={}, taskKey={}", groupKey, taskKey);
+    }
+    
     public void dumpAll() {
         dumpAllTaskMgr.addTask(DumpAllTask.TASK_ID, new DumpAllTask());
     }
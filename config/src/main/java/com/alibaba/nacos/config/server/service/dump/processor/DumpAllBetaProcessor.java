@@ -18,6 +18,8 @@ package com.alibaba.nacos.config.server.service.dump.processor;
 
 import com.alibaba.nacos.common.task.NacosTask;
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.config.server.constant.Constants;
 import com.alibaba.nacos.config.server.model.ConfigInfoBetaWrapper;
 import com.alibaba.nacos.config.server.model.Page;
 import com.alibaba.nacos.config.server.service.ConfigCacheService;
@@ -25,6 +27,10 @@ import com.alibaba.nacos.config.server.service.dump.DumpService;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoBetaPersistService;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.config.server.utils.LogUtil;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+
+import java.util.Collections;
+import java.util.List;
 
 import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
 
@@ -44,27 +50,38 @@ public class DumpAllBetaProcessor implements NacosTaskProcessor {
     
     @Override
     public boolean process(NacosTask task) {
-        int rowCount = configInfoBetaPersistService.configInfoBetaCount();
-        int pageCount = (int) Math.ceil(rowCount * 1.0 / PAGE_SIZE);
-        
-        int actualRowCount = 0;
-        for (int pageNo = 1; pageNo <= pageCount; pageNo++) {
-            Page<ConfigInfoBetaWrapper> page = configInfoBetaPersistService.findAllConfigInfoBetaForDumpAll(pageNo, PAGE_SIZE);
-            if (page != null) {
-                for (ConfigInfoBetaWrapper cf : page.getPageItems()) {
-                    boolean result = ConfigCacheService
-                            .dumpBeta(cf.getDataId(), cf.getGroup(), cf.getTenant(), cf.getContent(),
-                                    cf.getLastModified(), cf.getBetaIps(), cf.getEncryptedDataKey());
-                    LogUtil.DUMP_LOG.info("[dump-all-beta-ok] result={}, {}, {}, length={}, md5={}", result,
-                            GroupKey2.getKey(cf.getDataId(), cf.getGroup()), cf.getLastModified(),
-                            cf.getContent().length(), cf.getMd5());
+        final int rowCount = configInfoBetaPersistService.configInfoBetaCount();
+        final int pageCount = (int) Math.ceil(rowCount * 1.0 / PAGE_SIZE);
+        DumpAllPipeline<ConfigInfoBetaWrapper> pipeline = new DumpAllPipeline<>("beta", PropertyUtil.getDumpAllParallelism());
+        return pipeline.run(new DumpAllPipeline.PageSupplier<ConfigInfoBetaWrapper>() {
+            
+            private int pageNo = 0;
+            
+            private int actualRowCount = 0;
+            
+            @Override
+            public List<ConfigInfoBetaWrapper> nextPage() {
+                if (pageNo >= pageCount) {
+                    return null;
+                }
+                Page<ConfigInfoBetaWrapper> page = configInfoBetaPersistService.findAllConfigInfoBetaForDumpAll(++pageNo, PAGE_SIZE);
+                if (page == null || page.getPageItems() == null) {
+                    return Collections.emptyList();
                 }
-                
                 actualRowCount += page.getPageItems().size();
                 DEFAULT_LOG.info("[all-dump-beta] {} / {}", actualRowCount, rowCount);
+                return page.getPageItems();
             }
-        }
-        return true;
+        }, this::dumpBetaConfig);
+    }
+    
+    private boolean dumpBetaConfig(ConfigInfoBetaWrapper cf) {
+        final String md5 = MD5Utils.md5Hex(cf.getContent(), Constants.ENCODE);
+        boolean result = ConfigCacheService.dumpBeta(cf.getDataId(), cf.getGroup(), cf.getTenant(), cf.getContent(), md5,
+                cf.getLastModified(), cf.getBetaIps(), cf.getEncryptedDataKey());
+        LogUtil.DUMP_LOG.info("[dump-all-beta-ok] result={}, {}, {}, length={}, md5={}", result,
+                GroupKey2.getKey(cf.getDataId(), cf.getGroup()), cf.getLastModified(), cf.getContent().length(), md5);
+        return result;
     }
     
     static final int PAGE_SIZE = 1000;
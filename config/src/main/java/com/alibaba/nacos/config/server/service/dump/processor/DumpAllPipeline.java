@@ -0,0 +1,201 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.processor;
+
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
+
+/**
+ * Pipelined engine of dump all processors.
+ *
+ * <p>One thread prefetches pages from storage ahead of the dumping, the configs of fetched pages are split into batches
+ * and dumped by a group of worker threads, so that the database reading, md5 calculating and disk writing overlap.
+ * The count of pages which are fetched but not dumped yet is bounded to limit the memory usage.
+ *
+ * @param <T> type of dumped config
+ * @author Nacos
+ */
+public class DumpAllPipeline<T> {
+    
+    private static final int PREFETCH_PAGES = 2;
+    
+    private static final int MIN_BATCH_SIZE = 16;
+    
+    /**
+     * dump all type -> count of configs dumped in the latest dump all, exported as gauge by MetricsMonitor. It is kept
+     * here because dump all runs during the spring context refreshing, initializing MetricsMonitor from there may
+     * deadlock with other threads which wait for the meter registry bean.
+     */
+    private static final Map<String, AtomicInteger> PROGRESS = new ConcurrentHashMap<>();
+    
+    private final String type;
+    
+    private final int parallelism;
+    
+    private final AtomicInteger dumped = new AtomicInteger();
+    
+    private final AtomicInteger failed = new AtomicInteger();
+    
+    public DumpAllPipeline(String type, int parallelism) {
+        this.type = type;
+        this.parallelism = Math.max(1, parallelism);
+    }
+    
+    public static AtomicInteger getProgress(String type) {
+        return PROGRESS.computeIfAbsent(type, key -> new AtomicInteger(0));
+    }
+    
+    /**
+     * Fetch all pages from supplier and dump every config of them, return after all fetched configs are dumped.
+     *
+     * @param pageSupplier supplier of pages, which is called by the prefetch thread only
+     * @param dumper       dumper of single config, which is called by worker threads concurrently
+     * @return {@code true} if all pages are fetched without error, otherwise {@code false}
+     */
+    public boolean run(PageSupplier<T> pageSupplier, ConfigDumper<T> dumper) {
+        dumped.set(0);
+        failed.set(0);
+        final AtomicInteger progress = getProgress(type);
+        progress.set(0);
+        final long start = System.currentTimeMillis();
+        final List<T> endOfPages = new ArrayList<>(0);
+        final BlockingQueue<List<T>> pages = new ArrayBlockingQueue<>(PREFETCH_PAGES);
+        final AtomicBoolean fetchSuccess = new AtomicBoolean(true);
+        ExecutorService executor = ExecutorFactory
+                .newFixedExecutorService(parallelism + 1, new NameThreadFactory("com.alibaba.nacos.config.dump.all." + type));
+        try {
+            executor.execute(() -> prefetch(pageSupplier, pages, endOfPages, fetchSuccess));
+            final int maxInFlightBatches = parallelism * 2;
+            final Semaphore inFlightBatches = new Semaphore(maxInFlightBatches);
+            List<T> page;
+            while ((page = pages.take()) != endOfPages) {
+                int batchSize = Math.max(MIN_BATCH_SIZE, (page.size() + parallelism - 1) / parallelism);
+                for (int from = 0; from < page.size(); from += batchSize) {
+                    final List<T> batch = page.subList(from, Math.min(page.size(), from + batchSize));
+                    inFlightBatches.acquire();
+                    executor.execute(() -> {
+                        try {
+                            dumpBatch(batch, dumper, progress);
+                        } finally {
+                            inFlightBatches.release();
+                        }
+                    });
+                }
+            }
+            inFlightBatches.acquire(maxInFlightBatches);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            DEFAULT_LOG.warn("[all-dump-{}] interrupted.", type);
+            return false;
+        } finally {
+            executor.shutdownNow();
+        }
+        DEFAULT_LOG.info("[all-dump-{}] finished, dumped={}, failed={}, parallelism={}, cost={} ms", type, dumped.get(),
+                failed.get(), parallelism, System.currentTimeMillis() - start);
+        return fetchSuccess.get();
+    }
+    
+    private void prefetch(PageSupplier<T> pageSupplier, BlockingQueue<List<T>> pages, List<T> endOfPages,
+            AtomicBoolean fetchSuccess) {
+        try {
+            List<T> page;
+            while (!Thread.currentThread().isInterrupted() && (page = pageSupplier.nextPage()) != null) {
+                if (!page.isEmpty()) {
+                    pages.put(page);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Throwable e) {
+            DEFAULT_LOG.error("[all-dump-" + type + "] fetch page failed.", e);
+            fetchSuccess.set(false);
+        }
+        try {
+            pages.put(endOfPages);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private void dumpBatch(List<T> batch, ConfigDumper<T> dumper, AtomicInteger progress) {
+        for (T each : batch) {
+            try {
+                if (!dumper.dump(each)) {
+                    failed.incrementAndGet();
+                }
+            } catch (Throwable e) {
+                failed.incrementAndGet();
+                DEFAULT_LOG.error("[all-dump-" + type + "] dump config failed.", e);
+            }
+            dumped.incrementAndGet();
+            progress.incrementAndGet();
+        }
+    }
+    
+    public int getDumped() {
+        return dumped.get();
+    }
+    
+    public int getFailed() {
+        return failed.get();
+    }
+    
+    /**
+     * Supplier of config pages for dump all.
+     *
+     * @param <T> type of dumped config
+     */
+    public interface PageSupplier<T> {
+        
+        /**
+         * Fetch next page.
+         *
+         * @return configs of next page, empty if the page has no config, {@code null} if no more pages
+         */
+        List<T> nextPage();
+    }
+    
+    /**
+     * Dumper of single config for dump all.
+     *
+     * @param <T> type of dumped config
+     */
+    public interface ConfigDumper<T> {
+        
+        /**
+         * Dump config into cache and disk.
+         *
+         * @param config config
+         * @return dump result
+         */
+        boolean dump(T config);
+    }
+}
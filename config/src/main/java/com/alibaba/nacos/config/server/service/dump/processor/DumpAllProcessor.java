@@ -30,6 +30,10 @@ import com.alibaba.nacos.config.server.service.dump.DumpService;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.config.server.utils.LogUtil;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+
+import java.util.Collections;
+import java.util.List;
 
 import static com.alibaba.nacos.config.server.utils.LogUtil.DEFAULT_LOG;
 
@@ -48,41 +52,51 @@ public class DumpAllProcessor implements NacosTaskProcessor {
     
     @Override
     public boolean process(NacosTask task) {
-        long currentMaxId = configInfoPersistService.findConfigMaxId();
-        long lastMaxId = 0;
-        while (lastMaxId < currentMaxId) {
-            Page<ConfigInfoWrapper> page = configInfoPersistService.findAllConfigInfoFragment(lastMaxId, PAGE_SIZE);
-            if (page != null && page.getPageItems() != null && !page.getPageItems().isEmpty()) {
+        final long currentMaxId = configInfoPersistService.findConfigMaxId();
+        DumpAllPipeline<ConfigInfoWrapper> pipeline = new DumpAllPipeline<>("config", PropertyUtil.getDumpAllParallelism());
+        return pipeline.run(new DumpAllPipeline.PageSupplier<ConfigInfoWrapper>() {
+            
+            private long lastMaxId = 0;
+            
+            @Override
+            public List<ConfigInfoWrapper> nextPage() {
+                if (lastMaxId >= currentMaxId) {
+                    return null;
+                }
+                Page<ConfigInfoWrapper> page = configInfoPersistService.findAllConfigInfoFragment(lastMaxId, PAGE_SIZE);
+                if (page == null || page.getPageItems() == null || page.getPageItems().isEmpty()) {
+                    lastMaxId += PAGE_SIZE;
+                    return Collections.emptyList();
+                }
                 for (ConfigInfoWrapper cf : page.getPageItems()) {
-                    long id = cf.getId();
-                    lastMaxId = Math.max(id, lastMaxId);
-                    if (cf.getDataId().equals(AggrWhitelist.AGGRIDS_METADATA)) {
-                        AggrWhitelist.load(cf.getContent());
-                    }
-                    
-                    if (cf.getDataId().equals(ClientIpWhiteList.CLIENT_IP_WHITELIST_METADATA)) {
-                        ClientIpWhiteList.load(cf.getContent());
-                    }
-                    
-                    if (cf.getDataId().equals(SwitchService.SWITCH_META_DATAID)) {
-                        SwitchService.load(cf.getContent());
-                    }
-    
-                    ConfigCacheService.dump(cf.getDataId(), cf.getGroup(), cf.getTenant(), cf.getContent(),
-                            cf.getLastModified(), cf.getType(), cf.getEncryptedDataKey());
-                    
-                    final String content = cf.getContent();
-                    final String md5 = MD5Utils.md5Hex(content, Constants.ENCODE);
-                    LogUtil.DUMP_LOG.info("[dump-all-ok] {}, {}, length={}, md5={}",
-                            GroupKey2.getKey(cf.getDataId(), cf.getGroup()), cf.getLastModified(), content.length(),
-                            md5);
+                    lastMaxId = Math.max(cf.getId(), lastMaxId);
                 }
                 DEFAULT_LOG.info("[all-dump] {} / {}", lastMaxId, currentMaxId);
-            } else {
-                lastMaxId += PAGE_SIZE;
+                return page.getPageItems();
             }
+        }, this::dumpConfig);
+    }
+    
+    private boolean dumpConfig(ConfigInfoWrapper cf) {
+        if (cf.getDataId().equals(AggrWhitelist.AGGRIDS_METADATA)) {
+            AggrWhitelist.load(cf.getContent());
+        }
+        
+        if (cf.getDataId().equals(ClientIpWhiteList.CLIENT_IP_WHITELIST_METADATA)) {
+            ClientIpWhiteList.load(cf.getContent());
+        }
+        
+        if (cf.getDataId().equals(SwitchService.SWITCH_META_DATAID)) {
+            SwitchService.load(cf.getContent());
         }
-        return true;
+        
+        final String content = cf.getContent();
+        final String md5 = MD5Utils.md5Hex(content, Constants.ENCODE);
+        boolean result = ConfigCacheService.dump(cf.getDataId(), cf.getGroup(), cf.getTenant(), content, md5,
+                cf.getLastModified(), cf.getType(), cf.getEncryptedDataKey());
+        LogUtil.DUMP_LOG.info("[dump-all-ok] {}, {}, length={}, md5={}", GroupKey2.getKey(cf.getDataId(), cf.getGroup()),
+                cf.getLastModified(), content.length(), md5);
+        return result;
     }
     
     static final int PAGE_SIZE = 1000;
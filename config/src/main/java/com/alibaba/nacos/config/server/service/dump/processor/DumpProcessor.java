@@ -18,10 +18,13 @@ package com.alibaba.nacos.config.server.service.dump.processor;
 
 import com.alibaba.nacos.common.task.NacosTask;
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.config.server.constant.Constants;
 import com.alibaba.nacos.config.server.model.ConfigInfo;
 import com.alibaba.nacos.config.server.model.ConfigInfo4Beta;
 import com.alibaba.nacos.config.server.model.ConfigInfo4Tag;
 import com.alibaba.nacos.config.server.model.event.ConfigDumpEvent;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
 import com.alibaba.nacos.config.server.service.dump.DumpConfigHandler;
 import com.alibaba.nacos.config.server.service.dump.DumpService;
 import com.alibaba.nacos.config.server.service.dump.task.DumpTask;
@@ -29,6 +32,7 @@ import com.alibaba.nacos.config.server.service.repository.ConfigInfoBetaPersistS
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
 import com.alibaba.nacos.config.server.service.repository.ConfigInfoTagPersistService;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.config.server.utils.LogUtil;
 import com.alibaba.nacos.common.utils.StringUtils;
 
 import java.util.Objects;
@@ -83,7 +87,10 @@ public class DumpProcessor implements NacosTaskProcessor {
             return DumpConfigHandler.configDump(build.build());
         }
         if (StringUtils.isBlank(tag)) {
-            ConfigInfo cf = configInfoPersistService.findConfigInfo(dataId, group, tenant);
+            ConfigInfo cf = dumpTask.getSyncedConfig();
+            if (!isSyncedConfigApplicable(dumpTask.getGroupKey(), cf, lastModified)) {
+                cf = configInfoPersistService.findConfigInfo(dataId, group, tenant);
+            }
             
             build.remove(Objects.isNull(cf));
             build.content(Objects.isNull(cf) ? null : cf.getContent());
@@ -98,4 +105,19 @@ public class DumpProcessor implements NacosTaskProcessor {
         }
         return DumpConfigHandler.configDump(build.build());
     }
+    
+    /**
+     * The synced config is applicable only if its content matches the md5 and it is newer than the cached one,
+     * otherwise some change may be missed or reordered, so the config should be read from database.
+     */
+    private static boolean isSyncedConfigApplicable(String groupKey, ConfigInfo syncedConfig, long lastModified) {
+        if (syncedConfig == null || syncedConfig.getContent() == null) {
+            return false;
+        }
+        if (!MD5Utils.md5Hex(syncedConfig.getContent(), Constants.ENCODE).equals(syncedConfig.getMd5())) {
+            LogUtil.DUMP_LOG.warn("[dump-task] synced content md5 mismatch, read from db. groupKey={}", groupKey);
+            return false;
+        }
+        return lastModified > ConfigCacheService.getLastModifiedTs(groupKey);
+    }
 }
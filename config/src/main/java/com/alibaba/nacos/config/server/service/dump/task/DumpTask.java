@@ -17,6 +17,7 @@
 package com.alibaba.nacos.config.server.service.dump.task;
 
 import com.alibaba.nacos.common.task.AbstractDelayTask;
+import com.alibaba.nacos.config.server.model.ConfigInfo;
 
 /**
  * Dump data task.
@@ -31,6 +32,7 @@ public class DumpTask extends AbstractDelayTask {
         this.handleIp = handleIp;
         this.isBeta = false;
         this.tag = null;
+        this.syncedConfig = null;
         // retry interval: 1s
         setTaskInterval(1000L);
     }
@@ -41,6 +43,7 @@ public class DumpTask extends AbstractDelayTask {
         this.handleIp = handleIp;
         this.isBeta = isBeta;
         this.tag = null;
+        this.syncedConfig = null;
         // retry interval: 1s
         setTaskInterval(1000L);
     }
@@ -51,24 +54,56 @@ public class DumpTask extends AbstractDelayTask {
         this.handleIp = handleIp;
         this.isBeta = isBeta;
         this.tag = tag;
+        this.syncedConfig = null;
         // retry interval: 1s
         setTaskInterval(1000L);
     }
     
+    public DumpTask(String groupKey, long lastModified, String handleIp, ConfigInfo syncedConfig) {
+        this.groupKey = groupKey;
+        this.lastModified = lastModified;
+        this.handleIp = handleIp;
+        this.isBeta = false;
+        this.tag = null;
+        this.syncedConfig = syncedConfig;
+        // retry interval: 1s
+        setTaskInterval(1000L);
+    }
+    
+    /**
+     * Keep the newest change between this task and the replaced one, otherwise a delayed sync request may replace the
+     * task of a newer change and dump an older synced content.
+     *
+     * @param task the task replaced by this task
+     */
     @Override
     public void merge(AbstractDelayTask task) {
+        if (!(task instanceof DumpTask)) {
+            return;
+        }
+        DumpTask oldTask = (DumpTask) task;
+        if (oldTask.lastModified > lastModified) {
+            lastModified = oldTask.lastModified;
+            handleIp = oldTask.handleIp;
+            syncedConfig = oldTask.syncedConfig;
+        }
     }
     
     final String groupKey;
     
-    final long lastModified;
+    long lastModified;
     
-    final String handleIp;
+    String handleIp;
     
     final boolean isBeta;
     
     final String tag;
     
+    /**
+     * Formal config carried by the cluster sync request, null if the task should read the config from database.
+     */
+    ConfigInfo syncedConfig;
+    
     public String getGroupKey() {
         return groupKey;
     }
@@ -89,5 +124,9 @@ public class DumpTask extends AbstractDelayTask {
         return tag;
     }
     
+    public ConfigInfo getSyncedConfig() {
+        return syncedConfig;
+    }
+    
 }
 
@@ -16,7 +16,10 @@
 
 package com.alibaba.nacos.config.server.service.notify;
 
+import com.alibaba.nacos.api.ability.ServerAbilities;
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterBatchSyncRequest;
 import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncRequest;
+import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterBatchSyncResponse;
 import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterSyncResponse;
 import com.alibaba.nacos.api.remote.RequestCallBack;
 import com.alibaba.nacos.api.utils.NetUtils;
@@ -29,7 +32,9 @@ import com.alibaba.nacos.common.model.RestResult;
 import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.Subscriber;
+import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.config.server.constant.Constants;
+import com.alibaba.nacos.config.server.model.ConfigInfo;
 import com.alibaba.nacos.config.server.model.event.ConfigDataChangeEvent;
 import com.alibaba.nacos.config.server.monitor.MetricsMonitor;
 import com.alibaba.nacos.config.server.remote.ConfigClusterRpcClientProxy;
@@ -37,6 +42,7 @@ import com.alibaba.nacos.config.server.service.dump.DumpService;
 import com.alibaba.nacos.config.server.service.trace.ConfigTraceService;
 import com.alibaba.nacos.config.server.utils.ConfigExecutor;
 import com.alibaba.nacos.config.server.utils.LogUtil;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.core.cluster.Member;
 import com.alibaba.nacos.core.cluster.MemberUtil;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
@@ -50,10 +56,17 @@ import org.springframework.stereotype.Service;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
@@ -83,6 +96,8 @@ public class AsyncNotifyService {
     
     private ServerMemberManager memberManager;
     
+    private final Map<String, ClusterSyncBatch> clusterSyncBatches = new ConcurrentHashMap<>();
+    
     @Autowired
     public AsyncNotifyService(ServerMemberManager memberManager) {
         this.memberManager = memberManager;
@@ -105,6 +120,7 @@ public class AsyncNotifyService {
                     String tag = evt.tag;
                     
                     MetricsMonitor.incrementConfigChangeCount(tenant, group, dataId);
+                    final ConfigInfo syncedConfig = buildSyncedConfig(evt);
                     
                     Collection<Member> ipList = memberManager.allMembers();
                     
@@ -116,9 +132,12 @@ public class AsyncNotifyService {
                         if (!MemberUtil.isSupportedLongCon(member)) {
                             httpQueue.add(new NotifySingleTask(dataId, group, tenant, tag, dumpTs, member.getAddress(),
                                     evt.isBeta));
+                        } else if (isBatchSyncSupported(member)) {
+                            addToBatch(new NotifySingleRpcTask(dataId, group, tenant, tag, dumpTs, evt.isBeta, member,
+                                    syncedConfig));
                         } else {
-                            rpcQueue.add(
-                                    new NotifySingleRpcTask(dataId, group, tenant, tag, dumpTs, evt.isBeta, member));
+                            rpcQueue.add(new NotifySingleRpcTask(dataId, group, tenant, tag, dumpTs, evt.isBeta, member,
+                                    syncedConfig));
                         }
                     }
                     if (!httpQueue.isEmpty()) {
@@ -197,18 +216,15 @@ public class AsyncNotifyService {
             while (!queue.isEmpty()) {
                 NotifySingleRpcTask task = queue.poll();
                 
-                ConfigChangeClusterSyncRequest syncRequest = new ConfigChangeClusterSyncRequest();
-                syncRequest.setDataId(task.getDataId());
-                syncRequest.setGroup(task.getGroup());
-                syncRequest.setBeta(task.isBeta);
-                syncRequest.setLastModified(task.getLastModified());
-                syncRequest.setTag(task.tag);
-                syncRequest.setTenant(task.getTenant());
+                ConfigChangeClusterSyncRequest syncRequest = buildSyncRequest(task);
                 Member member = task.member;
                 if (memberManager.getSelf().equals(member)) {
                     if (syncRequest.isBeta()) {
                         dumpService.dump(syncRequest.getDataId(), syncRequest.getGroup(), syncRequest.getTenant(),
                                 syncRequest.getLastModified(), NetUtils.localIP(), true);
+                    } else if (task.syncedConfig != null) {
+                        dumpService.dump(syncRequest.getDataId(), syncRequest.getGroup(), syncRequest.getTenant(),
+                                syncRequest.getLastModified(), NetUtils.localIP(), task.syncedConfig);
                     } else {
                         dumpService.dump(syncRequest.getDataId(), syncRequest.getGroup(), syncRequest.getTenant(),
                                 syncRequest.getTag(), syncRequest.getLastModified(), NetUtils.localIP());
@@ -251,6 +267,158 @@ public class AsyncNotifyService {
         }
     }
     
+    private boolean isBatchSyncSupported(Member member) {
+        if (!PropertyUtil.isClusterSyncBatchEnabled() || memberManager.getSelf().equals(member)) {
+            return false;
+        }
+        ServerAbilities abilities = member.getAbilities();
+        return abilities != null && abilities.getConfigAbility() != null && abilities.getConfigAbility()
+                .isSupportBatchClusterSync();
+    }
+    
+    private void addToBatch(NotifySingleRpcTask task) {
+        clusterSyncBatches.computeIfAbsent(task.member.getAddress(), address -> new ClusterSyncBatch()).add(task);
+    }
+    
+    static ConfigChangeClusterSyncRequest buildSyncRequest(NotifySingleRpcTask task) {
+        ConfigChangeClusterSyncRequest syncRequest = new ConfigChangeClusterSyncRequest();
+        syncRequest.setDataId(task.getDataId());
+        syncRequest.setGroup(task.getGroup());
+        syncRequest.setBeta(task.isBeta);
+        syncRequest.setLastModified(task.getLastModified());
+        syncRequest.setTag(task.tag);
+        syncRequest.setTenant(task.getTenant());
+        if (task.syncedConfig != null) {
+            syncRequest.setContent(task.syncedConfig.getContent());
+            syncRequest.setMd5(task.syncedConfig.getMd5());
+            syncRequest.setType(task.syncedConfig.getType());
+            syncRequest.setEncryptedDataKey(task.syncedConfig.getEncryptedDataKey());
+        }
+        return syncRequest;
+    }
+    
+    /**
+     * Merge the accumulated tasks of one member, only the latest change of each config is kept, and the changes are
+     * ordered by the last modified time.
+     *
+     * @param tasks accumulated tasks
+     * @return merged tasks
+     */
+    static List<NotifySingleRpcTask> mergeBatch(List<NotifySingleRpcTask> tasks) {
+        Map<String, NotifySingleRpcTask> latest = new HashMap<>(tasks.size());
+        for (NotifySingleRpcTask each : tasks) {
+            String key = String.join("+", each.getDataId(), each.getGroup(), each.getTenant(),
+                    String.valueOf(each.isBeta), each.tag);
+            latest.merge(key, each, (older, newer) -> newer.getLastModified() >= older.getLastModified() ? newer : older);
+        }
+        List<NotifySingleRpcTask> result = new ArrayList<>(latest.values());
+        result.sort(Comparator.comparingLong(NotifyTask::getLastModified));
+        return result;
+    }
+    
+    /**
+     * Estimate the bytes of the change in the batch sync request, which is dominated by the carried content.
+     *
+     * @param task change task
+     * @return estimated bytes
+     */
+    static int estimateSize(NotifySingleRpcTask task) {
+        int result = length(task.getDataId()) + length(task.getGroup()) + length(task.getTenant()) + length(task.tag);
+        if (task.syncedConfig != null) {
+            result += task.syncedConfig.getContent().getBytes(StandardCharsets.UTF_8).length + length(
+                    task.syncedConfig.getMd5()) + length(task.syncedConfig.getEncryptedDataKey());
+        }
+        return result;
+    }
+    
+    private static int length(String value) {
+        return null == value ? 0 : value.length();
+    }
+    
+    /**
+     * Changes accumulated for one member, which are notified in batch when the time window passes, or the count or the
+     * accumulated bytes reach the max size.
+     */
+    class ClusterSyncBatch implements Runnable {
+        
+        private List<NotifySingleRpcTask> tasks = new ArrayList<>();
+        
+        private long bytes;
+        
+        private boolean scheduled;
+        
+        void add(NotifySingleRpcTask task) {
+            List<NotifySingleRpcTask> full = null;
+            int size = estimateSize(task);
+            synchronized (this) {
+                tasks.add(task);
+                bytes += size;
+                if (tasks.size() >= PropertyUtil.getClusterSyncBatchMaxSize()
+                        || bytes >= PropertyUtil.getClusterSyncBatchMaxBytes()) {
+                    full = drain();
+                } else if (!scheduled) {
+                    scheduled = true;
+                    ConfigExecutor.scheduleAsyncNotify(this, PropertyUtil.getClusterSyncBatchWindow(),
+                            TimeUnit.MILLISECONDS);
+                }
+            }
+            if (null != full) {
+                final List<NotifySingleRpcTask> batch = full;
+                ConfigExecutor.executeAsyncNotify(() -> executeBatch(batch));
+            }
+        }
+        
+        @Override
+        public void run() {
+            List<NotifySingleRpcTask> batch;
+            synchronized (this) {
+                scheduled = false;
+                batch = drain();
+            }
+            if (!batch.isEmpty()) {
+                executeBatch(batch);
+            }
+        }
+        
+        private List<NotifySingleRpcTask> drain() {
+            List<NotifySingleRpcTask> result = tasks;
+            tasks = new ArrayList<>();
+            bytes = 0;
+            return result;
+        }
+    }
+    
+    private void executeBatch(List<NotifySingleRpcTask> batch) {
+        Member member = batch.get(0).member;
+        if (!memberManager.hasMember(member.getAddress())) {
+            // member has left the cluster, drop the batch of it
+            clusterSyncBatches.remove(member.getAddress());
+            return;
+        }
+        List<NotifySingleRpcTask> changes = mergeBatch(batch);
+        if (memberManager.isUnHealth(member.getAddress())) {
+            // target ip is unhealthy, then retry each change later
+            for (NotifySingleRpcTask each : changes) {
+                ConfigTraceService.logNotifyEvent(each.getDataId(), each.getGroup(), each.getTenant(), null,
+                        each.getLastModified(), InetUtils.getSelfIP(), ConfigTraceService.NOTIFY_EVENT_UNHEALTH, 0,
+                        member.getAddress());
+                asyncTaskExecute(each);
+            }
+            return;
+        }
+        ConfigChangeClusterBatchSyncRequest request = new ConfigChangeClusterBatchSyncRequest();
+        for (NotifySingleRpcTask each : changes) {
+            request.getChanges().add(buildSyncRequest(each));
+        }
+        try {
+            configClusterRpcClientProxy.batchSyncConfigChange(member, request,
+                    new AsyncBatchRpcNotifyCallBack(member, changes));
+        } catch (Exception e) {
+            MetricsMonitor.getConfigNotifyException().increment();
+            changes.forEach(AsyncNotifyService.this::asyncTaskExecute);
+        }
+    }
+    
     static class NotifySingleRpcTask extends NotifyTask {
         
         private Member member;
@@ -259,15 +427,45 @@ public class AsyncNotifyService {
         
         private String tag;
         
+        private ConfigInfo syncedConfig;
+        
         public NotifySingleRpcTask(String dataId, String group, String tenant, String tag, long lastModified,
                 boolean isBeta, Member member) {
+            this(dataId, group, tenant, tag, lastModified, isBeta, member, null);
+        }
+        
+        public NotifySingleRpcTask(String dataId, String group, String tenant, String tag, long lastModified,
+                boolean isBeta, Member member, ConfigInfo syncedConfig) {
             super(dataId, group, tenant, lastModified);
             this.member = member;
             this.isBeta = isBeta;
             this.tag = tag;
+            this.syncedConfig = syncedConfig;
         }
     }
     
+    /**
+     * Build the formal config carried by the sync request to the other members, null if the content should not be
+     * carried and the members read it from database.
+     *
+     * @param evt config data change event
+     * @return synced config or null
+     */
+    static ConfigInfo buildSyncedConfig(ConfigDataChangeEvent evt) {
+        if (!PropertyUtil.isClusterSyncContentEnabled() || evt.content == null || evt.isBeta || StringUtils
+                .isNotBlank(evt.tag)) {
+            return null;
+        }
+        if (evt.content.getBytes(StandardCharsets.UTF_8).length > PropertyUtil.getClusterSyncContentMaxSize()) {
+            return null;
+        }
+        ConfigInfo result = new ConfigInfo(evt.dataId, evt.group, evt.tenant, null, evt.content);
+        result.setMd5(MD5Utils.md5Hex(evt.content, Constants.ENCODE));
+        result.setType(evt.type);
+        result.setEncryptedDataKey(evt.encryptedDataKey);
+        return result;
+    }
+    
     private void asyncTaskExecute(NotifySingleTask task) {
         int delay = getDelayTime(task);
         Queue<NotifySingleTask> queue = new LinkedList<>();
@@ -414,6 +612,62 @@ public class AsyncNotifyService {
         }
     }
     
+    class AsyncBatchRpcNotifyCallBack implements RequestCallBack<ConfigChangeClusterBatchSyncResponse> {
+        
+        private final Member member;
+        
+        private final List<NotifySingleRpcTask> changes;
+        
+        public AsyncBatchRpcNotifyCallBack(Member member, List<NotifySingleRpcTask> changes) {
+            this.member = member;
+            this.changes = changes;
+        }
+        
+        @Override
+        public Executor getExecutor() {
+            return ConfigExecutor.getConfigSubServiceExecutor();
+        }
+        
+        @Override
+        public long getTimeout() {
+            return 3000L;
+        }
+        
+        @Override
+        public void onResponse(ConfigChangeClusterBatchSyncResponse response) {
+            if (response.isSuccess()) {
+                for (NotifySingleRpcTask each : changes) {
+                    ConfigTraceService.logNotifyEvent(each.getDataId(), each.getGroup(), each.getTenant(), null,
+                            each.getLastModified(), InetUtils.getSelfIP(), ConfigTraceService.NOTIFY_EVENT_OK,
+                            System.currentTimeMillis() - each.getLastModified(), member.getAddress());
+                }
+            } else {
+                LOGGER.error("[notify-error] target:{} batch size:{} code:{}", member.getAddress(), changes.size(),
+                        response.getErrorCode());
+                retry(ConfigTraceService.NOTIFY_EVENT_ERROR);
+            }
+        }
+        
+        @Override
+        public void onException(Throwable ex) {
+            LOGGER.error("[notify-exception] target:{} batch size:{} ex:{}", member.getAddress(), changes.size(), ex);
+            retry(ConfigTraceService.NOTIFY_EVENT_EXCEPTION);
+        }
+        
+        private void retry(String notifyEvent) {
+            // retry each change by the single rpc task, so the retry of every config keeps its own interval
+            for (NotifySingleRpcTask each : changes) {
+                ConfigTraceService.logNotifyEvent(each.getDataId(), each.getGroup(), each.getTenant(), null,
+                        each.getLastModified(), InetUtils.getSelfIP(), notifyEvent,
+                        System.currentTimeMillis() - each.getLastModified(), member.getAddress());
+                asyncTaskExecute(each);
+                LogUtil.NOTIFY_LOG.error("[notify-retry] target:{} dataId:{} group:{} ts:{}", member.getAddress(),
+                        each.getDataId(), each.getGroup(), each.getLastModified());
+            }
+            MetricsMonitor.getConfigNotifyException().increment();
+        }
+    }
+    
     static class NotifySingleTask extends NotifyTask {
         
         private String target;
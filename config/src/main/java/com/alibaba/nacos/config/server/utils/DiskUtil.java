@@ -16,36 +16,35 @@
 
 package com.alibaba.nacos.config.server.utils;
 
-import com.alibaba.nacos.common.utils.IoUtils;
 import com.alibaba.nacos.common.utils.MD5Utils;
 import com.alibaba.nacos.config.server.constant.Constants;
+import com.alibaba.nacos.config.server.service.disk.ConfigDiskServiceFactory;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.apache.commons.io.FileUtils;
 import com.alibaba.nacos.common.utils.StringUtils;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 
 /**
- * Disk util.
+ * Disk util, the config contents are stored by the {@link com.alibaba.nacos.config.server.service.disk.ConfigDiskService}
+ * selected in {@link ConfigDiskServiceFactory}, while the target file methods describe the layout of the raw storage.
  *
  * @author jiuRen
  */
 public class DiskUtil {
     
-    static final String BASE_DIR = File.separator + "data" + File.separator + "config-data";
+    public static final String BASE_DIR = File.separator + "data" + File.separator + "config-data";
     
-    static final String TENANT_BASE_DIR = File.separator + "data" + File.separator + "tenant-config-data";
+    public static final String TENANT_BASE_DIR = File.separator + "data" + File.separator + "tenant-config-data";
     
-    static final String BETA_DIR = File.separator + "data" + File.separator + "beta-data";
+    public static final String BETA_DIR = File.separator + "data" + File.separator + "beta-data";
     
-    static final String TENANT_BETA_DIR = File.separator + "data" + File.separator + "tenant-beta-data";
+    public static final String TENANT_BETA_DIR = File.separator + "data" + File.separator + "tenant-beta-data";
     
-    static final String TAG_DIR = File.separator + "data" + File.separator + "tag-data";
+    public static final String TAG_DIR = File.separator + "data" + File.separator + "tag-data";
     
-    static final String TENANT_TAG_DIR = File.separator + "data" + File.separator + "tag-beta-data";
+    public static final String TENANT_TAG_DIR = File.separator + "data" + File.separator + "tag-beta-data";
     
     public static void saveHeartBeatToDisk(String heartBeatTime) throws IOException {
         FileUtils.writeStringToFile(heartBeatFile(), heartBeatTime, Constants.ENCODE);
@@ -55,16 +54,14 @@ public class DiskUtil {
      * Save configuration information to disk.
      */
     public static void saveToDisk(String dataId, String group, String tenant, String content) throws IOException {
-        File targetFile = targetFile(dataId, group, tenant);
-        FileUtils.writeStringToFile(targetFile, content, Constants.ENCODE);
+        ConfigDiskServiceFactory.getInstance().saveToDisk(dataId, group, tenant, content);
     }
     
     /**
      * Save beta information to disk.
      */
     public static void saveBetaToDisk(String dataId, String group, String tenant, String content) throws IOException {
-        File targetFile = targetBetaFile(dataId, group, tenant);
-        FileUtils.writeStringToFile(targetFile, content, Constants.ENCODE);
+        ConfigDiskServiceFactory.getInstance().saveBetaToDisk(dataId, group, tenant, content);
     }
     
     /**
@@ -72,29 +69,28 @@ public class DiskUtil {
      */
     public static void saveTagToDisk(String dataId, String group, String tenant, String tag, String content)
             throws IOException {
-        File targetFile = targetTagFile(dataId, group, tenant, tag);
-        FileUtils.writeStringToFile(targetFile, content, Constants.ENCODE);
+        ConfigDiskServiceFactory.getInstance().saveTagToDisk(dataId, group, tenant, tag, content);
     }
     
     /**
      * Deletes configuration files on disk.
      */
     public static void removeConfigInfo(String dataId, String group, String tenant) {
-        FileUtils.deleteQuietly(targetFile(dataId, group, tenant));
+        ConfigDiskServiceFactory.getInstance().removeConfigInfo(dataId, group, tenant);
     }
     
     /**
      * Deletes beta configuration files on disk.
      */
     public static void removeConfigInfo4Beta(String dataId, String group, String tenant) {
-        FileUtils.deleteQuietly(targetBetaFile(dataId, group, tenant));
+        ConfigDiskServiceFactory.getInstance().removeConfigInfo4Beta(dataId, group, tenant);
     }
     
     /**
      * Deletes tag configuration files on disk.
      */
     public static void removeConfigInfo4Tag(String dataId, String group, String tenant, String tag) {
-        FileUtils.deleteQuietly(targetTagFile(dataId, group, tenant, tag));
+        ConfigDiskServiceFactory.getInstance().removeConfigInfo4Tag(dataId, group, tenant, tag);
     }
     
     public static void removeHeartHeat() {
@@ -151,17 +147,62 @@ public class DiskUtil {
     }
     
     public static String getConfig(String dataId, String group, String tenant) throws IOException {
-        File file = targetFile(dataId, group, tenant);
-        if (file.exists()) {
-            
-            try (FileInputStream fis = new FileInputStream(file);) {
-                return IoUtils.toString(fis, Constants.ENCODE);
-            } catch (FileNotFoundException e) {
-                return StringUtils.EMPTY;
-            }
-        } else {
-            return StringUtils.EMPTY;
-        }
+        String content = getContent(dataId, group, tenant);
+        return null == content ? StringUtils.EMPTY : content;
+    }
+    
+    /**
+     * Returns the content of config in server, null if not exist.
+     */
+    public static String getContent(String dataId, String group, String tenant) throws IOException {
+        return ConfigDiskServiceFactory.getInstance().getContent(dataId, group, tenant);
+    }
+    
+    /**
+     * Returns the content of beta config in server, null if not exist.
+     */
+    public static String getBetaContent(String dataId, String group, String tenant) throws IOException {
+        return ConfigDiskServiceFactory.getInstance().getBetaContent(dataId, group, tenant);
+    }
+    
+    /**
+     * Returns the content of tag config in server, null if not exist.
+     */
+    public static String getTagContent(String dataId, String group, String tenant, String tag) throws IOException {
+        return ConfigDiskServiceFactory.getInstance().getTagContent(dataId, group, tenant, tag);
+    }
+    
+    /**
+     * Returns the last modified time of config content in server, 0 if not exist.
+     */
+    public static long getLastModified(String dataId, String group, String tenant) {
+        return ConfigDiskServiceFactory.getInstance().getLastModified(dataId, group, tenant);
+    }
+    
+    /**
+     * Returns the last modified time of beta config content in server, 0 if not exist.
+     */
+    public static long getBetaLastModified(String dataId, String group, String tenant) {
+        return ConfigDiskServiceFactory.getInstance().getBetaLastModified(dataId, group, tenant);
+    }
+    
+    /**
+     * Returns the last modified time of tag config content in server, 0 if not exist.
+     */
+    public static long getTagLastModified(String dataId, String group, String tenant, String tag) {
+        return ConfigDiskServiceFactory.getInstance().getTagLastModified(dataId, group, tenant, tag);
+    }
+    
+    public static boolean isConfigExist(String dataId, String group, String tenant) {
+        return ConfigDiskServiceFactory.getInstance().exists(dataId, group, tenant);
+    }
+    
+    public static boolean isBetaConfigExist(String dataId, String group, String tenant) {
+        return ConfigDiskServiceFactory.getInstance().existsBeta(dataId, group, tenant);
+    }
+    
+    public static boolean isTagConfigExist(String dataId, String group, String tenant, String tag) {
+        return ConfigDiskServiceFactory.getInstance().existsTag(dataId, group, tenant, tag);
     }
     
     public static String getLocalConfigMd5(String dataId, String group, String tenant) throws IOException {
@@ -180,53 +221,20 @@ public class DiskUtil {
      * Clear all config file.
      */
     public static void clearAll() {
-        File file = new File(EnvUtil.getNacosHome(), BASE_DIR);
-        if (FileUtils.deleteQuietly(file)) {
-            LogUtil.DEFAULT_LOG.info("clear all config-info success.");
-        } else {
-            LogUtil.DEFAULT_LOG.warn("clear all config-info failed.");
-        }
-        File fileTenant = new File(EnvUtil.getNacosHome(), TENANT_BASE_DIR);
-        if (FileUtils.deleteQuietly(fileTenant)) {
-            LogUtil.DEFAULT_LOG.info("clear all config-info-tenant success.");
-        } else {
-            LogUtil.DEFAULT_LOG.warn("clear all config-info-tenant failed.");
-        }
+        ConfigDiskServiceFactory.getInstance().clearAll();
     }
     
     /**
      * Clear all beta config file.
      */
     public static void clearAllBeta() {
-        File file = new File(EnvUtil.getNacosHome(), BETA_DIR);
-        if (FileUtils.deleteQuietly(file)) {
-            LogUtil.DEFAULT_LOG.info("clear all config-info-beta success.");
-        } else {
-            LogUtil.DEFAULT_LOG.warn("clear all config-info-beta failed.");
-        }
-        File fileTenant = new File(EnvUtil.getNacosHome(), TENANT_BETA_DIR);
-        if (FileUtils.deleteQuietly(fileTenant)) {
-            LogUtil.DEFAULT_LOG.info("clear all config-info-beta-tenant success.");
-        } else {
-            LogUtil.DEFAULT_LOG.warn("clear all config-info-beta-tenant failed.");
-        }
+        ConfigDiskServiceFactory.getInstance().clearAllBeta();
     }
     
     /**
      * Clear all tag config file.
      */
     public static void clearAllTag() {
-        File file = new File(EnvUtil.getNacosHome(), TAG_DIR);
-        if (FileUtils.deleteQuietly(file)) {
-            LogUtil.DEFAULT_LOG.info("clear all config-info-tag success.");
-        } else {
-            LogUtil.DEFAULT_LOG.warn("clear all config-info-tag failed.");
-        }
-        File fileTenant = new File(EnvUtil.getNacosHome(), TENANT_TAG_DIR);
-        if (FileUtils.deleteQuietly(fileTenant)) {
-            LogUtil.DEFAULT_LOG.info("clear all config-info-tag-tenant success.");
-        } else {
-            LogUtil.DEFAULT_LOG.warn("clear all config-info-tag-tenant failed.");
-        }
+        ConfigDiskServiceFactory.getInstance().clearAllTag();
     }
 }
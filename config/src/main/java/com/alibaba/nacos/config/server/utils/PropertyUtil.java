@@ -102,6 +102,51 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
      */
     private static boolean embeddedStorage = EnvUtil.getStandaloneMode();
     
+    /**
+     * Count of worker threads which dump configs in parallel during dump all.
+     */
+    private static int dumpAllParallelism = Runtime.getRuntime().availableProcessors();
+    
+    /**
+     * Whether to carry the config content in the change notify, off by default.
+     */
+    private static boolean pushContentEnabled = false;
+    
+    /**
+     * Max size in bytes of the config content carried in the change notify.
+     */
+    private static int pushContentMaxSize = 8 * 1024;
+    
+    /**
+     * Whether to carry the published content in the cluster sync request, off by default.
+     */
+    private static boolean clusterSyncContentEnabled = false;
+    
+    /**
+     * Max size in bytes of the config content carried in the cluster sync request.
+     */
+    private static int clusterSyncContentMaxSize = 64 * 1024;
+    
+    /**
+     * Whether to notify the config changes to the other members in batch, off by default.
+     */
+    private static boolean clusterSyncBatchEnabled = false;
+    
+    /**
+     * Time window in milliseconds to accumulate the config changes for one member.
+     */
+    private static int clusterSyncBatchWindow = 50;
+    
+    /**
+     * Max count of the config changes notified to one member in one batch.
+     */
+    private static int clusterSyncBatchMaxSize = 500;
+    
+    /**
+     * Max accumulated bytes of the config changes notified to one member in one batch.
+     */
+    private static int clusterSyncBatchMaxBytes = 1024 * 1024;
+    
     public static int getNotifyConnectTimeout() {
         return notifyConnectTimeout;
     }
@@ -250,6 +295,78 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
         PropertyUtil.embeddedStorage = embeddedStorage;
     }
     
+    public static int getDumpAllParallelism() {
+        return dumpAllParallelism;
+    }
+    
+    public static void setDumpAllParallelism(int dumpAllParallelism) {
+        PropertyUtil.dumpAllParallelism = Math.max(1, dumpAllParallelism);
+    }
+    
+    public static boolean isPushContentEnabled() {
+        return pushContentEnabled;
+    }
+    
+    public static void setPushContentEnabled(boolean pushContentEnabled) {
+        PropertyUtil.pushContentEnabled = pushContentEnabled;
+    }
+    
+    public static int getPushContentMaxSize() {
+        return pushContentMaxSize;
+    }
+    
+    public static void setPushContentMaxSize(int pushContentMaxSize) {
+        PropertyUtil.pushContentMaxSize = pushContentMaxSize;
+    }
+    
+    public static boolean isClusterSyncContentEnabled() {
+        return clusterSyncContentEnabled;
+    }
+    
+    public static void setClusterSyncContentEnabled(boolean clusterSyncContentEnabled) {
+        PropertyUtil.clusterSyncContentEnabled = clusterSyncContentEnabled;
+    }
+    
+    public static int getClusterSyncContentMaxSize() {
+        return clusterSyncContentMaxSize;
+    }
+    
+    public static void setClusterSyncContentMaxSize(int clusterSyncContentMaxSize) {
+        PropertyUtil.clusterSyncContentMaxSize = clusterSyncContentMaxSize;
+    }
+    
+    public static boolean isClusterSyncBatchEnabled() {
+        return clusterSyncBatchEnabled;
+    }
+    
+    public static void setClusterSyncBatchEnabled(boolean clusterSyncBatchEnabled) {
+        PropertyUtil.clusterSyncBatchEnabled = clusterSyncBatchEnabled;
+    }
+    
+    public static int getClusterSyncBatchWindow() {
+        return clusterSyncBatchWindow;
+    }
+    
+    public static void setClusterSyncBatchWindow(int clusterSyncBatchWindow) {
+        PropertyUtil.clusterSyncBatchWindow = Math.max(0, clusterSyncBatchWindow);
+    }
+    
+    public static int getClusterSyncBatchMaxSize() {
+        return clusterSyncBatchMaxSize;
+    }
+    
+    public static void setClusterSyncBatchMaxSize(int clusterSyncBatchMaxSize) {
+        PropertyUtil.clusterSyncBatchMaxSize = Math.max(1, clusterSyncBatchMaxSize);
+    }
+    
+    public static int getClusterSyncBatchMaxBytes() {
+        return clusterSyncBatchMaxBytes;
+    }
+    
+    public static void setClusterSyncBatchMaxBytes(int clusterSyncBatchMaxBytes) {
+        PropertyUtil.clusterSyncBatchMaxBytes = Math.max(1, clusterSyncBatchMaxBytes);
+    }
+    
     private void loadSetting() {
         try {
             setNotifyConnectTimeout(Integer.parseInt(EnvUtil.getProperty(PropertiesConstant.NOTIFY_CONNECT_TIMEOUT,
@@ -279,6 +396,20 @@ public class PropertyUtil implements ApplicationContextInitializer<ConfigurableA
             setDefaultMaxAggrSize(getInt(PropertiesConstant.DEFAULT_MAX_AGGR_SIZE, defaultMaxAggrSize));
             setCorrectUsageDelay(getInt(PropertiesConstant.CORRECT_USAGE_DELAY, correctUsageDelay));
             setInitialExpansionPercent(getInt(PropertiesConstant.INITIAL_EXPANSION_PERCENT, initialExpansionPercent));
+            setDumpAllParallelism(getInt(PropertiesConstant.DUMP_ALL_PARALLELISM, dumpAllParallelism));
+            setPushContentEnabled(getBoolean(PropertiesConstant.PUSH_CONTENT_ENABLED, pushContentEnabled));
+            setPushContentMaxSize(getInt(PropertiesConstant.PUSH_CONTENT_MAX_SIZE, pushContentMaxSize));
+            setClusterSyncContentEnabled(
+                    getBoolean(PropertiesConstant.CLUSTER_SYNC_CONTENT_ENABLED, clusterSyncContentEnabled));
+            setClusterSyncContentMaxSize(
+                    getInt(PropertiesConstant.CLUSTER_SYNC_CONTENT_MAX_SIZE, clusterSyncContentMaxSize));
+            setClusterSyncBatchEnabled(
+                    getBoolean(PropertiesConstant.CLUSTER_SYNC_BATCH_ENABLED, clusterSyncBatchEnabled));
+            setClusterSyncBatchWindow(getInt(PropertiesConstant.CLUSTER_SYNC_BATCH_WINDOW, clusterSyncBatchWindow));
+            setClusterSyncBatchMaxSize(
+                    getInt(PropertiesConstant.CLUSTER_SYNC_BATCH_MAX_SIZE, clusterSyncBatchMaxSize));
+            setClusterSyncBatchMaxBytes(
+                    getInt(PropertiesConstant.CLUSTER_SYNC_BATCH_MAX_BYTES, clusterSyncBatchMaxBytes));
     
             // External data sources are used by default in cluster mode
             String platform = DatasourcePlatformUtil.getDatasourcePlatform("");
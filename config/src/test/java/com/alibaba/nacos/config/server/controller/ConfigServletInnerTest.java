@@ -32,9 +32,7 @@ import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import org.junit.Assert;
 import org.junit.Before;
-import org.junit.Rule;
 import org.junit.Test;
-import org.junit.rules.TemporaryFolder;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -48,7 +46,6 @@ import org.springframework.test.context.web.WebAppConfiguration;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import javax.servlet.http.HttpServletResponse;
-import java.io.File;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -78,9 +75,6 @@ public class ConfigServletInnerTest {
     @Mock
     private ConfigInfoTagPersistService configInfoTagPersistService;
     
-    @Rule
-    public TemporaryFolder tempFolder = new TemporaryFolder();
-    
     @Before
     public void setUp() {
         EnvUtil.setEnvironment(new StandardEnvironment());
@@ -151,9 +145,8 @@ public class ConfigServletInnerTest {
         
         // if direct read is false
         propertyUtilMockedStatic.when(PropertyUtil::isDirectRead).thenReturn(false);
-        File file = tempFolder.newFile("test.txt");
-        diskUtilMockedStatic.when(() -> DiskUtil.targetBetaFile(anyString(), anyString(), anyString()))
-                .thenReturn(file);
+        diskUtilMockedStatic.when(() -> DiskUtil.getBetaContent(anyString(), anyString(), anyString()))
+                .thenReturn("");
         response = new MockHttpServletResponse();
         actualValue = configServletInner
                 .doGetConfig(request, response, "test", "test", "test", "", "true", "localhost");
@@ -205,8 +198,7 @@ public class ConfigServletInnerTest {
         // if tag is blank and direct read is false
         propertyUtilMockedStatic.when(PropertyUtil::isDirectRead).thenReturn(false);
         response = new MockHttpServletResponse();
-        File file = tempFolder.newFile("test.txt");
-        diskUtilMockedStatic.when(() -> DiskUtil.targetFile(anyString(), anyString(), anyString())).thenReturn(file);
+        diskUtilMockedStatic.when(() -> DiskUtil.getContent(anyString(), anyString(), anyString())).thenReturn("");
         actualValue = configServletInner
                 .doGetConfig(request, response, "test", "test", "test", "", "true", "localhost");
         Assert.assertEquals(HttpServletResponse.SC_OK + "", actualValue);
@@ -229,8 +221,8 @@ public class ConfigServletInnerTest {
         // if tag is not blank and direct read is false
         propertyUtilMockedStatic.when(PropertyUtil::isDirectRead).thenReturn(false);
         response = new MockHttpServletResponse();
-        diskUtilMockedStatic.when(() -> DiskUtil.targetTagFile(anyString(), anyString(), anyString(), anyString()))
-                .thenReturn(file);
+        diskUtilMockedStatic.when(() -> DiskUtil.getTagContent(anyString(), anyString(), anyString(), anyString()))
+                .thenReturn("");
         actualValue = configServletInner
                 .doGetConfig(request, response, "test", "test", "test", "test", "true", "localhost");
         Assert.assertEquals(HttpServletResponse.SC_OK + "", actualValue);
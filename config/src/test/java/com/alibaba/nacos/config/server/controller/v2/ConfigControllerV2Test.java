@@ -16,17 +16,26 @@
 
 package com.alibaba.nacos.config.server.controller.v2;
 
+import com.alibaba.nacos.api.config.ConfigKey;
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchQueryRequest;
+import com.alibaba.nacos.api.config.remote.response.ConfigBatchQueryResponse;
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
+import com.alibaba.nacos.api.exception.api.NacosApiException;
 import com.alibaba.nacos.api.model.v2.ErrorCode;
 import com.alibaba.nacos.api.model.v2.Result;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.auth.config.AuthConfigs;
 import com.alibaba.nacos.common.utils.JacksonUtils;
 import com.alibaba.nacos.config.server.controller.ConfigServletInner;
 import com.alibaba.nacos.config.server.model.ConfigRequestInfo;
 import com.alibaba.nacos.config.server.model.form.ConfigForm;
+import com.alibaba.nacos.config.server.remote.ConfigBatchQueryRequestHandler;
 import com.alibaba.nacos.config.server.service.ConfigOperationService;
 import com.fasterxml.jackson.databind.JsonNode;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.mock.web.MockHttpServletRequest;
@@ -34,11 +43,15 @@ import org.springframework.mock.web.MockHttpServletResponse;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -54,6 +67,12 @@ public class ConfigControllerV2Test {
     @Mock
     private ConfigOperationService configOperationService;
     
+    @Mock
+    private ConfigBatchQueryRequestHandler configBatchQueryRequestHandler;
+    
+    @Mock
+    private AuthConfigs authConfigs;
+    
     private static final String TEST_DATA_ID = "test";
     
     private static final String TEST_GROUP = "test";
@@ -66,7 +85,8 @@ public class ConfigControllerV2Test {
     
     @Before
     public void setUp() {
-        configControllerV2 = new ConfigControllerV2(inner, configOperationService);
+        configControllerV2 = new ConfigControllerV2(inner, configOperationService, configBatchQueryRequestHandler,
+                authConfigs);
     }
     
     @Test
@@ -97,6 +117,36 @@ public class ConfigControllerV2Test {
         assertEquals(TEST_CONTENT, actContent);
     }
     
+    @Test
+    public void testGetConfigs() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        ConfigBatchQueryResponse batchResponse = new ConfigBatchQueryResponse();
+        batchResponse.getConfigQueryResponses().add(ConfigQueryResponse.buildSuccessResponse(TEST_CONTENT));
+        batchResponse.getConfigQueryResponses()
+                .add(ConfigQueryResponse.buildFailResponse(ConfigQueryResponse.CONFIG_NOT_FOUND, "not found"));
+        when(configBatchQueryRequestHandler.handle(any(ConfigBatchQueryRequest.class), any(RequestMeta.class), isNull()))
+                .thenReturn(batchResponse);
+        
+        Result<List<ConfigQueryResponse>> result = configControllerV2
+                .getConfigs(request, Arrays.asList(TEST_DATA_ID, "other"), Arrays.asList(TEST_GROUP, TEST_GROUP),
+                        TEST_NAMESPACE_ID);
+        
+        ArgumentCaptor<ConfigBatchQueryRequest> captor = ArgumentCaptor.forClass(ConfigBatchQueryRequest.class);
+        verify(configBatchQueryRequestHandler).handle(captor.capture(), any(RequestMeta.class), isNull());
+        assertEquals(Arrays.asList(new ConfigKey(TEST_DATA_ID, TEST_GROUP), new ConfigKey("other", TEST_GROUP)),
+                captor.getValue().getConfigKeys());
+        assertEquals(ErrorCode.SUCCESS.getCode(), result.getCode());
+        assertEquals(2, result.getData().size());
+        assertEquals(TEST_CONTENT, result.getData().get(0).getContent());
+        assertEquals(ConfigQueryResponse.CONFIG_NOT_FOUND, result.getData().get(1).getErrorCode());
+    }
+    
+    @Test(expected = NacosApiException.class)
+    public void testGetConfigsWithMismatchedParams() throws Exception {
+        configControllerV2.getConfigs(new MockHttpServletRequest(), Arrays.asList(TEST_DATA_ID, "other"),
+                Collections.singletonList(TEST_GROUP), TEST_NAMESPACE_ID);
+    }
+    
     @Test
     public void testPublishConfig() throws Exception {
         
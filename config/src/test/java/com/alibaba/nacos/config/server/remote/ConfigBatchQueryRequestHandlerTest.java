@@ -0,0 +1,132 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.api.config.ConfigKey;
+import com.alibaba.nacos.api.config.remote.request.ConfigBatchQueryRequest;
+import com.alibaba.nacos.api.config.remote.request.ConfigQueryRequest;
+import com.alibaba.nacos.api.config.remote.response.ConfigBatchQueryResponse;
+import com.alibaba.nacos.api.config.remote.response.ConfigQueryResponse;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import com.alibaba.nacos.auth.GrpcProtocolAuthService;
+import com.alibaba.nacos.auth.config.AuthConfigs;
+import com.alibaba.nacos.plugin.auth.api.IdentityContext;
+import com.alibaba.nacos.plugin.auth.api.Permission;
+import com.alibaba.nacos.plugin.auth.api.Resource;
+import com.alibaba.nacos.plugin.auth.constant.SignType;
+import com.alibaba.nacos.plugin.auth.exception.AccessException;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ConfigBatchQueryRequestHandlerTest {
+    
+    @Mock
+    private ConfigQueryRequestHandler configQueryRequestHandler;
+    
+    @Mock
+    private AuthConfigs authConfigs;
+    
+    @Mock
+    private GrpcProtocolAuthService protocolAuthService;
+    
+    private ConfigBatchQueryRequestHandler batchQueryRequestHandler;
+    
+    @Before
+    public void setUp() {
+        batchQueryRequestHandler = new ConfigBatchQueryRequestHandler(configQueryRequestHandler, authConfigs);
+    }
+    
+    @Test
+    public void testHandle() throws NacosException {
+        Mockito.when(configQueryRequestHandler.query(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenAnswer(invocation -> {
+                    ConfigQueryRequest queryRequest = invocation.getArgument(0);
+                    Assert.assertEquals("tenant", queryRequest.getTenant());
+                    Assert.assertEquals("tag", queryRequest.getHeader("Vipserver-Tag"));
+                    return ConfigQueryResponse.buildSuccessResponse(queryRequest.getDataId());
+                });
+        ConfigBatchQueryRequest request = ConfigBatchQueryRequest
+                .build("tenant", Arrays.asList(new ConfigKey("dataId1", "group"), new ConfigKey("dataId2", "group")));
+        request.putHeader("Vipserver-Tag", "tag");
+        ConfigBatchQueryResponse response = batchQueryRequestHandler.handle(request, new RequestMeta());
+        Assert.assertTrue(response.isSuccess());
+        Assert.assertEquals(2, response.getConfigQueryResponses().size());
+        Assert.assertEquals("dataId1", response.getConfigQueryResponses().get(0).getContent());
+        Assert.assertEquals("dataId2", response.getConfigQueryResponses().get(1).getContent());
+    }
+    
+    @Test
+    public void testHandleTooManyKeys() throws NacosException {
+        List<ConfigKey> configKeys = new ArrayList<>();
+        for (int i = 0; i <= ConfigBatchQueryRequest.MAX_BATCH_SIZE; i++) {
+            configKeys.add(new ConfigKey("dataId" + i, "group"));
+        }
+        ConfigBatchQueryResponse response = batchQueryRequestHandler
+                .handle(ConfigBatchQueryRequest.build("tenant", configKeys), new RequestMeta());
+        Assert.assertFalse(response.isSuccess());
+        Assert.assertEquals(NacosException.INVALID_PARAM, response.getErrorCode());
+        Mockito.verify(configQueryRequestHandler, Mockito.never())
+                .query(ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+    
+    @Test
+    public void testHandleWithoutPermission() throws Exception {
+        ReflectionTestUtils.setField(batchQueryRequestHandler, "protocolAuthService", protocolAuthService);
+        IdentityContext identityContext = new IdentityContext();
+        Mockito.when(authConfigs.isAuthEnabled()).thenReturn(true);
+        Mockito.when(protocolAuthService.enableAuth(ArgumentMatchers.any())).thenReturn(true);
+        Mockito.when(protocolAuthService.parseIdentity(ArgumentMatchers.any())).thenReturn(identityContext);
+        Mockito.when(protocolAuthService.parseResource(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenAnswer(invocation -> {
+                    ConfigQueryRequest queryRequest = invocation.getArgument(0);
+                    return new Resource(queryRequest.getTenant(), queryRequest.getGroup(), queryRequest.getDataId(),
+                            SignType.CONFIG, null);
+                });
+        Mockito.when(protocolAuthService.validateAuthority(ArgumentMatchers.eq(identityContext), ArgumentMatchers.any()))
+                .thenAnswer(invocation -> {
+                    Permission permission = invocation.getArgument(1);
+                    if ("forbidden".equals(permission.getResource().getName())) {
+                        throw new AccessException("forbidden");
+                    }
+                    return true;
+                });
+        Mockito.when(configQueryRequestHandler.query(ArgumentMatchers.any(), ArgumentMatchers.any()))
+                .thenAnswer(invocation -> ConfigQueryResponse
+                        .buildSuccessResponse(((ConfigQueryRequest) invocation.getArgument(0)).getDataId()));
+        ConfigBatchQueryRequest request = ConfigBatchQueryRequest
+                .build("tenant", Arrays.asList(new ConfigKey("allowed", "group"), new ConfigKey("forbidden", "group")));
+        ConfigBatchQueryResponse response = batchQueryRequestHandler.handle(request, new RequestMeta());
+        Assert.assertTrue(response.isSuccess());
+        Assert.assertEquals("allowed", response.getConfigQueryResponses().get(0).getContent());
+        Assert.assertEquals(NacosException.NO_RIGHT, response.getConfigQueryResponses().get(1).getErrorCode());
+        Assert.assertNull(response.getConfigQueryResponses().get(1).getContent());
+        Mockito.verify(configQueryRequestHandler).query(ArgumentMatchers.any(), ArgumentMatchers.any());
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.remote;
+
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterBatchSyncRequest;
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncRequest;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.request.RequestMeta;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ConfigChangeClusterBatchSyncRequestHandlerTest {
+    
+    @Mock
+    private ConfigChangeClusterSyncRequestHandler configChangeClusterSyncRequestHandler;
+    
+    private ConfigChangeClusterBatchSyncRequestHandler batchSyncRequestHandler;
+    
+    @Before
+    public void setUp() {
+        batchSyncRequestHandler = new ConfigChangeClusterBatchSyncRequestHandler(configChangeClusterSyncRequestHandler);
+    }
+    
+    @Test
+    public void testHandle() throws NacosException {
+        ConfigChangeClusterSyncRequest first = new ConfigChangeClusterSyncRequest();
+        first.setDataId("dataId1");
+        first.setLastModified(1L);
+        ConfigChangeClusterSyncRequest second = new ConfigChangeClusterSyncRequest();
+        second.setDataId("dataId2");
+        second.setLastModified(2L);
+        ConfigChangeClusterBatchSyncRequest request = new ConfigChangeClusterBatchSyncRequest();
+        request.getChanges().add(first);
+        request.getChanges().add(second);
+        RequestMeta meta = new RequestMeta();
+        meta.setClientIp("1.1.1.1");
+        Assert.assertTrue(batchSyncRequestHandler.handle(request, meta).isSuccess());
+        InOrder inOrder = Mockito.inOrder(configChangeClusterSyncRequestHandler);
+        inOrder.verify(configChangeClusterSyncRequestHandler).dumpChange(first, "1.1.1.1");
+        inOrder.verify(configChangeClusterSyncRequestHandler).dumpChange(second, "1.1.1.1");
+    }
+}
@@ -21,12 +21,15 @@ import com.alibaba.nacos.api.config.remote.response.cluster.ConfigChangeClusterS
 import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.api.remote.response.ResponseCode;
+import com.alibaba.nacos.config.server.model.ConfigInfo;
 import com.alibaba.nacos.config.server.service.dump.DumpService;
 import junit.framework.TestCase;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.io.IOException;
@@ -57,4 +60,26 @@ public class ConfigChangeClusterSyncRequestHandlerTest extends TestCase {
         ConfigChangeClusterSyncResponse configChangeClusterSyncResponse = configChangeClusterSyncRequestHandler.handle(configChangeSyncRequest, meta);
         assertEquals(configChangeClusterSyncResponse.getResultCode(), ResponseCode.SUCCESS.getCode());
     }
-}
\ No newline at end of file
+    
+    @Test
+    public void testHandleWithContent() throws NacosException {
+        ConfigChangeClusterSyncRequest configChangeSyncRequest = new ConfigChangeClusterSyncRequest();
+        configChangeSyncRequest.setDataId("dataId");
+        configChangeSyncRequest.setGroup("group");
+        configChangeSyncRequest.setTenant("tenant");
+        configChangeSyncRequest.setLastModified(1L);
+        configChangeSyncRequest.setContent("content");
+        configChangeSyncRequest.setMd5("md5");
+        configChangeSyncRequest.setType("yaml");
+        RequestMeta meta = new RequestMeta();
+        meta.setClientIp("1.1.1.1");
+        configChangeClusterSyncRequestHandler.handle(configChangeSyncRequest, meta);
+        ArgumentCaptor<ConfigInfo> captor = ArgumentCaptor.forClass(ConfigInfo.class);
+        Mockito.verify(dumpService)
+                .dump(Mockito.eq("dataId"), Mockito.eq("group"), Mockito.eq("tenant"), Mockito.eq(1L),
+                        Mockito.eq("1.1.1.1"), captor.capture());
+        assertEquals("content", captor.getValue().getContent());
+        assertEquals("md5", captor.getValue().getMd5());
+        assertEquals("yaml", captor.getValue().getType());
+    }
+}
@@ -74,6 +74,23 @@ public class ConfigChangeListenContextTest {
         Assert.assertEquals(1, groupKey.size());
     }
 
+    @Test
+    public void testClearContextRemoveEmptyGroupKey() {
+        configChangeListenContext.addListen("groupKey", "md5", "connectionId");
+        configChangeListenContext.addListen("groupKey", "md5", "connectionId2");
+        configChangeListenContext.clearContextForConnectionId("connectionId");
+        Assert.assertEquals(1, configChangeListenContext.getListeners("groupKey").size());
+        configChangeListenContext.clearContextForConnectionId("connectionId2");
+        Assert.assertNull(configChangeListenContext.getListeners("groupKey"));
+        Assert.assertEquals(0, configChangeListenContext.getConnectionCount());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testGetListenersReadOnly() {
+        configChangeListenContext.addListen("groupKey", "md5", "connectionId");
+        configChangeListenContext.getListeners("groupKey").add("connectionId2");
+    }
+
     @Test
     public void testGetListenKeyMd5() {
         configChangeListenContext.addListen("groupKey", "md5", "connectionId");
@@ -26,23 +26,20 @@ import com.alibaba.nacos.config.server.utils.DiskUtil;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
 import com.alibaba.nacos.config.server.utils.PropertyUtil;
 import com.alibaba.nacos.sys.env.EnvUtil;
-import org.apache.commons.io.FileUtils;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
-import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.core.env.StandardEnvironment;
 
-import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
 
-import static com.alibaba.nacos.api.common.Constants.ENCODE;
-import static org.mockito.Mockito.when;
+import static com.alibaba.nacos.api.common.Constants.VIPSERVER_TAG;
 
 @RunWith(MockitoJUnitRunner.class)
 public class ConfigQueryRequestHandlerTest {
@@ -50,9 +47,6 @@ public class ConfigQueryRequestHandlerTest {
     @InjectMocks
     private ConfigQueryRequestHandler configQueryRequestHandler;
     
-    @Mock
-    private File file;
-    
     @Before
     public void setUp() throws IOException {
         EnvUtil.setEnvironment(new StandardEnvironment());
@@ -62,7 +56,6 @@ public class ConfigQueryRequestHandlerTest {
     public void testHandle() throws NacosException {
         final MockedStatic<ConfigCacheService> configCacheServiceMockedStatic = Mockito
                 .mockStatic(ConfigCacheService.class);
-        final MockedStatic<FileUtils> fileUtilsMockedStatic = Mockito.mockStatic(FileUtils.class);
         final MockedStatic<DiskUtil> diskUtilMockedStatic = Mockito.mockStatic(DiskUtil.class);
         MockedStatic<PropertyUtil> propertyUtilMockedStatic = Mockito.mockStatic(PropertyUtil.class);
         
@@ -70,10 +63,8 @@ public class ConfigQueryRequestHandlerTest {
         
         final String groupKey = GroupKey2.getKey("dataId", "group", "");
         configCacheServiceMockedStatic.when(() -> ConfigCacheService.tryReadLock(groupKey)).thenReturn(1);
-        diskUtilMockedStatic.when(() -> DiskUtil.targetFile(Mockito.any(), Mockito.any(), Mockito.any()))
-                .thenReturn(file);
-        fileUtilsMockedStatic.when(() -> FileUtils.readFileToString(file, ENCODE)).thenReturn("content");
-        when(file.exists()).thenReturn(true);
+        diskUtilMockedStatic.when(() -> DiskUtil.getContent(Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenReturn("content");
         CacheItem cacheItem = new CacheItem(groupKey);
         cacheItem.setMd5("1");
         cacheItem.setLastModifiedTs(1L);
@@ -89,8 +80,49 @@ public class ConfigQueryRequestHandlerTest {
         Assert.assertEquals(response.getContent(), "content");
         
         configCacheServiceMockedStatic.close();
-        fileUtilsMockedStatic.close();
         diskUtilMockedStatic.close();
         propertyUtilMockedStatic.close();
     }
+    
+    @Test
+    public void testHandleMissingBetaOrTagContent() throws NacosException {
+        final MockedStatic<ConfigCacheService> configCacheServiceMockedStatic = Mockito
+                .mockStatic(ConfigCacheService.class);
+        final MockedStatic<DiskUtil> diskUtilMockedStatic = Mockito.mockStatic(DiskUtil.class);
+        MockedStatic<PropertyUtil> propertyUtilMockedStatic = Mockito.mockStatic(PropertyUtil.class);
+        try {
+            propertyUtilMockedStatic.when(PropertyUtil::isDirectRead).thenReturn(false);
+            final String groupKey = GroupKey2.getKey("dataId", "group", "");
+            configCacheServiceMockedStatic.when(() -> ConfigCacheService.tryReadLock(groupKey)).thenReturn(1);
+            CacheItem cacheItem = new CacheItem(groupKey);
+            cacheItem.setMd5("1");
+            cacheItem.setBeta(true);
+            cacheItem.setIps4Beta(Collections.singletonList("127.0.0.1"));
+            cacheItem.setTagMd5(Collections.singletonMap("tag", "2"));
+            cacheItem.setTagLastModifiedTs(Collections.singletonMap("tag", 1L));
+            configCacheServiceMockedStatic.when(() -> ConfigCacheService.getContentCache(Mockito.any()))
+                    .thenReturn(cacheItem);
+            
+            ConfigQueryRequest configQueryRequest = new ConfigQueryRequest();
+            configQueryRequest.setDataId("dataId");
+            configQueryRequest.setGroup("group");
+            configQueryRequest.putHeader(VIPSERVER_TAG, "tag");
+            RequestMeta requestMeta = new RequestMeta();
+            requestMeta.setClientIp("127.0.0.1");
+            // beta content is missing on disk
+            ConfigQueryResponse response = configQueryRequestHandler.handle(configQueryRequest, requestMeta);
+            Assert.assertEquals(ConfigQueryResponse.CONFIG_NOT_FOUND, response.getErrorCode());
+            Assert.assertNull(response.getContent());
+            
+            // tag content is missing on disk
+            requestMeta.setClientIp("127.0.0.2");
+            response = configQueryRequestHandler.handle(configQueryRequest, requestMeta);
+            Assert.assertEquals(ConfigQueryResponse.CONFIG_NOT_FOUND, response.getErrorCode());
+            Assert.assertNull(response.getContent());
+        } finally {
+            configCacheServiceMockedStatic.close();
+            diskUtilMockedStatic.close();
+            propertyUtilMockedStatic.close();
+        }
+    }
 }
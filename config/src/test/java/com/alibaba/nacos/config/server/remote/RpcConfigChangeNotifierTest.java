@@ -16,20 +16,40 @@
 
 package com.alibaba.nacos.config.server.remote;
 
+import com.alibaba.nacos.api.ability.ClientAbilities;
+import com.alibaba.nacos.api.config.remote.request.ConfigChangeNotifyRequest;
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.config.server.model.CacheItem;
 import com.alibaba.nacos.config.server.model.event.LocalDataChangeEvent;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
+import com.alibaba.nacos.config.server.utils.DiskUtil;
 import com.alibaba.nacos.config.server.utils.GroupKey2;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+import com.alibaba.nacos.core.remote.Connection;
 import com.alibaba.nacos.core.remote.ConnectionManager;
+import com.alibaba.nacos.core.remote.ConnectionMeta;
 import com.alibaba.nacos.core.remote.RpcPushService;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
 @RunWith(MockitoJUnitRunner.class)
 public class RpcConfigChangeNotifierTest {
     
@@ -44,6 +64,9 @@ public class RpcConfigChangeNotifierTest {
     @Mock
     private ConnectionManager connectionManager;
     
+    @Mock
+    private ConfigInfoPersistService configInfoPersistService;
+    
     @Before
     public void setUp() {
         rpcConfigChangeNotifier = new RpcConfigChangeNotifier();
@@ -51,6 +74,12 @@ public class RpcConfigChangeNotifierTest {
         ReflectionTestUtils.setField(rpcConfigChangeNotifier, "configChangeListenContext", configChangeListenContext);
         ReflectionTestUtils.setField(rpcConfigChangeNotifier, "rpcPushService", rpcPushService);
         ReflectionTestUtils.setField(rpcConfigChangeNotifier, "connectionManager", connectionManager);
+        ReflectionTestUtils.setField(rpcConfigChangeNotifier, "configInfoPersistService", configInfoPersistService);
+    }
+    
+    @After
+    public void tearDown() {
+        PropertyUtil.setPushContentEnabled(false);
     }
     
     @Test
@@ -64,4 +93,109 @@ public class RpcConfigChangeNotifierTest {
         rpcConfigChangeNotifier.onEvent(new LocalDataChangeEvent(groupKey, true, betaIps));
         rpcConfigChangeNotifier.onEvent(new LocalDataChangeEvent(limitGroupKey));
     }
+    
+    @Test
+    public void testPushContentToSupportedClient() {
+        PropertyUtil.setPushContentEnabled(true);
+        String groupKey = GroupKey2.getKey("dataId", "group", "tenant");
+        mockConnection("supported", true);
+        mockConnection("unsupported", false);
+        Mockito.when(configChangeListenContext.getListeners(groupKey))
+                .thenReturn(new HashSet<>(Arrays.asList("supported", "unsupported")));
+        CacheItem cacheItem = new CacheItem(groupKey);
+        cacheItem.setMd5(MD5Utils.md5Hex("content", "UTF-8"));
+        cacheItem.setType("yaml");
+        cacheItem.setEncryptedDataKey("key");
+        cacheItem.setLastModifiedTs(1000L);
+        try (MockedStatic<ConfigCacheService> configCacheService = Mockito.mockStatic(ConfigCacheService.class);
+                MockedStatic<DiskUtil> diskUtil = Mockito.mockStatic(DiskUtil.class);
+                MockedStatic<PropertyUtil> propertyUtil = Mockito.mockStatic(PropertyUtil.class,
+                        Mockito.CALLS_REAL_METHODS)) {
+            propertyUtil.when(PropertyUtil::isDirectRead).thenReturn(false);
+            configCacheService.when(() -> ConfigCacheService.tryReadLock(groupKey)).thenReturn(1);
+            configCacheService.when(() -> ConfigCacheService.getContentCache(groupKey)).thenReturn(cacheItem);
+            diskUtil.when(() -> DiskUtil.getContent("dataId", "group", "tenant")).thenReturn("content");
+            rpcConfigChangeNotifier.configDataChanged(groupKey, "dataId", "group", "tenant", false, null, null);
+            configCacheService.verify(() -> ConfigCacheService.releaseReadLock(groupKey));
+        }
+        ConfigChangeNotifyRequest supported = capturePushedRequest("supported");
+        assertEquals("content", supported.getContent());
+        assertEquals(cacheItem.getMd5(), supported.getMd5());
+        assertEquals("yaml", supported.getContentType());
+        assertEquals("key", supported.getEncryptedDataKey());
+        assertEquals(1000L, supported.getLastModified());
+        ConfigChangeNotifyRequest unsupported = capturePushedRequest("unsupported");
+        assertEquals("dataId", unsupported.getDataId());
+        assertNull(unsupported.getContent());
+        assertNull(unsupported.getMd5());
+    }
+    
+    @Test
+    public void testNotPushContentOverMaxSizeOrBeta() {
+        PropertyUtil.setPushContentEnabled(true);
+        String groupKey = GroupKey2.getKey("dataId", "group", "tenant");
+        mockConnection("supported", true);
+        Mockito.when(configChangeListenContext.getListeners(groupKey))
+                .thenReturn(Collections.singleton("supported"));
+        char[] largeContent = new char[PropertyUtil.getPushContentMaxSize() + 1];
+        Arrays.fill(largeContent, 'a');
+        try (MockedStatic<ConfigCacheService> configCacheService = Mockito.mockStatic(ConfigCacheService.class);
+                MockedStatic<DiskUtil> diskUtil = Mockito.mockStatic(DiskUtil.class);
+                MockedStatic<PropertyUtil> propertyUtil = Mockito.mockStatic(PropertyUtil.class,
+                        Mockito.CALLS_REAL_METHODS)) {
+            propertyUtil.when(PropertyUtil::isDirectRead).thenReturn(false);
+            configCacheService.when(() -> ConfigCacheService.tryReadLock(groupKey)).thenReturn(1);
+            configCacheService.when(() -> ConfigCacheService.getContentCache(groupKey))
+                    .thenReturn(new CacheItem(groupKey));
+            diskUtil.when(() -> DiskUtil.getContent("dataId", "group", "tenant")).thenReturn(new String(largeContent));
+            rpcConfigChangeNotifier.configDataChanged(groupKey, "dataId", "group", "tenant", false, null, null);
+            rpcConfigChangeNotifier
+                    .configDataChanged(groupKey, "dataId", "group", "tenant", true, Collections.singletonList("1.1.1.1"),
+                            null);
+            configCacheService.verify(() -> ConfigCacheService.tryReadLock(groupKey));
+        }
+        ArgumentCaptor<ConfigChangeNotifyRequest> requestCaptor = ArgumentCaptor
+                .forClass(ConfigChangeNotifyRequest.class);
+        Mockito.verify(rpcPushService, Mockito.timeout(3000L).times(2))
+                .pushWithCallback(Mockito.eq("supported"), requestCaptor.capture(), Mockito.any(), Mockito.any());
+        for (ConfigChangeNotifyRequest each : requestCaptor.getAllValues()) {
+            assertNull(each.getContent());
+        }
+    }
+    
+    @Test
+    public void testNotLoadContentWithoutSupportedClient() {
+        PropertyUtil.setPushContentEnabled(true);
+        String groupKey = GroupKey2.getKey("dataId", "group", "tenant");
+        mockConnection("unsupported", false);
+        Mockito.when(configChangeListenContext.getListeners(groupKey))
+                .thenReturn(Collections.singleton("unsupported"));
+        try (MockedStatic<ConfigCacheService> configCacheService = Mockito.mockStatic(ConfigCacheService.class);
+                MockedStatic<DiskUtil> diskUtil = Mockito.mockStatic(DiskUtil.class)) {
+            rpcConfigChangeNotifier.configDataChanged(groupKey, "dataId", "group", "tenant", false, null, null);
+            configCacheService.verify(() -> ConfigCacheService.tryReadLock(groupKey), Mockito.never());
+            diskUtil.verifyNoInteractions();
+        }
+        Mockito.verifyNoInteractions(configInfoPersistService);
+        assertNull(capturePushedRequest("unsupported").getContent());
+    }
+    
+    private void mockConnection(String connectionId, boolean supportContentPush) {
+        Connection connection = Mockito.mock(Connection.class);
+        ConnectionMeta metaInfo = new ConnectionMeta(connectionId, "1.1.1.1", "1.1.1.1", 8848, 9848, "GRPC", "2.2.0",
+                "app", Collections.emptyMap());
+        ClientAbilities abilities = new ClientAbilities();
+        abilities.getConfigAbility().setSupportContentPush(supportContentPush);
+        Mockito.when(connection.getMetaInfo()).thenReturn(metaInfo);
+        Mockito.when(connection.getAbilities()).thenReturn(abilities);
+        Mockito.when(connectionManager.getConnection(connectionId)).thenReturn(connection);
+    }
+    
+    private ConfigChangeNotifyRequest capturePushedRequest(String connectionId) {
+        ArgumentCaptor<ConfigChangeNotifyRequest> requestCaptor = ArgumentCaptor
+                .forClass(ConfigChangeNotifyRequest.class);
+        Mockito.verify(rpcPushService, Mockito.timeout(3000L))
+                .pushWithCallback(Mockito.eq(connectionId), requestCaptor.capture(), Mockito.any(), Mockito.any());
+        return requestCaptor.getValue();
+    }
 }
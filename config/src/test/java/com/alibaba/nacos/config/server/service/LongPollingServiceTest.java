@@ -0,0 +1,124 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service;
+
+import com.alibaba.nacos.config.server.utils.GroupKey;
+import com.alibaba.nacos.config.server.utils.MD5Util;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class LongPollingServiceTest {
+    
+    private static final String GROUP_KEY = GroupKey.getKeyTenant("dataId", "group", "");
+    
+    private static final String OTHER_GROUP_KEY = GroupKey.getKeyTenant("otherDataId", "group", "");
+    
+    @Mock
+    private AsyncContext asyncContext;
+    
+    @Mock
+    private HttpServletRequest request;
+    
+    @Mock
+    private HttpServletResponse response;
+    
+    private LongPollingService longPollingService;
+    
+    @Before
+    public void setUp() throws Exception {
+        longPollingService = new LongPollingService();
+        Mockito.when(request.getRemoteAddr()).thenReturn("127.0.0.1");
+        Mockito.when(asyncContext.getRequest()).thenReturn(request);
+        Mockito.when(asyncContext.getResponse()).thenReturn(response);
+        Mockito.when(response.getWriter()).thenReturn(new PrintWriter(new StringWriter()));
+    }
+    
+    private LongPollingService.ClientLongPolling hangUp(String tag, String... groupKeys) {
+        return hangUp(tag, Collections.emptyList(), groupKeys);
+    }
+    
+    private LongPollingService.ClientLongPolling hangUp(String tag, List<String> changedGroups, String... groupKeys) {
+        Map<String, String> clientMd5Map = new HashMap<>(4);
+        for (String each : groupKeys) {
+            clientMd5Map.put(each, "md5");
+        }
+        LongPollingService.ClientLongPolling clientLongPolling = longPollingService.new ClientLongPolling(
+                asyncContext, clientMd5Map, "127.0.0.1", 1, 30000L, "app", tag);
+        try (MockedStatic<MD5Util> md5Util = Mockito.mockStatic(MD5Util.class, Mockito.CALLS_REAL_METHODS)) {
+            md5Util.when(() -> MD5Util.compareMd5(ArgumentMatchers.any(), ArgumentMatchers.any(),
+                    ArgumentMatchers.eq(clientMd5Map))).thenReturn(changedGroups);
+            clientLongPolling.run();
+        }
+        return clientLongPolling;
+    }
+    
+    @Test
+    public void testIndexBuiltWhenHangUp() {
+        LongPollingService.ClientLongPolling clientLongPolling = hangUp(null, GROUP_KEY, OTHER_GROUP_KEY);
+        Assert.assertEquals(1, longPollingService.getSubscriberCount());
+        Assert.assertTrue(longPollingService.getSubscribers(GROUP_KEY).contains(clientLongPolling));
+        Assert.assertTrue(longPollingService.getSubscribers(OTHER_GROUP_KEY).contains(clientLongPolling));
+        Assert.assertTrue(longPollingService.getSubscribers("unknown").isEmpty());
+    }
+    
+    @Test
+    public void testDataChangeRemoveIndex() {
+        hangUp(null, GROUP_KEY, OTHER_GROUP_KEY);
+        longPollingService.new DataChangeTask(GROUP_KEY, false, null).run();
+        Assert.assertEquals(0, longPollingService.getSubscriberCount());
+        Assert.assertTrue(longPollingService.groupKeySubs.isEmpty());
+        Mockito.verify(asyncContext).complete();
+    }
+    
+    @Test
+    public void testDataChangeSkipUnmatchedBetaAndTag() {
+        hangUp("tag", GROUP_KEY);
+        longPollingService.new DataChangeTask(GROUP_KEY, true, Collections.singletonList("1.1.1.1")).run();
+        longPollingService.new DataChangeTask(GROUP_KEY, false, null, "otherTag").run();
+        Assert.assertEquals(1, longPollingService.getSubscriberCount());
+        Mockito.verify(asyncContext, Mockito.never()).complete();
+        longPollingService.new DataChangeTask(GROUP_KEY, true, Collections.singletonList("127.0.0.1"), "tag").run();
+        Assert.assertEquals(0, longPollingService.getSubscriberCount());
+        Mockito.verify(asyncContext).complete();
+    }
+    
+    @Test
+    public void testRespondChangeBeforeIndexed() {
+        hangUp(null, Collections.singletonList(GROUP_KEY), GROUP_KEY, OTHER_GROUP_KEY);
+        Assert.assertEquals(0, longPollingService.getSubscriberCount());
+        Assert.assertTrue(longPollingService.groupKeySubs.isEmpty());
+        Mockito.verify(asyncContext).complete();
+    }
+}
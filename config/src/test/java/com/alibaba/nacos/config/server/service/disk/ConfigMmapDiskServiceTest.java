@@ -0,0 +1,153 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.disk;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+public class ConfigMmapDiskServiceTest {
+    
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+    
+    private File segmentDir;
+    
+    private ConfigMmapDiskService diskService;
+    
+    @Before
+    public void setUp() throws IOException {
+        segmentDir = tempFolder.newFolder("config-segment");
+        diskService = new ConfigMmapDiskService(segmentDir, 1024);
+    }
+    
+    @Test
+    public void testSaveAndGet() throws IOException {
+        diskService.saveToDisk("dataId", "group", "tenant", "content");
+        diskService.saveBetaToDisk("dataId", "group", "tenant", "beta");
+        diskService.saveTagToDisk("dataId", "group", "tenant", "tag", "tagContent");
+        Assert.assertEquals("content", diskService.getContent("dataId", "group", "tenant"));
+        Assert.assertEquals("beta", diskService.getBetaContent("dataId", "group", "tenant"));
+        Assert.assertEquals("tagContent", diskService.getTagContent("dataId", "group", "tenant", "tag"));
+        Assert.assertTrue(diskService.exists("dataId", "group", "tenant"));
+        Assert.assertNull(diskService.getContent("dataId", "group", ""));
+        diskService.saveToDisk("dataId", "group", "tenant", "新内容");
+        Assert.assertEquals("新内容", diskService.getContent("dataId", "group", "tenant"));
+    }
+    
+    @Test
+    public void testLastModified() throws IOException {
+        long start = System.currentTimeMillis();
+        diskService.saveToDisk("dataId", "group", "tenant", "content");
+        long lastModified = diskService.getLastModified("dataId", "group", "tenant");
+        Assert.assertTrue(lastModified >= start);
+        Assert.assertEquals(0L, diskService.getBetaLastModified("dataId", "group", "tenant"));
+        diskService.flush();
+        ConfigMmapDiskService recovered = new ConfigMmapDiskService(segmentDir, 1024);
+        Assert.assertEquals(lastModified, recovered.getLastModified("dataId", "group", "tenant"));
+    }
+    
+    @Test
+    public void testRemoveAndClear() throws IOException {
+        diskService.saveToDisk("dataId", "group", "tenant", "content");
+        diskService.saveTagToDisk("dataId", "group", "tenant", "tag", "tagContent");
+        diskService.removeConfigInfo("dataId", "group", "tenant");
+        Assert.assertFalse(diskService.exists("dataId", "group", "tenant"));
+        Assert.assertTrue(diskService.existsTag("dataId", "group", "tenant", "tag"));
+        diskService.clearAllTag();
+        Assert.assertNull(diskService.getTagContent("dataId", "group", "tenant", "tag"));
+    }
+    
+    @Test
+    public void testRecover() throws IOException {
+        diskService.saveToDisk("dataId", "group", "", "content1");
+        diskService.saveToDisk("dataId2", "group", "", "content2");
+        diskService.saveToDisk("dataId", "group", "", "content3");
+        diskService.removeConfigInfo("dataId2", "group", "");
+        diskService.flush();
+        ConfigMmapDiskService recovered = new ConfigMmapDiskService(segmentDir, 1024);
+        Assert.assertEquals("content3", recovered.getContent("dataId", "group", ""));
+        Assert.assertNull(recovered.getContent("dataId2", "group", ""));
+    }
+    
+    @Test
+    public void testRecoverDropTornRecord() throws IOException {
+        diskService.saveToDisk("dataId", "group", "", "content1");
+        diskService.saveToDisk("dataId2", "group", "", "content2");
+        diskService.flush();
+        File segment = segmentDir.listFiles()[0];
+        try (RandomAccessFile file = new RandomAccessFile(segment, "rw")) {
+            // break the content of the second record.
+            long secondRecordEnd = 2 * (12 + 1 + 4 + "cdataId+group".length() + 8 + 4 + "content1".length());
+            file.seek(secondRecordEnd - 1);
+            file.write('x');
+        }
+        ConfigMmapDiskService recovered = new ConfigMmapDiskService(segmentDir, 1024);
+        Assert.assertEquals("content1", recovered.getContent("dataId", "group", ""));
+        Assert.assertNull(recovered.getContent("dataId2", "group", ""));
+        recovered.saveToDisk("dataId3", "group", "", "content3");
+        Assert.assertEquals("content3", new ConfigMmapDiskService(segmentDir, 1024).getContent("dataId3", "group", ""));
+    }
+    
+    @Test
+    public void testCompact() throws IOException {
+        diskService.saveToDisk("stable", "group", "", "stable");
+        diskService.saveToDisk("removed", "group", "", "removed");
+        diskService.removeConfigInfo("removed", "group", "");
+        for (int i = 0; i < 200; i++) {
+            diskService.saveToDisk("hot", "group", "", "content" + i);
+        }
+        // compaction is triggered asynchronously after rolling, run it again to make the result certain.
+        diskService.compact();
+        Assert.assertTrue(segmentDir.listFiles().length < 5);
+        Assert.assertEquals("stable", diskService.getContent("stable", "group", ""));
+        Assert.assertEquals("content199", diskService.getContent("hot", "group", ""));
+        ConfigMmapDiskService recovered = new ConfigMmapDiskService(segmentDir, 1024);
+        Assert.assertEquals("stable", recovered.getContent("stable", "group", ""));
+        Assert.assertEquals("content199", recovered.getContent("hot", "group", ""));
+        Assert.assertNull(recovered.getContent("removed", "group", ""));
+        Assert.assertEquals(diskService.getLastModified("stable", "group", ""),
+                recovered.getLastModified("stable", "group", ""));
+    }
+    
+    @Test
+    public void testCompactDropUnneededTombstone() throws IOException {
+        diskService.saveToDisk("removed", "group", "", "removed");
+        diskService.removeConfigInfo("removed", "group", "");
+        for (int i = 0; i < 100; i++) {
+            diskService.saveToDisk("hot", "group", "", "content" + i);
+        }
+        diskService.compact();
+        diskService.flush();
+        // The put and delete records are in the same compacted segment, so the tombstone is not moved.
+        File[] files = segmentDir.listFiles();
+        long total = 0;
+        for (File each : files) {
+            total += each.length();
+        }
+        Assert.assertTrue(total <= 3 * 1024);
+        ConfigMmapDiskService recovered = new ConfigMmapDiskService(segmentDir, 1024);
+        Assert.assertNull(recovered.getContent("removed", "group", ""));
+        Assert.assertEquals("content99", recovered.getContent("hot", "group", ""));
+    }
+}
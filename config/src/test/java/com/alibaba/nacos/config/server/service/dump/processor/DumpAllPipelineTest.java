@@ -0,0 +1,97 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.processor;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class DumpAllPipelineTest {
+    
+    private static DumpAllPipeline.PageSupplier<Integer> pages(int pageCount, int pageSize) {
+        return new DumpAllPipeline.PageSupplier<Integer>() {
+            
+            private int pageNo = 0;
+            
+            @Override
+            public List<Integer> nextPage() {
+                if (pageNo >= pageCount) {
+                    return null;
+                }
+                int current = pageNo++;
+                if (current % 3 == 1) {
+                    return Collections.emptyList();
+                }
+                List<Integer> result = new ArrayList<>(pageSize);
+                for (int i = 0; i < pageSize; i++) {
+                    result.add(current * pageSize + i);
+                }
+                return result;
+            }
+        };
+    }
+    
+    @Test
+    public void testDumpAllPages() {
+        Set<Integer> dumped = ConcurrentHashMap.newKeySet();
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        DumpAllPipeline<Integer> pipeline = new DumpAllPipeline<>("config", 4);
+        Assert.assertTrue(pipeline.run(pages(10, 100), each -> {
+            threads.add(Thread.currentThread().getName());
+            return dumped.add(each);
+        }));
+        // pages 1, 4, 7 are empty.
+        Assert.assertEquals(700, dumped.size());
+        Assert.assertEquals(700, pipeline.getDumped());
+        Assert.assertEquals(0, pipeline.getFailed());
+        Assert.assertFalse(threads.contains(Thread.currentThread().getName()));
+    }
+    
+    @Test
+    public void testDumpFailed() {
+        DumpAllPipeline<Integer> pipeline = new DumpAllPipeline<>("beta", 2);
+        Assert.assertTrue(pipeline.run(pages(1, 100), each -> {
+            if (each % 10 == 0) {
+                throw new IllegalStateException("mock exception");
+            }
+            return each % 10 != 1;
+        }));
+        Assert.assertEquals(100, pipeline.getDumped());
+        Assert.assertEquals(20, pipeline.getFailed());
+    }
+    
+    @Test
+    public void testFetchFailed() {
+        Set<Integer> dumped = ConcurrentHashMap.newKeySet();
+        DumpAllPipeline.PageSupplier<Integer> origin = pages(1, 100);
+        DumpAllPipeline<Integer> pipeline = new DumpAllPipeline<>("tag", 2);
+        boolean result = pipeline.run(() -> {
+            List<Integer> page = origin.nextPage();
+            if (null == page) {
+                throw new IllegalStateException("mock exception");
+            }
+            return page;
+        }, dumped::add);
+        Assert.assertFalse(result);
+        Assert.assertEquals(100, dumped.size());
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.processor;
+
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.config.server.constant.Constants;
+import com.alibaba.nacos.config.server.model.ConfigInfo;
+import com.alibaba.nacos.config.server.model.ConfigInfoWrapper;
+import com.alibaba.nacos.config.server.model.event.ConfigDumpEvent;
+import com.alibaba.nacos.config.server.service.ConfigCacheService;
+import com.alibaba.nacos.config.server.service.dump.DumpConfigHandler;
+import com.alibaba.nacos.config.server.service.dump.DumpService;
+import com.alibaba.nacos.config.server.service.dump.task.DumpTask;
+import com.alibaba.nacos.config.server.service.repository.ConfigInfoPersistService;
+import com.alibaba.nacos.config.server.utils.GroupKey2;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DumpProcessorTest {
+    
+    private static final String GROUP_KEY = GroupKey2.getKey("dataId", "group", "tenant");
+    
+    @Mock
+    private DumpService dumpService;
+    
+    @Mock
+    private ConfigInfoPersistService configInfoPersistService;
+    
+    private MockedStatic<DumpConfigHandler> dumpConfigHandler;
+    
+    private MockedStatic<ConfigCacheService> configCacheService;
+    
+    private DumpProcessor dumpProcessor;
+    
+    @Before
+    public void setUp() {
+        Mockito.when(dumpService.getConfigInfoPersistService()).thenReturn(configInfoPersistService);
+        dumpConfigHandler = Mockito.mockStatic(DumpConfigHandler.class);
+        dumpConfigHandler.when(() -> DumpConfigHandler.configDump(Mockito.any())).thenReturn(true);
+        configCacheService = Mockito.mockStatic(ConfigCacheService.class);
+        configCacheService.when(() -> ConfigCacheService.getLastModifiedTs(GROUP_KEY)).thenReturn(100L);
+        dumpProcessor = new DumpProcessor(dumpService);
+    }
+    
+    @After
+    public void tearDown() {
+        dumpConfigHandler.close();
+        configCacheService.close();
+    }
+    
+    private ConfigInfo syncedConfig(String content, String md5) {
+        ConfigInfo result = new ConfigInfo("dataId", "group", "tenant", null, content);
+        result.setMd5(md5);
+        result.setType("yaml");
+        return result;
+    }
+    
+    private ConfigDumpEvent processAndCaptureEvent(DumpTask task) {
+        Assert.assertTrue(dumpProcessor.process(task));
+        ArgumentCaptor<ConfigDumpEvent> captor = ArgumentCaptor.forClass(ConfigDumpEvent.class);
+        dumpConfigHandler.verify(() -> DumpConfigHandler.configDump(captor.capture()));
+        return captor.getValue();
+    }
+    
+    @Test
+    public void testProcessWithSyncedConfig() {
+        String md5 = MD5Utils.md5Hex("synced", Constants.ENCODE);
+        ConfigDumpEvent event = processAndCaptureEvent(
+                new DumpTask(GROUP_KEY, 200L, "1.1.1.1", syncedConfig("synced", md5)));
+        Assert.assertEquals("synced", event.getContent());
+        Assert.assertEquals("yaml", event.getType());
+        Assert.assertFalse(event.isRemove());
+        Mockito.verify(configInfoPersistService, Mockito.never())
+                .findConfigInfo(Mockito.anyString(), Mockito.anyString(), Mockito.anyString());
+    }
+    
+    @Test
+    public void testProcessReadDbWhenMd5Mismatch() {
+        Mockito.when(configInfoPersistService.findConfigInfo("dataId", "group", "tenant"))
+                .thenReturn(new ConfigInfoWrapper());
+        processAndCaptureEvent(new DumpTask(GROUP_KEY, 200L, "1.1.1.1", syncedConfig("synced", "wrongMd5")));
+        Mockito.verify(configInfoPersistService).findConfigInfo("dataId", "group", "tenant");
+    }
+    
+    @Test
+    public void testProcessReadDbWhenNotNewerThanCache() {
+        String md5 = MD5Utils.md5Hex("synced", Constants.ENCODE);
+        ConfigInfoWrapper configInfo = new ConfigInfoWrapper();
+        configInfo.setContent("fromDb");
+        Mockito.when(configInfoPersistService.findConfigInfo("dataId", "group", "tenant")).thenReturn(configInfo);
+        ConfigDumpEvent event = processAndCaptureEvent(
+                new DumpTask(GROUP_KEY, 100L, "1.1.1.1", syncedConfig("synced", md5)));
+        Assert.assertEquals("fromDb", event.getContent());
+    }
+}
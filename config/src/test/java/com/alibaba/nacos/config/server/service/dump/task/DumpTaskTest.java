@@ -0,0 +1,50 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.dump.task;
+
+import com.alibaba.nacos.config.server.model.ConfigInfo;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class DumpTaskTest {
+    
+    private static final String GROUP_KEY = "dataId+group+tenant";
+    
+    @Test
+    public void testMergeKeepNewerWhenOlderSyncArrivesLater() {
+        ConfigInfo v2 = new ConfigInfo("dataId", "group", "tenant", "app", "v2");
+        ConfigInfo v1 = new ConfigInfo("dataId", "group", "tenant", "app", "v1");
+        DumpTask newer = new DumpTask(GROUP_KEY, 2L, "1.1.1.1", v2);
+        DumpTask older = new DumpTask(GROUP_KEY, 1L, "2.2.2.2", v1);
+        // the engine merges the replaced task into the new one
+        older.merge(newer);
+        Assert.assertEquals(2L, older.getLastModified());
+        Assert.assertEquals("1.1.1.1", older.getHandleIp());
+        Assert.assertSame(v2, older.getSyncedConfig());
+    }
+    
+    @Test
+    public void testMergeReplaceByNewerTask() {
+        ConfigInfo v1 = new ConfigInfo("dataId", "group", "tenant", "app", "v1");
+        DumpTask older = new DumpTask(GROUP_KEY, 1L, "1.1.1.1", v1);
+        DumpTask newer = new DumpTask(GROUP_KEY, 2L, "2.2.2.2", false);
+        newer.merge(older);
+        Assert.assertEquals(2L, newer.getLastModified());
+        Assert.assertEquals("2.2.2.2", newer.getHandleIp());
+        Assert.assertNull(newer.getSyncedConfig());
+    }
+}
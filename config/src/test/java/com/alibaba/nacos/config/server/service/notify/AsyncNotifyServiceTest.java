@@ -0,0 +1,206 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.config.server.service.notify;
+
+import com.alibaba.nacos.api.ability.ServerAbilities;
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterBatchSyncRequest;
+import com.alibaba.nacos.api.config.remote.request.cluster.ConfigChangeClusterSyncRequest;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.config.server.constant.Constants;
+import com.alibaba.nacos.config.server.model.ConfigInfo;
+import com.alibaba.nacos.config.server.model.event.ConfigDataChangeEvent;
+import com.alibaba.nacos.config.server.remote.ConfigClusterRpcClientProxy;
+import com.alibaba.nacos.config.server.utils.PropertyUtil;
+import com.alibaba.nacos.core.cluster.Member;
+import com.alibaba.nacos.core.cluster.ServerMemberManager;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class AsyncNotifyServiceTest {
+    
+    @After
+    public void tearDown() {
+        PropertyUtil.setClusterSyncContentEnabled(false);
+        PropertyUtil.setClusterSyncContentMaxSize(64 * 1024);
+        PropertyUtil.setClusterSyncBatchWindow(50);
+        PropertyUtil.setClusterSyncBatchMaxSize(500);
+        PropertyUtil.setClusterSyncBatchMaxBytes(1024 * 1024);
+    }
+    
+    @Test
+    public void testBuildSyncedConfig() {
+        ConfigDataChangeEvent event = new ConfigDataChangeEvent("dataId", "group", "tenant", 1L, "content", "yaml",
+                "key");
+        Assert.assertNull(AsyncNotifyService.buildSyncedConfig(event));
+        PropertyUtil.setClusterSyncContentEnabled(true);
+        ConfigInfo syncedConfig = AsyncNotifyService.buildSyncedConfig(event);
+        Assert.assertNotNull(syncedConfig);
+        Assert.assertEquals("content", syncedConfig.getContent());
+        Assert.assertEquals(MD5Utils.md5Hex("content", Constants.ENCODE), syncedConfig.getMd5());
+        Assert.assertEquals("yaml", syncedConfig.getType());
+        Assert.assertEquals("key", syncedConfig.getEncryptedDataKey());
+        PropertyUtil.setClusterSyncContentMaxSize(4);
+        Assert.assertNull(AsyncNotifyService.buildSyncedConfig(event));
+    }
+    
+    @Test
+    public void testBuildSyncedConfigWithoutContent() {
+        PropertyUtil.setClusterSyncContentEnabled(true);
+        Assert.assertNull(AsyncNotifyService.buildSyncedConfig(
+                new ConfigDataChangeEvent(false, "dataId", "group", "tenant", 1L)));
+        Assert.assertNull(AsyncNotifyService.buildSyncedConfig(
+                new ConfigDataChangeEvent(true, "dataId", "group", "tenant", 1L)));
+    }
+    
+    @Test
+    public void testMergeBatch() {
+        EnvUtil.setEnvironment(new MockEnvironment());
+        Member member = Member.builder().ip("1.1.1.1").port(8848).build();
+        List<AsyncNotifyService.NotifySingleRpcTask> tasks = new ArrayList<>();
+        tasks.add(new AsyncNotifyService.NotifySingleRpcTask("dataId1", "group", "", null, 3L, false, member));
+        tasks.add(new AsyncNotifyService.NotifySingleRpcTask("dataId2", "group", "", null, 2L, false, member));
+        tasks.add(new AsyncNotifyService.NotifySingleRpcTask("dataId1", "group", "", null, 1L, false, member));
+        tasks.add(new AsyncNotifyService.NotifySingleRpcTask("dataId1", "group", "", null, 4L, true, member));
+        tasks.add(new AsyncNotifyService.NotifySingleRpcTask("dataId2", "group", "", null, 5L, false, member));
+        List<AsyncNotifyService.NotifySingleRpcTask> merged = AsyncNotifyService.mergeBatch(tasks);
+        Assert.assertEquals(3, merged.size());
+        Assert.assertEquals("dataId1", merged.get(0).getDataId());
+        Assert.assertEquals(3L, merged.get(0).getLastModified());
+        Assert.assertEquals(4L, merged.get(1).getLastModified());
+        Assert.assertTrue(AsyncNotifyService.buildSyncRequest(merged.get(1)).isBeta());
+        Assert.assertEquals("dataId2", merged.get(2).getDataId());
+        Assert.assertEquals(5L, merged.get(2).getLastModified());
+    }
+    
+    @Test
+    public void testFlushBatchAfterWindow() throws NacosException {
+        ConfigClusterRpcClientProxy rpcClientProxy = Mockito.mock(ConfigClusterRpcClientProxy.class);
+        Member member = buildMember();
+        AsyncNotifyService.ClusterSyncBatch batch = buildNotifyService(rpcClientProxy, member).new ClusterSyncBatch();
+        PropertyUtil.setClusterSyncBatchWindow(100);
+        batch.add(new AsyncNotifyService.NotifySingleRpcTask("dataId1", "group", "", null, 1L, false, member));
+        batch.add(new AsyncNotifyService.NotifySingleRpcTask("dataId2", "group", "", null, 2L, false, member));
+        Mockito.verify(rpcClientProxy, Mockito.after(50L).never())
+                .batchSyncConfigChange(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any());
+        Assert.assertEquals(2, captureBatchRequest(rpcClientProxy, member).getChanges().size());
+    }
+    
+    @Test
+    public void testFlushBatchWhenBytesReachMaxSize() throws NacosException {
+        ConfigClusterRpcClientProxy rpcClientProxy = Mockito.mock(ConfigClusterRpcClientProxy.class);
+        Member member = buildMember();
+        AsyncNotifyService.ClusterSyncBatch batch = buildNotifyService(rpcClientProxy, member).new ClusterSyncBatch();
+        PropertyUtil.setClusterSyncBatchWindow(60000);
+        ConfigInfo syncedConfig = new ConfigInfo("dataId", "group", "", null, "content");
+        PropertyUtil.setClusterSyncBatchMaxBytes(
+                AsyncNotifyService.estimateSize(syncedTask("dataId1", member, syncedConfig)) * 2);
+        batch.add(syncedTask("dataId1", member, syncedConfig));
+        Mockito.verify(rpcClientProxy, Mockito.after(100L).never())
+                .batchSyncConfigChange(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any());
+        batch.add(syncedTask("dataId2", member, syncedConfig));
+        ConfigChangeClusterBatchSyncRequest request = captureBatchRequest(rpcClientProxy, member);
+        Assert.assertEquals(2, request.getChanges().size());
+        Assert.assertEquals("content", request.getChanges().get(0).getContent());
+    }
+    
+    @Test
+    public void testFallbackToSingleSyncWhenBatchFail() throws NacosException {
+        ConfigClusterRpcClientProxy rpcClientProxy = Mockito.mock(ConfigClusterRpcClientProxy.class);
+        Member member = buildMember();
+        Mockito.doThrow(new NacosException(NacosException.SERVER_ERROR, "batch fail")).when(rpcClientProxy)
+                .batchSyncConfigChange(ArgumentMatchers.any(), ArgumentMatchers.any(), ArgumentMatchers.any());
+        AsyncNotifyService.ClusterSyncBatch batch = buildNotifyService(rpcClientProxy, member).new ClusterSyncBatch();
+        PropertyUtil.setClusterSyncBatchMaxSize(2);
+        batch.add(new AsyncNotifyService.NotifySingleRpcTask("dataId1", "group", "", null, 1L, false, member));
+        batch.add(new AsyncNotifyService.NotifySingleRpcTask("dataId2", "group", "", null, 2L, false, member));
+        ArgumentCaptor<ConfigChangeClusterSyncRequest> captor = ArgumentCaptor
+                .forClass(ConfigChangeClusterSyncRequest.class);
+        Mockito.verify(rpcClientProxy, Mockito.timeout(5000L).times(2))
+                .syncConfigChange(ArgumentMatchers.eq(member), captor.capture(), ArgumentMatchers.any());
+        List<String> dataIds = new ArrayList<>();
+        captor.getAllValues().forEach(each -> dataIds.add(each.getDataId()));
+        Assert.assertTrue(dataIds.contains("dataId1"));
+        Assert.assertTrue(dataIds.contains("dataId2"));
+    }
+    
+    @Test
+    public void testRemoveBatchWhenMemberLeft() throws InterruptedException {
+        ConfigClusterRpcClientProxy rpcClientProxy = Mockito.mock(ConfigClusterRpcClientProxy.class);
+        Member member = buildMember();
+        AsyncNotifyService notifyService = buildNotifyService(rpcClientProxy, member);
+        ServerMemberManager memberManager = (ServerMemberManager) ReflectionTestUtils
+                .getField(notifyService, "memberManager");
+        Mockito.when(memberManager.hasMember(member.getAddress())).thenReturn(false);
+        Map<String, AsyncNotifyService.ClusterSyncBatch> batches = (Map<String, AsyncNotifyService.ClusterSyncBatch>)
+                ReflectionTestUtils.getField(notifyService, "clusterSyncBatches");
+        AsyncNotifyService.ClusterSyncBatch batch = notifyService.new ClusterSyncBatch();
+        batches.put(member.getAddress(), batch);
+        PropertyUtil.setClusterSyncBatchMaxSize(1);
+        batch.add(new AsyncNotifyService.NotifySingleRpcTask("dataId1", "group", "", null, 1L, false, member));
+        long deadline = System.currentTimeMillis() + 3000L;
+        while (batches.containsKey(member.getAddress()) && System.currentTimeMillis() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10L);
+        }
+        Assert.assertFalse(batches.containsKey(member.getAddress()));
+        Mockito.verifyNoInteractions(rpcClientProxy);
+    }
+    
+    private Member buildMember() {
+        EnvUtil.setEnvironment(new MockEnvironment());
+        Member member = Member.builder().ip("1.1.1.1").port(8848).build();
+        ServerAbilities abilities = new ServerAbilities();
+        abilities.getRemoteAbility().setSupportRemoteConnection(true);
+        abilities.getConfigAbility().setSupportBatchClusterSync(true);
+        member.setAbilities(abilities);
+        return member;
+    }
+    
+    private AsyncNotifyService buildNotifyService(ConfigClusterRpcClientProxy rpcClientProxy, Member member) {
+        ServerMemberManager memberManager = Mockito.mock(ServerMemberManager.class);
+        Mockito.when(memberManager.getSelf()).thenReturn(Member.builder().ip("2.2.2.2").port(8848).build());
+        Mockito.when(memberManager.hasMember(member.getAddress())).thenReturn(true);
+        AsyncNotifyService result = new AsyncNotifyService(memberManager);
+        ReflectionTestUtils.setField(result, "configClusterRpcClientProxy", rpcClientProxy);
+        return result;
+    }
+    
+    private AsyncNotifyService.NotifySingleRpcTask syncedTask(String dataId, Member member, ConfigInfo syncedConfig) {
+        return new AsyncNotifyService.NotifySingleRpcTask(dataId, "group", "", null, 1L, false, member, syncedConfig);
+    }
+    
+    private ConfigChangeClusterBatchSyncRequest captureBatchRequest(ConfigClusterRpcClientProxy rpcClientProxy,
+            Member member) throws NacosException {
+        ArgumentCaptor<ConfigChangeClusterBatchSyncRequest> captor = ArgumentCaptor
+                .forClass(ConfigChangeClusterBatchSyncRequest.class);
+        Mockito.verify(rpcClientProxy, Mockito.timeout(3000L))
+                .batchSyncConfigChange(ArgumentMatchers.eq(member), captor.capture(), ArgumentMatchers.any());
+        return captor.getValue();
+    }
+}
@@ -17,6 +17,7 @@
 package com.alibaba.nacos.core.ability;
 
 import com.alibaba.nacos.api.ability.ServerAbilities;
+import com.alibaba.nacos.core.utils.RemoteUtils;
 
 /**
  * Server ability initializer for remote.
@@ -28,5 +29,6 @@ public class RemoteAbilityInitializer implements ServerAbilityInitializer {
     @Override
     public void initialize(ServerAbilities abilities) {
         abilities.getRemoteAbility().setSupportRemoteConnection(true);
+        abilities.getRemoteAbility().setSupportBinaryPayload(RemoteUtils.isBinaryPayloadSupported());
     }
 }
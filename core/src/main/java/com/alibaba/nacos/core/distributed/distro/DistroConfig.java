@@ -44,6 +44,14 @@ public class DistroConfig extends AbstractDynamicConfig {
     
     private long loadDataTimeoutMillis = DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS;
     
+    private int loadDataChunkSize = DistroConstants.DEFAULT_DATA_LOAD_CHUNK_SIZE;
+    
+    private int loadDataParallelism = DistroConstants.DEFAULT_DATA_LOAD_PARALLELISM;
+    
+    private boolean syncDeltaEnabled = DistroConstants.DEFAULT_DATA_SYNC_DELTA_ENABLED;
+    
+    private boolean verifyDigestEnabled = DistroConstants.DEFAULT_DATA_VERIFY_DIGEST_ENABLED;
+    
     private DistroConfig() {
         super(DISTRO);
         resetConfig();
@@ -65,6 +73,14 @@ public class DistroConfig extends AbstractDynamicConfig {
                 DistroConstants.DEFAULT_DATA_LOAD_RETRY_DELAY_MILLISECONDS);
         loadDataTimeoutMillis = EnvUtil.getProperty(DistroConstants.DATA_LOAD_TIMEOUT_MILLISECONDS, Long.class,
                 DistroConstants.DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS);
+        loadDataChunkSize = EnvUtil.getProperty(DistroConstants.DATA_LOAD_CHUNK_SIZE, Integer.class,
+                DistroConstants.DEFAULT_DATA_LOAD_CHUNK_SIZE);
+        loadDataParallelism = EnvUtil.getProperty(DistroConstants.DATA_LOAD_PARALLELISM, Integer.class,
+                DistroConstants.DEFAULT_DATA_LOAD_PARALLELISM);
+        syncDeltaEnabled = EnvUtil.getProperty(DistroConstants.DATA_SYNC_DELTA_ENABLED, Boolean.class,
+                DistroConstants.DEFAULT_DATA_SYNC_DELTA_ENABLED);
+        verifyDigestEnabled = EnvUtil.getProperty(DistroConstants.DATA_VERIFY_DIGEST_ENABLED, Boolean.class,
+                DistroConstants.DEFAULT_DATA_VERIFY_DIGEST_ENABLED);
     }
     
     public static DistroConfig getInstance() {
@@ -127,11 +143,45 @@ public class DistroConfig extends AbstractDynamicConfig {
         this.loadDataTimeoutMillis = loadDataTimeoutMillis;
     }
     
+    public int getLoadDataChunkSize() {
+        return loadDataChunkSize;
+    }
+    
+    public void setLoadDataChunkSize(int loadDataChunkSize) {
+        this.loadDataChunkSize = loadDataChunkSize;
+    }
+    
+    public int getLoadDataParallelism() {
+        return loadDataParallelism;
+    }
+    
+    public void setLoadDataParallelism(int loadDataParallelism) {
+        this.loadDataParallelism = loadDataParallelism;
+    }
+    
+    public boolean isSyncDeltaEnabled() {
+        return syncDeltaEnabled;
+    }
+    
+    public void setSyncDeltaEnabled(boolean syncDeltaEnabled) {
+        this.syncDeltaEnabled = syncDeltaEnabled;
+    }
+    
+    public boolean isVerifyDigestEnabled() {
+        return verifyDigestEnabled;
+    }
+    
+    public void setVerifyDigestEnabled(boolean verifyDigestEnabled) {
+        this.verifyDigestEnabled = verifyDigestEnabled;
+    }
+    
     @Override
     protected String printConfig() {
         return "DistroConfig{" + "syncDelayMillis=" + syncDelayMillis + ", syncTimeoutMillis=" + syncTimeoutMillis
                 + ", syncRetryDelayMillis=" + syncRetryDelayMillis + ", verifyIntervalMillis=" + verifyIntervalMillis
                 + ", verifyTimeoutMillis=" + verifyTimeoutMillis + ", loadDataRetryDelayMillis="
-                + loadDataRetryDelayMillis + '}';
+                + loadDataRetryDelayMillis + ", loadDataChunkSize=" + loadDataChunkSize + ", loadDataParallelism="
+                + loadDataParallelism + ", syncDeltaEnabled=" + syncDeltaEnabled
+                + ", verifyDigestEnabled=" + verifyDigestEnabled + '}';
     }
 }
@@ -51,4 +51,20 @@ public class DistroConstants {
     
     public static final long DEFAULT_DATA_LOAD_TIMEOUT_MILLISECONDS = 30000L;
     
+    public static final String DATA_LOAD_CHUNK_SIZE = "nacos.core.protocol.distro.data.load.chunkSize";
+    
+    public static final int DEFAULT_DATA_LOAD_CHUNK_SIZE = 1000;
+    
+    public static final String DATA_LOAD_PARALLELISM = "nacos.core.protocol.distro.data.load.parallelism";
+    
+    public static final int DEFAULT_DATA_LOAD_PARALLELISM = 4;
+    
+    public static final String DATA_SYNC_DELTA_ENABLED = "nacos.core.protocol.distro.data.sync.deltaEnabled";
+    
+    public static final boolean DEFAULT_DATA_SYNC_DELTA_ENABLED = true;
+    
+    public static final String DATA_VERIFY_DIGEST_ENABLED = "nacos.core.protocol.distro.data.verify.digestEnabled";
+    
+    public static final boolean DEFAULT_DATA_VERIFY_DIGEST_ENABLED = true;
+    
 }
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.core.distributed.distro;
 
+import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.consistency.DataOperation;
 import com.alibaba.nacos.core.cluster.Member;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
@@ -234,4 +235,20 @@ public class DistroProtocol {
         }
         return distroDataStorage.getDatumSnapshot();
     }
+    
+    /**
+     * Query one chunk of all datum snapshot.
+     *
+     * @param type   datum type
+     * @param cursor cursor of chunk, empty for the first chunk
+     * @return chunk of datum snapshot
+     */
+    public DistroData onSnapshotChunk(String type, String cursor) {
+        DistroDataStorage distroDataStorage = distroComponentHolder.findDataStorage(type);
+        if (null == distroDataStorage) {
+            Loggers.DISTRO.warn("[DISTRO] Can't find data storage for received key {}", type);
+            return new DistroData(new DistroKey(StringUtils.EMPTY, type), new byte[0]);
+        }
+        return distroDataStorage.getDatumSnapshotChunk(cursor);
+    }
 }
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.core.distributed.distro.component;
 
+import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 
@@ -57,6 +58,21 @@ public interface DistroDataStorage {
      */
     DistroData getDatumSnapshot();
     
+    /**
+     * Get one chunk of all distro datum snapshot.
+     *
+     * <p>Different chunks should not contain the same datum, so that chunks can be processed in parallel. The resource
+     * key of returned data is the cursor of next chunk, which is empty if it is the last chunk.
+     *
+     * @param cursor cursor of chunk, empty for the first chunk
+     * @return chunk of datum snapshot
+     */
+    default DistroData getDatumSnapshotChunk(String cursor) {
+        DistroData result = getDatumSnapshot();
+        result.setDistroKey(new DistroKey(StringUtils.EMPTY, result.getDistroKey().getResourceType()));
+        return result;
+    }
+    
     /**
      * Get verify datum.
      *
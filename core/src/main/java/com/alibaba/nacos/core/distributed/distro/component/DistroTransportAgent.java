@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.core.distributed.distro.component;
 
+import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 
@@ -89,4 +90,17 @@ public interface DistroTransportAgent {
      * @return distro data
      */
     DistroData getDatumSnapshot(String targetServer);
+    
+    /**
+     * Get one chunk of all datum snapshot from target server.
+     *
+     * @param targetServer target server
+     * @param cursor       cursor of chunk, empty for the first chunk
+     * @return chunk of datum snapshot, the resource key of which is the cursor of next chunk, empty if no more chunk
+     */
+    default DistroData getDatumSnapshotChunk(String targetServer, String cursor) {
+        DistroData result = getDatumSnapshot(targetServer);
+        result.setDistroKey(new DistroKey(StringUtils.EMPTY, result.getDistroKey().getResourceType()));
+        return result;
+    }
 }
@@ -36,12 +36,21 @@ public class DistroRecord {
     
     private final AtomicInteger failedVerifyCount;
     
+    private final AtomicLong loadedSnapshotChunkCount;
+    
+    private final AtomicLong loadedSnapshotBytes;
+    
+    private final AtomicInteger failedSnapshotChunkCount;
+    
     public DistroRecord(String type) {
         this.type = type;
         this.totalSyncCount = new AtomicLong();
         this.successfulSyncCount = new AtomicLong();
         this.failedSyncCount = new AtomicLong();
         this.failedVerifyCount = new AtomicInteger();
+        this.loadedSnapshotChunkCount = new AtomicLong();
+        this.loadedSnapshotBytes = new AtomicLong();
+        this.failedSnapshotChunkCount = new AtomicInteger();
     }
     
     public String getType() {
@@ -62,6 +71,15 @@ public class DistroRecord {
         failedVerifyCount.incrementAndGet();
     }
     
+    public void snapshotChunkLoaded(int bytes) {
+        loadedSnapshotChunkCount.incrementAndGet();
+        loadedSnapshotBytes.addAndGet(bytes);
+    }
+    
+    public void snapshotChunkFail() {
+        failedSnapshotChunkCount.incrementAndGet();
+    }
+    
     public long getTotalSyncCount() {
         return totalSyncCount.get();
     }
@@ -77,4 +95,16 @@ public class DistroRecord {
     public int getFailedVerifyCount() {
         return failedVerifyCount.get();
     }
+    
+    public long getLoadedSnapshotChunkCount() {
+        return loadedSnapshotChunkCount.get();
+    }
+    
+    public long getLoadedSnapshotBytes() {
+        return loadedSnapshotBytes.get();
+    }
+    
+    public int getFailedSnapshotChunkCount() {
+        return failedSnapshotChunkCount.get();
+    }
 }
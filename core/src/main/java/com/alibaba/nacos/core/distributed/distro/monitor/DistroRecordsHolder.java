@@ -73,4 +73,22 @@ public class DistroRecordsHolder {
         distroRecords.forEach((s, distroRecord) -> result.addAndGet(distroRecord.getFailedVerifyCount()));
         return result.get();
     }
+    
+    public long getLoadedSnapshotChunkCount() {
+        final AtomicLong result = new AtomicLong();
+        distroRecords.forEach((s, distroRecord) -> result.addAndGet(distroRecord.getLoadedSnapshotChunkCount()));
+        return result.get();
+    }
+    
+    public long getLoadedSnapshotBytes() {
+        final AtomicLong result = new AtomicLong();
+        distroRecords.forEach((s, distroRecord) -> result.addAndGet(distroRecord.getLoadedSnapshotBytes()));
+        return result.get();
+    }
+    
+    public int getFailedSnapshotChunkCount() {
+        final AtomicInteger result = new AtomicInteger();
+        distroRecords.forEach((s, distroRecord) -> result.addAndGet(distroRecord.getFailedSnapshotChunkCount()));
+        return result.get();
+    }
 }
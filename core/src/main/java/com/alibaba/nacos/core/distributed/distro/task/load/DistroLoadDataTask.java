@@ -16,6 +16,9 @@
 
 package com.alibaba.nacos.core.distributed.distro.task.load;
 
+import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.core.cluster.Member;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
 import com.alibaba.nacos.core.distributed.distro.DistroConfig;
@@ -24,12 +27,17 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataProcessor;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecord;
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecordsHolder;
 import com.alibaba.nacos.core.utils.GlobalExecutor;
 import com.alibaba.nacos.core.utils.Loggers;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Distro load data task.
@@ -101,14 +109,9 @@ public class DistroLoadDataTask implements Runnable {
             long startTime = System.currentTimeMillis();
             try {
                 Loggers.DISTRO.info("[DISTRO-INIT] load snapshot {} from {}", resourceType, each.getAddress());
-                DistroData distroData = transportAgent.getDatumSnapshot(each.getAddress());
-                Loggers.DISTRO.info("[DISTRO-INIT] it took {} ms to load snapshot {} from {} and snapshot size is {}.",
-                        System.currentTimeMillis() - startTime, resourceType, each.getAddress(),
-                        getDistroDataLength(distroData));
-                boolean result = dataProcessor.processSnapshot(distroData);
-                Loggers.DISTRO
-                        .info("[DISTRO-INIT] load snapshot {} from {} result: {}", resourceType, each.getAddress(),
-                                result);
+                boolean result = loadSnapshotChunks(resourceType, each.getAddress(), transportAgent, dataProcessor);
+                Loggers.DISTRO.info("[DISTRO-INIT] it took {} ms to load snapshot {} from {}, result: {}",
+                        System.currentTimeMillis() - startTime, resourceType, each.getAddress(), result);
                 if (result) {
                     distroComponentHolder.findDataStorage(resourceType).finishInitial();
                     return true;
@@ -120,6 +123,61 @@ public class DistroLoadDataTask implements Runnable {
         return false;
     }
     
+    /**
+     * Load snapshot chunk by chunk from target server.
+     *
+     * <p>Chunks are processed in parallel, and at most {@code parallelism} chunks are processing, so that the memory
+     * used by loading snapshot is bounded.
+     */
+    private boolean loadSnapshotChunks(String resourceType, String targetServer, DistroTransportAgent transportAgent,
+            DistroDataProcessor dataProcessor) throws InterruptedException {
+        final int parallelism = Math.max(1, distroConfig.getLoadDataParallelism());
+        final Semaphore permits = new Semaphore(parallelism);
+        final AtomicBoolean failed = new AtomicBoolean(false);
+        final DistroRecord distroRecord = DistroRecordsHolder.getInstance().getRecord(resourceType);
+        ExecutorService executor = ExecutorFactory
+                .newFixedExecutorService(parallelism, new NameThreadFactory("com.alibaba.nacos.core.protocal.distro.load"));
+        int chunkCount = 0;
+        try {
+            String cursor = StringUtils.EMPTY;
+            do {
+                DistroData chunk = transportAgent.getDatumSnapshotChunk(targetServer, cursor);
+                chunkCount++;
+                permits.acquire();
+                executor.execute(() -> processSnapshotChunk(chunk, dataProcessor, distroRecord, failed, permits));
+                cursor = chunk.getDistroKey().getResourceKey();
+            } while (StringUtils.isNotBlank(cursor) && !failed.get());
+        } finally {
+            permits.acquireUninterruptibly(parallelism);
+            executor.shutdown();
+        }
+        Loggers.DISTRO.info("[DISTRO-INIT] load {} chunks of snapshot {} from {}, total loaded {} chunks and {} bytes",
+                chunkCount, resourceType, targetServer, distroRecord.getLoadedSnapshotChunkCount(),
+                distroRecord.getLoadedSnapshotBytes());
+        return !failed.get();
+    }
+    
+    private void processSnapshotChunk(DistroData chunk, DistroDataProcessor dataProcessor, DistroRecord distroRecord,
+            AtomicBoolean failed, Semaphore permits) {
+        try {
+            if (failed.get()) {
+                return;
+            }
+            if (dataProcessor.processSnapshot(chunk)) {
+                distroRecord.snapshotChunkLoaded(getDistroDataLength(chunk));
+            } else {
+                distroRecord.snapshotChunkFail();
+                failed.set(true);
+            }
+        } catch (Exception e) {
+            Loggers.DISTRO.error("[DISTRO-INIT] process snapshot chunk {} failed.", chunk.getDistroKey(), e);
+            distroRecord.snapshotChunkFail();
+            failed.set(true);
+        } finally {
+            permits.release();
+        }
+    }
+    
     private static int getDistroDataLength(DistroData distroData) {
         return distroData != null && distroData.getContent() != null ? distroData.getContent().length : 0;
     }
@@ -133,6 +133,22 @@ public final class NacosMeterRegistryCenter {
         return null;
     }
     
+    /**
+     * Get timer which publishes percentile histogram, used for latency distribution such as health check rt.
+     *
+     * @param registry registry name
+     * @param name     meter name
+     * @param tags     meter tags
+     * @return timer with histogram, null if registry not found
+     */
+    public static Timer histogramTimer(String registry, String name, Iterable<Tag> tags) {
+        CompositeMeterRegistry compositeMeterRegistry = METER_REGISTRIES.get(registry);
+        if (compositeMeterRegistry != null) {
+            return Timer.builder(name).tags(tags).publishPercentileHistogram().register(compositeMeterRegistry);
+        }
+        return null;
+    }
+    
     public static DistributionSummary summary(String registry, String name, Iterable<Tag> tags) {
         CompositeMeterRegistry compositeMeterRegistry = METER_REGISTRIES.get(registry);
         if (compositeMeterRegistry != null) {
@@ -17,7 +17,11 @@
 package com.alibaba.nacos.core.remote;
 
 import com.alibaba.nacos.api.ability.ClientAbilities;
+import com.alibaba.nacos.api.exception.NacosException;
+import com.alibaba.nacos.api.remote.RequestCallBack;
 import com.alibaba.nacos.api.remote.Requester;
+import com.alibaba.nacos.api.remote.request.Request;
+import com.alibaba.nacos.common.remote.client.grpc.RequestPayloadTemplate;
 
 import java.util.Map;
 
@@ -70,6 +74,17 @@ public abstract class Connection implements Requester {
         this.abilities = abilities;
     }
     
+    /**
+     * Whether the client of connection declares binary payload ability, which is only declared when server supports it
+     * too.
+     *
+     * @return true if the request to client can be encoded by binary codec
+     */
+    public boolean isSupportBinaryPayload() {
+        return null != abilities && null != abilities.getRemoteAbility() && abilities.getRemoteAbility()
+                .isSupportBinaryPayload();
+    }
+    
     /**
      * check is connected.
      *
@@ -77,6 +92,20 @@ public abstract class Connection implements Requester {
      */
     public abstract boolean isConnected();
     
+    /**
+     * Send request asynchronously with the payload template which is shared between connections. Connections which
+     * can't use the template send the request itself.
+     *
+     * @param request         request of the payload template, used to track the request.
+     * @param payloadTemplate payload template prepared from request.
+     * @param requestCallBack callback of request.
+     * @throws NacosException exception throw.
+     */
+    public void asyncRequest(Request request, RequestPayloadTemplate payloadTemplate, RequestCallBack requestCallBack)
+            throws NacosException {
+        asyncRequest(request, requestCallBack);
+    }
+    
     /**
      * Update last Active Time to now.
      */
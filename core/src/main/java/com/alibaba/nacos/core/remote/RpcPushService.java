@@ -21,6 +21,7 @@ import com.alibaba.nacos.api.remote.AbstractRequestCallBack;
 import com.alibaba.nacos.api.remote.request.ServerRequest;
 import com.alibaba.nacos.api.remote.PushCallBack;
 import com.alibaba.nacos.api.remote.response.Response;
+import com.alibaba.nacos.common.remote.client.grpc.RequestPayloadTemplate;
 import com.alibaba.nacos.common.remote.exception.ConnectionAlreadyClosedException;
 import com.alibaba.nacos.core.utils.Loggers;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -58,10 +59,23 @@ public class RpcPushService {
      */
     public void pushWithCallback(String connectionId, ServerRequest request, PushCallBack requestCallBack,
             Executor executor) {
+        pushWithCallback(connectionId, request, null, requestCallBack, executor);
+    }
+    
+    /**
+     * push response with the payload template shared between connections.
+     *
+     * @param connectionId    connectionId.
+     * @param request         request.
+     * @param payloadTemplate payload template prepared from request, null means serialize request for this push.
+     * @param requestCallBack requestCallBack.
+     */
+    public void pushWithCallback(String connectionId, ServerRequest request, RequestPayloadTemplate payloadTemplate,
+            PushCallBack requestCallBack, Executor executor) {
         Connection connection = connectionManager.getConnection(connectionId);
         if (connection != null) {
             try {
-                connection.asyncRequest(request, new AbstractRequestCallBack(requestCallBack.getTimeout()) {
+                connection.asyncRequest(request, payloadTemplate, new AbstractRequestCallBack(requestCallBack.getTimeout()) {
                     
                     @Override
                     public Executor getExecutor() {
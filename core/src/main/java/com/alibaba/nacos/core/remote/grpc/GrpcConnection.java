@@ -24,6 +24,7 @@ import com.alibaba.nacos.api.remote.RequestFuture;
 import com.alibaba.nacos.api.remote.request.Request;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import com.alibaba.nacos.common.remote.client.grpc.RequestPayloadTemplate;
 import com.alibaba.nacos.common.remote.exception.ConnectionAlreadyClosedException;
 import com.alibaba.nacos.core.remote.Connection;
 import com.alibaba.nacos.core.remote.ConnectionMeta;
@@ -52,12 +53,14 @@ public class GrpcConnection extends Connection {
         this.channel = channel;
     }
     
-    private void sendRequestNoAck(Request request) throws NacosException {
+    private void sendRequestNoAck(Request request, RequestPayloadTemplate payloadTemplate) throws NacosException {
         try {
             //StreamObserver#onNext() is not thread-safe,synchronized is required to avoid direct memory leak.
             synchronized (streamObserver) {
                 
-                Payload payload = GrpcUtils.convert(request);
+                boolean binaryPayload = isSupportBinaryPayload();
+                Payload payload = null == payloadTemplate ? GrpcUtils.convert(request, binaryPayload)
+                        : payloadTemplate.build(request.getRequestId(), binaryPayload);
                 traceIfNecessary(payload);
                 streamObserver.onNext(payload);
             }
@@ -83,7 +86,8 @@ public class GrpcConnection extends Connection {
         }
     }
     
-    private DefaultRequestFuture sendRequestInner(Request request, RequestCallBack callBack) throws NacosException {
+    private DefaultRequestFuture sendRequestInner(Request request, RequestPayloadTemplate payloadTemplate,
+            RequestCallBack callBack) throws NacosException {
         final String requestId = String.valueOf(PushAckIdGenerator.getNextId());
         request.setRequestId(requestId);
         
@@ -91,13 +95,13 @@ public class GrpcConnection extends Connection {
                 callBack, () -> RpcAckCallbackSynchronizer.clearFuture(getMetaInfo().getConnectionId(), requestId));
         
         RpcAckCallbackSynchronizer.syncCallback(getMetaInfo().getConnectionId(), requestId, defaultPushFuture);
-        sendRequestNoAck(request);
+        sendRequestNoAck(request, payloadTemplate);
         return defaultPushFuture;
     }
     
     @Override
     public Response request(Request request, long timeoutMills) throws NacosException {
-        DefaultRequestFuture pushFuture = sendRequestInner(request, null);
+        DefaultRequestFuture pushFuture = sendRequestInner(request, null, null);
         try {
             return pushFuture.get(timeoutMills);
         } catch (Exception e) {
@@ -109,12 +113,18 @@ public class GrpcConnection extends Connection {
     
     @Override
     public RequestFuture requestFuture(Request request) throws NacosException {
-        return sendRequestInner(request, null);
+        return sendRequestInner(request, null, null);
     }
     
     @Override
     public void asyncRequest(Request request, RequestCallBack requestCallBack) throws NacosException {
-        sendRequestInner(request, requestCallBack);
+        sendRequestInner(request, null, requestCallBack);
+    }
+    
+    @Override
+    public void asyncRequest(Request request, RequestPayloadTemplate payloadTemplate, RequestCallBack requestCallBack)
+            throws NacosException {
+        sendRequestInner(request, payloadTemplate, requestCallBack);
     }
     
     @Override
@@ -38,6 +38,8 @@ public class RemoteUtils {
      */
     private static final int REMOTE_EXECUTOR_QUEUE_SIZE = 1 << 14;
     
+    private static final String REMOTE_BINARY_PAYLOAD = "remote.binary.payload";
+    
     /**
      * get remote executors thread times of processors,default is 64. see the usage of this method for detail.
      *
@@ -62,4 +64,15 @@ public class RemoteUtils {
             return REMOTE_EXECUTOR_QUEUE_SIZE;
         }
     }
+    
+    /**
+     * whether server supports the binary payload, default is true. The binary payload is only used for the connections
+     * which declare the ability too.
+     *
+     * @return true if server supports binary payload.
+     */
+    public static boolean isBinaryPayloadSupported() {
+        String binaryPayload = System.getProperty(REMOTE_BINARY_PAYLOAD);
+        return null == binaryPayload || Boolean.parseBoolean(binaryPayload);
+    }
 }
@@ -31,5 +31,6 @@ public class RemoteAbilityInitializerTest {
         assertFalse(serverAbilities.getRemoteAbility().isSupportRemoteConnection());
         initializer.initialize(serverAbilities);
         assertTrue(serverAbilities.getRemoteAbility().isSupportRemoteConnection());
+        assertTrue(serverAbilities.getRemoteAbility().isSupportBinaryPayload());
     }
 }
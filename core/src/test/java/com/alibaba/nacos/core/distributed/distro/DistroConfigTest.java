@@ -28,6 +28,8 @@ import java.lang.reflect.Constructor;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class DistroConfigTest {
     
@@ -75,6 +77,22 @@ public class DistroConfigTest {
         assertEquals(loadDataRetryDelayMillis, distroConfig.getLoadDataRetryDelayMillis());
     }
     
+    @Test
+    public void testSetSyncDeltaEnabled() {
+        distroConfig.setSyncDeltaEnabled(false);
+        assertFalse(distroConfig.isSyncDeltaEnabled());
+        distroConfig.setSyncDeltaEnabled(true);
+        assertTrue(distroConfig.isSyncDeltaEnabled());
+    }
+    
+    @Test
+    public void testSetVerifyDigestEnabled() {
+        distroConfig.setVerifyDigestEnabled(false);
+        assertFalse(distroConfig.isVerifyDigestEnabled());
+        distroConfig.setVerifyDigestEnabled(true);
+        assertTrue(distroConfig.isVerifyDigestEnabled());
+    }
+    
     @Test
     public void testUpgradeConfig() throws InterruptedException {
         assertEquals(DistroConstants.DEFAULT_DATA_SYNC_DELAY_MILLISECONDS, distroConfig.getSyncDelayMillis());
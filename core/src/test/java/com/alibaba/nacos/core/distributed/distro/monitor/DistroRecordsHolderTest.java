@@ -69,4 +69,20 @@ public class DistroRecordsHolderTest {
         actual.get().verifyFail();
         assertEquals(1, DistroRecordsHolder.getInstance().getFailedVerifyCount());
     }
+    
+    @Test
+    public void testGetLoadedSnapshotChunkCount() {
+        long expectedChunkCount = DistroRecordsHolder.getInstance().getLoadedSnapshotChunkCount() + 1;
+        long expectedBytes = DistroRecordsHolder.getInstance().getLoadedSnapshotBytes() + 10;
+        DistroRecordsHolder.getInstance().getRecord("testGetLoadedSnapshotChunkCount").snapshotChunkLoaded(10);
+        assertEquals(expectedChunkCount, DistroRecordsHolder.getInstance().getLoadedSnapshotChunkCount());
+        assertEquals(expectedBytes, DistroRecordsHolder.getInstance().getLoadedSnapshotBytes());
+    }
+    
+    @Test
+    public void testGetFailedSnapshotChunkCount() {
+        int expected = DistroRecordsHolder.getInstance().getFailedSnapshotChunkCount() + 1;
+        DistroRecordsHolder.getInstance().getRecord("testGetFailedSnapshotChunkCount").snapshotChunkFail();
+        assertEquals(expected, DistroRecordsHolder.getInstance().getFailedSnapshotChunkCount());
+    }
 }
@@ -26,6 +26,9 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
 import com.alibaba.nacos.core.distributed.distro.component.DistroFailedTaskHandler;
 import com.alibaba.nacos.core.distributed.distro.component.DistroTransportAgent;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecord;
+import com.alibaba.nacos.core.distributed.distro.monitor.DistroRecordsHolder;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import junit.framework.TestCase;
 import org.junit.Before;
@@ -42,6 +45,8 @@ import java.util.List;
 import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -64,7 +69,6 @@ public class DistroLoadDataTaskTest extends TestCase {
     @Mock
     private DistroDataProcessor distroDataProcessor;
     
-    @Mock
     private DistroData distroData;
     
     private DistroLoadDataTask distroLoadDataTask;
@@ -95,7 +99,8 @@ public class DistroLoadDataTaskTest extends TestCase {
         componentHolder.registerFailedTaskHandler(type, distroFailedTaskHandler);
         when(distroDataProcessor.processType()).thenReturn(type);
         componentHolder.registerDataProcessor(distroDataProcessor);
-        when(distroTransportAgent.getDatumSnapshot(any(String.class))).thenReturn(distroData);
+        distroData = new DistroData(new DistroKey("", type), new byte[] {1});
+        when(distroTransportAgent.getDatumSnapshotChunk(any(String.class), any(String.class))).thenReturn(distroData);
         when(distroDataProcessor.processSnapshot(distroData)).thenReturn(true);
         distroLoadDataTask = new DistroLoadDataTask(memberManager, componentHolder, distroConfig, loadCallback);
     }
@@ -107,6 +112,39 @@ public class DistroLoadDataTaskTest extends TestCase {
                 .getField(distroLoadDataTask, "loadCompletedMap");
         assertNotNull(loadCompletedMap);
         assertTrue(loadCompletedMap.containsKey(type));
-        verify(distroTransportAgent).getDatumSnapshot(any(String.class));
+        assertTrue(loadCompletedMap.get(type));
+        verify(distroTransportAgent).getDatumSnapshotChunk(any(String.class), eq(""));
+        verify(distroDataStorage).finishInitial();
+    }
+    
+    @Test
+    public void testRunWithChunks() {
+        DistroData firstChunk = new DistroData(new DistroKey("1/2", type), new byte[] {1, 2});
+        when(distroTransportAgent.getDatumSnapshotChunk(any(String.class), eq(""))).thenReturn(firstChunk);
+        when(distroTransportAgent.getDatumSnapshotChunk(any(String.class), eq("1/2"))).thenReturn(distroData);
+        when(distroDataProcessor.processSnapshot(firstChunk)).thenReturn(true);
+        DistroRecord distroRecord = DistroRecordsHolder.getInstance().getRecord(type);
+        final long expectedChunkCount = distroRecord.getLoadedSnapshotChunkCount() + 2;
+        final long expectedBytes = distroRecord.getLoadedSnapshotBytes() + 3;
+        distroLoadDataTask.run();
+        verify(distroDataProcessor).processSnapshot(firstChunk);
+        verify(distroDataProcessor).processSnapshot(distroData);
+        assertEquals(expectedChunkCount, distroRecord.getLoadedSnapshotChunkCount());
+        assertEquals(expectedBytes, distroRecord.getLoadedSnapshotBytes());
+        verify(distroDataStorage).finishInitial();
+    }
+    
+    @Test
+    public void testRunWithFailedChunk() {
+        when(distroDataProcessor.processSnapshot(distroData)).thenReturn(false);
+        DistroRecord distroRecord = DistroRecordsHolder.getInstance().getRecord(type);
+        final int expectedFailedCount = distroRecord.getFailedSnapshotChunkCount() + 2;
+        distroLoadDataTask.run();
+        Map<String, Boolean> loadCompletedMap = (Map<String, Boolean>) ReflectionTestUtils
+                .getField(distroLoadDataTask, "loadCompletedMap");
+        assertFalse(loadCompletedMap.get(type));
+        // try to load from both members
+        assertEquals(expectedFailedCount, distroRecord.getFailedSnapshotChunkCount());
+        verify(distroDataStorage, never()).finishInitial();
     }
 }
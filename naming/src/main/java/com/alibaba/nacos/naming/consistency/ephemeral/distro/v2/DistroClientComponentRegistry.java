@@ -65,10 +65,13 @@ public class DistroClientComponentRegistry {
      */
     @PostConstruct
     public void doRegister() {
-        DistroClientDataProcessor dataProcessor = new DistroClientDataProcessor(clientManager, distroProtocol);
+        DistroClientDeltaSyncManager deltaSyncManager = new DistroClientDeltaSyncManager();
+        DistroClientDataProcessor dataProcessor = new DistroClientDataProcessor(clientManager, distroProtocol,
+                deltaSyncManager);
         DistroTransportAgent transportAgent = new DistroClientTransportAgent(clusterRpcClientProxy,
-                serverMemberManager);
-        DistroClientTaskFailedHandler taskFailedHandler = new DistroClientTaskFailedHandler(taskEngineHolder);
+                serverMemberManager, dataProcessor);
+        DistroClientTaskFailedHandler taskFailedHandler = new DistroClientTaskFailedHandler(taskEngineHolder,
+                deltaSyncManager);
         componentHolder.registerDataStorage(DistroClientDataProcessor.TYPE, dataProcessor);
         componentHolder.registerDataProcessor(dataProcessor);
         componentHolder.registerTransportAgent(DistroClientDataProcessor.TYPE, transportAgent);
@@ -19,7 +19,9 @@ package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
 import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
+import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataProcessor;
 import com.alibaba.nacos.core.distributed.distro.component.DistroDataStorage;
@@ -31,6 +33,7 @@ import com.alibaba.nacos.naming.core.v2.ServiceManager;
 import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.client.ClientSyncData;
 import com.alibaba.nacos.naming.core.v2.client.ClientSyncDatumSnapshot;
+import com.alibaba.nacos.naming.core.v2.client.ClientSyncDelta;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
 import com.alibaba.nacos.naming.core.v2.event.client.ClientEvent;
 import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
@@ -44,10 +47,13 @@ import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import org.apache.commons.collections.CollectionUtils;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  * Distro processor for v2.
@@ -61,15 +67,28 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
     
     public static final String TYPE = "Nacos:Naming:v2:ClientData";
     
+    /**
+     * Resource key of verify digest data.
+     */
+    public static final String VERIFY_DIGEST_KEY = "Nacos:Naming:v2:ClientVerifyDigest";
+    
+    private static final String SNAPSHOT_CURSOR_SEPARATOR = "/";
+    
     private final ClientManager clientManager;
     
     private final DistroProtocol distroProtocol;
     
+    private final DistroClientDeltaSyncManager deltaSyncManager;
+    
+    private final DistroClientVerifyDigestManager verifyDigestManager = new DistroClientVerifyDigestManager();
+    
     private volatile boolean isFinishInitial;
     
-    public DistroClientDataProcessor(ClientManager clientManager, DistroProtocol distroProtocol) {
+    public DistroClientDataProcessor(ClientManager clientManager, DistroProtocol distroProtocol,
+            DistroClientDeltaSyncManager deltaSyncManager) {
         this.clientManager = clientManager;
         this.distroProtocol = distroProtocol;
+        this.deltaSyncManager = deltaSyncManager;
         NotifyCenter.registerSubscriber(this, NamingEventPublisherFactory.getInstance());
     }
     
@@ -100,6 +119,11 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         if (EnvUtil.getStandaloneMode()) {
             return;
         }
+        if (event instanceof ClientEvent.ClientDisconnectEvent) {
+            String clientId = ((ClientEvent) event).getClient().getClientId();
+            deltaSyncManager.removeClient(clientId);
+            verifyDigestManager.removeClient(clientId);
+        }
         if (event instanceof ClientEvent.ClientVerifyFailedEvent) {
             syncToVerifyFailedServer((ClientEvent.ClientVerifyFailedEvent) event);
         } else {
@@ -113,6 +137,8 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
             return;
         }
         DistroKey distroKey = new DistroKey(client.getClientId(), TYPE);
+        // Target doesn't have the client data, delta data can't be applied.
+        deltaSyncManager.resetTarget(client.getClientId(), event.getTargetServer());
         // Verify failed data should be sync directly.
         distroProtocol.syncToTarget(distroKey, DataOperation.ADD, event.getTargetServer(), 0L);
     }
@@ -149,6 +175,9 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
             case CHANGE:
                 ClientSyncData clientSyncData = ApplicationUtils.getBean(Serializer.class)
                         .deserialize(distroData.getContent(), ClientSyncData.class);
+                if (null != clientSyncData.getDelta()) {
+                    return handlerClientSyncDelta(clientSyncData);
+                }
                 handlerClientSyncData(clientSyncData);
                 return true;
             case DELETE:
@@ -168,6 +197,48 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         clientManager.syncClientConnected(clientSyncData.getClientId(), clientSyncData.getAttributes());
         Client client = clientManager.getClient(clientSyncData.getClientId());
         upgradeClient(client, clientSyncData);
+        client.setRevision(getRevision(clientSyncData));
+        deltaSyncManager.recordApplied(clientSyncData.getClientId(), clientSyncData.getSyncRevision());
+    }
+    
+    private boolean handlerClientSyncDelta(ClientSyncData clientSyncData) {
+        String clientId = clientSyncData.getClientId();
+        ClientSyncDelta delta = clientSyncData.getDelta();
+        Client client = clientManager.getClient(clientId);
+        if (null == client || null == clientSyncData.getSyncRevision() || !deltaSyncManager
+                .tryApplyDelta(clientId, delta.getBaseSyncRevision(), clientSyncData.getSyncRevision())) {
+            // Fail the sync so that source server will send full data.
+            Loggers.DISTRO.info("[Client-Delta] Can't apply distro client delta {} based on sync revision {}", clientId,
+                    delta.getBaseSyncRevision());
+            return false;
+        }
+        Loggers.DISTRO.info("[Client-Delta] Received distro client delta {}, revision={}", clientId,
+                getRevision(clientSyncData));
+        Set<Service> syncedService = new HashSet<>();
+        upsertInstances(client, delta.getNamespaces(), delta.getGroupNames(), delta.getServiceNames(),
+                delta.getInstancePublishInfos(), syncedService);
+        BatchInstanceData batchInstanceData = delta.getBatchInstanceData();
+        if (null != batchInstanceData && CollectionUtils.isNotEmpty(batchInstanceData.getNamespaces())) {
+            upsertInstances(client, batchInstanceData.getNamespaces(), batchInstanceData.getGroupNames(),
+                    batchInstanceData.getServiceNames(), batchInstanceData.getBatchInstancePublishInfos(),
+                    syncedService);
+        }
+        List<String> removedNamespaces = delta.getRemovedNamespaces();
+        for (int i = 0; null != removedNamespaces && i < removedNamespaces.size(); i++) {
+            Service service = Service.newService(removedNamespaces.get(i), delta.getRemovedGroupNames().get(i),
+                    delta.getRemovedServiceNames().get(i));
+            if (null != client.removeServiceInstance(service)) {
+                NotifyCenter.publishEvent(new ClientOperationEvent.ClientDeregisterServiceEvent(
+                        ServiceManager.getInstance().getSingleton(service), clientId));
+            }
+        }
+        client.setRevision(getRevision(clientSyncData));
+        return true;
+    }
+    
+    private static long getRevision(ClientSyncData clientSyncData) {
+        Object revision = clientSyncData.getAttributes().getClientAttribute(ClientConstants.REVISION);
+        return revision instanceof Number ? ((Number) revision).longValue() : 0L;
     }
     
     private void upgradeClient(Client client, ClientSyncData clientSyncData) {
@@ -178,8 +249,19 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         List<String> groupNames = clientSyncData.getGroupNames();
         List<String> serviceNames = clientSyncData.getServiceNames();
         List<InstancePublishInfo> instances = clientSyncData.getInstancePublishInfos();
-        
-        for (int i = 0; i < namespaces.size(); i++) {
+        upsertInstances(client, namespaces, groupNames, serviceNames, instances, syncedService);
+        for (Service each : client.getAllPublishedService()) {
+            if (!syncedService.contains(each)) {
+                client.removeServiceInstance(each);
+                NotifyCenter.publishEvent(
+                        new ClientOperationEvent.ClientDeregisterServiceEvent(each, client.getClientId()));
+            }
+        }
+    }
+    
+    private void upsertInstances(Client client, List<String> namespaces, List<String> groupNames,
+            List<String> serviceNames, List<? extends InstancePublishInfo> instances, Set<Service> syncedService) {
+        for (int i = 0; null != namespaces && i < namespaces.size(); i++) {
             Service service = Service.newService(namespaces.get(i), groupNames.get(i), serviceNames.get(i));
             Service singleton = ServiceManager.getInstance().getSingleton(service);
             syncedService.add(singleton);
@@ -190,13 +272,6 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
                         new ClientOperationEvent.ClientRegisterServiceEvent(singleton, client.getClientId()));
             }
         }
-        for (Service each : client.getAllPublishedService()) {
-            if (!syncedService.contains(each)) {
-                client.removeServiceInstance(each);
-                NotifyCenter.publishEvent(
-                        new ClientOperationEvent.ClientDeregisterServiceEvent(each, client.getClientId()));
-            }
-        }
     }
     
     private static void processBatchInstanceDistroData(Set<Service> syncedService, Client client,
@@ -259,14 +334,61 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         if (null == client) {
             return null;
         }
-        byte[] data = ApplicationUtils.getBean(Serializer.class).serialize(client.generateSyncData());
+        String targetServer = distroKey.getTargetServer();
+        ClientSyncData syncData = isDeltaSyncTarget(targetServer) ? deltaSyncManager.buildSyncData(client, targetServer)
+                : client.generateSyncData();
+        byte[] data = ApplicationUtils.getBean(Serializer.class).serialize(syncData);
         return new DistroData(distroKey, data);
     }
     
+    private boolean isDeltaSyncTarget(String targetServer) {
+        return DistroConfig.getInstance().isSyncDeltaEnabled() && null != targetServer && !targetServer
+                .equals(EnvUtil.getLocalAddress());
+    }
+    
     @Override
     public DistroData getDatumSnapshot() {
+        byte[] data = generateSnapshotData(clientManager.allClientId(), clientId -> true);
+        return new DistroData(new DistroKey(DataOperation.SNAPSHOT.name(), TYPE), data);
+    }
+    
+    /**
+     * Get one chunk of snapshot, clients are split into chunks by hash of client id.
+     *
+     * <p>The cursor is formatted as {@code chunkIndex/chunkCount}. The chunk count is decided by the count of clients
+     * and the chunk size when the first chunk is queried.
+     *
+     * @param cursor cursor of chunk, empty for the first chunk
+     * @return chunk of snapshot
+     */
+    @Override
+    public DistroData getDatumSnapshotChunk(String cursor) {
+        Collection<String> allClientIds = clientManager.allClientId();
+        int chunkIndex = 0;
+        int chunkCount;
+        if (StringUtils.isBlank(cursor)) {
+            int chunkSize = Math.max(1, DistroConfig.getInstance().getLoadDataChunkSize());
+            chunkCount = Math.max(1, (allClientIds.size() + chunkSize - 1) / chunkSize);
+        } else {
+            String[] split = cursor.split(SNAPSHOT_CURSOR_SEPARATOR);
+            chunkIndex = Integer.parseInt(split[0]);
+            chunkCount = Integer.parseInt(split[1]);
+        }
+        final int index = chunkIndex;
+        final int count = chunkCount;
+        byte[] data = generateSnapshotData(allClientIds, clientId -> index == snapshotChunkOf(clientId, count));
+        String nextCursor = index + 1 < count ? (index + 1) + SNAPSHOT_CURSOR_SEPARATOR + count : StringUtils.EMPTY;
+        DistroData result = new DistroData(new DistroKey(nextCursor, TYPE), data);
+        result.setType(DataOperation.SNAPSHOT);
+        return result;
+    }
+    
+    private byte[] generateSnapshotData(Collection<String> clientIds, Predicate<String> clientIdFilter) {
         List<ClientSyncData> datum = new LinkedList<>();
-        for (String each : clientManager.allClientId()) {
+        for (String each : clientIds) {
+            if (!clientIdFilter.test(each)) {
+                continue;
+            }
             Client client = clientManager.getClient(each);
             if (null == client || !client.isEphemeral()) {
                 continue;
@@ -275,31 +397,107 @@ public class DistroClientDataProcessor extends SmartSubscriber implements Distro
         }
         ClientSyncDatumSnapshot snapshot = new ClientSyncDatumSnapshot();
         snapshot.setClientSyncDataList(datum);
-        byte[] data = ApplicationUtils.getBean(Serializer.class).serialize(snapshot);
-        return new DistroData(new DistroKey(DataOperation.SNAPSHOT.name(), TYPE), data);
+        return ApplicationUtils.getBean(Serializer.class).serialize(snapshot);
+    }
+    
+    private static int snapshotChunkOf(String clientId, int chunkCount) {
+        return (clientId.hashCode() & Integer.MAX_VALUE) % chunkCount;
     }
     
     @Override
     public List<DistroData> getVerifyData() {
-        List<DistroData> result = null;
+        List<Client> clients = getResponsibleClients();
+        if (clients.isEmpty()) {
+            return null;
+        }
+        if (!DistroConfig.getInstance().isVerifyDigestEnabled()) {
+            return buildClientVerifyData(clients);
+        }
+        DistroClientVerifyDigest digest = verifyDigestManager.buildDigest(EnvUtil.getLocalAddress(), clients);
+        return Collections.singletonList(buildVerifyDigestData(digest));
+    }
+    
+    /**
+     * Get verify data of each responsible client, used when target server can't verify digest.
+     *
+     * @return verify data of each responsible client
+     */
+    public List<DistroData> getClientVerifyData() {
+        return buildClientVerifyData(getResponsibleClients());
+    }
+    
+    /**
+     * Get verify data of client revisions in mismatched buckets.
+     *
+     * @param bucketCount bucket count of digest
+     * @param buckets     mismatched buckets
+     * @return verify digest data with client revisions
+     */
+    public DistroData getBucketVerifyData(int bucketCount, List<Integer> buckets) {
+        return buildVerifyDigestData(verifyDigestManager
+                .buildBucketClients(EnvUtil.getLocalAddress(), getResponsibleClients(), bucketCount, buckets));
+    }
+    
+    /**
+     * Process verify digest data from source server.
+     *
+     * @param distroData verify digest data
+     * @return result with mismatched buckets or failed clients
+     */
+    public DistroData processVerifyDigest(DistroData distroData) {
+        Serializer serializer = ApplicationUtils.getBean(Serializer.class);
+        DistroClientVerifyDigest digest = serializer.deserialize(distroData.getContent(), DistroClientVerifyDigest.class);
+        DistroClientVerifyDigest result = new DistroClientVerifyDigest();
+        result.setBucketCount(digest.getBucketCount());
+        if (null == digest.getClients()) {
+            result.setBuckets(verifyDigestManager.verifyDigest(digest, clientManager));
+        } else {
+            result.setClients(verifyDigestManager.verifyBucketClients(digest, clientManager));
+        }
+        return new DistroData(distroData.getDistroKey(), serializer.serialize(result));
+    }
+    
+    /**
+     * Whether the data is verify digest data.
+     *
+     * @param distroData distro data
+     * @return true if verify digest data
+     */
+    public static boolean isVerifyDigest(DistroData distroData) {
+        return null != distroData && null != distroData.getDistroKey() && VERIFY_DIGEST_KEY
+                .equals(distroData.getDistroKey().getResourceKey());
+    }
+    
+    private DistroData buildVerifyDigestData(DistroClientVerifyDigest digest) {
+        DistroKey distroKey = new DistroKey(VERIFY_DIGEST_KEY, TYPE);
+        DistroData result = new DistroData(distroKey, ApplicationUtils.getBean(Serializer.class).serialize(digest));
+        result.setType(DataOperation.VERIFY);
+        return result;
+    }
+    
+    private List<Client> getResponsibleClients() {
+        List<Client> result = new LinkedList<>();
         for (String each : clientManager.allClientId()) {
             Client client = clientManager.getClient(each);
             if (null == client || !client.isEphemeral()) {
                 continue;
             }
             if (clientManager.isResponsibleClient(client)) {
-                DistroClientVerifyInfo verifyData = new DistroClientVerifyInfo(client.getClientId(),
-                        client.getRevision());
-                DistroKey distroKey = new DistroKey(client.getClientId(), TYPE);
-                DistroData data = new DistroData(distroKey,
-                        ApplicationUtils.getBean(Serializer.class).serialize(verifyData));
-                data.setType(DataOperation.VERIFY);
-                if (result == null) {
-                    result = new LinkedList<>();
-                }
-                result.add(data);
+                result.add(client);
             }
         }
         return result;
     }
+    
+    private List<DistroData> buildClientVerifyData(List<Client> clients) {
+        List<DistroData> result = new LinkedList<>();
+        for (Client client : clients) {
+            DistroClientVerifyInfo verifyData = new DistroClientVerifyInfo(client.getClientId(), client.getRevision());
+            DistroKey distroKey = new DistroKey(client.getClientId(), TYPE);
+            DistroData data = new DistroData(distroKey, ApplicationUtils.getBean(Serializer.class).serialize(verifyData));
+            data.setType(DataOperation.VERIFY);
+            result.add(data);
+        }
+        return result;
+    }
 }
@@ -0,0 +1,322 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import com.alibaba.nacos.naming.core.v2.client.Client;
+import com.alibaba.nacos.naming.core.v2.client.ClientAttributes;
+import com.alibaba.nacos.naming.core.v2.client.ClientSyncData;
+import com.alibaba.nacos.naming.core.v2.client.ClientSyncDelta;
+import com.alibaba.nacos.naming.core.v2.pojo.BatchInstanceData;
+import com.alibaba.nacos.naming.core.v2.pojo.BatchInstancePublishInfo;
+import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.alibaba.nacos.naming.constants.ClientConstants.REVISION;
+
+/**
+ * Manager of distro delta sync for v2 clients.
+ *
+ * <p>For responsible clients, each change of published instances is assigned a new sync revision, and the revision
+ * sent to each target server is recorded. If the target has applied the previous revision, only the changes are sent,
+ * otherwise the full client data is sent. The target applies the changes only when its applied revision is the base
+ * revision of the changes, and fails the sync if not, which makes the source reset the target and send full data.
+ *
+ * @author nacos
+ */
+public class DistroClientDeltaSyncManager {
+    
+    private static final long NO_REVISION = -1L;
+    
+    /**
+     * Start from current time so that revisions won't repeat the ones before restart.
+     */
+    private final AtomicLong revisionGenerator = new AtomicLong(System.currentTimeMillis() << 20);
+    
+    /**
+     * Sync states of responsible clients.
+     */
+    private final Map<String, ClientSyncState> syncStates = new ConcurrentHashMap<>();
+    
+    /**
+     * Sync revisions of clients synced from other servers.
+     */
+    private final Map<String, Long> appliedRevisions = new ConcurrentHashMap<>();
+    
+    /**
+     * Build sync data of responsible client to target server.
+     *
+     * @param client       responsible client
+     * @param targetServer target server
+     * @return delta data if the target has applied the base revision, otherwise full data
+     */
+    public ClientSyncData buildSyncData(Client client, String targetServer) {
+        ClientSyncState state = syncStates.computeIfAbsent(client.getClientId(), key -> new ClientSyncState());
+        synchronized (state) {
+            state.refresh(client, revisionGenerator);
+            Long sentRevision = state.targetRevisions.put(targetServer, state.revision);
+            if (null != sentRevision && sentRevision == state.revision) {
+                // No change for target, empty delta to make sure target has the revision.
+                return buildDeltaData(client, state.revision, new ClientSyncDelta(state.revision));
+            }
+            if (null != sentRevision && sentRevision == state.baseRevision && null != state.lastDelta) {
+                return buildDeltaData(client, state.revision, state.lastDelta);
+            }
+            return buildFullData(client, state.revision, state.instances);
+        }
+    }
+    
+    /**
+     * Forget the revision sent to target server, so that next sync to it will be full data.
+     *
+     * @param clientId     client id
+     * @param targetServer target server
+     */
+    public void resetTarget(String clientId, String targetServer) {
+        ClientSyncState state = syncStates.get(clientId);
+        if (null == state) {
+            return;
+        }
+        synchronized (state) {
+            state.targetRevisions.remove(targetServer);
+        }
+    }
+    
+    /**
+     * Try to apply delta sync data by switching applied revision from base revision to new revision.
+     *
+     * @param clientId     client id
+     * @param baseRevision base revision of delta
+     * @param syncRevision new revision
+     * @return true if the applied revision is the base revision, otherwise false
+     */
+    public boolean tryApplyDelta(String clientId, long baseRevision, long syncRevision) {
+        return appliedRevisions.replace(clientId, baseRevision, syncRevision);
+    }
+    
+    /**
+     * Record full sync data applied from other server.
+     *
+     * @param clientId     client id
+     * @param syncRevision sync revision of full data, {@code null} if source doesn't support delta sync
+     */
+    public void recordApplied(String clientId, Long syncRevision) {
+        // The client is responsible by source server now.
+        syncStates.remove(clientId);
+        if (null == syncRevision) {
+            appliedRevisions.remove(clientId);
+        } else {
+            appliedRevisions.put(clientId, syncRevision);
+        }
+    }
+    
+    /**
+     * Remove states of removed client.
+     *
+     * @param clientId client id
+     */
+    public void removeClient(String clientId) {
+        syncStates.remove(clientId);
+        appliedRevisions.remove(clientId);
+    }
+    
+    private ClientSyncData buildDeltaData(Client client, long syncRevision, ClientSyncDelta delta) {
+        ClientSyncData result = new ClientSyncData();
+        result.setClientId(client.getClientId());
+        result.setAttributes(new ClientAttributes());
+        result.getAttributes().addClientAttribute(REVISION, client.getRevision());
+        result.setSyncRevision(syncRevision);
+        result.setDelta(delta);
+        return result;
+    }
+    
+    private ClientSyncData buildFullData(Client client, long syncRevision, Map<Service, InstanceRecord> instances) {
+        InstanceCollector collector = new InstanceCollector();
+        for (Map.Entry<Service, InstanceRecord> entry : instances.entrySet()) {
+            collector.add(entry.getKey(), entry.getValue().instance);
+        }
+        ClientSyncData result = new ClientSyncData(client.getClientId(), collector.namespaces, collector.groupNames,
+                collector.serviceNames, collector.instances, collector.toBatchInstanceData());
+        result.getAttributes().addClientAttribute(REVISION, client.getRevision());
+        result.setSyncRevision(syncRevision);
+        return result;
+    }
+    
+    private static class ClientSyncState {
+        
+        private final Map<String, Long> targetRevisions = new HashMap<>(8);
+        
+        private long revision = NO_REVISION;
+        
+        private long baseRevision = NO_REVISION;
+        
+        private Map<Service, InstanceRecord> instances;
+        
+        /**
+         * Changes from {@code baseRevision} to {@code revision}.
+         */
+        private ClientSyncDelta lastDelta;
+        
+        private void refresh(Client client, AtomicLong revisionGenerator) {
+            Map<Service, InstanceRecord> latest = new HashMap<>(client.getAllPublishedService().size());
+            InstanceCollector changed = new InstanceCollector();
+            for (Service each : client.getAllPublishedService()) {
+                InstancePublishInfo instance = client.getInstancePublishInfo(each);
+                if (null == instance) {
+                    continue;
+                }
+                InstanceRecord record = new InstanceRecord(instance);
+                latest.put(each, record);
+                InstanceRecord previous = null == instances ? null : instances.get(each);
+                if (null == previous || previous.isChanged(record)) {
+                    changed.add(each, instance);
+                }
+            }
+            List<Service> removed = new LinkedList<>();
+            if (null != instances) {
+                for (Service each : instances.keySet()) {
+                    if (!latest.containsKey(each)) {
+                        removed.add(each);
+                    }
+                }
+            }
+            boolean isChanged = null == instances || !changed.isEmpty() || !removed.isEmpty();
+            if (isChanged) {
+                baseRevision = revision;
+                revision = revisionGenerator.incrementAndGet();
+                lastDelta = null == instances ? null : buildDelta(baseRevision, changed, removed);
+            }
+            instances = latest;
+        }
+        
+        private static ClientSyncDelta buildDelta(long baseRevision, InstanceCollector changed, List<Service> removed) {
+            ClientSyncDelta result = new ClientSyncDelta(baseRevision);
+            result.setNamespaces(changed.namespaces);
+            result.setGroupNames(changed.groupNames);
+            result.setServiceNames(changed.serviceNames);
+            result.setInstancePublishInfos(changed.instances);
+            result.setBatchInstanceData(changed.toBatchInstanceData());
+            List<String> removedNamespaces = new LinkedList<>();
+            List<String> removedGroupNames = new LinkedList<>();
+            List<String> removedServiceNames = new LinkedList<>();
+            for (Service each : removed) {
+                removedNamespaces.add(each.getNamespace());
+                removedGroupNames.add(each.getGroup());
+                removedServiceNames.add(each.getName());
+            }
+            result.setRemovedNamespaces(removedNamespaces);
+            result.setRemovedGroupNames(removedGroupNames);
+            result.setRemovedServiceNames(removedServiceNames);
+            return result;
+        }
+    }
+    
+    /**
+     * Instance sent to target servers with its hash and clusters when sending, some instances such as health check
+     * instances are updated in place. The clusters are recorded separately because {@link InstancePublishInfo#equals}
+     * ignores the cluster.
+     */
+    private static class InstanceRecord {
+        
+        private final InstancePublishInfo instance;
+        
+        private final Object clusters;
+        
+        private final int hash;
+        
+        private InstanceRecord(InstancePublishInfo instance) {
+            this.instance = instance;
+            this.clusters = clustersOf(instance);
+            this.hash = Objects.hash(instance.hashCode(), clusters);
+        }
+        
+        private boolean isChanged(InstanceRecord latest) {
+            return hash != latest.hash || !Objects.equals(clusters, latest.clusters) || (instance != latest.instance
+                    && !instance.equals(latest.instance));
+        }
+        
+        private static Object clustersOf(InstancePublishInfo instance) {
+            if (!(instance instanceof BatchInstancePublishInfo)) {
+                return instance.getCluster();
+            }
+            List<InstancePublishInfo> instances = ((BatchInstancePublishInfo) instance).getInstancePublishInfos();
+            if (null == instances) {
+                return null;
+            }
+            List<String> result = new ArrayList<>(instances.size());
+            for (InstancePublishInfo each : instances) {
+                result.add(each.getCluster());
+            }
+            return result;
+        }
+    }
+    
+    /**
+     * Collect instances into the parallel lists of sync data.
+     */
+    private static class InstanceCollector {
+        
+        private final List<String> namespaces = new LinkedList<>();
+        
+        private final List<String> groupNames = new LinkedList<>();
+        
+        private final List<String> serviceNames = new LinkedList<>();
+        
+        private final List<InstancePublishInfo> instances = new LinkedList<>();
+        
+        private final List<String> batchNamespaces = new LinkedList<>();
+        
+        private final List<String> batchGroupNames = new LinkedList<>();
+        
+        private final List<String> batchServiceNames = new LinkedList<>();
+        
+        private final List<BatchInstancePublishInfo> batchInstances = new LinkedList<>();
+        
+        private void add(Service service, InstancePublishInfo instance) {
+            if (instance instanceof BatchInstancePublishInfo) {
+                batchNamespaces.add(service.getNamespace());
+                batchGroupNames.add(service.getGroup());
+                batchServiceNames.add(service.getName());
+                batchInstances.add((BatchInstancePublishInfo) instance);
+            } else {
+                namespaces.add(service.getNamespace());
+                groupNames.add(service.getGroup());
+                serviceNames.add(service.getName());
+                instances.add(instance);
+            }
+        }
+        
+        private boolean isEmpty() {
+            return namespaces.isEmpty() && batchNamespaces.isEmpty();
+        }
+        
+        private BatchInstanceData toBatchInstanceData() {
+            if (batchNamespaces.isEmpty()) {
+                return new BatchInstanceData();
+            }
+            return new BatchInstanceData(batchNamespaces, batchGroupNames, batchServiceNames, batchInstances);
+        }
+    }
+}
@@ -32,12 +32,18 @@ public class DistroClientTaskFailedHandler implements DistroFailedTaskHandler {
     
     private final DistroTaskEngineHolder distroTaskEngineHolder;
     
-    public DistroClientTaskFailedHandler(DistroTaskEngineHolder distroTaskEngineHolder) {
+    private final DistroClientDeltaSyncManager deltaSyncManager;
+    
+    public DistroClientTaskFailedHandler(DistroTaskEngineHolder distroTaskEngineHolder,
+            DistroClientDeltaSyncManager deltaSyncManager) {
         this.distroTaskEngineHolder = distroTaskEngineHolder;
+        this.deltaSyncManager = deltaSyncManager;
     }
     
     @Override
     public void retry(DistroKey distroKey, DataOperation action) {
+        // Target might not apply the data, retry with full data.
+        deltaSyncManager.resetTarget(distroKey.getResourceKey(), distroKey.getTargetServer());
         DistroDelayTask retryTask = new DistroDelayTask(distroKey, action,
                 DistroConfig.getInstance().getSyncRetryDelayMillis());
         distroTaskEngineHolder.getDelayTaskExecuteEngine().addTask(distroKey, retryTask);
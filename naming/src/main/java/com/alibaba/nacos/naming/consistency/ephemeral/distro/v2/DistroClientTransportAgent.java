@@ -21,6 +21,7 @@ import com.alibaba.nacos.api.remote.RequestCallBack;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.api.remote.response.ResponseCode;
 import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.utils.StringUtils;
 import com.alibaba.nacos.consistency.DataOperation;
 import com.alibaba.nacos.core.cluster.Member;
 import com.alibaba.nacos.core.cluster.NodeState;
@@ -34,11 +35,14 @@ import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 import com.alibaba.nacos.core.distributed.distro.exception.DistroException;
 import com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest;
 import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
+import com.alibaba.nacos.naming.cluster.transport.Serializer;
 import com.alibaba.nacos.naming.core.v2.event.client.ClientEvent;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.misc.Loggers;
 import com.alibaba.nacos.naming.monitor.NamingTpsMonitor;
+import com.alibaba.nacos.sys.utils.ApplicationUtils;
 
+import java.util.List;
 import java.util.concurrent.Executor;
 
 /**
@@ -52,10 +56,13 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
     
     private final ServerMemberManager memberManager;
     
+    private final DistroClientDataProcessor dataProcessor;
+    
     public DistroClientTransportAgent(ClusterRpcClientProxy clusterRpcClientProxy,
-            ServerMemberManager serverMemberManager) {
+            ServerMemberManager serverMemberManager, DistroClientDataProcessor dataProcessor) {
         this.clusterRpcClientProxy = clusterRpcClientProxy;
         this.memberManager = serverMemberManager;
+        this.dataProcessor = dataProcessor;
     }
     
     @Override
@@ -124,6 +131,9 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
         }
         try {
             Response response = clusterRpcClientProxy.sendRequest(member, request);
+            if (DistroClientDataProcessor.isVerifyDigest(verifyData)) {
+                return handleVerifyDigestResult(getVerifyDigestResult(response), targetServer);
+            }
             return checkResponse(response);
         } catch (NacosException e) {
             Loggers.DISTRO.error("[DISTRO-FAILED] Verify distro data failed! key: {} ", verifyData.getDistroKey(), e);
@@ -147,14 +157,35 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
             return;
         }
         try {
-            DistroVerifyCallbackWrapper wrapper = new DistroVerifyCallbackWrapper(targetServer,
-                    verifyData.getDistroKey().getResourceKey(), callback, member);
+            RequestCallBack<Response> wrapper = DistroClientDataProcessor.isVerifyDigest(verifyData)
+                    ? new DistroVerifyDigestCallbackWrapper(targetServer, callback, member)
+                    : new DistroVerifyCallbackWrapper(targetServer, verifyData.getDistroKey().getResourceKey(),
+                            callback, member);
             clusterRpcClientProxy.asyncRequest(member, request, wrapper);
         } catch (NacosException nacosException) {
             callback.onFailed(nacosException);
         }
     }
     
+    private boolean handleVerifyDigestResult(DistroClientVerifyDigest result, String targetServer) {
+        if (null == result) {
+            boolean verifyResult = true;
+            for (DistroData each : dataProcessor.getClientVerifyData()) {
+                verifyResult &= syncVerifyData(each, targetServer);
+            }
+            return verifyResult;
+        }
+        if (null != result.getClients()) {
+            publishVerifyFailedEvents(result.getClients(), targetServer);
+            return result.getClients().isEmpty();
+        }
+        if (null == result.getBuckets() || result.getBuckets().isEmpty()) {
+            return true;
+        }
+        return syncVerifyData(dataProcessor.getBucketVerifyData(result.getBucketCount(), result.getBuckets()),
+                targetServer);
+    }
+    
     @Override
     public DistroData getData(DistroKey key, String targetServer) {
         Member member = memberManager.find(targetServer);
@@ -191,6 +222,27 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
         }
         DistroDataRequest request = new DistroDataRequest();
         request.setDataOperation(DataOperation.SNAPSHOT);
+        return getSnapshot(member, request);
+    }
+    
+    @Override
+    public DistroData getDatumSnapshotChunk(String targetServer, String cursor) {
+        Member member = memberManager.find(targetServer);
+        if (checkTargetServerStatusUnhealthy(member)) {
+            throw new DistroException(
+                    String.format("[DISTRO] Cancel get snapshot caused by target server %s unhealthy", targetServer));
+        }
+        DistroData chunkData = new DistroData(new DistroKey(cursor, DistroClientDataProcessor.TYPE), new byte[0]);
+        DistroData result = getSnapshot(member, new DistroDataRequest(chunkData, DataOperation.SNAPSHOT));
+        if (!DataOperation.SNAPSHOT.equals(result.getType())) {
+            // Target server of old version returns all snapshot instead of chunk, so no more chunk.
+            result.setDistroKey(new DistroKey(StringUtils.EMPTY, DistroClientDataProcessor.TYPE));
+        }
+        return result;
+    }
+    
+    private DistroData getSnapshot(Member member, DistroDataRequest request) {
+        String targetServer = member.getAddress();
         try {
             Response response = clusterRpcClientProxy
                     .sendRequest(member, request, DistroConfig.getInstance().getLoadDataTimeoutMillis());
@@ -218,6 +270,32 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
         return ResponseCode.SUCCESS.getCode() == response.getResultCode();
     }
     
+    /**
+     * Get result of verify digest.
+     *
+     * @param response response of verify digest
+     * @return result, {@code null} if target server can't verify digest
+     */
+    private DistroClientVerifyDigest getVerifyDigestResult(Response response) {
+        if (!checkResponse(response) || !(response instanceof DistroDataResponse)) {
+            return null;
+        }
+        DistroData distroData = ((DistroDataResponse) response).getDistroData();
+        if (null == distroData || null == distroData.getContent()) {
+            return null;
+        }
+        return ApplicationUtils.getBean(Serializer.class)
+                .deserialize(distroData.getContent(), DistroClientVerifyDigest.class);
+    }
+    
+    private void publishVerifyFailedEvents(List<DistroClientVerifyInfo> failedClients, String targetServer) {
+        for (DistroClientVerifyInfo each : failedClients) {
+            Loggers.DISTRO.info("Target {} verify client {} failed, sync new client", targetServer,
+                    each.getClientId());
+            NotifyCenter.publishEvent(new ClientEvent.ClientVerifyFailedEvent(each.getClientId(), targetServer));
+        }
+    }
+    
     private class DistroRpcCallbackWrapper implements RequestCallBack<Response> {
         
         private final DistroCallback distroCallback;
@@ -231,7 +309,7 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
         
         @Override
         public Executor getExecutor() {
-            return GlobalExecutor.getCallbackExecutor();
+            return GlobalExecutor.getCallbackExecutor(member.getAddress());
         }
         
         @Override
@@ -276,7 +354,7 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
         
         @Override
         public Executor getExecutor() {
-            return GlobalExecutor.getCallbackExecutor();
+            return GlobalExecutor.getCallbackExecutor(member.getAddress());
         }
         
         @Override
@@ -302,4 +380,70 @@ public class DistroClientTransportAgent implements DistroTransportAgent {
             distroCallback.onFailed(e);
         }
     }
+    
+    private class DistroVerifyDigestCallbackWrapper implements RequestCallBack<Response> {
+        
+        private final String targetServer;
+        
+        private final DistroCallback distroCallback;
+        
+        private final Member member;
+        
+        private DistroVerifyDigestCallbackWrapper(String targetServer, DistroCallback distroCallback, Member member) {
+            this.targetServer = targetServer;
+            this.distroCallback = distroCallback;
+            this.member = member;
+        }
+        
+        @Override
+        public Executor getExecutor() {
+            return GlobalExecutor.getCallbackExecutor(member.getAddress());
+        }
+        
+        @Override
+        public long getTimeout() {
+            return DistroConfig.getInstance().getVerifyTimeoutMillis();
+        }
+        
+        @Override
+        public void onResponse(Response response) {
+            DistroClientVerifyDigest result = getVerifyDigestResult(response);
+            if (null == result) {
+                // Target server of old version can't verify digest, verify each client instead.
+                Loggers.DISTRO.info("Target {} can't verify digest, verify each client", targetServer);
+                for (DistroData each : dataProcessor.getClientVerifyData()) {
+                    syncVerifyData(each, targetServer, distroCallback);
+                }
+                return;
+            }
+            if (null != result.getClients()) {
+                publishVerifyFailedEvents(result.getClients(), targetServer);
+                finish(result.getClients().isEmpty());
+                return;
+            }
+            if (null == result.getBuckets() || result.getBuckets().isEmpty()) {
+                finish(true);
+                return;
+            }
+            Loggers.DISTRO.info("Target {} verify {} buckets failed, verify clients in them", targetServer,
+                    result.getBuckets().size());
+            syncVerifyData(dataProcessor.getBucketVerifyData(result.getBucketCount(), result.getBuckets()),
+                    targetServer, distroCallback);
+        }
+        
+        @Override
+        public void onException(Throwable e) {
+            distroCallback.onFailed(e);
+        }
+        
+        private void finish(boolean success) {
+            if (success) {
+                NamingTpsMonitor.distroVerifySuccess(member.getAddress(), member.getIp());
+                distroCallback.onSuccess();
+            } else {
+                NamingTpsMonitor.distroVerifyFail(member.getAddress(), member.getIp());
+                distroCallback.onFailed(null);
+            }
+        }
+    }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Digest for verifying clients responsible by source server in buckets.
+ *
+ * <p>Source server sends digests of all buckets first, target server replies the mismatched {@code buckets}. Then
+ * source server sends the {@code clients} in mismatched buckets, target server replies the failed {@code clients}.
+ *
+ * @author nacos
+ */
+public class DistroClientVerifyDigest implements Serializable {
+    
+    private static final long serialVersionUID = -3586203658326361287L;
+    
+    private String source;
+    
+    private int bucketCount;
+    
+    private long[] bucketDigests;
+    
+    private List<Integer> buckets;
+    
+    private List<DistroClientVerifyInfo> clients;
+    
+    public String getSource() {
+        return source;
+    }
+    
+    public void setSource(String source) {
+        this.source = source;
+    }
+    
+    public int getBucketCount() {
+        return bucketCount;
+    }
+    
+    public void setBucketCount(int bucketCount) {
+        this.bucketCount = bucketCount;
+    }
+    
+    public long[] getBucketDigests() {
+        return bucketDigests;
+    }
+    
+    public void setBucketDigests(long[] bucketDigests) {
+        this.bucketDigests = bucketDigests;
+    }
+    
+    public List<Integer> getBuckets() {
+        return buckets;
+    }
+    
+    public void setBuckets(List<Integer> buckets) {
+        this.buckets = buckets;
+    }
+    
+    public List<DistroClientVerifyInfo> getClients() {
+        return clients;
+    }
+    
+    public void setClients(List<DistroClientVerifyInfo> clients) {
+        this.clients = clients;
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import com.alibaba.nacos.naming.core.v2.client.Client;
+import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Manager of bucketed digest verification for v2 clients.
+ *
+ * <p>Clients are hashed into buckets by client id, the digest of a bucket is the sum of hashes of client id and
+ * revision of clients in it. Target server records which server each synced client is verified from, so that it can
+ * calculate the digests of the same clients as source server.
+ *
+ * @author nacos
+ */
+public class DistroClientVerifyDigestManager {
+    
+    public static final int DEFAULT_BUCKET_COUNT = 256;
+    
+    private final int bucketCount;
+    
+    /**
+     * Source server of clients verified from other servers.
+     */
+    private final Map<String, String> clientSources = new ConcurrentHashMap<>();
+    
+    public DistroClientVerifyDigestManager() {
+        this(DEFAULT_BUCKET_COUNT);
+    }
+    
+    public DistroClientVerifyDigestManager(int bucketCount) {
+        this.bucketCount = bucketCount;
+    }
+    
+    /**
+     * Build digests of all buckets for responsible clients.
+     *
+     * @param source  address of current server
+     * @param clients responsible clients
+     * @return digest of buckets
+     */
+    public DistroClientVerifyDigest buildDigest(String source, Collection<Client> clients) {
+        long[] digests = new long[bucketCount];
+        for (Client each : clients) {
+            digests[bucketOf(each.getClientId(), bucketCount)] += hash(each.getClientId(), each.getRevision());
+        }
+        DistroClientVerifyDigest result = new DistroClientVerifyDigest();
+        result.setSource(source);
+        result.setBucketCount(bucketCount);
+        result.setBucketDigests(digests);
+        return result;
+    }
+    
+    /**
+     * Build client revisions of mismatched buckets for responsible clients.
+     *
+     * @param source      address of current server
+     * @param clients     responsible clients
+     * @param bucketCount bucket count of digest
+     * @param buckets     mismatched buckets
+     * @return client revisions in buckets
+     */
+    public DistroClientVerifyDigest buildBucketClients(String source, Collection<Client> clients, int bucketCount,
+            List<Integer> buckets) {
+        Set<Integer> bucketSet = new HashSet<>(buckets);
+        List<DistroClientVerifyInfo> verifyInfos = new LinkedList<>();
+        for (Client each : clients) {
+            if (bucketSet.contains(bucketOf(each.getClientId(), bucketCount))) {
+                verifyInfos.add(new DistroClientVerifyInfo(each.getClientId(), each.getRevision()));
+            }
+        }
+        DistroClientVerifyDigest result = new DistroClientVerifyDigest();
+        result.setSource(source);
+        result.setBucketCount(bucketCount);
+        result.setBuckets(buckets);
+        result.setClients(verifyInfos);
+        return result;
+    }
+    
+    /**
+     * Verify digests from source server, clients in matched buckets are renewed.
+     *
+     * @param digest        digests from source server
+     * @param clientManager client manager
+     * @return mismatched buckets
+     */
+    public List<Integer> verifyDigest(DistroClientVerifyDigest digest, ClientManager clientManager) {
+        int count = digest.getBucketCount();
+        long[] localDigests = new long[count];
+        List<List<Client>> bucketClients = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            bucketClients.add(new LinkedList<>());
+        }
+        for (Map.Entry<String, String> entry : clientSources.entrySet()) {
+            if (!entry.getValue().equals(digest.getSource())) {
+                continue;
+            }
+            Client client = clientManager.getClient(entry.getKey());
+            if (null == client) {
+                continue;
+            }
+            int bucket = bucketOf(client.getClientId(), count);
+            localDigests[bucket] += hash(client.getClientId(), client.getRevision());
+            bucketClients.get(bucket).add(client);
+        }
+        List<Integer> result = new LinkedList<>();
+        for (int i = 0; i < count; i++) {
+            if (localDigests[i] != digest.getBucketDigests()[i]) {
+                result.add(i);
+                continue;
+            }
+            for (Client each : bucketClients.get(i)) {
+                clientManager.verifyClient(new DistroClientVerifyInfo(each.getClientId(), each.getRevision()));
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Verify client revisions of mismatched buckets from source server, matched clients are renewed.
+     *
+     * @param digest        client revisions from source server
+     * @param clientManager client manager
+     * @return failed clients
+     */
+    public List<DistroClientVerifyInfo> verifyBucketClients(DistroClientVerifyDigest digest,
+            ClientManager clientManager) {
+        String source = digest.getSource();
+        Set<String> verifiedClients = new HashSet<>();
+        List<DistroClientVerifyInfo> result = new LinkedList<>();
+        for (DistroClientVerifyInfo each : digest.getClients()) {
+            verifiedClients.add(each.getClientId());
+            // Failed clients will be synced from source, so also belong to source.
+            clientSources.put(each.getClientId(), source);
+            if (!clientManager.verifyClient(each)) {
+                result.add(each);
+            }
+        }
+        // Clients in the buckets not responsible by source any more.
+        Set<Integer> buckets = new HashSet<>(digest.getBuckets());
+        Iterator<Map.Entry<String, String>> iterator = clientSources.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, String> entry = iterator.next();
+            if (source.equals(entry.getValue()) && !verifiedClients.contains(entry.getKey()) && buckets
+                    .contains(bucketOf(entry.getKey(), digest.getBucketCount()))) {
+                iterator.remove();
+            }
+        }
+        return result;
+    }
+    
+    public void removeClient(String clientId) {
+        clientSources.remove(clientId);
+    }
+    
+    static int bucketOf(String clientId, int bucketCount) {
+        return (clientId.hashCode() & Integer.MAX_VALUE) % bucketCount;
+    }
+    
+    static long hash(String clientId, long revision) {
+        long result = clientId.hashCode() * 0x9E3779B97F4A7C15L + revision;
+        result = (result ^ (result >>> 33)) * 0xFF51AFD7ED558CCDL;
+        result = (result ^ (result >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return result ^ (result >>> 33);
+    }
+}
@@ -45,6 +45,16 @@ public class ClientSyncData implements Serializable {
     
     private BatchInstanceData batchInstanceData;
     
+    /**
+     * Revision assigned by the sync source, {@code null} if source doesn't support delta sync.
+     */
+    private Long syncRevision;
+    
+    /**
+     * Changes since the revision applied by peer, {@code null} for full sync data.
+     */
+    private ClientSyncDelta delta;
+    
     public ClientSyncData() {
     }
     
@@ -115,4 +125,20 @@ public class ClientSyncData implements Serializable {
     public void setBatchInstanceData(BatchInstanceData batchInstanceData) {
         this.batchInstanceData = batchInstanceData;
     }
+    
+    public Long getSyncRevision() {
+        return syncRevision;
+    }
+    
+    public void setSyncRevision(Long syncRevision) {
+        this.syncRevision = syncRevision;
+    }
+    
+    public ClientSyncDelta getDelta() {
+        return delta;
+    }
+    
+    public void setDelta(ClientSyncDelta delta) {
+        this.delta = delta;
+    }
 }
@@ -0,0 +1,132 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.client;
+
+import com.alibaba.nacos.naming.core.v2.pojo.BatchInstanceData;
+import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Changes of client sync data based on a sync revision applied by the peer.
+ *
+ * <p>Only contains the instances added or modified and the services removed since {@code baseSyncRevision}.
+ *
+ * @author nacos
+ */
+public class ClientSyncDelta implements Serializable {
+    
+    private static final long serialVersionUID = 2457712371394562143L;
+    
+    private long baseSyncRevision;
+    
+    private List<String> namespaces;
+    
+    private List<String> groupNames;
+    
+    private List<String> serviceNames;
+    
+    private List<InstancePublishInfo> instancePublishInfos;
+    
+    private BatchInstanceData batchInstanceData;
+    
+    private List<String> removedNamespaces;
+    
+    private List<String> removedGroupNames;
+    
+    private List<String> removedServiceNames;
+    
+    public ClientSyncDelta() {
+    }
+    
+    public ClientSyncDelta(long baseSyncRevision) {
+        this.baseSyncRevision = baseSyncRevision;
+    }
+    
+    public long getBaseSyncRevision() {
+        return baseSyncRevision;
+    }
+    
+    public void setBaseSyncRevision(long baseSyncRevision) {
+        this.baseSyncRevision = baseSyncRevision;
+    }
+    
+    public List<String> getNamespaces() {
+        return namespaces;
+    }
+    
+    public void setNamespaces(List<String> namespaces) {
+        this.namespaces = namespaces;
+    }
+    
+    public List<String> getGroupNames() {
+        return groupNames;
+    }
+    
+    public void setGroupNames(List<String> groupNames) {
+        this.groupNames = groupNames;
+    }
+    
+    public List<String> getServiceNames() {
+        return serviceNames;
+    }
+    
+    public void setServiceNames(List<String> serviceNames) {
+        this.serviceNames = serviceNames;
+    }
+    
+    public List<InstancePublishInfo> getInstancePublishInfos() {
+        return instancePublishInfos;
+    }
+    
+    public void setInstancePublishInfos(List<InstancePublishInfo> instancePublishInfos) {
+        this.instancePublishInfos = instancePublishInfos;
+    }
+    
+    public BatchInstanceData getBatchInstanceData() {
+        return batchInstanceData;
+    }
+    
+    public void setBatchInstanceData(BatchInstanceData batchInstanceData) {
+        this.batchInstanceData = batchInstanceData;
+    }
+    
+    public List<String> getRemovedNamespaces() {
+        return removedNamespaces;
+    }
+    
+    public void setRemovedNamespaces(List<String> removedNamespaces) {
+        this.removedNamespaces = removedNamespaces;
+    }
+    
+    public List<String> getRemovedGroupNames() {
+        return removedGroupNames;
+    }
+    
+    public void setRemovedGroupNames(List<String> removedGroupNames) {
+        this.removedGroupNames = removedGroupNames;
+    }
+    
+    public List<String> getRemovedServiceNames() {
+        return removedServiceNames;
+    }
+    
+    public void setRemovedServiceNames(List<String> removedServiceNames) {
+        this.removedServiceNames = removedServiceNames;
+    }
+}
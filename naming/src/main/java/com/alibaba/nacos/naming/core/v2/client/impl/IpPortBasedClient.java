@@ -96,7 +96,23 @@ public class IpPortBasedClient extends AbstractClient {
     // 调用父类addServiceInstance方法前对参数InstancePublishInfo调用parseToHealthCheckInstance进行类型转化，转化为HealthCheckInstancePublishInfo
     @Override
     public boolean addServiceInstance(Service service, InstancePublishInfo instancePublishInfo) {
-        return super.addServiceInstance(service, parseToHealthCheckInstance(instancePublishInfo));
+        boolean result = super.addServiceInstance(service, parseToHealthCheckInstance(instancePublishInfo));
+        if (ephemeral && null != beatCheckTask) {
+            // New instance may time out earlier than the next check of exist instances.
+            HealthCheckReactor.scheduleCheck(beatCheckTask);
+        }
+        return result;
+    }
+    
+    /**
+     * Re-arm the beat check of client by the beat of instance, so the check follows the new heartbeat time.
+     *
+     * @param nextCheckTime next check time of the beat instance
+     */
+    public void rescheduleBeatCheck(long nextCheckTime) {
+        if (ephemeral && null != beatCheckTask) {
+            HealthCheckReactor.rescheduleCheck(beatCheckTask, nextCheckTime - System.currentTimeMillis());
+        }
     }
     // 同时满足下面的条件该方法返回true
     //  1）ephemeral=true，默认就是true
@@ -19,8 +19,14 @@ package com.alibaba.nacos.naming.core.v2.event.publisher;
 import com.alibaba.nacos.common.notify.Event;
 import com.alibaba.nacos.common.notify.EventPublisher;
 import com.alibaba.nacos.common.notify.EventPublisherFactory;
+import com.alibaba.nacos.common.notify.RingBufferEventPublisher;
+import com.alibaba.nacos.common.notify.ShardedEventPublisher;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.core.v2.event.service.ServiceEvent;
 
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -30,13 +36,25 @@ import java.util.concurrent.ConcurrentHashMap;
  * Some naming event is in order, so these event need publish by sync(with same thread and same queue).
  * </p>
  *
+ * <p>
+ * The hot events which are only in order for same service are published by {@link RingBufferEventPublisher} and
+ * handled in parallel.
+ * </p>
+ *
  * @author xiweng.yy
  */
 public class NamingEventPublisherFactory implements EventPublisherFactory {
     
     private static final NamingEventPublisherFactory INSTANCE = new NamingEventPublisherFactory();
     
-    private final Map<Class<? extends Event>, NamingEventPublisher> publisher;
+    private static final Set<Class<? extends Event>> PARALLEL_EVENT_TYPES = new HashSet<>();
+    
+    static {
+        PARALLEL_EVENT_TYPES.add(ClientOperationEvent.class);
+        PARALLEL_EVENT_TYPES.add(ServiceEvent.class);
+    }
+    
+    private final Map<Class<? extends Event>, ShardedEventPublisher> publisher;
     
     private NamingEventPublisherFactory() {
         publisher = new ConcurrentHashMap<>();
@@ -52,7 +70,8 @@ public class NamingEventPublisherFactory implements EventPublisherFactory {
         Class<? extends Event> cachedEventType =
                 eventType.isMemberClass() ? (Class<? extends Event>) eventType.getEnclosingClass() : eventType;
         publisher.computeIfAbsent(cachedEventType, eventClass -> {
-            NamingEventPublisher result = new NamingEventPublisher();
+            ShardedEventPublisher result = PARALLEL_EVENT_TYPES.contains(eventClass) ? new RingBufferEventPublisher()
+                    : new NamingEventPublisher();
             result.init(eventClass, maxQueueSize);
             return result;
         });
@@ -61,8 +80,10 @@ public class NamingEventPublisherFactory implements EventPublisherFactory {
     
     public String getAllPublisherStatues() {
         StringBuilder result = new StringBuilder("Naming event publisher statues:\n");
-        for (NamingEventPublisher each : publisher.values()) {
-            result.append('\t').append(each.getStatus()).append('\n');
+        for (ShardedEventPublisher each : publisher.values()) {
+            String status = each instanceof RingBufferEventPublisher ? ((RingBufferEventPublisher) each).getStatus()
+                    : ((NamingEventPublisher) each).getStatus();
+            result.append('\t').append(status).append('\n');
         }
         return result.toString();
     }
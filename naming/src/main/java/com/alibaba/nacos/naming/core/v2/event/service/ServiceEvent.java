@@ -38,6 +38,11 @@ public class ServiceEvent extends Event {
         return service;
     }
     
+    @Override
+    public Object shardingKey() {
+        return service;
+    }
+    
     /**
      * Service data changed event.
      */
@@ -64,14 +69,14 @@ public class ServiceEvent extends Event {
     public static class ServiceSubscribedEvent extends ServiceEvent {
         
         private static final long serialVersionUID = -2645441445867337345L;
-    
+        
         private final String clientId;
         
         public ServiceSubscribedEvent(Service service, String clientId) {
             super(service);
             this.clientId = clientId;
         }
-    
+        
         public String getClientId() {
             return clientId;
         }
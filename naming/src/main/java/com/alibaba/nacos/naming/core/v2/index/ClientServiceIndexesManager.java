@@ -31,41 +31,85 @@ import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import org.springframework.stereotype.Component;
 
+import java.util.AbstractCollection;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 /**
  * Client and service index manager.
  *
+ * <p>Indexes are sharded by hash of service. Updates of indexes are queued into the shard of the service, and applied
+ * in batch by the thread which gets the shard first, so that concurrent updates of the same shard will not contend
+ * with each other and the changed events of same service in one batch are merged. The publisher index listener is
+ * notified synchronously after the publisher indexes are changed and before the changed events are published.
+ *
  * @author xiweng.yy
  */
 @Component
 public class ClientServiceIndexesManager extends SmartSubscriber {
-
-    // 用于存放注册的服务及服务对应的服务客户端（一般就是clientId）
-    private final ConcurrentMap<Service, Set<String>> publisherIndexes = new ConcurrentHashMap<>();
-
-    // 用于存放服务及对应订阅该服务的客户端信息（一般就是clientId）
-    private final ConcurrentMap<Service, Set<String>> subscriberIndexes = new ConcurrentHashMap<>();
+    
+    private static final int SHARD_COUNT = 16;
+    
+    private static final int MAX_BATCH_SIZE = 1024;
+    
+    private final IndexShard[] shards;
+    
+    private final Collection<Service> subscribedServices = new SubscribedServicesView();
+    
+    private volatile Consumer<Service> publisherIndexListener = service -> {
+    };
     
     public ClientServiceIndexesManager() {
+        shards = new IndexShard[SHARD_COUNT];
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            shards[i] = new IndexShard();
+        }
         NotifyCenter.registerSubscriber(this, NamingEventPublisherFactory.getInstance());
     }
     
+    /**
+     * Get read-only view of clients which registered the service.
+     *
+     * @param service service
+     * @return client ids
+     */
     public Collection<String> getAllClientsRegisteredService(Service service) {
-        return publisherIndexes.containsKey(service) ? publisherIndexes.get(service) : new ConcurrentHashSet<>();
+        return readOnlyView(shardOf(service).publisherIndexes.get(service));
     }
     
+    /**
+     * Get read-only view of clients which subscribed the service.
+     *
+     * @param service service
+     * @return client ids
+     */
     public Collection<String> getAllClientsSubscribeService(Service service) {
-        return subscriberIndexes.containsKey(service) ? subscriberIndexes.get(service) : new ConcurrentHashSet<>();
+        return readOnlyView(shardOf(service).subscriberIndexes.get(service));
     }
     
     public Collection<Service> getSubscribedService() {
-        return subscriberIndexes.keySet();
+        return subscribedServices;
+    }
+    
+    /**
+     * Set the listener notified in the updating thread when the clients registered the service are changed.
+     *
+     * @param publisherIndexListener listener of changed service
+     */
+    public void setPublisherIndexListener(Consumer<Service> publisherIndexListener) {
+        this.publisherIndexListener = publisherIndexListener;
     }
     
     /**
@@ -74,11 +118,41 @@ public class ClientServiceIndexesManager extends SmartSubscriber {
      * @param service The service of the Nacos.
      */
     public void removePublisherIndexesByEmptyService(Service service) {
-        if (publisherIndexes.containsKey(service) && publisherIndexes.get(service).isEmpty()) {
-            publisherIndexes.remove(service);
+        shardOf(service).publisherIndexes.computeIfPresent(service, (key, ids) -> ids.isEmpty() ? null : ids);
+    }
+    
+    /**
+     * Remove all indexes of the client in batch.
+     *
+     * @param clientId           client id
+     * @param publishedServices  services published by the client
+     * @param subscribedServices services subscribed by the client
+     */
+    @SuppressWarnings("unchecked")
+    public void removeClientIndexes(String clientId, Collection<Service> publishedServices,
+            Collection<Service> subscribedServices) {
+        List<IndexOperation>[] shardOperations = new List[shards.length];
+        for (Service each : subscribedServices) {
+            addOperation(shardOperations, new IndexOperation(IndexOperationType.REMOVE_SUBSCRIBER, each, clientId));
+        }
+        for (Service each : publishedServices) {
+            addOperation(shardOperations, new IndexOperation(IndexOperationType.REMOVE_PUBLISHER, each, clientId));
+        }
+        for (int i = 0; i < shards.length; i++) {
+            if (null != shardOperations[i]) {
+                shards[i].submit(shardOperations[i]);
+            }
         }
     }
-
+    
+    private void addOperation(List<IndexOperation>[] shardOperations, IndexOperation operation) {
+        int index = shardIndexOf(operation.service);
+        if (null == shardOperations[index]) {
+            shardOperations[index] = new LinkedList<>();
+        }
+        shardOperations[index].add(operation);
+    }
+    
     // 该类作为一个订阅者，可以订阅多个事件
     @Override
     public List<Class<? extends Event>> subscribeTypes() {
@@ -104,19 +178,17 @@ public class ClientServiceIndexesManager extends SmartSubscriber {
             handleClientOperation((ClientOperationEvent) event);
         }
     }
-
+    
     // 接收到客户端断开连接事件后，找到该客户端的所有订阅服务，从订阅服务的客户端集合中删除该客户端
     // 接收到客户端断开连接事件后，找到该客户端的的注册服务，向服务的客户端集合publisherIndexes删除该注册客户端，然后发布事件ServiceEvent.ServiceChangedEvent
     private void handleClientDisconnect(ClientEvent.ClientDisconnectEvent event) {
         Client client = event.getClient();
-        for (Service each : client.getAllSubscribeService()) {
-            removeSubscriberIndexes(each, client.getClientId());
-        }
+        Collection<Service> publishedServices = client.getAllPublishedService();
+        removeClientIndexes(client.getClientId(), publishedServices, client.getAllSubscribeService());
         DeregisterInstanceReason reason = event.isNative()
                 ? DeregisterInstanceReason.NATIVE_DISCONNECTED : DeregisterInstanceReason.SYNCED_DISCONNECTED;
         long currentTimeMillis = System.currentTimeMillis();
-        for (Service each : client.getAllPublishedService()) {
-            removePublisherIndexes(each, client.getClientId());
+        for (Service each : publishedServices) {
             InstancePublishInfo instance = client.getInstancePublishInfo(each);
             NotifyCenter.publishEvent(new DeregisterInstanceTraceEvent(currentTimeMillis,
                     "", false, reason, each.getNamespace(), each.getGroup(), each.getName(),
@@ -127,51 +199,222 @@ public class ClientServiceIndexesManager extends SmartSubscriber {
     private void handleClientOperation(ClientOperationEvent event) {
         Service service = event.getService();
         String clientId = event.getClientId();
+        IndexOperationType type;
         if (event instanceof ClientOperationEvent.ClientRegisterServiceEvent) {
             // 接收到客户端注册服务事件后，向服务对应的客户端集合publisherIndexes添加该注册客户端，既然该服务有新的客户端注册，说明服务发生了变更，所以还会发布服务变更事件
-            addPublisherIndexes(service, clientId);
+            type = IndexOperationType.ADD_PUBLISHER;
         } else if (event instanceof ClientOperationEvent.ClientDeregisterServiceEvent) {
             // 接收到客户端取消注册服务事件后，向服务对应的客户端集合publisherIndexes删除该注册客户端，既然该服务有客户端移除注册，说明服务发生了变更，所以还会发布服务变更事件
-            removePublisherIndexes(service, clientId);
+            type = IndexOperationType.REMOVE_PUBLISHER;
         } else if (event instanceof ClientOperationEvent.ClientSubscribeServiceEvent) {
             // 接收到客户端订阅服务事件后，向订阅该服务的客户端集合subscriberIndexes添加该服务的订阅客户端，如果首次添加（即该客户端首次订阅）就发布服务订阅变更事件
-            addSubscriberIndexes(service, clientId);
+            type = IndexOperationType.ADD_SUBSCRIBER;
         } else if (event instanceof ClientOperationEvent.ClientUnsubscribeServiceEvent) {
             // 接收到客户端取消订阅服务事件后，向订阅该服务的客户端集合subscriberIndexes删除该服务的订阅客户端
-            removeSubscriberIndexes(service, clientId);
+            type = IndexOperationType.REMOVE_SUBSCRIBER;
+        } else {
+            return;
         }
+        shardOf(service).submit(Collections.singletonList(new IndexOperation(type, service, clientId)));
+    }
+    
+    private IndexShard shardOf(Object service) {
+        return shards[shardIndexOf(service)];
+    }
+    
+    private int shardIndexOf(Object service) {
+        return (service.hashCode() & Integer.MAX_VALUE) % shards.length;
     }
     
-    private void addPublisherIndexes(Service service, String clientId) {
-        publisherIndexes.computeIfAbsent(service, key -> new ConcurrentHashSet<>());
-        publisherIndexes.get(service).add(clientId);
-        NotifyCenter.publishEvent(new ServiceEvent.ServiceChangedEvent(service, true));
+    private static Collection<String> readOnlyView(Set<String> clientIds) {
+        return null == clientIds ? Collections.emptySet() : Collections.unmodifiableSet(clientIds);
     }
     
-    private void removePublisherIndexes(Service service, String clientId) {
-        publisherIndexes.computeIfPresent(service, (s, ids) -> {
-            ids.remove(clientId);
-            NotifyCenter.publishEvent(new ServiceEvent.ServiceChangedEvent(service, true));
-            return ids.isEmpty() ? null : ids;
-        });
+    private enum IndexOperationType {
+        
+        /**
+         * Client registers service.
+         */
+        ADD_PUBLISHER,
+        
+        /**
+         * Client deregisters service.
+         */
+        REMOVE_PUBLISHER,
+        
+        /**
+         * Client subscribes service.
+         */
+        ADD_SUBSCRIBER,
+        
+        /**
+         * Client unsubscribes service.
+         */
+        REMOVE_SUBSCRIBER
     }
     
-    private void addSubscriberIndexes(Service service, String clientId) {
-        subscriberIndexes.computeIfAbsent(service, key -> new ConcurrentHashSet<>());
-        // Fix #5404, Only first time add need notify event.
-        // 在订阅注册表加一条记录 并发布服务订阅事件
-        if (subscriberIndexes.get(service).add(clientId)) {
-            NotifyCenter.publishEvent(new ServiceEvent.ServiceSubscribedEvent(service, clientId));
+    private static class IndexOperation {
+        
+        private final IndexOperationType type;
+        
+        private final Service service;
+        
+        private final String clientId;
+        
+        private IndexOperation(IndexOperationType type, Service service, String clientId) {
+            this.type = type;
+            this.service = service;
+            this.clientId = clientId;
         }
     }
     
-    private void removeSubscriberIndexes(Service service, String clientId) {
-        if (!subscriberIndexes.containsKey(service)) {
-            return;
+    private class IndexShard {
+        
+        // 用于存放注册的服务及服务对应的服务客户端（一般就是clientId）
+        private final ConcurrentMap<Service, Set<String>> publisherIndexes = new ConcurrentHashMap<>();
+        
+        // 用于存放服务及对应订阅该服务的客户端信息（一般就是clientId）
+        private final ConcurrentMap<Service, Set<String>> subscriberIndexes = new ConcurrentHashMap<>();
+        
+        private final Queue<IndexOperation> pendingOperations = new ConcurrentLinkedQueue<>();
+        
+        private final AtomicBoolean applying = new AtomicBoolean(false);
+        
+        private void submit(Collection<IndexOperation> operations) {
+            pendingOperations.addAll(operations);
+            applyPendingOperations();
+        }
+        
+        /**
+         * Apply pending operations in batch.
+         *
+         * <p>If another thread is applying, the operations submitted by current thread will be applied by that thread,
+         * which checks pending operations again after releasing this shard.
+         */
+        private void applyPendingOperations() {
+            while (!pendingOperations.isEmpty() && applying.compareAndSet(false, true)) {
+                try {
+                    Set<Service> changedServices = new LinkedHashSet<>();
+                    IndexOperation operation;
+                    for (int i = 0; i < MAX_BATCH_SIZE && null != (operation = pendingOperations.poll()); i++) {
+                        apply(operation, changedServices);
+                    }
+                    for (Service each : changedServices) {
+                        publisherIndexListener.accept(each);
+                        NotifyCenter.publishEvent(new ServiceEvent.ServiceChangedEvent(each, true));
+                    }
+                } finally {
+                    applying.set(false);
+                }
+            }
+        }
+        
+        private void apply(IndexOperation operation, Set<Service> changedServices) {
+            switch (operation.type) {
+                case ADD_PUBLISHER:
+                    addPublisherIndexes(operation.service, operation.clientId);
+                    changedServices.add(operation.service);
+                    break;
+                case REMOVE_PUBLISHER:
+                    if (removePublisherIndexes(operation.service, operation.clientId)) {
+                        changedServices.add(operation.service);
+                    }
+                    break;
+                case ADD_SUBSCRIBER:
+                    addSubscriberIndexes(operation.service, operation.clientId);
+                    break;
+                case REMOVE_SUBSCRIBER:
+                    removeSubscriberIndexes(operation.service, operation.clientId);
+                    break;
+                default:
+                    break;
+            }
+        }
+        
+        private void addPublisherIndexes(Service service, String clientId) {
+            // Empty index might be removed by cleaner in parallel, so the index should be updated atomically.
+            publisherIndexes.compute(service, (key, ids) -> {
+                Set<String> result = null == ids ? new ConcurrentHashSet<>() : ids;
+                result.add(clientId);
+                return result;
+            });
+        }
+        
+        private boolean removePublisherIndexes(Service service, String clientId) {
+            AtomicBoolean existed = new AtomicBoolean(false);
+            publisherIndexes.computeIfPresent(service, (key, ids) -> {
+                existed.set(true);
+                ids.remove(clientId);
+                return ids.isEmpty() ? null : ids;
+            });
+            return existed.get();
+        }
+        
+        private void addSubscriberIndexes(Service service, String clientId) {
+            AtomicBoolean added = new AtomicBoolean(false);
+            subscriberIndexes.compute(service, (key, ids) -> {
+                Set<String> result = null == ids ? new ConcurrentHashSet<>() : ids;
+                added.set(result.add(clientId));
+                return result;
+            });
+            // Fix #5404, Only first time add need notify event.
+            // 在订阅注册表加一条记录 并发布服务订阅事件
+            if (added.get()) {
+                NotifyCenter.publishEvent(new ServiceEvent.ServiceSubscribedEvent(service, clientId));
+            }
+        }
+        
+        private void removeSubscriberIndexes(Service service, String clientId) {
+            subscriberIndexes.computeIfPresent(service, (key, ids) -> {
+                ids.remove(clientId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+    
+    /**
+     * Read-only view of subscribed services in all shards, without copying.
+     */
+    private class SubscribedServicesView extends AbstractCollection<Service> {
+        
+        @Override
+        public Iterator<Service> iterator() {
+            return new Iterator<Service>() {
+                
+                private int nextShard;
+                
+                private Iterator<Service> current = Collections.emptyIterator();
+                
+                @Override
+                public boolean hasNext() {
+                    while (!current.hasNext() && nextShard < shards.length) {
+                        current = shards[nextShard++].subscriberIndexes.keySet().iterator();
+                    }
+                    return current.hasNext();
+                }
+                
+                @Override
+                public Service next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return current.next();
+                }
+            };
+        }
+        
+        @Override
+        public int size() {
+            int result = 0;
+            for (IndexShard each : shards) {
+                result += each.subscriberIndexes.size();
+            }
+            return result;
         }
-        subscriberIndexes.get(service).remove(clientId);
-        if (subscriberIndexes.get(service).isEmpty()) {
-            subscriberIndexes.remove(service);
+        
+        @Override
+        public boolean contains(Object o) {
+            return null != o && shardOf(o).subscriberIndexes.containsKey(o);
         }
     }
 }
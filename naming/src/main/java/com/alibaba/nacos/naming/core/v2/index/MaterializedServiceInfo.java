@@ -0,0 +1,45 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.index;
+
+import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * Service info built by {@link ServiceStorage}, which carries the instances snapshot it is built from.
+ *
+ * <p>{@link ServiceInfo#getHosts()} copies the hosts for every call, the snapshot lets the filters read the instances
+ * and reuse the selections of the same revision without copying.
+ *
+ * @author Nacos
+ */
+public class MaterializedServiceInfo extends ServiceInfo {
+    
+    private static final long serialVersionUID = -5394873453236540123L;
+    
+    private final transient ServiceInstancesSnapshot snapshot;
+    
+    MaterializedServiceInfo(ServiceInstancesSnapshot snapshot) {
+        this.snapshot = snapshot;
+        setHosts(snapshot.getInstances());
+    }
+    
+    @JsonIgnore
+    public ServiceInstancesSnapshot getSnapshot() {
+        return snapshot;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.index;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Immutable instances of one revision of a service.
+ *
+ * <p>Selections derived from the instances, such as the instances filtered by cluster and health, are built lazily
+ * and cached in the snapshot. A new snapshot is created when the instances change, so the cached selections are
+ * reused until the revision changes. The count of cached selections is limited, the selection for other keys will
+ * be built for every call.
+ *
+ * @author Nacos
+ */
+public final class ServiceInstancesSnapshot {
+    
+    static final ServiceInstancesSnapshot EMPTY = new ServiceInstancesSnapshot(0L, Collections.emptyList());
+    
+    private static final int MAX_CACHED_SELECTIONS = 64;
+    
+    private final long revision;
+    
+    private final List<Instance> instances;
+    
+    private final ConcurrentMap<Object, Object> selections = new ConcurrentHashMap<>(4);
+    
+    ServiceInstancesSnapshot(long revision, List<Instance> instances) {
+        this.revision = revision;
+        this.instances = Collections.unmodifiableList(instances);
+    }
+    
+    public long getRevision() {
+        return revision;
+    }
+    
+    public List<Instance> getInstances() {
+        return instances;
+    }
+    
+    /**
+     * Get the selection of the instances for the key, build it if absent.
+     *
+     * @param key     key of selection, should implement {@code equals} and {@code hashCode}
+     * @param builder builder of selection
+     * @param <K>     type of key
+     * @param <V>     type of selection
+     * @return selection of the instances
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> V getSelection(K key, Function<K, V> builder) {
+        Object result = selections.get(key);
+        if (null != result) {
+            return (V) result;
+        }
+        if (selections.size() >= MAX_CACHED_SELECTIONS) {
+            return builder.apply(key);
+        }
+        return (V) selections.computeIfAbsent(key, each -> builder.apply((K) each));
+    }
+}
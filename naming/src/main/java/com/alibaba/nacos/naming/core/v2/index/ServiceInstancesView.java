@@ -0,0 +1,147 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.index;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import com.alibaba.nacos.naming.core.v2.metadata.InstanceMetadata;
+import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Materialized instances view of one service.
+ *
+ * <p>The parsed instances are cached per client, the view is marked changed by publisher index changes and service
+ * changed events, and only the clients whose published instances changed are parsed again when the view is refreshed.
+ * Every refresh which changes the instances creates a new immutable snapshot with an increased version.
+ *
+ * @author Nacos
+ */
+class ServiceInstancesView {
+    
+    private final AtomicLong changedStamp = new AtomicLong(1L);
+    
+    private long refreshedStamp;
+    
+    private volatile ServiceInstancesSnapshot snapshot = ServiceInstancesSnapshot.EMPTY;
+    
+    private Set<String> clusters = new HashSet<>();
+    
+    private Map<String, ClientInstances> clientInstances = new HashMap<>();
+    
+    void markChanged() {
+        changedStamp.incrementAndGet();
+    }
+    
+    boolean isChanged() {
+        return changedStamp.get() != refreshedStamp;
+    }
+    
+    /**
+     * Start a refresh, the returned stamp should be passed to {@link #refreshed(long)} or
+     * {@link #update(long, Map, List, Set)} after refreshing.
+     *
+     * @return changed stamp of this refresh
+     */
+    long startRefresh() {
+        return changedStamp.get();
+    }
+    
+    void refreshed(long stamp) {
+        refreshedStamp = stamp;
+    }
+    
+    void update(long stamp, Map<String, ClientInstances> clientInstances, List<Instance> instances,
+            Set<String> clusters) {
+        this.clientInstances = clientInstances;
+        this.clusters = clusters;
+        this.snapshot = new ServiceInstancesSnapshot(snapshot.getRevision() + 1, instances);
+        refreshed(stamp);
+    }
+    
+    Map<String, ClientInstances> getClientInstances() {
+        return clientInstances;
+    }
+    
+    Set<String> getClusters() {
+        return clusters;
+    }
+    
+    ServiceInstancesSnapshot getSnapshot() {
+        return snapshot;
+    }
+    
+    long getVersion() {
+        return snapshot.getRevision();
+    }
+    
+    /**
+     * Instances parsed from the publish info of one client, with the states used to parse them.
+     */
+    static class ClientInstances {
+        
+        private final InstancePublishInfo publishInfo;
+        
+        private final List<InstancePublishInfo> instanceInfos;
+        
+        private final boolean[] healthy;
+        
+        private final InstanceMetadata[] metadata;
+        
+        private final List<Instance> instances;
+        
+        ClientInstances(InstancePublishInfo publishInfo, List<InstancePublishInfo> instanceInfos,
+                InstanceMetadata[] metadata, List<Instance> instances) {
+            this.publishInfo = publishInfo;
+            this.instanceInfos = instanceInfos;
+            this.healthy = new boolean[instanceInfos.size()];
+            for (int i = 0; i < healthy.length; i++) {
+                healthy[i] = instanceInfos.get(i).isHealthy();
+            }
+            this.metadata = metadata;
+            this.instances = instances;
+        }
+        
+        /**
+         * Whether the instances are parsed from the same publish info with same health status and metadata.
+         *
+         * @param publishInfo     current publish info of client
+         * @param currentMetadata current metadata of every instance info
+         * @return {@code true} if the instances can be reused
+         */
+        boolean isUpToDate(InstancePublishInfo publishInfo, InstanceMetadata[] currentMetadata) {
+            if (this.publishInfo != publishInfo || currentMetadata.length != metadata.length) {
+                return false;
+            }
+            for (int i = 0; i < healthy.length; i++) {
+                if (healthy[i] != instanceInfos.get(i).isHealthy() || metadata[i] != currentMetadata[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        
+        List<Instance> getInstances() {
+            return instances;
+        }
+    }
+}
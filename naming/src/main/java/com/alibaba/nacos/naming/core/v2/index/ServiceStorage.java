@@ -18,10 +18,15 @@ package com.alibaba.nacos.naming.core.v2.index;
 
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
 import com.alibaba.nacos.naming.core.v2.ServiceManager;
 import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
+import com.alibaba.nacos.naming.core.v2.event.publisher.NamingEventPublisherFactory;
+import com.alibaba.nacos.naming.core.v2.event.service.ServiceEvent;
 import com.alibaba.nacos.naming.core.v2.metadata.InstanceMetadata;
 import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
 import com.alibaba.nacos.naming.core.v2.pojo.BatchInstancePublishInfo;
@@ -32,9 +37,13 @@ import com.alibaba.nacos.naming.utils.InstanceUtil;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -49,7 +58,7 @@ import java.util.concurrent.ConcurrentMap;
  * @author xiweng.yy
  */
 @Component
-public class ServiceStorage {
+public class ServiceStorage extends SmartSubscriber {
     
     private final ClientServiceIndexesManager serviceIndexesManager;
     
@@ -65,6 +74,9 @@ public class ServiceStorage {
     // 存放服务及对应拥有的集群集合（一个服务的不同实例可以设置不同的cluster）；
     private final ConcurrentMap<Service, Set<String>> serviceClusterIndex;
     
+    // 存放服务及对应的实例视图，按客户端增量解析实例
+    private final ConcurrentMap<Service, ServiceInstancesView> serviceInstancesViews;
+    
     public ServiceStorage(ClientServiceIndexesManager serviceIndexesManager, ClientManagerDelegate clientManager,
             SwitchDomain switchDomain, NamingMetadataManager metadataManager) {
         this.serviceIndexesManager = serviceIndexesManager;
@@ -73,6 +85,9 @@ public class ServiceStorage {
         this.metadataManager = metadataManager;
         this.serviceDataIndexes = new ConcurrentHashMap<>();
         this.serviceClusterIndex = new ConcurrentHashMap<>();
+        this.serviceInstancesViews = new ConcurrentHashMap<>();
+        serviceIndexesManager.setPublisherIndexListener(this::markChanged);
+        NotifyCenter.registerSubscriber(this, NamingEventPublisherFactory.getInstance());
     }
 
     //服务的集群列表
@@ -92,12 +107,11 @@ public class ServiceStorage {
 
     //如果服务管理器中没有这个服务就通过ServiceManager创建并返回一个空的serviceInfo
     public ServiceInfo getPushData(Service service) {
-        ServiceInfo result = emptyServiceInfo(service);
         if (!ServiceManager.getInstance().containSingleton(service)) {
-            return result;
+            return emptyServiceInfo(service);
         }
         Service singleton = ServiceManager.getInstance().getSingleton(service);
-        result.setHosts(getAllInstancesFromIndex(singleton));
+        ServiceInfo result = fillServiceInfo(new MaterializedServiceInfo(getAllInstancesFromIndex(singleton)), service);
         serviceDataIndexes.put(singleton, result);
         return result;
     }
@@ -106,11 +120,49 @@ public class ServiceStorage {
     public void removeData(Service service) {
         serviceDataIndexes.remove(service);
         serviceClusterIndex.remove(service);
+        serviceInstancesViews.remove(service);
+    }
+    
+    /**
+     * Get version of the instances of service, the version increases when the instances are changed.
+     *
+     * @param service service
+     * @return version of instances, {@code 0} if instances of service have not been built
+     */
+    public long getDataVersion(Service service) {
+        ServiceInstancesView view = serviceInstancesViews.get(service);
+        return null == view ? 0L : view.getVersion();
+    }
+    
+    @Override
+    public List<Class<? extends Event>> subscribeTypes() {
+        List<Class<? extends Event>> result = new LinkedList<>();
+        result.add(ServiceEvent.ServiceChangedEvent.class);
+        return result;
+    }
+    
+    @Override
+    public void onEvent(Event event) {
+        markChanged(((ServiceEvent.ServiceChangedEvent) event).getService());
+    }
+    
+    /**
+     * Mark the instances view of service changed, which is called synchronously when the publisher index is changed,
+     * so that the query after registering won't read the stale view before the changed event is handled.
+     */
+    private void markChanged(Service service) {
+        ServiceInstancesView view = serviceInstancesViews.get(service);
+        if (null != view) {
+            view.markChanged();
+        }
     }
 
     //根据service中的属性创建新的ServiceInfo
     private ServiceInfo emptyServiceInfo(Service service) {
-        ServiceInfo result = new ServiceInfo();
+        return fillServiceInfo(new ServiceInfo(), service);
+    }
+    
+    private ServiceInfo fillServiceInfo(ServiceInfo result, Service service) {
         result.setName(service.getName());
         result.setGroupName(service.getGroup());
         result.setLastRefTime(System.currentTimeMillis());
@@ -118,49 +170,72 @@ public class ServiceStorage {
         return result;
     }
     
-    private List<Instance> getAllInstancesFromIndex(Service service) {
-        Set<Instance> result = new HashSet<>();
-        Set<String> clusters = new HashSet<>();
-        //轮询发布该服务的所有clientId
-        for (String each : serviceIndexesManager.getAllClientsRegisteredService(service)) {
-            //根据clientId查询对应发布的实例信息
-            Optional<InstancePublishInfo> instancePublishInfo = getInstanceInfo(each, service);
-            if (instancePublishInfo.isPresent()) {
+    private ServiceInstancesSnapshot getAllInstancesFromIndex(Service service) {
+        ServiceInstancesView view = serviceInstancesViews.computeIfAbsent(service, key -> new ServiceInstancesView());
+        synchronized (view) {
+            if (!view.isChanged()) {
+                return view.getSnapshot();
+            }
+            long stamp = view.startRefresh();
+            Map<String, ServiceInstancesView.ClientInstances> previous = view.getClientInstances();
+            Collection<String> clientIds = serviceIndexesManager.getAllClientsRegisteredService(service);
+            Map<String, ServiceInstancesView.ClientInstances> current = new HashMap<>(clientIds.size());
+            boolean modified = false;
+            //轮询发布该服务的所有clientId，只重新解析发布信息有变化的客户端
+            for (String each : clientIds) {
+                Optional<InstancePublishInfo> instancePublishInfo = getInstanceInfo(each, service);
+                if (!instancePublishInfo.isPresent()) {
+                    continue;
+                }
+                ServiceInstancesView.ClientInstances clientInstances = previous.get(each);
                 InstancePublishInfo publishInfo = instancePublishInfo.get();
-                //If it is a BatchInstancePublishInfo type, it will be processed manually and added to the instance list
-                if (publishInfo instanceof BatchInstancePublishInfo) {
-                    BatchInstancePublishInfo batchInstancePublishInfo = (BatchInstancePublishInfo) publishInfo;
-                    List<Instance> batchInstance = parseBatchInstance(service, batchInstancePublishInfo, clusters);
-                    result.addAll(batchInstance);
-                } else {
-                    Instance instance = parseInstance(service, instancePublishInfo.get());
+                List<InstancePublishInfo> instanceInfos = publishInfo instanceof BatchInstancePublishInfo
+                        ? ((BatchInstancePublishInfo) publishInfo).getInstancePublishInfos()
+                        : Collections.singletonList(publishInfo);
+                InstanceMetadata[] metadata = getInstanceMetadata(service, instanceInfos);
+                if (null == clientInstances || !clientInstances.isUpToDate(publishInfo, metadata)) {
+                    clientInstances = parseClientInstances(service, publishInfo, instanceInfos, metadata);
+                    modified = true;
+                }
+                current.put(each, clientInstances);
+            }
+            if (!modified && current.size() == previous.size()) {
+                view.refreshed(stamp);
+                serviceClusterIndex.put(service, view.getClusters());
+                return view.getSnapshot();
+            }
+            Set<Instance> result = new HashSet<>();
+            Set<String> clusters = new HashSet<>();
+            for (ServiceInstancesView.ClientInstances each : current.values()) {
+                for (Instance instance : each.getInstances()) {
                     result.add(instance);
                     clusters.add(instance.getClusterName());
                 }
             }
+            view.update(stamp, current, new ArrayList<>(result), clusters);
+            // cache clusters of this service
+            serviceClusterIndex.put(service, clusters);
+            return view.getSnapshot();
         }
-        // cache clusters of this service
-        serviceClusterIndex.put(service, clusters);
-        return new LinkedList<>(result);
     }
     
-    /**
-     * Parse batch instance.
-     * @param service service
-     * @param batchInstancePublishInfo batchInstancePublishInfo
-     * @return batch instance list
-     */
-    private List<Instance> parseBatchInstance(Service service, BatchInstancePublishInfo batchInstancePublishInfo, Set<String> clusters) {
-        List<Instance> resultInstanceList = new ArrayList<>();
-        List<InstancePublishInfo> instancePublishInfos = batchInstancePublishInfo.getInstancePublishInfos();
-        for (InstancePublishInfo instancePublishInfo : instancePublishInfos) {
-            Instance instance = parseInstance(service, instancePublishInfo);
-            resultInstanceList.add(instance);
-            clusters.add(instance.getClusterName());
+    private InstanceMetadata[] getInstanceMetadata(Service service, List<InstancePublishInfo> instanceInfos) {
+        InstanceMetadata[] result = new InstanceMetadata[instanceInfos.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = metadataManager.getInstanceMetadata(service, instanceInfos.get(i).getMetadataId()).orElse(null);
         }
-        return resultInstanceList;
+        return result;
     }
-
+    
+    private ServiceInstancesView.ClientInstances parseClientInstances(Service service, InstancePublishInfo publishInfo,
+            List<InstancePublishInfo> instanceInfos, InstanceMetadata[] metadata) {
+        List<Instance> instances = new ArrayList<>(instanceInfos.size());
+        for (InstancePublishInfo each : instanceInfos) {
+            instances.add(parseInstance(service, each));
+        }
+        return new ServiceInstancesView.ClientInstances(publishInfo, instanceInfos, metadata, instances);
+    }
+    
     //根据clientId从客户端管理器中查询Client
     //client查询服务的所有发布信息类型InstancePublishInfo(跟Instance属性差异不大)
     private Optional<InstancePublishInfo> getInstanceInfo(String clientId, Service service) {
@@ -17,21 +17,32 @@
 package com.alibaba.nacos.naming.core.v2.pojo;
 
 import com.alibaba.nacos.common.utils.InternetAddressUtil;
+import com.alibaba.nacos.naming.utils.StringInterner;
 
 import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 /**
  * Instance POJO of client published for Nacos v2.
  *
+ * <p>One object is kept for every registered instance, so the cluster names and metadata keys repeated by instances
+ * are interned by {@link StringInterner}. The metadata set by {@link #setExtendDatum(Map)} is copied into a map sized
+ * to fit it, and instances without metadata share one empty map. The map returned by {@link #getExtendDatum()} is
+ * still mutable, the shared empty map is copied into an own map of the instance on the first write.
+ *
  * @author xiweng.yy
  */
 public class InstancePublishInfo implements Serializable {
     
     private static final long serialVersionUID = -74988890439616025L;
     
+    private static final Map<String, Object> EMPTY_EXTEND_DATUM = Collections.emptyMap();
+    
     private String ip;
     
     private int port;
@@ -40,7 +51,7 @@ public class InstancePublishInfo implements Serializable {
     
     private String cluster;
     
-    private Map<String, Object> extendDatum;
+    private Map<String, Object> extendDatum = EMPTY_EXTEND_DATUM;
     
     public InstancePublishInfo() {
     }
@@ -48,7 +59,6 @@ public class InstancePublishInfo implements Serializable {
     public InstancePublishInfo(String ip, int port) {
         this.ip = ip;
         this.port = port;
-        extendDatum = new HashMap<>(1);
     }
     
     public void setIp(String ip) {
@@ -68,7 +78,7 @@ public class InstancePublishInfo implements Serializable {
     }
     
     public void setCluster(String cluster) {
-        this.cluster = cluster;
+        this.cluster = intern(cluster);
     }
     
     public String getCluster() {
@@ -76,11 +86,21 @@ public class InstancePublishInfo implements Serializable {
     }
     
     public Map<String, Object> getExtendDatum() {
-        return extendDatum;
+        return EMPTY_EXTEND_DATUM == extendDatum ? new CopyOnWriteExtendDatum() : extendDatum;
     }
     
     public void setExtendDatum(Map<String, Object> extendDatum) {
-        this.extendDatum = extendDatum;
+        this.extendDatum = copyOf(extendDatum);
+    }
+    
+    /**
+     * Set the metadata without copying it, the map is owned by this instance afterwards and should not be used by the
+     * caller any more. The keys of map should be interned by the caller.
+     *
+     * @param extendDatum metadata built for this instance
+     */
+    public void setExtendDatumWithoutCopy(Map<String, Object> extendDatum) {
+        this.extendDatum = null == extendDatum || extendDatum.isEmpty() ? EMPTY_EXTEND_DATUM : extendDatum;
     }
     
     public boolean isHealthy() {
@@ -123,8 +143,84 @@ public class InstancePublishInfo implements Serializable {
                 + '}';
     }
 
+    /**
+     * Intern the strings filled by field based deserializers, such as hessian and java serialization.
+     *
+     * @return this instance after interning
+     */
+    protected Object readResolve() {
+        cluster = intern(cluster);
+        extendDatum = copyOf(extendDatum);
+        return this;
+    }
+    
+    private static String intern(String value) {
+        return StringInterner.intern(value);
+    }
+    
+    private static Map<String, Object> copyOf(Map<String, Object> extendDatum) {
+        if (null == extendDatum || extendDatum.isEmpty()) {
+            return EMPTY_EXTEND_DATUM;
+        }
+        Map<String, Object> result = new HashMap<>((int) (extendDatum.size() / 0.75F) + 1);
+        for (Map.Entry<String, Object> entry : extendDatum.entrySet()) {
+            result.put(intern(entry.getKey()), entry.getValue());
+        }
+        return result;
+    }
+    
     //metadataId的生成逻辑 ip:port:cluster
     public static String genMetadataId(String ip, int port, String cluster) {
         return ip + InternetAddressUtil.IP_PORT_SPLITER + port + InternetAddressUtil.IP_PORT_SPLITER + cluster;
     }
+    
+    /**
+     * Mutable view of the shared empty metadata, the first write copies it into an own map of the instance.
+     */
+    private class CopyOnWriteExtendDatum extends AbstractMap<String, Object> {
+        
+        private Map<String, Object> writable() {
+            if (EMPTY_EXTEND_DATUM == extendDatum) {
+                extendDatum = new HashMap<>(2);
+            }
+            return extendDatum;
+        }
+        
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return extendDatum.entrySet();
+        }
+        
+        @Override
+        public int size() {
+            return extendDatum.size();
+        }
+        
+        @Override
+        public boolean containsKey(Object key) {
+            return extendDatum.containsKey(key);
+        }
+        
+        @Override
+        public Object get(Object key) {
+            return extendDatum.get(key);
+        }
+        
+        @Override
+        public Object put(String key, Object value) {
+            return writable().put(intern(key), value);
+        }
+        
+        @Override
+        public Object remove(Object key) {
+            return EMPTY_EXTEND_DATUM == extendDatum ? null : extendDatum.remove(key);
+        }
+        
+        @Override
+        public void clear() {
+            if (EMPTY_EXTEND_DATUM != extendDatum) {
+                extendDatum.clear();
+            }
+        }
+    }
 }
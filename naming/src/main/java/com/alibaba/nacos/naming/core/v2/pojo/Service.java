@@ -17,6 +17,7 @@
 package com.alibaba.nacos.naming.core.v2.pojo;
 
 import com.alibaba.nacos.api.naming.utils.NamingUtils;
+import com.alibaba.nacos.naming.utils.StringInterner;
 
 import java.io.Serializable;
 import java.util.Objects;
@@ -25,6 +26,8 @@ import java.util.concurrent.atomic.AtomicLong;
 /**
  * Service POJO for Nacos v2.
  *
+ * <p>Namespace and group are shared by a large number of services, so they are interned to keep one copy of each.
+ *
  * @author xiweng.yy
  */
 public class Service implements Serializable {
@@ -44,8 +47,8 @@ public class Service implements Serializable {
     private long lastUpdatedTime;
     
     private Service(String namespace, String group, String name, boolean ephemeral) {
-        this.namespace = namespace;
-        this.group = group;
+        this.namespace = StringInterner.intern(namespace);
+        this.group = StringInterner.intern(group);
         this.name = name;
         this.ephemeral = ephemeral;
         revision = new AtomicLong();
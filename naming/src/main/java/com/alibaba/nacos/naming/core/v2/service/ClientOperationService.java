@@ -23,8 +23,10 @@ import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.UtilsAndCommons;
 import com.alibaba.nacos.naming.pojo.Subscriber;
+import com.alibaba.nacos.naming.utils.StringInterner;
 import com.alibaba.nacos.naming.constants.Constants;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -92,15 +94,22 @@ public interface ClientOperationService {
      * @return {@link InstancePublishInfo}
      */
     default InstancePublishInfo getPublishInfo(Instance instance) {
-        InstancePublishInfo result = new InstancePublishInfo(instance.getIp(), instance.getPort());
-        Map<String, Object> extendDatum = result.getExtendDatum();
-        if (null != instance.getMetadata() && !instance.getMetadata().isEmpty()) {
-            extendDatum.putAll(instance.getMetadata());
+        Map<String, String> metadata = instance.getMetadata();
+        boolean hasInstanceId = StringUtils.isNotEmpty(instance.getInstanceId());
+        boolean hasWeight = Constants.DEFAULT_INSTANCE_WEIGHT != instance.getWeight();
+        int size = (null == metadata ? 0 : metadata.size()) + (hasInstanceId ? 1 : 0) + (hasWeight ? 1 : 0) + (
+                instance.isEnabled() ? 0 : 1);
+        // built for the publish info only, so it is handed over without copy.
+        Map<String, Object> extendDatum = 0 == size ? null : new HashMap<>((int) (size / 0.75F) + 1);
+        if (null != metadata) {
+            for (Map.Entry<String, String> entry : metadata.entrySet()) {
+                extendDatum.put(StringInterner.intern(entry.getKey()), entry.getValue());
+            }
         }
-        if (StringUtils.isNotEmpty(instance.getInstanceId())) {
+        if (hasInstanceId) {
             extendDatum.put(Constants.CUSTOM_INSTANCE_ID, instance.getInstanceId());
         }
-        if (Constants.DEFAULT_INSTANCE_WEIGHT != instance.getWeight()) {
+        if (hasWeight) {
             extendDatum.put(Constants.PUBLISH_INSTANCE_WEIGHT, instance.getWeight());
         }
         if (!instance.isEnabled()) {
@@ -108,6 +117,8 @@ public interface ClientOperationService {
         }
         String clusterName = StringUtils.isBlank(instance.getClusterName()) ? UtilsAndCommons.DEFAULT_CLUSTER_NAME
                 : instance.getClusterName();
+        InstancePublishInfo result = new InstancePublishInfo(instance.getIp(), instance.getPort());
+        result.setExtendDatumWithoutCopy(extendDatum);
         result.setHealthy(instance.isHealthy());
         result.setCluster(clusterName);
         return result;
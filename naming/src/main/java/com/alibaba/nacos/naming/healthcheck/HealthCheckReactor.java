@@ -16,6 +16,11 @@
 
 package com.alibaba.nacos.naming.healthcheck;
 
+import com.alibaba.nacos.common.task.AbstractDelayTask;
+import com.alibaba.nacos.common.task.NacosTask;
+import com.alibaba.nacos.common.task.NacosTaskProcessor;
+import com.alibaba.nacos.common.task.engine.NacosTimingWheelDelayTaskExecuteEngine;
+import com.alibaba.nacos.naming.healthcheck.heartbeat.BeatCheckDelayTask;
 import com.alibaba.nacos.naming.healthcheck.heartbeat.BeatCheckTask;
 import com.alibaba.nacos.naming.healthcheck.interceptor.HealthCheckTaskInterceptWrapper;
 import com.alibaba.nacos.naming.healthcheck.v2.HealthCheckTaskV2;
@@ -30,12 +35,20 @@ import java.util.concurrent.TimeUnit;
 /**
  * Health check reactor.
  *
+ * <p>Client beat check tasks are kept in one timing wheel ordered by the time their instances may change status, so
+ * each round only checks the clients which may have timed out. Beats refresh the heartbeat time and re-arm the entry of
+ * their client if the instance may change status earlier than the entry, e.g. the unhealthy instance becomes healthy.
+ *
  * @author nacos
  */
 @SuppressWarnings("PMD.ThreadPoolCreationRule")
 public class HealthCheckReactor {
     
-    private static Map<String, ScheduledFuture> futureMap = new ConcurrentHashMap<>();
+    private static final long BEAT_CHECK_TICK_INTERVAL = 500L;
+    
+    private static final int BEAT_CHECK_WHEEL_SIZE = 128;
+    
+    private static final Map<String, BeatCheckTask> BEAT_CHECK_TASKS = new ConcurrentHashMap<>();
     
     /**
      * Schedule health check task for v2.
@@ -52,17 +65,31 @@ public class HealthCheckReactor {
     /**
      * Schedule client beat check task with a delay.
      *
+     * <p>If the task has been scheduled, it will be checked no later than the delay.
+     *
      * @param task client beat check task
      */
     public static void scheduleCheck(BeatCheckTask task) {
-        Runnable wrapperTask =
-                task instanceof NacosHealthCheckTask ? new HealthCheckTaskInterceptWrapper((NacosHealthCheckTask) task)
-                        : task;
-        // NAMING_HEALTH_EXECUTOR线程池，如配置核心线程数则使用，否则使用CPU核数一半
-        // initialDelay：第一次延迟执行时间
-        // delay：间隔5秒执行一次
-        futureMap.computeIfAbsent(task.taskKey(),
-                k -> GlobalExecutor.scheduleNamingHealth(wrapperTask, 5000, 5000, TimeUnit.MILLISECONDS));
+        BeatCheckTask existTask = BEAT_CHECK_TASKS.putIfAbsent(task.taskKey(), task);
+        if (null == existTask || existTask == task) {
+            // 第一次延迟5秒执行，之后按实例最早可能超时的时间执行
+            BeatCheckEngineHolder.ENGINE.addTask(task.taskKey(), new BeatCheckDelayTask(task, BeatCheckTask.CHECK_INTERVAL));
+        }
+    }
+    
+    /**
+     * Re-arm the scheduled client beat check task to be checked no later than the delay.
+     *
+     * <p>The wheel entry of task is only moved when the delay is earlier than it, so beats can call it for each beat.
+     *
+     * @param task  client beat check task
+     * @param delay delay in milliseconds
+     */
+    public static void rescheduleCheck(BeatCheckTask task, long delay) {
+        if (isScheduled(task)) {
+            long actualDelay = Math.max(0L, Math.min(delay, BeatCheckTask.MAX_CHECK_INTERVAL));
+            BeatCheckEngineHolder.ENGINE.addTask(task.taskKey(), new BeatCheckDelayTask(task, actualDelay));
+        }
     }
     
     /**
@@ -71,15 +98,8 @@ public class HealthCheckReactor {
      * @param task client beat check task
      */
     public static void cancelCheck(BeatCheckTask task) {
-        ScheduledFuture scheduledFuture = futureMap.get(task.taskKey());
-        if (scheduledFuture == null) {
-            return;
-        }
-        try {
-            scheduledFuture.cancel(true);
-            futureMap.remove(task.taskKey());
-        } catch (Exception e) {
-            Loggers.EVT_LOG.error("[CANCEL-CHECK] cancel failed!", e);
+        if (BEAT_CHECK_TASKS.remove(task.taskKey(), task)) {
+            BeatCheckEngineHolder.ENGINE.removeTask(task.taskKey());
         }
     }
     
@@ -92,4 +112,54 @@ public class HealthCheckReactor {
     public static ScheduledFuture<?> scheduleNow(Runnable task) {
         return GlobalExecutor.scheduleNamingHealth(task, 0, TimeUnit.MILLISECONDS);
     }
+    
+    private static boolean isScheduled(BeatCheckTask task) {
+        return task == BEAT_CHECK_TASKS.get(task.taskKey());
+    }
+    
+    private static class BeatCheckEngineHolder {
+        
+        private static final NacosTimingWheelDelayTaskExecuteEngine ENGINE = createEngine();
+        
+        private static NacosTimingWheelDelayTaskExecuteEngine createEngine() {
+            NacosTimingWheelDelayTaskExecuteEngine result = new NacosTimingWheelDelayTaskExecuteEngine(
+                    "com.alibaba.nacos.naming.beat.check", Loggers.SRV_LOG, BEAT_CHECK_TICK_INTERVAL,
+                    BEAT_CHECK_WHEEL_SIZE);
+            result.setDefaultTaskProcessor(new BeatCheckTaskProcessor());
+            return result;
+        }
+    }
+    
+    private static class BeatCheckTaskProcessor implements NacosTaskProcessor {
+        
+        @Override
+        public boolean process(NacosTask task) {
+            BeatCheckTask beatCheckTask = ((BeatCheckDelayTask) task).getBeatCheckTask();
+            if (!isScheduled(beatCheckTask)) {
+                return true;
+            }
+            Runnable wrapperTask = beatCheckTask instanceof NacosHealthCheckTask ? new HealthCheckTaskInterceptWrapper(
+                    (NacosHealthCheckTask) beatCheckTask) : beatCheckTask;
+            // 在健康检查线程池执行，检查完成后按下次检查时间重新放入时间轮
+            scheduleNow(() -> {
+                try {
+                    wrapperTask.run();
+                } finally {
+                    scheduleNextCheck(beatCheckTask);
+                }
+            });
+            return true;
+        }
+        
+        private void scheduleNextCheck(BeatCheckTask beatCheckTask) {
+            if (!isScheduled(beatCheckTask)) {
+                return;
+            }
+            long delay = beatCheckTask.getNextCheckTime() - System.currentTimeMillis();
+            // Passed next check time means the check didn't finish normally, retry it later to avoid busy checking.
+            delay = delay <= 0 ? BeatCheckTask.CHECK_INTERVAL : Math.min(delay, BeatCheckTask.MAX_CHECK_INTERVAL);
+            AbstractDelayTask nextTask = new BeatCheckDelayTask(beatCheckTask, delay);
+            BeatCheckEngineHolder.ENGINE.addTask(beatCheckTask.taskKey(), nextTask);
+        }
+    }
 }
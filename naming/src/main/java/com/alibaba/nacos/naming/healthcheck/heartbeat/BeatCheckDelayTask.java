@@ -0,0 +1,52 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck.heartbeat;
+
+import com.alibaba.nacos.common.task.AbstractDelayTask;
+
+/**
+ * Delay task to run {@link BeatCheckTask} when the earliest instance of client may change status.
+ *
+ * @author nacos
+ */
+public class BeatCheckDelayTask extends AbstractDelayTask {
+    
+    private final BeatCheckTask beatCheckTask;
+    
+    public BeatCheckDelayTask(BeatCheckTask beatCheckTask, long delay) {
+        this.beatCheckTask = beatCheckTask;
+        setLastProcessTime(System.currentTimeMillis());
+        setTaskInterval(delay);
+    }
+    
+    public BeatCheckTask getBeatCheckTask() {
+        return beatCheckTask;
+    }
+    
+    @Override
+    public void merge(AbstractDelayTask task) {
+        if (!(task instanceof BeatCheckDelayTask)) {
+            return;
+        }
+        long dueTime = getLastProcessTime() + getTaskInterval();
+        long oldDueTime = task.getLastProcessTime() + task.getTaskInterval();
+        if (oldDueTime < dueTime) {
+            setLastProcessTime(task.getLastProcessTime());
+            setTaskInterval(task.getTaskInterval());
+        }
+    }
+}
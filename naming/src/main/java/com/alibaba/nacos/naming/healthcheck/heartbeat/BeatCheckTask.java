@@ -23,6 +23,16 @@ package com.alibaba.nacos.naming.healthcheck.heartbeat;
  */
 public interface BeatCheckTask extends Runnable {
     
+    /**
+     * Interval of check when the time of next status change can't be predicted, unit is millisecond.
+     */
+    long CHECK_INTERVAL = 5000L;
+    
+    /**
+     * Max interval between two checks, so that the changed timeout settings are applied in time, unit is millisecond.
+     */
+    long MAX_CHECK_INTERVAL = 30000L;
+    
     /**
      * Task key.
      *
@@ -30,4 +40,12 @@ public interface BeatCheckTask extends Runnable {
      */
     String taskKey();
     
+    /**
+     * Get the time of next check after this run, the status of instances will not change before it without new beats.
+     *
+     * @return next check time in milliseconds
+     */
+    default long getNextCheckTime() {
+        return System.currentTimeMillis() + CHECK_INTERVAL;
+    }
 }
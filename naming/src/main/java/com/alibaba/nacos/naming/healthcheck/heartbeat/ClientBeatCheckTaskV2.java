@@ -58,6 +58,8 @@ public class ClientBeatCheckTaskV2 extends AbstractExecuteTask implements BeatCh
     // 任务拦截器链
     private final InstanceBeatCheckTaskInterceptorChain interceptorChain;
     
+    private volatile long nextCheckTime;
+    
     public ClientBeatCheckTaskV2(IpPortBasedClient client) {
         this.client = client;
         this.taskId = client.getResponsibleId();
@@ -84,6 +86,7 @@ public class ClientBeatCheckTaskV2 extends AbstractExecuteTask implements BeatCh
     // 再执行InstanceBeatCheckTask的passIntercept方法完成一次心跳检查
     @Override
     public void doHealthCheck() {
+        long result = System.currentTimeMillis() + MAX_CHECK_INTERVAL;
         try {
             // 轮询该客户端发布的所有服务列表
             Collection<Service> services = client.getAllPublishedService();
@@ -93,11 +96,20 @@ public class ClientBeatCheckTaskV2 extends AbstractExecuteTask implements BeatCh
                         .getInstancePublishInfo(each);
                 // 拦截器链处理完InstanceBeatCheckTask后执行
                 // InstanceBeatCheckTask.passIntercept()方法
-                interceptorChain.doInterceptor(new InstanceBeatCheckTask(client, each, instance));
+                InstanceBeatCheckTask instanceBeatCheckTask = new InstanceBeatCheckTask(client, each, instance);
+                interceptorChain.doInterceptor(instanceBeatCheckTask);
+                result = Math.min(result, instanceBeatCheckTask.getNextCheckTime());
             }
         } catch (Exception e) {
             Loggers.SRV_LOG.warn("Exception while processing client beat time out.", e);
+            result = System.currentTimeMillis() + CHECK_INTERVAL;
         }
+        nextCheckTime = result;
+    }
+    
+    @Override
+    public long getNextCheckTime() {
+        return nextCheckTime;
     }
 
     // 定时任务的执行入口，实现Runnable方法
@@ -113,5 +125,6 @@ public class ClientBeatCheckTaskV2 extends AbstractExecuteTask implements BeatCh
     
     @Override
     public void afterIntercept() {
+        nextCheckTime = System.currentTimeMillis() + CHECK_INTERVAL;
     }
 }
@@ -73,6 +73,8 @@ public class ClientBeatProcessorV2 implements BeatProcessor {
                         service.getNamespace(), service.getGroup(), service.getName(), instance.getIp(),
                         instance.getPort(), true, "client_beat"));
             }
+            // The wheel entry of client may be later than the new timeout, e.g. the unhealthy instance isn't checked.
+            client.rescheduleBeatCheck(InstanceBeatCheckTask.computeNextCheckTime(client, service, instance));
         }
     }
 }
@@ -59,6 +59,15 @@ public class ExpiredInstanceChecker implements InstanceBeatChecker {
             deleteIp(client, service, instance);
         }
     }
+    
+    @Override
+    public long getNextCheckTime(Client client, Service service, HealthCheckInstancePublishInfo instance) {
+        boolean expireInstance = ApplicationUtils.getBean(GlobalConfig.class).isExpireInstance();
+        if (!expireInstance || instance != client.getInstancePublishInfo(service)) {
+            return Long.MAX_VALUE;
+        }
+        return instance.getLastHeartBeatTime() + getTimeout(service, instance) + 1;
+    }
 
 
     // 优先从元数据获取deleteiptimeout 参数否则设置默认值30s
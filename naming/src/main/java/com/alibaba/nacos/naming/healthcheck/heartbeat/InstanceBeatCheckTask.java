@@ -43,6 +43,8 @@ public class InstanceBeatCheckTask implements Interceptable {
     // 发布的服务
     private final HealthCheckInstancePublishInfo instancePublishInfo;
 
+    private long nextCheckTime;
+    
     // 心跳检查列表
     static {
         // 检查实例健康状态
@@ -66,10 +68,13 @@ public class InstanceBeatCheckTask implements Interceptable {
         for (InstanceBeatChecker each : CHECKERS) {
             each.doCheck(client, service, instancePublishInfo);
         }
+        nextCheckTime = computeNextCheckTime(client, service, instancePublishInfo);
     }
     
     @Override
     public void afterIntercept() {
+        // Intercepted instance is not checked, check it later as the interceptors may pass next time.
+        nextCheckTime = System.currentTimeMillis() + BeatCheckTask.CHECK_INTERVAL;
     }
     
     public IpPortBasedClient getClient() {
@@ -83,4 +88,30 @@ public class InstanceBeatCheckTask implements Interceptable {
     public HealthCheckInstancePublishInfo getInstancePublishInfo() {
         return instancePublishInfo;
     }
+    
+    /**
+     * Get the next check time of instance, only valid after intercepted or passed interceptors.
+     *
+     * @return next check time in milliseconds
+     */
+    public long getNextCheckTime() {
+        return nextCheckTime;
+    }
+    
+    /**
+     * Compute the next time when the instance may change status by checkers, without checking it.
+     *
+     * @param client   client of instance
+     * @param service  service of instance
+     * @param instance instance
+     * @return next check time in milliseconds
+     */
+    public static long computeNextCheckTime(IpPortBasedClient client, Service service,
+            HealthCheckInstancePublishInfo instance) {
+        long result = Long.MAX_VALUE;
+        for (InstanceBeatChecker each : CHECKERS) {
+            result = Math.min(result, each.getNextCheckTime(client, service, instance));
+        }
+        return result;
+    }
 }
@@ -35,4 +35,18 @@ public interface InstanceBeatChecker {
      * @param instance instance publish info
      */
     void doCheck(Client client, Service service, HealthCheckInstancePublishInfo instance);
+    
+    /**
+     * Get the earliest time when this checker may change the input instance, the instance will be checked again at it.
+     *
+     * <p>Default is {@link BeatCheckTask#CHECK_INTERVAL} later, which keeps the checker running periodically.
+     *
+     * @param client   client
+     * @param service  service of instance
+     * @param instance instance publish info
+     * @return next check time in milliseconds
+     */
+    default long getNextCheckTime(Client client, Service service, HealthCheckInstancePublishInfo instance) {
+        return System.currentTimeMillis() + BeatCheckTask.CHECK_INTERVAL;
+    }
 }
@@ -57,6 +57,13 @@ public class UnhealthyInstanceChecker implements InstanceBeatChecker {
         }
     }
 
+    @Override
+    public long getNextCheckTime(Client client, Service service, HealthCheckInstancePublishInfo instance) {
+        // Unhealthy instance only becomes healthy by beat, no need to check again.
+        return instance.isHealthy() ? instance.getLastHeartBeatTime() + getTimeout(service, instance) + 1
+                : Long.MAX_VALUE;
+    }
+    
     // 距离上次心跳时间已经超过超时时间
     private boolean isUnhealthy(Service service, HealthCheckInstancePublishInfo instance) {
         long beatTimeout = getTimeout(service, instance);
@@ -0,0 +1,220 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck.v2.processor;
+
+import com.alibaba.nacos.api.naming.pojo.healthcheck.impl.Mysql;
+import com.alibaba.nacos.common.utils.MD5Utils;
+import com.alibaba.nacos.naming.misc.Loggers;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Connection pools of mysql health check, one pool for each checked database and credential.
+ *
+ * <p>Each database has a bounded pool with validation, bounded connection lifetime and wait timeout, and a cap of
+ * concurrent checks, so that a slow or unreachable database can only hold limited check threads. Pools not used for a
+ * while are closed, a pool is closed only when no check leases it, and a closed pool can't be leased any more.
+ *
+ * @author nacos
+ */
+public class MysqlCheckConnectionPool {
+    
+    private static final long VALIDATION_TIMEOUT_MS = 250L;
+    
+    private static final int RETIRED = -1;
+    
+    private final Map<String, CheckTarget> targets = new ConcurrentHashMap<>();
+    
+    private final ScheduledExecutorService executor;
+    
+    private final int maxConnectionsPerTarget;
+    
+    private final long connectionWaitMillis;
+    
+    private final long maxLifetimeMillis;
+    
+    private final long targetIdleMillis;
+    
+    public MysqlCheckConnectionPool(ScheduledExecutorService executor, int maxConnectionsPerTarget,
+            long connectionWaitMillis, long maxLifetimeMillis, long targetIdleMillis) {
+        this.executor = executor;
+        this.maxConnectionsPerTarget = maxConnectionsPerTarget;
+        this.connectionWaitMillis = connectionWaitMillis;
+        this.maxLifetimeMillis = maxLifetimeMillis;
+        this.targetIdleMillis = targetIdleMillis;
+    }
+    
+    /**
+     * Try to take a check lease of the database, the lease should be released by {@link CheckTarget#release()}.
+     *
+     * @param ip       ip of database
+     * @param port     port of database
+     * @param config   mysql health checker config
+     * @param jdbcUrl  jdbc url to connect database
+     * @return target with lease taken, {@code null} if the concurrent checks of database reach the cap
+     */
+    public CheckTarget tryAcquire(String ip, int port, Mysql config, String jdbcUrl) {
+        String address = ip + ":" + port;
+        // The pools of the old credential are closed by eviction after they become idle.
+        String key = address + ":" + config.getUser() + ":" + MD5Utils
+                .md5Hex(null == config.getPwd() ? "" : config.getPwd(), StandardCharsets.UTF_8.name());
+        while (true) {
+            CheckTarget target = targets.computeIfAbsent(key, k -> new CheckTarget(address, config, jdbcUrl));
+            int leases = target.tryAcquire();
+            if (RETIRED != leases) {
+                return leases > 0 ? target : null;
+            }
+            // The target is retired by eviction concurrently, create a new one.
+            targets.remove(key, target);
+        }
+    }
+    
+    /**
+     * Close pools which are not used for the idle time, and refresh pool size metrics.
+     */
+    public void evictIdleTargets() {
+        long now = System.currentTimeMillis();
+        int totalConnections = 0;
+        Iterator<CheckTarget> iterator = targets.values().iterator();
+        while (iterator.hasNext()) {
+            CheckTarget each = iterator.next();
+            if (each.tryRetire(now)) {
+                iterator.remove();
+                each.close();
+                continue;
+            }
+            totalConnections += each.getTotalConnections();
+        }
+        MetricsMonitor.getMysqlHealthCheckPoolSize().set(totalConnections);
+    }
+    
+    public int getTargetCount() {
+        return targets.size();
+    }
+    
+    /**
+     * Checked database with its pool and leases.
+     */
+    public class CheckTarget {
+        
+        private final String address;
+        
+        private final HikariDataSource dataSource;
+        
+        /**
+         * Count of checks using this target, {@link #RETIRED} after evicted.
+         */
+        private final AtomicInteger leases = new AtomicInteger();
+        
+        private volatile long lastAccessTime;
+        
+        private CheckTarget(String address, Mysql config, String jdbcUrl) {
+            this.address = address;
+            this.lastAccessTime = System.currentTimeMillis();
+            HikariConfig hikariConfig = new HikariConfig();
+            hikariConfig.setPoolName("nacos-mysql-check-" + address);
+            hikariConfig.setJdbcUrl(jdbcUrl);
+            hikariConfig.setUsername(config.getUser());
+            hikariConfig.setPassword(config.getPwd());
+            hikariConfig.setMaximumPoolSize(maxConnectionsPerTarget);
+            hikariConfig.setMinimumIdle(0);
+            hikariConfig.setConnectionTimeout(connectionWaitMillis);
+            hikariConfig.setValidationTimeout(VALIDATION_TIMEOUT_MS);
+            hikariConfig.setMaxLifetime(maxLifetimeMillis);
+            hikariConfig.setIdleTimeout(targetIdleMillis);
+            // don't connect when creating pool, the first check will connect and report the result.
+            hikariConfig.setInitializationFailTimeout(-1);
+            hikariConfig.setScheduledExecutor(executor);
+            this.dataSource = new HikariDataSource(hikariConfig);
+        }
+        
+        /**
+         * Get connection from pool, the connection should be closed to return it to pool.
+         *
+         * @return connection
+         * @throws SQLException if connect failed or wait timeout
+         */
+        public Connection getConnection() throws SQLException {
+            long startTime = System.currentTimeMillis();
+            try {
+                return dataSource.getConnection();
+            } finally {
+                MetricsMonitor.recordMysqlHealthCheckWaitTime(System.currentTimeMillis() - startTime);
+            }
+        }
+        
+        /**
+         * Release the check lease.
+         */
+        public void release() {
+            lastAccessTime = System.currentTimeMillis();
+            leases.decrementAndGet();
+        }
+        
+        /**
+         * Try to lease this target.
+         *
+         * @return leases after acquired, {@code 0} if the concurrent checks reach the cap, {@link #RETIRED} if evicted
+         */
+        private int tryAcquire() {
+            lastAccessTime = System.currentTimeMillis();
+            while (true) {
+                int current = leases.get();
+                if (RETIRED == current) {
+                    return RETIRED;
+                }
+                if (current >= maxConnectionsPerTarget) {
+                    return 0;
+                }
+                if (leases.compareAndSet(current, current + 1)) {
+                    return current + 1;
+                }
+            }
+        }
+        
+        /**
+         * Retire this target if it is not leased and not used for the idle time.
+         */
+        private boolean tryRetire(long now) {
+            return now - lastAccessTime > targetIdleMillis && leases.compareAndSet(0, RETIRED);
+        }
+        
+        private int getTotalConnections() {
+            HikariPoolMXBean poolMxBean = dataSource.getHikariPoolMXBean();
+            return null == poolMxBean ? 0 : poolMxBean.getTotalConnections();
+        }
+        
+        private void close() {
+            try {
+                dataSource.close();
+            } catch (Exception e) {
+                Loggers.SRV_LOG.warn("[MYSQL-CHECK] close connection pool of {} failed", address, e);
+            }
+        }
+    }
+}
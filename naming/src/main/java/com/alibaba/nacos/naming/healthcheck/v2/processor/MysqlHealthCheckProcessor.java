@@ -31,12 +31,11 @@ import org.springframework.stereotype.Component;
 import java.net.ConnectException;
 import java.net.SocketTimeoutException;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import static com.alibaba.nacos.naming.misc.Loggers.SRV_LOG;
@@ -64,11 +63,40 @@ public class MysqlHealthCheckProcessor implements HealthCheckProcessorV2 {
     
     private static final String MYSQL_SLAVE_READONLY = "ON";
     
-    private static final ConcurrentMap<String, Connection> CONNECTION_POOL = new ConcurrentHashMap<String, Connection>();
+    private static final int QUERY_TIMEOUT_SECONDS = 1;
+    
+    /**
+     * Max connections and concurrent checks of each database.
+     */
+    private static final int MAX_CONNECTIONS_PER_TARGET = Integer
+            .max(Integer.getInteger("com.alibaba.nacos.naming.mysql.check.max.connections.per.target", 2), 1);
+    
+    /**
+     * Max time waiting for connection from pool, including the time of connecting.
+     */
+    private static final long CONNECTION_WAIT_MS = Long
+            .getLong("com.alibaba.nacos.naming.mysql.check.connection.wait.ms", 1000L);
+    
+    /**
+     * Max lifetime of pooled connection.
+     */
+    private static final long CONNECTION_MAX_LIFETIME_MS = Long
+            .getLong("com.alibaba.nacos.naming.mysql.check.connection.max.lifetime.ms", TimeUnit.MINUTES.toMillis(30));
+    
+    private static final long TARGET_IDLE_MS = TimeUnit.MINUTES.toMillis(10);
+    
+    private static final long EVICT_INTERVAL_SECONDS = 10L;
+    
+    private final MysqlCheckConnectionPool connectionPool;
     
     public MysqlHealthCheckProcessor(HealthCheckCommonV2 healthCheckCommon, SwitchDomain switchDomain) {
         this.healthCheckCommon = healthCheckCommon;
         this.switchDomain = switchDomain;
+        ScheduledExecutorService executor = GlobalExecutor.getMysqlCheckPoolExecutor();
+        this.connectionPool = new MysqlCheckConnectionPool(executor, MAX_CONNECTIONS_PER_TARGET, CONNECTION_WAIT_MS,
+                CONNECTION_MAX_LIFETIME_MS, TARGET_IDLE_MS);
+        executor.scheduleWithFixedDelay(connectionPool::evictIdleTargets, EVICT_INTERVAL_SECONDS,
+                EVICT_INTERVAL_SECONDS, TimeUnit.SECONDS);
     }
     
     @Override
@@ -84,6 +112,7 @@ public class MysqlHealthCheckProcessor implements HealthCheckProcessorV2 {
             return;
         }
         SRV_LOG.debug("mysql check, ip:" + instance);
+        MysqlCheckConnectionPool.CheckTarget target = null;
         try {
             // TODO handle marked(white list) logic like v1.x.
             if (!instance.tryStartCheck()) {
@@ -93,9 +122,23 @@ public class MysqlHealthCheckProcessor implements HealthCheckProcessorV2 {
                         .reEvaluateCheckRT(task.getCheckRtNormalized() * 2, task, switchDomain.getMysqlHealthParams());
                 return;
             }
-            GlobalExecutor.executeMysqlCheckTask(new MysqlCheckTask(task, service, instance, metadata));
+            Mysql config = (Mysql) metadata.getHealthChecker();
+            target = connectionPool.tryAcquire(instance.getIp(), instance.getPort(), config, buildJdbcUrl(instance));
+            if (null == target) {
+                // checks of same database reach the cap, skip this round instead of waiting for slow database.
+                SRV_LOG.warn("mysql check skipped for too many checks of {}:{}, service: {}", instance.getIp(),
+                        instance.getPort(), service.getGroupedServiceName());
+                instance.finishCheck();
+                healthCheckCommon
+                        .reEvaluateCheckRT(task.getCheckRtNormalized() * 2, task, switchDomain.getMysqlHealthParams());
+                return;
+            }
+            GlobalExecutor.executeMysqlCheckTask(new MysqlCheckTask(task, service, instance, config, target));
             MetricsMonitor.getMysqlHealthCheckMonitor().incrementAndGet();
         } catch (Exception e) {
+            if (null != target) {
+                target.release();
+            }
             instance.setCheckRt(switchDomain.getMysqlHealthParams().getMax());
             healthCheckCommon.checkFail(task, service, "mysql:error:" + e.getMessage());
             healthCheckCommon.reEvaluateCheckRT(switchDomain.getMysqlHealthParams().getMax(), task,
@@ -103,6 +146,11 @@ public class MysqlHealthCheckProcessor implements HealthCheckProcessorV2 {
         }
     }
     
+    private String buildJdbcUrl(HealthCheckInstancePublishInfo instance) {
+        return "jdbc:mysql://" + instance.getIp() + ":" + instance.getPort() + "?connectTimeout=" + CONNECT_TIMEOUT_MS
+                + "&socketTimeout=" + CONNECT_TIMEOUT_MS + "&loginTimeout=" + 1;
+    }
+    
     private class MysqlCheckTask implements Runnable {
         
         private final HealthCheckTaskV2 task;
@@ -111,41 +159,32 @@ public class MysqlHealthCheckProcessor implements HealthCheckProcessorV2 {
         
         private final HealthCheckInstancePublishInfo instance;
         
-        private final ClusterMetadata metadata;
+        private final Mysql config;
+        
+        private final MysqlCheckConnectionPool.CheckTarget target;
         
         private long startTime = System.currentTimeMillis();
         
         public MysqlCheckTask(HealthCheckTaskV2 task, Service service, HealthCheckInstancePublishInfo instance,
-                ClusterMetadata metadata) {
+                Mysql config, MysqlCheckConnectionPool.CheckTarget target) {
             this.task = task;
             this.service = service;
             this.instance = instance;
-            this.metadata = metadata;
+            this.config = config;
+            this.target = target;
         }
         
         @Override
         public void run() {
-            
+            Connection connection = null;
             Statement statement = null;
             ResultSet resultSet = null;
             
             try {
-                String clusterName = instance.getCluster();
-                String key =
-                        service.getGroupedServiceName() + ":" + clusterName + ":" + instance.getIp() + ":" + instance
-                                .getPort();
-                Connection connection = CONNECTION_POOL.get(key);
-                Mysql config = (Mysql) metadata.getHealthChecker();
-                
-                if (connection == null || connection.isClosed()) {
-                    String url = "jdbc:mysql://" + instance.getIp() + ":" + instance.getPort() + "?connectTimeout="
-                            + CONNECT_TIMEOUT_MS + "&socketTimeout=" + CONNECT_TIMEOUT_MS + "&loginTimeout=" + 1;
-                    connection = DriverManager.getConnection(url, config.getUser(), config.getPwd());
-                    CONNECTION_POOL.put(key, connection);
-                }
-                
+                // connection is validated by pool before returned
+                connection = target.getConnection();
                 statement = connection.createStatement();
-                statement.setQueryTimeout(1);
+                statement.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
                 
                 resultSet = statement.executeQuery(config.getCmd());
                 int resultColumnIndex = 2;
@@ -186,7 +225,9 @@ public class MysqlHealthCheckProcessor implements HealthCheckProcessorV2 {
                 healthCheckCommon.reEvaluateCheckRT(switchDomain.getMysqlHealthParams().getMax(), task,
                         switchDomain.getMysqlHealthParams());
             } finally {
-                instance.setCheckRt(System.currentTimeMillis() - startTime);
+                long checkRt = System.currentTimeMillis() - startTime;
+                instance.setCheckRt(checkRt);
+                MetricsMonitor.recordMysqlHealthCheckRt(checkRt);
                 if (statement != null) {
                     try {
                         statement.close();
@@ -201,6 +242,15 @@ public class MysqlHealthCheckProcessor implements HealthCheckProcessorV2 {
                         Loggers.SRV_LOG.error("[MYSQL-CHECK] failed to close resultSet:" + resultSet, e);
                     }
                 }
+                if (connection != null) {
+                    // return connection to pool
+                    try {
+                        connection.close();
+                    } catch (SQLException e) {
+                        Loggers.SRV_LOG.error("[MYSQL-CHECK] failed to release connection:" + connection, e);
+                    }
+                }
+                target.release();
             }
         }
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright 1999-2020 Alibaba Group Holding Ltd.
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
  * you may not use this file except in compliance with the License.
@@ -17,83 +17,132 @@
 package com.alibaba.nacos.naming.healthcheck.v2.processor;
 
 import com.alibaba.nacos.api.naming.pojo.healthcheck.HealthCheckType;
+import com.alibaba.nacos.common.lifecycle.Closeable;
+import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.listener.SmartSubscriber;
+import com.alibaba.nacos.naming.core.v2.client.impl.IpPortBasedClient;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientEvent;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.core.v2.event.metadata.MetadataEvent;
+import com.alibaba.nacos.naming.core.v2.event.publisher.NamingEventPublisherFactory;
 import com.alibaba.nacos.naming.core.v2.metadata.ClusterMetadata;
 import com.alibaba.nacos.naming.core.v2.pojo.HealthCheckInstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.healthcheck.v2.HealthCheckTaskV2;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
-import com.alibaba.nacos.naming.misc.Loggers;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
 import com.alibaba.nacos.naming.monitor.MetricsMonitor;
 import com.alibaba.nacos.sys.env.EnvUtil;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
 import java.net.ConnectException;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.nio.channels.SelectionKey;
 import java.nio.channels.Selector;
 import java.nio.channels.SocketChannel;
-import java.util.Collection;
+import java.util.ArrayDeque;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.TimeUnit;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import static com.alibaba.nacos.naming.misc.Loggers.SRV_LOG;
 
 /**
  * TCP health check processor for v2.x.
  *
- * <p>Current health check logic is same as v1.x. TODO refactor health check for v2.x.
+ * <p>Checks are executed by a fixed number of selector loops. Each loop owns a selector and a timer wheel for the
+ * jittered start and the connect timeout of its beats, so one check is started, connected, timed out and finished in
+ * the same thread. Beats of the same instance are always handled by the same loop, which makes the optional keep-alive
+ * connection reusable. Connections are closed with SO_LINGER 0 so that checks leave no TIME_WAIT sockets.
+ *
+ * <p>Kept connections are evicted when their instance is deregistered, their client is disconnected or their service
+ * is removed, so that no connection is left for the instances which won't be checked any more.
  *
  * @author xiweng.yy
  */
 // 对Tcp客户端的健康检查
 @Component
-public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable {
+public class TcpHealthCheckProcessor extends SmartSubscriber implements HealthCheckProcessorV2, Closeable {
     
     public static final String TYPE = HealthCheckType.TCP.name();
     
     public static final int CONNECT_TIMEOUT_MS = 500;
     
     /**
-     * this value has been carefully tuned, do not modify unless you're confident.
+     * Connection of successful check is kept for this time and an alive kept connection means the check is successful.
+     * Because some hosts doesn't support keep-alive connections, 0 by default which closes connection after check.
+     */
+    private static final long TCP_KEEP_ALIVE_MILLIS = Long
+            .getLong("com.alibaba.nacos.naming.tcp.check.keep-alive.ms", 0L);
+    
+    /**
+     * Each check is delayed randomly in this ratio of check interval, so that the connections are spread.
      */
-    private static final int NIO_THREAD_COUNT = EnvUtil.getAvailableProcessors(0.5);
+    private static final double CHECK_JITTER_RATIO = Double
+            .parseDouble(System.getProperty("com.alibaba.nacos.naming.tcp.check.jitter.ratio", "0.5"));
     
     /**
-     * because some hosts doesn't support keep-alive connections, disabled temporarily.
+     * Count of selector loops, each loop runs in its own thread.
      */
-    private static final long TCP_KEEP_ALIVE_MILLIS = 0;
+    private static final int LOOP_COUNT = Integer.max(
+            Integer.getInteger("com.alibaba.nacos.naming.tcp.check.thread.num", EnvUtil.getAvailableProcessors(0.5)), 1);
+    
+    private static final long TICK_MILLIS = 10L;
+    
+    private static final int WHEEL_SIZE = 512;
     
     private final HealthCheckCommonV2 healthCheckCommon;
     
     private final SwitchDomain switchDomain;
     
-    private final Map<String, BeatKey> keyMap = new ConcurrentHashMap<>();
+    private final long keepAliveMillis;
+    
+    private final double jitterRatio;
     
-    private final BlockingQueue<Beat> taskQueue = new LinkedBlockingQueue<>();
+    private final SelectorLoop[] loops;
     
-    private final Selector selector;
+    private final ExecutorService executor;
     
+    @Autowired
     public TcpHealthCheckProcessor(HealthCheckCommonV2 healthCheckCommon, SwitchDomain switchDomain) {
+        this(healthCheckCommon, switchDomain, LOOP_COUNT, TCP_KEEP_ALIVE_MILLIS, CHECK_JITTER_RATIO);
+    }
+    
+    TcpHealthCheckProcessor(HealthCheckCommonV2 healthCheckCommon, SwitchDomain switchDomain, int loopCount,
+            long keepAliveMillis, double jitterRatio) {
         this.healthCheckCommon = healthCheckCommon;
         this.switchDomain = switchDomain;
+        this.keepAliveMillis = keepAliveMillis;
+        this.jitterRatio = jitterRatio;
+        this.loops = new SelectorLoop[loopCount];
+        this.executor = GlobalExecutor.newTcpCheckExecutor(loopCount);
         try {
-            selector = Selector.open();
-            GlobalExecutor.submitTcpCheck(this);
+            for (int i = 0; i < loops.length; i++) {
+                loops[i] = new SelectorLoop(Selector.open());
+                executor.execute(loops[i]);
+            }
         } catch (Exception e) {
-            throw new IllegalStateException("Error while initializing SuperSense(TM).");
+            executor.shutdownNow();
+            throw new IllegalStateException("Error while initializing SuperSense(TM).", e);
+        }
+        if (keepAliveMillis > 0) {
+            NotifyCenter.registerSubscriber(this, NamingEventPublisherFactory.getInstance());
         }
     }
-
-    // 创建Beat任务放入队列，等待执行器来执行
+    
+    // 创建Beat任务放入实例对应的selector loop，等待随机延迟后发起连接
     @Override
     public void process(HealthCheckTaskV2 task, Service service, ClusterMetadata metadata) {
         HealthCheckInstancePublishInfo instance = (HealthCheckInstancePublishInfo) task.getClient()
@@ -109,8 +158,8 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
                     .reEvaluateCheckRT(task.getCheckRtNormalized() * 2, task, switchDomain.getTcpHealthParams());
             return;
         }
-        // 创建Beat任务放入队列，等待执行器来执行
-        taskQueue.add(new Beat(task, service, metadata, instance));
+        Beat beat = new Beat(task, service, metadata, instance, getJitterDelay(task));
+        loops[(beat.getKey().hashCode() & Integer.MAX_VALUE) % loops.length].submit(beat);
         MetricsMonitor.getTcpHealthCheckMonitor().incrementAndGet();
     }
     
@@ -119,103 +168,92 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
         return TYPE;
     }
     
-    private void processTask() throws Exception {
-        Collection<Callable<Void>> tasks = new LinkedList<>();
-        do {
-            Beat beat = taskQueue.poll(CONNECT_TIMEOUT_MS / 2, TimeUnit.MILLISECONDS);
-            if (beat == null) {
-                return;
-            }
-            
-            tasks.add(new TaskProcessor(beat));
-        } while (taskQueue.size() > 0 && tasks.size() < NIO_THREAD_COUNT * 64);
-        
-        for (Future<?> f : GlobalExecutor.invokeAllTcpSuperSenseTask(tasks)) {
-            f.get();
+    @Override
+    public List<Class<? extends Event>> subscribeTypes() {
+        List<Class<? extends Event>> result = new LinkedList<>();
+        result.add(ClientOperationEvent.ClientDeregisterServiceEvent.class);
+        result.add(ClientEvent.ClientDisconnectEvent.class);
+        result.add(MetadataEvent.ServiceMetadataEvent.class);
+        return result;
+    }
+    
+    // 实例注销、客户端断开或服务删除时，清理对应的keep-alive连接
+    @Override
+    public void onEvent(Event event) {
+        if (event instanceof ClientOperationEvent.ClientDeregisterServiceEvent) {
+            ClientOperationEvent deregisterEvent = (ClientOperationEvent) event;
+            String address = getAddress(deregisterEvent.getClientId());
+            evictKeptConnections(
+                    kept -> kept.address.equals(address) && kept.service.equals(deregisterEvent.getService()));
+        } else if (event instanceof ClientEvent.ClientDisconnectEvent) {
+            String address = getAddress(((ClientEvent) event).getClient().getClientId());
+            evictKeptConnections(kept -> kept.address.equals(address));
+        } else if (event instanceof MetadataEvent.ServiceMetadataEvent && ((MetadataEvent) event).isExpired()) {
+            Service service = ((MetadataEvent) event).getService();
+            evictKeptConnections(kept -> kept.service.equals(service));
         }
     }
-
-    // 在服务初始化时，该线程不断从队列获取数据来执行，执行的线程是一个内部Callable实现TaskProcessor，该任务的处理就是构建一个NIO的SocketChannel来向客户端实例验证客户端的连通性；
+    
     @Override
-    public void run() {
-        while (true) {
-            try {
-                processTask();
-                
-                int readyCount = selector.selectNow();
-                if (readyCount <= 0) {
-                    continue;
-                }
-                
-                Iterator<SelectionKey> iter = selector.selectedKeys().iterator();
-                while (iter.hasNext()) {
-                    SelectionKey key = iter.next();
-                    iter.remove();
-                    
-                    GlobalExecutor.executeTcpSuperSense(new PostProcessor(key));
-                }
-            } catch (Throwable e) {
-                SRV_LOG.error("[HEALTH-CHECK-V2] error while processing NIO task", e);
-            }
+    public void shutdown() {
+        if (keepAliveMillis > 0) {
+            NotifyCenter.deregisterSubscriber(this);
+        }
+        executor.shutdownNow();
+    }
+    
+    private void evictKeptConnections(Predicate<KeptConnection> condition) {
+        for (SelectorLoop each : loops) {
+            each.evict(condition);
         }
     }
     
-    public class PostProcessor implements Runnable {
+    private static String getAddress(String clientId) {
+        int index = clientId.indexOf(IpPortBasedClient.ID_DELIMITER);
+        return index < 0 ? clientId : clientId.substring(0, index);
+    }
+    
+    long getJitterDelay(HealthCheckTaskV2 task) {
+        // Keep enough time to finish the check before next round, otherwise next round will find it unfinished.
+        long bound = Math.min((long) (task.getCheckRtNormalized() * jitterRatio),
+                task.getCheckRtNormalized() - 2L * CONNECT_TIMEOUT_MS);
+        return bound > 0 ? ThreadLocalRandom.current().nextLong(bound) : 0L;
+    }
+    
+    private static void closeQuietly(SelectionKey key) {
+        if (null == key) {
+            return;
+        }
+        key.cancel();
+        closeQuietly((SocketChannel) key.channel());
+    }
+    
+    private static void closeQuietly(SocketChannel channel) {
+        if (null == channel) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException ignore) {
+        }
+    }
+    
+    private enum BeatState {
         
-        SelectionKey key;
+        /**
+         * Waiting for the jittered start.
+         */
+        WAITING,
         
-        public PostProcessor(SelectionKey key) {
-            this.key = key;
-        }
+        /**
+         * Connecting and waiting for connect timeout.
+         */
+        CONNECTING,
         
-        @Override
-        public void run() {
-            Beat beat = (Beat) key.attachment();
-            SocketChannel channel = (SocketChannel) key.channel();
-            try {
-                if (!beat.isHealthy()) {
-                    //invalid beat means this server is no longer responsible for the current service
-                    key.cancel();
-                    key.channel().close();
-                    
-                    beat.finishCheck();
-                    return;
-                }
-                
-                if (key.isValid() && key.isConnectable()) {
-                    //connected
-                    channel.finishConnect();
-                    beat.finishCheck(true, false, System.currentTimeMillis() - beat.getTask().getStartTime(),
-                            "tcp:ok+");
-                }
-                
-                if (key.isValid() && key.isReadable()) {
-                    //disconnected
-                    ByteBuffer buffer = ByteBuffer.allocate(128);
-                    if (channel.read(buffer) == -1) {
-                        key.cancel();
-                        key.channel().close();
-                    } else {
-                        // not terminate request, ignore
-                        SRV_LOG.warn(
-                                "Tcp check ok, but the connected server responses some msg. Connection won't be closed.");
-                    }
-                }
-            } catch (ConnectException e) {
-                // unable to connect, possibly port not opened
-                beat.finishCheck(false, true, switchDomain.getTcpHealthParams().getMax(),
-                        "tcp:unable2connect:" + e.getMessage());
-            } catch (Exception e) {
-                beat.finishCheck(false, false, switchDomain.getTcpHealthParams().getMax(),
-                        "tcp:error:" + e.getMessage());
-                
-                try {
-                    key.cancel();
-                    key.channel().close();
-                } catch (Exception ignore) {
-                }
-            }
-        }
+        /**
+         * Check result has been reported.
+         */
+        FINISHED
     }
     
     private class Beat {
@@ -228,198 +266,320 @@ public class TcpHealthCheckProcessor implements HealthCheckProcessorV2, Runnable
         
         private final HealthCheckInstancePublishInfo instance;
         
-        long startTime = System.currentTimeMillis();
+        private final long jitterDelay;
         
-        public Beat(HealthCheckTaskV2 task, Service service, ClusterMetadata metadata,
-                HealthCheckInstancePublishInfo instance) {
-            this.task = task;
-            this.service = service;
-            this.metadata = metadata;
-            this.instance = instance;
-        }
+        private final String key;
         
-        public void setStartTime(long time) {
-            startTime = time;
-        }
-        
-        public long getStartTime() {
-            return startTime;
-        }
+        private BeatState state = BeatState.WAITING;
         
-        public HealthCheckTaskV2 getTask() {
-            return task;
-        }
+        private long deadline;
         
-        public Service getService() {
-            return service;
-        }
+        private long connectStartTime;
         
-        public ClusterMetadata getMetadata() {
-            return metadata;
-        }
+        private SelectionKey selectionKey;
         
-        public HealthCheckInstancePublishInfo getInstance() {
-            return instance;
+        public Beat(HealthCheckTaskV2 task, Service service, ClusterMetadata metadata,
+                HealthCheckInstancePublishInfo instance, long jitterDelay) {
+            this.task = task;
+            this.service = service;
+            this.metadata = metadata;
+            this.instance = instance;
+            this.jitterDelay = jitterDelay;
+            this.key = service.getGroupedServiceName() + ":" + instance.getCluster() + ":" + instance.getIp() + ":"
+                    + instance.getPort();
         }
         
-        public boolean isHealthy() {
-            return System.currentTimeMillis() - startTime < TimeUnit.SECONDS.toMillis(30L);
+        public String getKey() {
+            return key;
         }
         
         /**
-         * finish check only, no ip state will be changed.
+         * Rt of check since task started, the jitter delay is excluded so that it won't enlarge the check interval.
          */
-        public void finishCheck() {
-            instance.finishCheck();
+        private long getCheckRt() {
+            return System.currentTimeMillis() - task.getStartTime() - jitterDelay;
         }
         
         public void finishCheck(boolean success, boolean now, long rt, String msg) {
+            state = BeatState.FINISHED;
+            selectionKey = null;
             if (success) {
                 healthCheckCommon.checkOk(task, service, msg);
+            } else if (now) {
+                healthCheckCommon.checkFailNow(task, service, msg);
             } else {
-                if (now) {
-                    healthCheckCommon.checkFailNow(task, service, msg);
-                } else {
-                    healthCheckCommon.checkFail(task, service, msg);
-                }
-                
-                keyMap.remove(toString());
+                healthCheckCommon.checkFail(task, service, msg);
             }
-            
             healthCheckCommon.reEvaluateCheckRT(rt, task, switchDomain.getTcpHealthParams());
         }
         
         @Override
         public String toString() {
-            return service.getGroupedServiceName() + ":" + instance.getCluster() + ":" + instance.getIp() + ":"
-                    + instance.getPort();
+            return key;
         }
+    }
+    
+    private static class KeptConnection {
         
-        @Override
-        public int hashCode() {
-            return toString().hashCode();
-        }
+        private final String beatKey;
         
-        @Override
-        public boolean equals(Object obj) {
-            if (!(obj instanceof Beat)) {
-                return false;
-            }
-            
-            return this.toString().equals(obj.toString());
+        private final Service service;
+        
+        private final String address;
+        
+        private final SelectionKey selectionKey;
+        
+        private final long birthTime;
+        
+        private KeptConnection(Beat beat, SelectionKey selectionKey) {
+            this.beatKey = beat.key;
+            this.service = beat.service;
+            this.address = beat.instance.getIp() + ":" + beat.instance.getPort();
+            this.selectionKey = selectionKey;
+            this.birthTime = System.currentTimeMillis();
         }
     }
     
-    private static class BeatKey {
+    /**
+     * Hashed timer wheel of beats, only accessed by the thread of its selector loop.
+     */
+    private static class TimerWheel {
         
-        public SelectionKey key;
+        private final ArrayDeque<Beat>[] buckets;
         
-        public long birthTime;
+        private final long startTime = System.currentTimeMillis();
         
-        public BeatKey(SelectionKey key) {
-            this.key = key;
-            this.birthTime = System.currentTimeMillis();
+        private long currentTick;
+        
+        @SuppressWarnings("unchecked")
+        private TimerWheel() {
+            buckets = new ArrayDeque[WHEEL_SIZE];
+            for (int i = 0; i < WHEEL_SIZE; i++) {
+                buckets[i] = new ArrayDeque<>();
+            }
+        }
+        
+        private void add(Beat beat) {
+            long tick = Math.max((beat.deadline - startTime + TICK_MILLIS - 1) / TICK_MILLIS, currentTick + 1);
+            buckets[(int) (tick % WHEEL_SIZE)].add(beat);
+        }
+        
+        private void expire(long now, Consumer<Beat> handler) {
+            long targetTick = (now - startTime) / TICK_MILLIS;
+            while (currentTick < targetTick) {
+                currentTick++;
+                ArrayDeque<Beat> bucket = buckets[(int) (currentTick % WHEEL_SIZE)];
+                // Beats added by handler are appended after the snapshot size, they wait for their own ticks.
+                for (int i = bucket.size(); i > 0; i--) {
+                    Beat beat = bucket.poll();
+                    if (beat.deadline > now) {
+                        bucket.add(beat);
+                    } else {
+                        handler.accept(beat);
+                    }
+                }
+            }
         }
     }
     
-    private static class TimeOutTask implements Runnable {
+    private class SelectorLoop implements Runnable {
+        
+        private final Selector selector;
         
-        SelectionKey key;
+        private final Queue<Beat> submittedBeats = new ConcurrentLinkedQueue<>();
         
-        public TimeOutTask(SelectionKey key) {
-            this.key = key;
+        private final Queue<Predicate<KeptConnection>> evictions = new ConcurrentLinkedQueue<>();
+        
+        private final TimerWheel timerWheel = new TimerWheel();
+        
+        private final Map<String, KeptConnection> keptConnections = new HashMap<>();
+        
+        private final ByteBuffer readBuffer = ByteBuffer.allocate(128);
+        
+        private SelectorLoop(Selector selector) {
+            this.selector = selector;
         }
         
+        private void submit(Beat beat) {
+            beat.deadline = System.currentTimeMillis() + beat.jitterDelay;
+            submittedBeats.offer(beat);
+        }
+        
+        private void evict(Predicate<KeptConnection> condition) {
+            evictions.offer(condition);
+        }
+        
+        // 每个selector loop处理连接事件、新提交的检查和到期的定时任务，检查全程在同一线程完成
         @Override
         public void run() {
-            if (key != null && key.isValid()) {
-                SocketChannel channel = (SocketChannel) key.channel();
-                Beat beat = (Beat) key.attachment();
-                
-                if (channel.isConnected()) {
-                    return;
-                }
-                
+            while (!Thread.currentThread().isInterrupted()) {
                 try {
-                    channel.finishConnect();
-                } catch (Exception ignore) {
+                    selector.select(TICK_MILLIS);
+                    processSelectedKeys();
+                    processEvictions();
+                    long now = System.currentTimeMillis();
+                    processSubmittedBeats(now);
+                    timerWheel.expire(now, this::processExpiredBeat);
+                } catch (Throwable e) {
+                    SRV_LOG.error("[HEALTH-CHECK-V2] error while processing NIO task", e);
                 }
-                
-                try {
-                    beat.finishCheck(false, false, beat.getTask().getCheckRtNormalized() * 2, "tcp:timeout");
-                    key.cancel();
-                    key.channel().close();
-                } catch (Exception ignore) {
+            }
+            for (SelectionKey each : selector.keys()) {
+                closeQuietly(each);
+            }
+            try {
+                selector.close();
+            } catch (IOException ignore) {
+            }
+        }
+        
+        private void processSelectedKeys() {
+            Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+            while (iterator.hasNext()) {
+                SelectionKey key = iterator.next();
+                iterator.remove();
+                if (!key.isValid()) {
+                    continue;
+                }
+                if (key.attachment() instanceof Beat) {
+                    processConnect(key, (Beat) key.attachment());
+                } else {
+                    processKeptConnection(key, (KeptConnection) key.attachment());
                 }
             }
         }
-    }
-    
-    private class TaskProcessor implements Callable<Void> {
         
-        private static final int MAX_WAIT_TIME_MILLISECONDS = 500;
+        private void processEvictions() {
+            Predicate<KeptConnection> condition;
+            while (null != (condition = evictions.poll())) {
+                Iterator<KeptConnection> iterator = keptConnections.values().iterator();
+                while (iterator.hasNext()) {
+                    KeptConnection kept = iterator.next();
+                    if (condition.test(kept)) {
+                        iterator.remove();
+                        closeQuietly(kept.selectionKey);
+                    }
+                }
+            }
+        }
         
-        Beat beat;
+        private void processSubmittedBeats(long now) {
+            Beat beat;
+            while (null != (beat = submittedBeats.poll())) {
+                if (beat.deadline <= now) {
+                    startCheck(beat);
+                } else {
+                    timerWheel.add(beat);
+                }
+            }
+        }
         
-        public TaskProcessor(Beat beat) {
-            this.beat = beat;
+        private void processExpiredBeat(Beat beat) {
+            if (BeatState.WAITING == beat.state) {
+                startCheck(beat);
+            } else if (BeatState.CONNECTING == beat.state) {
+                closeQuietly(beat.selectionKey);
+                beat.finishCheck(false, false, beat.task.getCheckRtNormalized() * 2, "tcp:timeout");
+            }
         }
         
-        @Override
-        public Void call() {
-            long waited = System.currentTimeMillis() - beat.getStartTime();
-            if (waited > MAX_WAIT_TIME_MILLISECONDS) {
-                Loggers.SRV_LOG.warn("beat task waited too long: " + waited + "ms");
+        private void startCheck(Beat beat) {
+            if (keepAliveMillis > 0 && checkByKeptConnection(beat)) {
+                return;
             }
-            
             SocketChannel channel = null;
             try {
-                HealthCheckInstancePublishInfo instance = beat.getInstance();
-                
-                BeatKey beatKey = keyMap.get(beat.toString());
-                if (beatKey != null && beatKey.key.isValid()) {
-                    if (System.currentTimeMillis() - beatKey.birthTime < TCP_KEEP_ALIVE_MILLIS) {
-                        instance.finishCheck();
-                        return null;
-                    }
-                    
-                    beatKey.key.cancel();
-                    beatKey.key.channel().close();
-                }
-                
                 channel = SocketChannel.open();
                 channel.configureBlocking(false);
-                // only by setting this can we make the socket close event asynchronous
-                channel.socket().setSoLinger(false, -1);
+                // close with RST instead of FIN, so that no TIME_WAIT socket is left by health check
+                channel.socket().setSoLinger(true, 0);
                 channel.socket().setReuseAddress(true);
-                channel.socket().setKeepAlive(true);
+                channel.socket().setKeepAlive(keepAliveMillis > 0);
                 channel.socket().setTcpNoDelay(true);
                 
-                ClusterMetadata cluster = beat.getMetadata();
-                int port = cluster.isUseInstancePortForCheck() ? instance.getPort() : cluster.getHealthyCheckPort();
-                channel.connect(new InetSocketAddress(instance.getIp(), port));
-                
-                SelectionKey key = channel.register(selector, SelectionKey.OP_CONNECT | SelectionKey.OP_READ);
-                key.attach(beat);
-                keyMap.put(beat.toString(), new BeatKey(key));
-                
-                beat.setStartTime(System.currentTimeMillis());
-                
-                GlobalExecutor
-                        .scheduleTcpSuperSenseTask(new TimeOutTask(key), CONNECT_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                HealthCheckInstancePublishInfo instance = beat.instance;
+                int port = beat.metadata.isUseInstancePortForCheck() ? instance.getPort()
+                        : beat.metadata.getHealthyCheckPort();
+                beat.connectStartTime = System.currentTimeMillis();
+                boolean connected = channel.connect(new InetSocketAddress(instance.getIp(), port));
+                SelectionKey key = channel.register(selector, connected ? 0 : SelectionKey.OP_CONNECT, beat);
+                if (connected) {
+                    finishConnect(key, beat);
+                    return;
+                }
+                beat.state = BeatState.CONNECTING;
+                beat.selectionKey = key;
+                beat.deadline = beat.connectStartTime + CONNECT_TIMEOUT_MS;
+                timerWheel.add(beat);
             } catch (Exception e) {
+                closeQuietly(channel);
                 beat.finishCheck(false, false, switchDomain.getTcpHealthParams().getMax(),
                         "tcp:error:" + e.getMessage());
-                
-                if (channel != null) {
-                    try {
-                        channel.close();
-                    } catch (Exception ignore) {
-                    }
+            }
+        }
+        
+        private boolean checkByKeptConnection(Beat beat) {
+            KeptConnection kept = keptConnections.get(beat.key);
+            if (null == kept) {
+                return false;
+            }
+            if (kept.selectionKey.isValid() && System.currentTimeMillis() - kept.birthTime < keepAliveMillis) {
+                beat.finishCheck(true, false, beat.getCheckRt(), "tcp:ok+keep-alive");
+                return true;
+            }
+            keptConnections.remove(beat.key);
+            closeQuietly(kept.selectionKey);
+            return false;
+        }
+        
+        private void processConnect(SelectionKey key, Beat beat) {
+            try {
+                if (key.isConnectable() && ((SocketChannel) key.channel()).finishConnect()) {
+                    finishConnect(key, beat);
+                }
+            } catch (ConnectException e) {
+                // unable to connect, possibly port not opened
+                closeQuietly(key);
+                beat.finishCheck(false, true, switchDomain.getTcpHealthParams().getMax(),
+                        "tcp:unable2connect:" + e.getMessage());
+            } catch (Exception e) {
+                closeQuietly(key);
+                beat.finishCheck(false, false, switchDomain.getTcpHealthParams().getMax(),
+                        "tcp:error:" + e.getMessage());
+            }
+        }
+        
+        private void finishConnect(SelectionKey key, Beat beat) {
+            MetricsMonitor.recordTcpHealthCheckRt(beat.instance.getCluster(),
+                    System.currentTimeMillis() - beat.connectStartTime);
+            if (keepAliveMillis > 0) {
+                // watch the kept connection to find it closed by remote
+                KeptConnection kept = new KeptConnection(beat, key);
+                key.attach(kept);
+                key.interestOps(SelectionKey.OP_READ);
+                KeptConnection old = keptConnections.put(beat.key, kept);
+                if (null != old) {
+                    closeQuietly(old.selectionKey);
+                }
+            } else {
+                closeQuietly(key);
+            }
+            beat.finishCheck(true, false, beat.getCheckRt(), "tcp:ok+");
+        }
+        
+        private void processKeptConnection(SelectionKey key, KeptConnection kept) {
+            try {
+                readBuffer.clear();
+                if (((SocketChannel) key.channel()).read(readBuffer) != -1) {
+                    // not terminate request, ignore
+                    SRV_LOG.warn("Tcp check ok, but the connected server responses some msg. Connection won't be closed.");
+                    return;
                 }
+            } catch (IOException ignore) {
             }
-            
-            return null;
+            // disconnected, next check will connect again
+            keptConnections.remove(kept.beatKey, kept);
+            closeQuietly(key);
         }
     }
 }
@@ -20,13 +20,11 @@ import com.alibaba.nacos.common.executor.ExecutorFactory;
 import com.alibaba.nacos.common.executor.NameThreadFactory;
 import com.alibaba.nacos.core.utils.ClassUtils;
 import com.alibaba.nacos.naming.NamingApp;
+import com.alibaba.nacos.naming.monitor.MetricsMonitor;
 import com.alibaba.nacos.sys.env.EnvUtil;
 
-import java.util.Collection;
-import java.util.List;
-import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -51,13 +49,9 @@ public class GlobalExecutor {
             .newFixedExecutorService(ClassUtils.getCanonicalName(NamingApp.class), DEFAULT_THREAD_COUNT,
                     new NameThreadFactory("com.alibaba.nacos.naming.mysql.checker"));
     
-    private static final ScheduledExecutorService TCP_SUPER_SENSE_EXECUTOR = ExecutorFactory.Managed
-            .newScheduledExecutorService(ClassUtils.getCanonicalName(NamingApp.class), DEFAULT_THREAD_COUNT,
-                    new NameThreadFactory("com.alibaba.nacos.naming.supersense.checker"));
-    
-    private static final ExecutorService TCP_CHECK_EXECUTOR = ExecutorFactory.Managed
-            .newFixedExecutorService(ClassUtils.getCanonicalName(NamingApp.class), 2,
-                    new NameThreadFactory("com.alibaba.nacos.naming.tcp.check.worker"));
+    private static final ScheduledExecutorService MYSQL_CHECK_POOL_EXECUTOR = ExecutorFactory.Managed
+            .newSingleScheduledExecutorService(ClassUtils.getCanonicalName(NamingApp.class),
+                    new NameThreadFactory("com.alibaba.nacos.naming.mysql.check.pool"));
 
     // 核心线程数：首先获取配置数量，为空默认CPU核数的一半，然后跟1比较取最大值
     private static final ScheduledExecutorService NAMING_HEALTH_EXECUTOR = ExecutorFactory.Managed
@@ -81,8 +75,11 @@ public class GlobalExecutor {
             .newSingleScheduledExecutorService(ClassUtils.getCanonicalName(NamingApp.class),
                     new NameThreadFactory("com.alibaba.nacos.naming.remote-connection-manager"));
     
-    private static final ExecutorService PUSH_CALLBACK_EXECUTOR = ExecutorFactory.Managed
-            .newSingleExecutorService("Push", new NameThreadFactory("com.alibaba.nacos.naming.push.callback"));
+    // 推送回调按连接分片执行，同一连接的回调保持顺序，不同连接并行执行
+    private static final KeyedCallbackExecutor PUSH_CALLBACK_EXECUTOR = new KeyedCallbackExecutor("Push",
+            "com.alibaba.nacos.naming.push.callback",
+            Integer.getInteger("com.alibaba.nacos.naming.push.callback.thread.num", DEFAULT_THREAD_COUNT),
+            MetricsMonitor.getPushCallbackRejected());
     
     public static void registerServerStatusUpdater(Runnable runnable) {
         NAMING_TIMER_EXECUTOR.scheduleAtFixedRate(runnable, 0, SERVER_STATUS_UPDATE_PERIOD, TimeUnit.MILLISECONDS);
@@ -92,21 +89,19 @@ public class GlobalExecutor {
         MYSQL_CHECK_EXECUTOR.execute(runnable);
     }
     
-    public static void submitTcpCheck(Runnable runnable) {
-        TCP_CHECK_EXECUTOR.submit(runnable);
-    }
-    
-    public static <T> List<Future<T>> invokeAllTcpSuperSenseTask(Collection<? extends Callable<T>> tasks)
-            throws InterruptedException {
-        return TCP_SUPER_SENSE_EXECUTOR.invokeAll(tasks);
-    }
-    
-    public static void executeTcpSuperSense(Runnable runnable) {
-        TCP_SUPER_SENSE_EXECUTOR.execute(runnable);
+    public static ScheduledExecutorService getMysqlCheckPoolExecutor() {
+        return MYSQL_CHECK_POOL_EXECUTOR;
     }
     
-    public static void scheduleTcpSuperSenseTask(Runnable runnable, long delay, TimeUnit unit) {
-        TCP_SUPER_SENSE_EXECUTOR.schedule(runnable, delay, unit);
+    /**
+     * Create executor for tcp health check, each thread of it runs one selector loop until interrupted.
+     *
+     * @param threadCount thread count
+     * @return tcp check executor
+     */
+    public static ExecutorService newTcpCheckExecutor(int threadCount) {
+        return ExecutorFactory.Managed.newFixedExecutorService(ClassUtils.getCanonicalName(NamingApp.class),
+                threadCount, new NameThreadFactory("com.alibaba.nacos.naming.tcp.check.worker"));
     }
     
     public static ScheduledFuture<?> scheduleNamingHealth(Runnable command, long delay, TimeUnit unit) {
@@ -138,7 +133,21 @@ public class GlobalExecutor {
         EXPIRED_CLIENT_CLEANER_EXECUTOR.scheduleWithFixedDelay(runnable, initialDelay, delay, unit);
     }
     
-    public static ExecutorService getCallbackExecutor() {
+    public static Executor getCallbackExecutor() {
         return PUSH_CALLBACK_EXECUTOR;
     }
+    
+    /**
+     * Get callback executor for the key, callbacks with same key will be executed in order.
+     *
+     * @param key key of callback, such as connection id of client or address of member
+     * @return callback executor
+     */
+    public static Executor getCallbackExecutor(String key) {
+        return PUSH_CALLBACK_EXECUTOR.select(key);
+    }
+    
+    public static int getPushCallbackPendingCount() {
+        return PUSH_CALLBACK_EXECUTOR.getPendingCount();
+    }
 }
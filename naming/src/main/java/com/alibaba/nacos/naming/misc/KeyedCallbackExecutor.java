@@ -0,0 +1,111 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.misc;
+
+import com.alibaba.nacos.common.executor.NameThreadFactory;
+import com.alibaba.nacos.common.executor.ThreadPoolManager;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Callback executor which dispatches callbacks to single thread shards by key.
+ *
+ * <p>Callbacks with the same key, such as the connection id of client, are executed in submitted order, and callbacks
+ * of different keys are executed in parallel. Callbacks are submitted by the response threads of requests, which must
+ * neither be blocked nor lose a callback, so the queue of each shard is unbounded and its depth is exposed by
+ * {@link #getPendingCount()}. Callbacks are only rejected after the shard is shut down.
+ *
+ * @author nacos
+ */
+@SuppressWarnings("PMD.ThreadPoolCreationRule")
+public class KeyedCallbackExecutor implements Executor {
+    
+    private static final String NAMESPACE = "nacos";
+    
+    private final ThreadPoolExecutor[] shards;
+    
+    private final AtomicInteger index = new AtomicInteger();
+    
+    private final AtomicLong rejectedCount;
+    
+    public KeyedCallbackExecutor(String group, String name, int shardCount, AtomicLong rejectedCount) {
+        this.rejectedCount = rejectedCount;
+        RejectedExecutionHandler rejectedHandler = new AbortWithCountPolicy();
+        this.shards = new ThreadPoolExecutor[Math.max(shardCount, 1)];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(),
+                    new NameThreadFactory(name + "." + i), rejectedHandler);
+            ThreadPoolManager.getInstance().register(NAMESPACE, group, shards[i]);
+        }
+    }
+    
+    /**
+     * Select the executor of input key, callbacks executed by same executor keep order.
+     *
+     * @param key key of callback, such as connection id
+     * @return executor for the key
+     */
+    public Executor select(String key) {
+        if (null == key) {
+            return this;
+        }
+        return shards[(key.hashCode() & Integer.MAX_VALUE) % shards.length];
+    }
+    
+    /**
+     * Execute callback without key in round-robin shard.
+     *
+     * @param command callback
+     */
+    @Override
+    public void execute(Runnable command) {
+        shards[(index.getAndIncrement() & Integer.MAX_VALUE) % shards.length].execute(command);
+    }
+    
+    /**
+     * Get the number of callbacks waiting in all shards.
+     *
+     * @return pending callback count
+     */
+    public int getPendingCount() {
+        int result = 0;
+        for (ThreadPoolExecutor each : shards) {
+            result += each.getQueue().size();
+        }
+        return result;
+    }
+    
+    public int getShardCount() {
+        return shards.length;
+    }
+    
+    private class AbortWithCountPolicy implements RejectedExecutionHandler {
+        
+        @Override
+        public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+            rejectedCount.incrementAndGet();
+            throw new RejectedExecutionException("Callback " + r + " rejected from " + executor);
+        }
+    }
+}
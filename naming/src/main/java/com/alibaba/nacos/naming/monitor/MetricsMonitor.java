@@ -21,14 +21,18 @@ import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
 import com.alibaba.nacos.common.utils.TopnCounterMetricsContainer;
 import com.alibaba.nacos.core.monitor.NacosMeterRegistryCenter;
 import com.alibaba.nacos.naming.misc.Loggers;
+import com.alibaba.nacos.naming.misc.UtilsAndCommons;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.ImmutableTag;
 import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Timer;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -45,6 +49,8 @@ public class MetricsMonitor {
     
     private final AtomicInteger mysqlHealthCheck = new AtomicInteger();
     
+    private final AtomicInteger mysqlHealthCheckPoolSize = new AtomicInteger();
+    
     private final AtomicInteger httpHealthCheck = new AtomicInteger();
     
     private final AtomicInteger tcpHealthCheck = new AtomicInteger();
@@ -77,6 +83,20 @@ public class MetricsMonitor {
     
     private final AtomicInteger pushPendingTaskCount = new AtomicInteger();
     
+    private final AtomicLong clientOperationEventQueueSize = new AtomicLong();
+    
+    private final AtomicLong clientOperationEventLag = new AtomicLong();
+    
+    private final AtomicLong clientOperationEventOverflow = new AtomicLong();
+    
+    private final AtomicLong serviceEventLag = new AtomicLong();
+    
+    private final AtomicLong serviceEventOverflow = new AtomicLong();
+    
+    private final AtomicLong pushCallbackRejected = new AtomicLong();
+    
+    private final AtomicInteger pushCallbackPendingCount = new AtomicInteger();
+    
     /**
      * version -> naming subscriber count.
      */
@@ -92,6 +112,17 @@ public class MetricsMonitor {
      */
     private final TopnCounterMetricsContainer serviceChangeCount = new TopnCounterMetricsContainer();
     
+    /**
+     * cluster -> tcp health check rt histogram.
+     */
+    private final ConcurrentHashMap<String, Timer> tcpHealthCheckRt = new ConcurrentHashMap<>();
+    
+    private final Timer mysqlHealthCheckWaitTime = NacosMeterRegistryCenter.histogramTimer(METER_REGISTRY,
+            "nacos_naming_mysql_health_check_wait", Collections.singletonList(new ImmutableTag("module", "naming")));
+    
+    private final Timer mysqlHealthCheckRt = NacosMeterRegistryCenter.histogramTimer(METER_REGISTRY,
+            "nacos_naming_mysql_health_check_rt", Collections.singletonList(new ImmutableTag("module", "naming")));
+    
     private MetricsMonitor() {
         for (Field each : MetricsMonitor.class.getDeclaredFields()) {
             if (Number.class.isAssignableFrom(each.getType())) {
@@ -110,18 +141,18 @@ public class MetricsMonitor {
         List<Tag> tags = new ArrayList<>();
         tags.add(new ImmutableTag("version", "v1"));
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_naming_subscriber", tags, namingSubscriber.get("v1"));
-    
+        
         tags = new ArrayList<>();
         tags.add(new ImmutableTag("version", "v2"));
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_naming_subscriber", tags, namingSubscriber.get("v2"));
-    
+        
         namingPublisher.put("v1", new AtomicInteger(0));
         namingPublisher.put("v2", new AtomicInteger(0));
-    
+        
         tags = new ArrayList<>();
         tags.add(new ImmutableTag("version", "v1"));
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_naming_publisher", tags, namingPublisher.get("v1"));
-    
+        
         tags = new ArrayList<>();
         tags.add(new ImmutableTag("version", "v2"));
         NacosMeterRegistryCenter.gauge(METER_REGISTRY, "nacos_naming_publisher", tags, namingPublisher.get("v2"));
@@ -138,6 +169,10 @@ public class MetricsMonitor {
         return INSTANCE.mysqlHealthCheck;
     }
     
+    public static AtomicInteger getMysqlHealthCheckPoolSize() {
+        return INSTANCE.mysqlHealthCheckPoolSize;
+    }
+    
     public static AtomicInteger getHttpHealthCheckMonitor() {
         return INSTANCE.httpHealthCheck;
     }
@@ -198,6 +233,34 @@ public class MetricsMonitor {
         return INSTANCE.pushPendingTaskCount;
     }
     
+    public static AtomicLong getClientOperationEventQueueSize() {
+        return INSTANCE.clientOperationEventQueueSize;
+    }
+    
+    public static AtomicLong getClientOperationEventLag() {
+        return INSTANCE.clientOperationEventLag;
+    }
+    
+    public static AtomicLong getClientOperationEventOverflow() {
+        return INSTANCE.clientOperationEventOverflow;
+    }
+    
+    public static AtomicLong getServiceEventLag() {
+        return INSTANCE.serviceEventLag;
+    }
+    
+    public static AtomicLong getServiceEventOverflow() {
+        return INSTANCE.serviceEventOverflow;
+    }
+    
+    public static AtomicLong getPushCallbackRejected() {
+        return INSTANCE.pushCallbackRejected;
+    }
+    
+    public static AtomicInteger getPushCallbackPendingCount() {
+        return INSTANCE.pushCallbackPendingCount;
+    }
+    
     public static AtomicLong getTotalPushCostForAvg() {
         return INSTANCE.totalPushCostForAvg;
     }
@@ -214,6 +277,47 @@ public class MetricsMonitor {
         return INSTANCE.serviceChangeCount;
     }
     
+    /**
+     * Record rt of successful tcp health check to the histogram of instance cluster.
+     *
+     * @param cluster cluster name of checked instance
+     * @param rt      rt in milliseconds
+     */
+    public static void recordTcpHealthCheckRt(String cluster, long rt) {
+        String clusterName = null == cluster ? UtilsAndCommons.DEFAULT_CLUSTER_NAME : cluster;
+        Timer timer = INSTANCE.tcpHealthCheckRt.computeIfAbsent(clusterName, key -> {
+            List<Tag> tags = new ArrayList<>();
+            tags.add(new ImmutableTag("module", "naming"));
+            tags.add(new ImmutableTag("cluster", key));
+            return NacosMeterRegistryCenter.histogramTimer(METER_REGISTRY, "nacos_naming_tcp_health_check_rt", tags);
+        });
+        if (null != timer) {
+            timer.record(rt, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    /**
+     * Record time waiting for connection from pool of mysql health check.
+     *
+     * @param waitTime wait time in milliseconds
+     */
+    public static void recordMysqlHealthCheckWaitTime(long waitTime) {
+        if (null != INSTANCE.mysqlHealthCheckWaitTime) {
+            INSTANCE.mysqlHealthCheckWaitTime.record(waitTime, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    /**
+     * Record rt of mysql health check, including the time waiting for connection.
+     *
+     * @param rt rt in milliseconds
+     */
+    public static void recordMysqlHealthCheckRt(long rt) {
+        if (null != INSTANCE.mysqlHealthCheckRt) {
+            INSTANCE.mysqlHealthCheckRt.record(rt, TimeUnit.MILLISECONDS);
+        }
+    }
+    
     public static void compareAndSetMaxPushCost(long newCost) {
         INSTANCE.maxPushCost.getAndUpdate((prev) -> Math.max(newCost, prev));
     }
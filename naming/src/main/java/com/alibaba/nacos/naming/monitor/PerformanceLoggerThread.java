@@ -79,6 +79,7 @@ public class PerformanceLoggerThread {
                     Loggers.PERFORMANCE_LOG
                             .info("PERFORMANCE:|serviceCount|ipCount|subscribeCount|maxPushCost|avgPushCost|totalPushCount|failPushCount");
                     Loggers.PERFORMANCE_LOG.info("DISTRO:|V1SyncDone|V1SyncFail|V2SyncDone|V2SyncFail|V2VerifyFail|");
+                    Loggers.PERFORMANCE_LOG.info("DISTRO SNAPSHOT:|LoadedChunks|LoadedBytes|FailedChunks|");
                 }
                 int serviceCount = com.alibaba.nacos.naming.core.v2.ServiceManager.getInstance().size();
                 int ipCount = MetricsMonitor.getIpCountMonitor().get();
@@ -104,8 +105,8 @@ public class PerformanceLoggerThread {
         }
         
         private void printDistroMonitor() {
-            Optional<DistroRecord> v2Record = DistroRecordsHolder.getInstance()
-                    .getRecordIfExist(DistroClientDataProcessor.TYPE);
+            DistroRecordsHolder distroRecordsHolder = DistroRecordsHolder.getInstance();
+            Optional<DistroRecord> v2Record = distroRecordsHolder.getRecordIfExist(DistroClientDataProcessor.TYPE);
             long v2SyncDone = 0;
             long v2SyncFail = 0;
             int v2VerifyFail = 0;
@@ -115,6 +116,8 @@ public class PerformanceLoggerThread {
                 v2VerifyFail = v2Record.get().getFailedVerifyCount();
             }
             Loggers.PERFORMANCE_LOG.info("DISTRO:|{}|{}|{}|", v2SyncDone, v2SyncFail, v2VerifyFail);
+            Loggers.PERFORMANCE_LOG.info("DISTRO SNAPSHOT:|{}|{}|{}|", distroRecordsHolder.getLoadedSnapshotChunkCount(),
+                    distroRecordsHolder.getLoadedSnapshotBytes(), distroRecordsHolder.getFailedSnapshotChunkCount());
         }
     }
     
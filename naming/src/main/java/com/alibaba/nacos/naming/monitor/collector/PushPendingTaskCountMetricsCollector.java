@@ -17,6 +17,7 @@
 package com.alibaba.nacos.naming.monitor.collector;
 
 import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.monitor.MetricsMonitor;
 import com.alibaba.nacos.naming.push.v2.NamingSubscriberServiceV2Impl;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -45,6 +46,7 @@ public class PushPendingTaskCountMetricsCollector {
     public PushPendingTaskCountMetricsCollector(NamingSubscriberServiceV2Impl namingSubscriberServiceV2) {
         executorService.scheduleWithFixedDelay(() -> {
             MetricsMonitor.getPushPendingTaskCount().set(namingSubscriberServiceV2.getPushPendingTaskCount());
+            MetricsMonitor.getPushCallbackPendingCount().set(GlobalExecutor.getPushCallbackPendingCount());
         }, DELAY_SECONDS, DELAY_SECONDS, TimeUnit.SECONDS);
     }
 }
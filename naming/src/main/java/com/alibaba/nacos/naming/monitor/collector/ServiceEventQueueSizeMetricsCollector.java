@@ -17,7 +17,10 @@
 package com.alibaba.nacos.naming.monitor.collector;
 
 import com.alibaba.nacos.common.executor.ExecutorFactory;
+import com.alibaba.nacos.common.notify.EventPublisher;
 import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.common.notify.RingBufferEventPublisher;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
 import com.alibaba.nacos.naming.core.v2.event.service.ServiceEvent;
 import com.alibaba.nacos.naming.monitor.MetricsMonitor;
 import org.springframework.stereotype.Service;
@@ -47,6 +50,20 @@ public class ServiceEventQueueSizeMetricsCollector {
                     (int) NotifyCenter.getPublisher(ServiceEvent.ServiceSubscribedEvent.class).currentEventSize());
             MetricsMonitor.getServiceChangedEventQueueSize().set(
                     (int) NotifyCenter.getPublisher(ServiceEvent.ServiceChangedEvent.class).currentEventSize());
+            EventPublisher servicePublisher = NotifyCenter.getPublisher(ServiceEvent.ServiceChangedEvent.class);
+            if (servicePublisher instanceof RingBufferEventPublisher) {
+                RingBufferEventPublisher publisher = (RingBufferEventPublisher) servicePublisher;
+                MetricsMonitor.getServiceEventLag().set(publisher.getLagMillis());
+                MetricsMonitor.getServiceEventOverflow().set(publisher.getOverflowCount());
+            }
+            EventPublisher clientOperationPublisher = NotifyCenter
+                    .getPublisher(ClientOperationEvent.ClientRegisterServiceEvent.class);
+            if (clientOperationPublisher instanceof RingBufferEventPublisher) {
+                RingBufferEventPublisher publisher = (RingBufferEventPublisher) clientOperationPublisher;
+                MetricsMonitor.getClientOperationEventQueueSize().set(publisher.currentEventSize());
+                MetricsMonitor.getClientOperationEventLag().set(publisher.getLagMillis());
+                MetricsMonitor.getClientOperationEventOverflow().set(publisher.getOverflowCount());
+            }
         }, DELAY_SECONDS, DELAY_SECONDS, TimeUnit.SECONDS);
     }
 }
@@ -19,9 +19,9 @@ package com.alibaba.nacos.naming.push.v2;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Nacos push data wrapper.
@@ -39,7 +39,7 @@ public class PushDataWrapper {
     public PushDataWrapper(ServiceMetadata serviceMetadata, ServiceInfo originalData) {
         this.serviceMetadata = serviceMetadata;
         this.originalData = originalData;
-        processedDatum = new HashMap<>(1);
+        processedDatum = new ConcurrentHashMap<>(1);
     }
     
     public ServiceInfo getOriginalData() {
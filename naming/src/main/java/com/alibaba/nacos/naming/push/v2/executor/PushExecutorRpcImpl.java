@@ -18,14 +18,20 @@ package com.alibaba.nacos.naming.push.v2.executor;
 
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
+import com.alibaba.nacos.common.remote.client.grpc.GrpcUtils;
+import com.alibaba.nacos.common.remote.client.grpc.RequestPayloadTemplate;
 import com.alibaba.nacos.core.remote.RpcPushService;
+import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
 import com.alibaba.nacos.naming.push.v2.task.NamingPushCallback;
+import com.alibaba.nacos.naming.selector.NoneSelector;
 import com.alibaba.nacos.naming.utils.ServiceUtil;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+
 /**
  * Push execute service for rpc.
  *
@@ -37,6 +43,8 @@ import org.springframework.stereotype.Component;
 @Component
 public class PushExecutorRpcImpl implements PushExecutor {
     
+    private static final String SHARED_PAYLOAD_KEY_PREFIX = "rpc-shared-payload@";
+    
     private final RpcPushService pushService;
     
     public PushExecutorRpcImpl(RpcPushService pushService) {
@@ -52,10 +60,39 @@ public class PushExecutorRpcImpl implements PushExecutor {
     @Override
     public void doPushWithCallback(String clientId, Subscriber subscriber, PushDataWrapper data,
             NamingPushCallback callBack) {
-        ServiceInfo actualServiceInfo = getServiceInfo(data, subscriber);
-        callBack.setActualServiceInfo(actualServiceInfo);
-        pushService.pushWithCallback(clientId, NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo),
-                callBack, GlobalExecutor.getCallbackExecutor());
+        if (!isSharable(data.getServiceMetadata())) {
+            ServiceInfo actualServiceInfo = getServiceInfo(data, subscriber);
+            callBack.setActualServiceInfo(actualServiceInfo);
+            pushService.pushWithCallback(clientId, NotifySubscriberRequest.buildNotifySubscriberRequest(actualServiceInfo),
+                    callBack, GlobalExecutor.getCallbackExecutor(clientId));
+            return;
+        }
+        SharedPushPayload payload = getSharedPushPayload(data, subscriber);
+        callBack.setActualServiceInfo(payload.serviceInfo);
+        pushService.pushWithCallback(clientId, NotifySubscriberRequest.buildNotifySubscriberRequest(payload.serviceInfo),
+                payload.payloadTemplate, callBack, GlobalExecutor.getCallbackExecutor(clientId));
+    }
+    
+    /**
+     * Without selector, the pushed service info only depends on the cluster of subscriber, so it can be shared by all
+     * subscribers with the same cluster in one push task.
+     */
+    private boolean isSharable(ServiceMetadata serviceMetadata) {
+        return null == serviceMetadata || null == serviceMetadata.getSelector()
+                || serviceMetadata.getSelector() instanceof NoneSelector;
+    }
+    
+    private SharedPushPayload getSharedPushPayload(PushDataWrapper data, Subscriber subscriber) {
+        String key = SHARED_PAYLOAD_KEY_PREFIX + subscriber.getCluster();
+        Optional<SharedPushPayload> cached = data.getProcessedPushData(key);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+        ServiceInfo serviceInfo = getServiceInfo(data, subscriber);
+        SharedPushPayload result = new SharedPushPayload(serviceInfo,
+                GrpcUtils.prepare(NotifySubscriberRequest.buildNotifySubscriberRequest(serviceInfo)));
+        data.addProcessedPushData(key, result);
+        return result;
     }
     
     private ServiceInfo getServiceInfo(PushDataWrapper data, Subscriber subscriber) {
@@ -63,4 +100,16 @@ public class PushExecutorRpcImpl implements PushExecutor {
                 .selectInstancesWithHealthyProtection(data.getOriginalData(), data.getServiceMetadata(), false, true,
                         subscriber);
     }
+    
+    private static class SharedPushPayload {
+        
+        private final ServiceInfo serviceInfo;
+        
+        private final RequestPayloadTemplate payloadTemplate;
+        
+        private SharedPushPayload(ServiceInfo serviceInfo, RequestPayloadTemplate payloadTemplate) {
+            this.serviceInfo = serviceInfo;
+            this.payloadTemplate = payloadTemplate;
+        }
+    }
 }
@@ -18,7 +18,7 @@ package com.alibaba.nacos.naming.push.v2.task;
 
 import com.alibaba.nacos.common.task.NacosTask;
 import com.alibaba.nacos.common.task.NacosTaskProcessor;
-import com.alibaba.nacos.common.task.engine.NacosDelayTaskExecuteEngine;
+import com.alibaba.nacos.common.task.engine.NacosTimingWheelDelayTaskExecuteEngine;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
 import com.alibaba.nacos.naming.core.v2.index.ClientServiceIndexesManager;
 import com.alibaba.nacos.naming.core.v2.index.ServiceStorage;
@@ -34,7 +34,7 @@ import com.alibaba.nacos.naming.push.v2.executor.PushExecutor;
  *
  * @author xiweng.yy
  */
-public class PushDelayTaskExecuteEngine extends NacosDelayTaskExecuteEngine {
+public class PushDelayTaskExecuteEngine extends NacosTimingWheelDelayTaskExecuteEngine {
     
     private final ClientManager clientManager;
     
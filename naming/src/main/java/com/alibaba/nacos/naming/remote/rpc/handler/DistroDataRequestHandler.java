@@ -20,6 +20,7 @@ import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.api.remote.response.ResponseCode;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
+import com.alibaba.nacos.core.distributed.distro.component.DistroComponentHolder;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 import com.alibaba.nacos.core.remote.RequestHandler;
@@ -39,8 +40,11 @@ public class DistroDataRequestHandler extends RequestHandler<DistroDataRequest,
     
     private final DistroProtocol distroProtocol;
     
-    public DistroDataRequestHandler(DistroProtocol distroProtocol) {
+    private final DistroComponentHolder distroComponentHolder;
+    
+    public DistroDataRequestHandler(DistroProtocol distroProtocol, DistroComponentHolder distroComponentHolder) {
         this.distroProtocol = distroProtocol;
+        this.distroComponentHolder = distroComponentHolder;
     }
     
     @Override
@@ -50,7 +54,7 @@ public class DistroDataRequestHandler extends RequestHandler<DistroDataRequest,
                 case VERIFY:
                     return handleVerify(request.getDistroData(), meta);
                 case SNAPSHOT:
-                    return handleSnapshot();
+                    return handleSnapshot(request.getDistroData());
                 case ADD:
                 case CHANGE:
                 case DELETE:
@@ -70,6 +74,9 @@ public class DistroDataRequestHandler extends RequestHandler<DistroDataRequest,
     }
     
     private DistroDataResponse handleVerify(DistroData distroData, RequestMeta meta) {
+        if (DistroClientDataProcessor.isVerifyDigest(distroData)) {
+            return handleVerifyDigest(distroData);
+        }
         DistroDataResponse result = new DistroDataResponse();
         if (!distroProtocol.onVerify(distroData, meta.getClientIp())) {
             result.setErrorInfo(ResponseCode.FAIL.getCode(), "[DISTRO-FAILED] distro data verify failed");
@@ -77,9 +84,19 @@ public class DistroDataRequestHandler extends RequestHandler<DistroDataRequest,
         return result;
     }
     
-    private DistroDataResponse handleSnapshot() {
+    private DistroDataResponse handleVerifyDigest(DistroData distroData) {
+        DistroDataResponse result = new DistroDataResponse();
+        DistroClientDataProcessor dataProcessor = (DistroClientDataProcessor) distroComponentHolder
+                .findDataProcessor(DistroClientDataProcessor.TYPE);
+        result.setDistroData(dataProcessor.processVerifyDigest(distroData));
+        return result;
+    }
+    
+    private DistroDataResponse handleSnapshot(DistroData request) {
         DistroDataResponse result = new DistroDataResponse();
-        DistroData distroData = distroProtocol.onSnapshot(DistroClientDataProcessor.TYPE);
+        // Request with distro data is querying one chunk of snapshot.
+        DistroData distroData = null == request ? distroProtocol.onSnapshot(DistroClientDataProcessor.TYPE)
+                : distroProtocol.onSnapshotChunk(DistroClientDataProcessor.TYPE, request.getDistroKey().getResourceKey());
         result.setDistroData(distroData);
         return result;
     }
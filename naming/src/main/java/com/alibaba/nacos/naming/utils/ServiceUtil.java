@@ -19,6 +19,8 @@ package com.alibaba.nacos.naming.utils;
 import com.alibaba.nacos.api.common.Constants;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.common.utils.StringUtils;
+import com.alibaba.nacos.naming.core.v2.index.MaterializedServiceInfo;
+import com.alibaba.nacos.naming.core.v2.index.ServiceInstancesSnapshot;
 import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
 import com.alibaba.nacos.naming.misc.Loggers;
 import com.alibaba.nacos.naming.pojo.Subscriber;
@@ -32,6 +34,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -188,14 +191,12 @@ public final class ServiceUtil {
      */
     public static ServiceInfo selectInstancesWithHealthyProtection(ServiceInfo serviceInfo, ServiceMetadata serviceMetadata, String cluster,
             boolean healthyOnly, boolean enableOnly, String subscriberIp) {
-        //filteredResult 满足集群名称匹配、可用条件、健康条件 过滤后的实例列表
-        //allInstances 满足集群条件和可用条件的实例列表
-        //healthyCount 满足集群条件和可用条件且健康的实例列表
-        InstancesFilter filter = (filteredResult, allInstances, healthyCount) -> {
+        //selection 满足集群名称匹配、可用条件、健康条件 过滤后的实例列表及健康实例数
+        InstancesFilter filter = (filteredResult, selection) -> {
             if (serviceMetadata == null) {
                 return;
             }
-            allInstances = filteredResult.getHosts();
+            List<com.alibaba.nacos.api.naming.pojo.Instance> allInstances = selection.getFilteredInstances();
             int originalTotal = allInstances.size();
             // filter ips using selector
             SelectorManager selectorManager = ApplicationUtils.getBean(SelectorManager.class);
@@ -205,7 +206,7 @@ public final class ServiceUtil {
             filteredResult.setHosts(allInstances);
             
             // will re-compute healthCount
-            long newHealthyCount = healthyCount;
+            long newHealthyCount = selection.getHealthyCount();
             //如果selector成功过滤了记录 重新计算健康数
             if (originalTotal != allInstances.size()) {
                 for (com.alibaba.nacos.api.naming.pojo.Instance allInstance : allInstances) {
@@ -228,20 +229,9 @@ public final class ServiceUtil {
                 Loggers.SRV_LOG.warn("protect threshold reached, return all ips, service: {}", filteredResult.getName());
                 //设置触发阈值保护状态为true
                 filteredResult.setReachProtectionThreshold(true);
-                List<com.alibaba.nacos.api.naming.pojo.Instance> filteredInstances = allInstances.stream()
-                        .map(i -> {
-                            if (!i.isHealthy()) {
-                                //对于不健康的实例我们拷贝出新得实例并设置健康状态为true
-                                //这里不能直接修改真实实例得健康属性
-                                i = InstanceUtil.deepCopy(i);
-                                // set all to `healthy` state to protect
-                                i.setHealthy(true);
-                            } // else deepcopy is unnecessary
-                            return i;
-                        })
-                        .collect(Collectors.toCollection(LinkedList::new));
-                //最后赋值给要返回得对象
-                filteredResult.setHosts(filteredInstances);
+                //selector没有过滤实例时复用该版本下已经转换过的实例列表
+                filteredResult.setHosts(allInstances == selection.getFilteredInstances() ? selection.getProtectedInstances()
+                        : toProtectedInstances(allInstances));
             }
         };
         // 根据条件过滤实例列表
@@ -272,40 +262,62 @@ public final class ServiceUtil {
         //把集群字符串分割成set 列表
         Set<String> clusterSets = com.alibaba.nacos.common.utils.StringUtils.isNotBlank(cluster) ? new HashSet<>(
                 Arrays.asList(cluster.split(","))) : new HashSet<>();
+        SelectionKey key = new SelectionKey(clusterSets, healthyOnly, enableOnly);
+        // 由存储构建的服务数据，同一版本下相同条件的过滤结果只计算一次
+        InstancesSelection selection;
+        if (serviceInfo instanceof MaterializedServiceInfo) {
+            ServiceInstancesSnapshot snapshot = ((MaterializedServiceInfo) serviceInfo).getSnapshot();
+            selection = snapshot.getSelection(key, each -> select(snapshot.getInstances(), each));
+        } else {
+            selection = select(serviceInfo.getHosts(), key);
+        }
+        //设置过滤后的实例列表
+        result.setHosts(selection.getFilteredInstances());
+        if (filter != null) {
+            //交给过滤器去过滤一遍
+            filter.doFilter(result, selection);
+        }
+        return result;
+    }
+    
+    private static InstancesSelection select(List<com.alibaba.nacos.api.naming.pojo.Instance> hosts,
+            SelectionKey key) {
         //统计健康实例数
         long healthyCount = 0L;
         // The instance list won't be modified almost time.
         // 满足集群名称匹配、可用条件、健康条件 过滤后的实例列表
-        List<com.alibaba.nacos.api.naming.pojo.Instance> filteredInstances = new LinkedList<>();
-        // The instance list of all filtered by cluster/enabled condition.
-        // 满足集群条件和可用条件的实例列表
-        List<com.alibaba.nacos.api.naming.pojo.Instance> allInstances = new LinkedList<>();
-        for (com.alibaba.nacos.api.naming.pojo.Instance ip : serviceInfo.getHosts()) {
+        List<com.alibaba.nacos.api.naming.pojo.Instance> filteredInstances = new ArrayList<>();
+        for (com.alibaba.nacos.api.naming.pojo.Instance ip : hosts) {
             //clusterSets是否包含ip所属的集群
             //如果enableOnly为true代表实例要求可用否则 允许返回不可用的实例
-            if (checkCluster(clusterSets, ip) && checkEnabled(enableOnly, ip)) {
+            if (checkCluster(key.clusters, ip) && checkEnabled(key.enableOnly, ip)) {
                 //如果healthyOnly为true代表实例要求健康，否则允许返回不健康的实例
-                if (!healthyOnly || ip.isHealthy()) {
+                if (!key.healthyOnly || ip.isHealthy()) {
                     //healthyOnly  为true时 filteredInstances只包括健康实例
                     //healthyOnly  为false时 filteredInstances包括所有实例
-                    //此时filteredInstances的记录跟allInstances记录一致
                     filteredInstances.add(ip);
                 }
                 //统计健康的实例数
                 if (ip.isHealthy()) {
                     healthyCount += 1;
                 }
-                //记录所有健康不健康的实例列表
-                allInstances.add(ip);
             }
         }
-        //设置过滤后的实例列表
-        result.setHosts(filteredInstances);
-        if (filter != null) {
-            //交给过滤器去过滤一遍
-            filter.doFilter(result, allInstances, healthyCount);
-        }
-        return result;
+        return new InstancesSelection(Collections.unmodifiableList(filteredInstances), healthyCount);
+    }
+    
+    private static List<com.alibaba.nacos.api.naming.pojo.Instance> toProtectedInstances(
+            List<com.alibaba.nacos.api.naming.pojo.Instance> instances) {
+        return instances.stream().map(i -> {
+            if (!i.isHealthy()) {
+                //对于不健康的实例我们拷贝出新得实例并设置健康状态为true
+                //这里不能直接修改真实实例得健康属性
+                i = InstanceUtil.deepCopy(i);
+                // set all to `healthy` state to protect
+                i.setHealthy(true);
+            } // else deepcopy is unnecessary
+            return i;
+        }).collect(Collectors.toCollection(LinkedList::new));
     }
 
     //运行clusterSets为空代表查询的集群字符串为空 无需校验实例的集群
@@ -327,13 +339,81 @@ public final class ServiceUtil {
          * Do customized filtering.
          *
          * @param filteredResult result with instances already been filtered cluster/enabled/healthy
-         * @param allInstances   all instances filtered by cluster/enabled
-         * @param healthyCount   healthy instances count filtered by cluster/enabled
+         * @param selection      instances filtered by cluster/enabled/healthy and healthy count filtered by
+         *                       cluster/enabled
          */
-        void doFilter(ServiceInfo filteredResult,
-                      List<com.alibaba.nacos.api.naming.pojo.Instance> allInstances,
-                      long healthyCount);
+        void doFilter(ServiceInfo filteredResult, InstancesSelection selection);
 
     }
+    
+    /**
+     * Condition of selecting instances.
+     */
+    private static final class SelectionKey {
+        
+        private final Set<String> clusters;
+        
+        private final boolean healthyOnly;
+        
+        private final boolean enableOnly;
+        
+        private SelectionKey(Set<String> clusters, boolean healthyOnly, boolean enableOnly) {
+            this.clusters = clusters;
+            this.healthyOnly = healthyOnly;
+            this.enableOnly = enableOnly;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SelectionKey)) {
+                return false;
+            }
+            SelectionKey that = (SelectionKey) o;
+            return healthyOnly == that.healthyOnly && enableOnly == that.enableOnly && clusters.equals(that.clusters);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(clusters, healthyOnly, enableOnly);
+        }
+    }
+    
+    /**
+     * Instances selected by one {@link SelectionKey}.
+     */
+    private static final class InstancesSelection {
+        
+        private final List<com.alibaba.nacos.api.naming.pojo.Instance> filteredInstances;
+        
+        private final long healthyCount;
+        
+        private volatile List<com.alibaba.nacos.api.naming.pojo.Instance> protectedInstances;
+        
+        private InstancesSelection(List<com.alibaba.nacos.api.naming.pojo.Instance> filteredInstances,
+                long healthyCount) {
+            this.filteredInstances = filteredInstances;
+            this.healthyCount = healthyCount;
+        }
+        
+        private List<com.alibaba.nacos.api.naming.pojo.Instance> getFilteredInstances() {
+            return filteredInstances;
+        }
+        
+        private long getHealthyCount() {
+            return healthyCount;
+        }
+        
+        private List<com.alibaba.nacos.api.naming.pojo.Instance> getProtectedInstances() {
+            List<com.alibaba.nacos.api.naming.pojo.Instance> result = protectedInstances;
+            if (null == result) {
+                result = Collections.unmodifiableList(toProtectedInstances(filteredInstances));
+                protectedInstances = result;
+            }
+            return result;
+        }
+    }
 
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.utils;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Bounded interner for the strings repeated by registered instances, such as namespaces, groups, cluster names and
+ * metadata keys.
+ *
+ * <p>Unlike {@link String#intern()}, the pool is a plain map in heap and holds at most {@code com.alibaba.nacos.naming.string.interner.max.size} strings. The
+ * strings beyond the bound are returned as they are, so that the high cardinality values can't fill up the pool.
+ *
+ * @author xiweng.yy
+ */
+public final class StringInterner {
+    
+    static final int MAX_SIZE = Integer.getInteger("com.alibaba.nacos.naming.string.interner.max.size", 1 << 16);
+    
+    private static final StringInterner INSTANCE = new StringInterner(MAX_SIZE);
+    
+    private final int maxSize;
+    
+    private final ConcurrentMap<String, String> pool = new ConcurrentHashMap<>(1024);
+    
+    StringInterner(int maxSize) {
+        this.maxSize = maxSize;
+    }
+    
+    /**
+     * Get the pooled string equal to the input one.
+     *
+     * @param value string value
+     * @return pooled string, or the input value itself if it is not pooled and the pool is full
+     */
+    public static String intern(String value) {
+        return INSTANCE.get(value);
+    }
+    
+    String get(String value) {
+        if (null == value) {
+            return null;
+        }
+        String result = pool.get(value);
+        if (null != result) {
+            return result;
+        }
+        if (pool.size() >= maxSize) {
+            return value;
+        }
+        result = pool.putIfAbsent(value, value);
+        return null == result ? value : result;
+    }
+    
+    int size() {
+        return pool.size();
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import com.alibaba.nacos.common.notify.NotifyCenter;
+import com.alibaba.nacos.consistency.DataOperation;
+import com.alibaba.nacos.core.distributed.distro.DistroConfig;
+import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.naming.cluster.transport.JacksonSerializer;
+import com.alibaba.nacos.naming.cluster.transport.Serializer;
+import com.alibaba.nacos.naming.core.v2.client.ClientSyncData;
+import com.alibaba.nacos.naming.core.v2.client.ClientSyncDatumSnapshot;
+import com.alibaba.nacos.naming.core.v2.client.impl.ConnectionBasedClient;
+import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
+import com.alibaba.nacos.sys.utils.ApplicationUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DistroClientDataProcessorTest {
+    
+    private final List<String> clientIds = Arrays.asList("client1", "client2", "client3", "client4", "client5");
+    
+    @Mock
+    private ClientManager clientManager;
+    
+    @Mock
+    private DistroProtocol distroProtocol;
+    
+    @Mock
+    private ConfigurableApplicationContext context;
+    
+    private final Serializer serializer = new JacksonSerializer();
+    
+    private DistroClientDataProcessor dataProcessor;
+    
+    private int originalChunkSize;
+    
+    @Before
+    public void setUp() {
+        ApplicationUtils.injectContext(context);
+        when(context.getBean(Serializer.class)).thenReturn(serializer);
+        when(clientManager.allClientId()).thenReturn(clientIds);
+        when(clientManager.getClient(anyString()))
+                .thenAnswer(invocation -> new ConnectionBasedClient(invocation.getArgument(0), true, 0L));
+        originalChunkSize = DistroConfig.getInstance().getLoadDataChunkSize();
+        DistroConfig.getInstance().setLoadDataChunkSize(2);
+        dataProcessor = new DistroClientDataProcessor(clientManager, distroProtocol,
+                new DistroClientDeltaSyncManager());
+    }
+    
+    @After
+    public void tearDown() {
+        DistroConfig.getInstance().setLoadDataChunkSize(originalChunkSize);
+        NotifyCenter.deregisterSubscriber(dataProcessor);
+    }
+    
+    @Test
+    public void testGetDatumSnapshotChunk() {
+        Set<String> loadedClientIds = new HashSet<>();
+        int loadedClientCount = 0;
+        int chunkCount = 0;
+        String cursor = "";
+        do {
+            DistroData chunk = dataProcessor.getDatumSnapshotChunk(cursor);
+            assertEquals(DataOperation.SNAPSHOT, chunk.getType());
+            for (ClientSyncData each : serializer.deserialize(chunk.getContent(), ClientSyncDatumSnapshot.class)
+                    .getClientSyncDataList()) {
+                loadedClientIds.add(each.getClientId());
+                loadedClientCount++;
+            }
+            chunkCount++;
+            cursor = chunk.getDistroKey().getResourceKey();
+        } while (!cursor.isEmpty());
+        assertEquals(3, chunkCount);
+        assertEquals(clientIds.size(), loadedClientCount);
+        assertTrue(loadedClientIds.containsAll(clientIds));
+    }
+    
+    @Test
+    public void testGetDatumSnapshotChunkWithoutClient() {
+        when(clientManager.allClientId()).thenReturn(new HashSet<>());
+        DistroData chunk = dataProcessor.getDatumSnapshotChunk("");
+        assertEquals("", chunk.getDistroKey().getResourceKey());
+        assertTrue(serializer.deserialize(chunk.getContent(), ClientSyncDatumSnapshot.class).getClientSyncDataList()
+                .isEmpty());
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import com.alibaba.nacos.naming.core.v2.client.ClientSyncData;
+import com.alibaba.nacos.naming.core.v2.client.ClientSyncDelta;
+import com.alibaba.nacos.naming.core.v2.client.impl.ConnectionBasedClient;
+import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class DistroClientDeltaSyncManagerTest {
+    
+    private static final String TARGET = "1.1.1.1:8848";
+    
+    private static final String OTHER_TARGET = "2.2.2.2:8848";
+    
+    private final Service service = Service.newService("A", "B", "C");
+    
+    private final Service otherService = Service.newService("A", "B", "D");
+    
+    private DistroClientDeltaSyncManager deltaSyncManager;
+    
+    private ConnectionBasedClient client;
+    
+    @Before
+    public void setUp() {
+        deltaSyncManager = new DistroClientDeltaSyncManager();
+        client = new ConnectionBasedClient("connectionId", true, 0L);
+        client.addServiceInstance(service, new InstancePublishInfo("127.0.0.1", 8080));
+    }
+    
+    @Test
+    public void testFirstSyncWithFullData() {
+        ClientSyncData syncData = deltaSyncManager.buildSyncData(client, TARGET);
+        assertNull(syncData.getDelta());
+        assertNotNull(syncData.getSyncRevision());
+        assertEquals(Collections.singletonList("C"), syncData.getServiceNames());
+    }
+    
+    @Test
+    public void testSyncWithoutChange() {
+        ClientSyncData full = deltaSyncManager.buildSyncData(client, TARGET);
+        ClientSyncData syncData = deltaSyncManager.buildSyncData(client, TARGET);
+        assertEquals(full.getSyncRevision(), syncData.getSyncRevision());
+        assertEquals(full.getSyncRevision().longValue(), syncData.getDelta().getBaseSyncRevision());
+        assertNull(syncData.getDelta().getNamespaces());
+        assertNull(syncData.getDelta().getRemovedNamespaces());
+    }
+    
+    @Test
+    public void testSyncChangedInstances() {
+        final ClientSyncData full = deltaSyncManager.buildSyncData(client, TARGET);
+        client.addServiceInstance(otherService, new InstancePublishInfo("127.0.0.1", 8081));
+        ClientSyncData syncData = deltaSyncManager.buildSyncData(client, TARGET);
+        ClientSyncDelta delta = syncData.getDelta();
+        assertNotNull(delta);
+        assertEquals(full.getSyncRevision().longValue(), delta.getBaseSyncRevision());
+        assertTrue(syncData.getSyncRevision() > full.getSyncRevision());
+        assertEquals(Collections.singletonList("D"), delta.getServiceNames());
+        assertEquals(8081, delta.getInstancePublishInfos().get(0).getPort());
+        // Other target never synced needs full data.
+        ClientSyncData otherData = deltaSyncManager.buildSyncData(client, OTHER_TARGET);
+        assertNull(otherData.getDelta());
+        assertEquals(2, otherData.getServiceNames().size());
+    }
+    
+    @Test
+    public void testSyncRemovedAndUpdatedInPlaceInstances() {
+        deltaSyncManager.buildSyncData(client, TARGET);
+        client.addServiceInstance(otherService, new InstancePublishInfo("127.0.0.1", 8081));
+        deltaSyncManager.buildSyncData(client, TARGET);
+        client.removeServiceInstance(otherService);
+        client.getInstancePublishInfo(service).setHealthy(true);
+        ClientSyncDelta delta = deltaSyncManager.buildSyncData(client, TARGET).getDelta();
+        assertEquals(Collections.singletonList("D"), delta.getRemovedServiceNames());
+        assertEquals(Collections.singletonList("C"), delta.getServiceNames());
+        assertTrue(delta.getInstancePublishInfos().get(0).isHealthy());
+    }
+    
+    @Test
+    public void testSyncClusterChangedInstance() {
+        deltaSyncManager.buildSyncData(client, TARGET);
+        client.getInstancePublishInfo(service).setCluster("otherCluster");
+        ClientSyncData syncData = deltaSyncManager.buildSyncData(client, TARGET);
+        ClientSyncDelta delta = syncData.getDelta();
+        assertEquals(Collections.singletonList("C"), delta.getServiceNames());
+        assertEquals("otherCluster", delta.getInstancePublishInfos().get(0).getCluster());
+    }
+    
+    @Test
+    public void testResetTargetWithFullData() {
+        deltaSyncManager.buildSyncData(client, TARGET);
+        client.addServiceInstance(otherService, new InstancePublishInfo("127.0.0.1", 8081));
+        deltaSyncManager.resetTarget(client.getClientId(), TARGET);
+        ClientSyncData syncData = deltaSyncManager.buildSyncData(client, TARGET);
+        assertNull(syncData.getDelta());
+        assertEquals(2, syncData.getServiceNames().size());
+    }
+    
+    @Test
+    public void testApplyDeltaBasedOnAppliedRevision() {
+        assertFalse(deltaSyncManager.tryApplyDelta("clientId", 1L, 2L));
+        deltaSyncManager.recordApplied("clientId", 1L);
+        assertFalse(deltaSyncManager.tryApplyDelta("clientId", 0L, 2L));
+        assertTrue(deltaSyncManager.tryApplyDelta("clientId", 1L, 2L));
+        assertFalse(deltaSyncManager.tryApplyDelta("clientId", 1L, 2L));
+        deltaSyncManager.recordApplied("clientId", null);
+        assertFalse(deltaSyncManager.tryApplyDelta("clientId", 2L, 3L));
+        deltaSyncManager.recordApplied("clientId", 3L);
+        deltaSyncManager.removeClient("clientId");
+        assertFalse(deltaSyncManager.tryApplyDelta("clientId", 3L, 4L));
+    }
+}
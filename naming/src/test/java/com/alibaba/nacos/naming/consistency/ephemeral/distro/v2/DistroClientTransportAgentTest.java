@@ -20,6 +20,7 @@ import com.alibaba.nacos.api.exception.NacosException;
 import com.alibaba.nacos.api.remote.RequestCallBack;
 import com.alibaba.nacos.api.remote.response.Response;
 import com.alibaba.nacos.api.remote.response.ResponseCode;
+import com.alibaba.nacos.consistency.DataOperation;
 import com.alibaba.nacos.core.cluster.Member;
 import com.alibaba.nacos.core.cluster.NodeState;
 import com.alibaba.nacos.core.cluster.ServerMemberManager;
@@ -28,6 +29,7 @@ import com.alibaba.nacos.core.distributed.distro.component.DistroCallback;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 import com.alibaba.nacos.core.distributed.distro.exception.DistroException;
+import com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest;
 import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
@@ -41,9 +43,11 @@ import org.mockito.junit.MockitoJUnitRunner;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.mock.env.MockEnvironment;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
@@ -470,4 +474,35 @@ public class DistroClientTransportAgentTest {
         when(clusterRpcClientProxy.sendRequest(eq(member), any(), any(Long.class))).thenReturn(response);
         transportAgent.getDatumSnapshot(member.getAddress());
     }
+    
+    @Test
+    public void testGetDatumSnapshotChunkSuccess() throws NacosException {
+        when(memberManager.find(member.getAddress())).thenReturn(member);
+        member.setState(NodeState.UP);
+        when(clusterRpcClientProxy.isRunning(member)).thenReturn(true);
+        when(clusterRpcClientProxy.sendRequest(eq(member), any(), any(Long.class))).thenReturn(response);
+        DistroData chunk = new DistroData(new DistroKey("1/2", DistroClientDataProcessor.TYPE), new byte[0]);
+        chunk.setType(DataOperation.SNAPSHOT);
+        ((DistroDataResponse) response).setDistroData(chunk);
+        DistroData actual = transportAgent.getDatumSnapshotChunk(member.getAddress(), "");
+        assertEquals("1/2", actual.getDistroKey().getResourceKey());
+        verify(clusterRpcClientProxy).sendRequest(eq(member), argThat(request -> {
+            DistroDataRequest distroDataRequest = (DistroDataRequest) request;
+            return DataOperation.SNAPSHOT.equals(distroDataRequest.getDataOperation()) && ""
+                    .equals(distroDataRequest.getDistroData().getDistroKey().getResourceKey());
+        }), any(Long.class));
+    }
+    
+    @Test
+    public void testGetDatumSnapshotChunkFromOldServer() throws NacosException {
+        when(memberManager.find(member.getAddress())).thenReturn(member);
+        member.setState(NodeState.UP);
+        when(clusterRpcClientProxy.isRunning(member)).thenReturn(true);
+        when(clusterRpcClientProxy.sendRequest(eq(member), any(), any(Long.class))).thenReturn(response);
+        ((DistroDataResponse) response).setDistroData(
+                new DistroData(new DistroKey(DataOperation.SNAPSHOT.name(), DistroClientDataProcessor.TYPE),
+                        new byte[0]));
+        DistroData actual = transportAgent.getDatumSnapshotChunk(member.getAddress(), "");
+        assertEquals("", actual.getDistroKey().getResourceKey());
+    }
 }
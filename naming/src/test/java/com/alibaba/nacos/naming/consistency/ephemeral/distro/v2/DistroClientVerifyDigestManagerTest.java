@@ -0,0 +1,152 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.consistency.ephemeral.distro.v2;
+
+import com.alibaba.nacos.naming.core.v2.client.Client;
+import com.alibaba.nacos.naming.core.v2.client.impl.ConnectionBasedClient;
+import com.alibaba.nacos.naming.core.v2.client.manager.ClientManager;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class DistroClientVerifyDigestManagerTest {
+    
+    private static final String SOURCE = "1.1.1.1:8848";
+    
+    private static final int BUCKET_COUNT = 4;
+    
+    @Mock
+    private ClientManager clientManager;
+    
+    private DistroClientVerifyDigestManager digestManager;
+    
+    private Map<String, Client> localClients;
+    
+    private List<Client> sourceClients;
+    
+    @Before
+    public void setUp() {
+        digestManager = new DistroClientVerifyDigestManager(BUCKET_COUNT);
+        localClients = new HashMap<>(4);
+        sourceClients = Arrays.asList(newClient("client1", 1L), newClient("client2", 2L));
+        for (Client each : sourceClients) {
+            localClients.put(each.getClientId(), newClient(each.getClientId(), each.getRevision()));
+        }
+        when(clientManager.getClient(anyString())).thenAnswer(invocation -> localClients.get(invocation.getArgument(0)));
+        when(clientManager.verifyClient(any())).thenAnswer(invocation -> {
+            DistroClientVerifyInfo verifyInfo = invocation.getArgument(0);
+            Client client = localClients.get(verifyInfo.getClientId());
+            return null != client && client.getRevision() == verifyInfo.getRevision();
+        });
+    }
+    
+    private Client newClient(String clientId, long revision) {
+        return new ConnectionBasedClient(clientId, false, revision);
+    }
+    
+    private void attributeAllClients() {
+        List<Integer> buckets = Arrays.asList(0, 1, 2, 3);
+        DistroClientVerifyDigest bucketClients = digestManager
+                .buildBucketClients(SOURCE, sourceClients, BUCKET_COUNT, buckets);
+        assertTrue(digestManager.verifyBucketClients(bucketClients, clientManager).isEmpty());
+    }
+    
+    @Test
+    public void testUnknownClientsMismatchDigest() {
+        DistroClientVerifyDigest digest = digestManager.buildDigest(SOURCE, sourceClients);
+        List<Integer> buckets = digestManager.verifyDigest(digest, clientManager);
+        assertEquals(bucketsOf("client1", "client2"), buckets);
+        verify(clientManager, never()).verifyClient(any());
+    }
+    
+    @Test
+    public void testMatchedDigestRenewClients() {
+        attributeAllClients();
+        DistroClientVerifyDigest digest = digestManager.buildDigest(SOURCE, sourceClients);
+        assertTrue(digestManager.verifyDigest(digest, clientManager).isEmpty());
+        // twice by level two verify, twice by renew of matched buckets
+        verify(clientManager, times(4)).verifyClient(any());
+    }
+    
+    @Test
+    public void testChangedRevisionMismatchBucket() {
+        attributeAllClients();
+        localClients.put("client1", newClient("client1", 3L));
+        DistroClientVerifyDigest digest = digestManager.buildDigest(SOURCE, sourceClients);
+        List<Integer> buckets = digestManager.verifyDigest(digest, clientManager);
+        assertEquals(bucketsOf("client1"), buckets);
+        DistroClientVerifyDigest bucketClients = digestManager
+                .buildBucketClients(SOURCE, sourceClients, BUCKET_COUNT, buckets);
+        List<DistroClientVerifyInfo> failedClients = digestManager.verifyBucketClients(bucketClients, clientManager);
+        assertEquals(1, failedClients.size());
+        assertEquals("client1", failedClients.get(0).getClientId());
+        assertEquals(1L, failedClients.get(0).getRevision());
+    }
+    
+    @Test
+    public void testDetachClientsNotInSource() {
+        attributeAllClients();
+        List<Client> remainClients = Collections.singletonList(sourceClients.get(1));
+        List<Integer> buckets = bucketsOf("client1");
+        DistroClientVerifyDigest bucketClients = digestManager
+                .buildBucketClients(SOURCE, remainClients, BUCKET_COUNT, buckets);
+        digestManager.verifyBucketClients(bucketClients, clientManager);
+        DistroClientVerifyDigest digest = digestManager.buildDigest(SOURCE, remainClients);
+        assertTrue(digestManager.verifyDigest(digest, clientManager).isEmpty());
+    }
+    
+    @Test
+    public void testRemoveClient() {
+        attributeAllClients();
+        digestManager.removeClient("client1");
+        DistroClientVerifyDigest digest = digestManager.buildDigest(SOURCE, sourceClients);
+        assertEquals(bucketsOf("client1"), digestManager.verifyDigest(digest, clientManager));
+    }
+    
+    private List<Integer> bucketsOf(String... clientIds) {
+        int[] counts = new int[BUCKET_COUNT];
+        for (String each : clientIds) {
+            counts[DistroClientVerifyDigestManager.bucketOf(each, BUCKET_COUNT)]++;
+        }
+        List<Integer> result = new LinkedList<>();
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (counts[i] > 0) {
+                result.add(i);
+            }
+        }
+        return result;
+    }
+}
@@ -17,10 +17,13 @@
 package com.alibaba.nacos.naming.core.v2.index;
 
 import com.alibaba.nacos.common.notify.Event;
+import com.alibaba.nacos.common.notify.NotifyCenter;
 import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.event.client.ClientEvent;
 import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -29,21 +32,20 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 @RunWith(MockitoJUnitRunner.class)
 public class ClientServiceIndexesManagerTest {
     
-    @Mock
-    private Service service;
+    private final Service service = Service.newService("A", "B", "C");
     
     @Mock
     private ClientEvent.ClientDisconnectEvent clientDisconnectEvent;
@@ -59,21 +61,15 @@ public class ClientServiceIndexesManagerTest {
     private static final String NACOS = "nacos";
     
     @Before
-    public void setUp() throws NoSuchFieldException, IllegalAccessException {
+    public void setUp() {
         clientServiceIndexesManager = new ClientServiceIndexesManager();
-        
-        Class<ClientServiceIndexesManager> clientServiceIndexesManagerClass = ClientServiceIndexesManager.class;
-        Field publisherIndexesField = clientServiceIndexesManagerClass.getDeclaredField("publisherIndexes");
-        publisherIndexesField.setAccessible(true);
-        ConcurrentMap<Service, Set<String>> publisherIndexes = (ConcurrentMap<Service, Set<String>>) publisherIndexesField
-                .get(clientServiceIndexesManager);
-        publisherIndexes.put(service, new HashSet<>(Collections.singletonList(NACOS)));
-        
-        Field subscriberIndexesField = clientServiceIndexesManagerClass.getDeclaredField("subscriberIndexes");
-        subscriberIndexesField.setAccessible(true);
-        ConcurrentMap<Service, Set<String>> subscriberIndexes = (ConcurrentMap<Service, Set<String>>) subscriberIndexesField
-                .get(clientServiceIndexesManager);
-        subscriberIndexes.put(service, new HashSet<>(Collections.singletonList(NACOS)));
+        clientServiceIndexesManager.onEvent(new ClientOperationEvent.ClientRegisterServiceEvent(service, NACOS));
+        clientServiceIndexesManager.onEvent(new ClientOperationEvent.ClientSubscribeServiceEvent(service, NACOS));
+    }
+    
+    @After
+    public void tearDown() {
+        NotifyCenter.deregisterSubscriber(clientServiceIndexesManager);
     }
     
     @Test
@@ -83,6 +79,13 @@ public class ClientServiceIndexesManagerTest {
         
         Assert.assertNotNull(allClientsRegisteredService);
         Assert.assertEquals(allClientsRegisteredService.size(), 1);
+        Assert.assertTrue(clientServiceIndexesManager.getAllClientsRegisteredService(Service.newService("A", "B", "D"))
+                .isEmpty());
+    }
+    
+    @Test(expected = UnsupportedOperationException.class)
+    public void testGetAllClientsRegisteredServiceReadOnly() {
+        clientServiceIndexesManager.getAllClientsRegisteredService(service).add("clientId");
     }
     
     @Test
@@ -101,19 +104,37 @@ public class ClientServiceIndexesManagerTest {
         
         Assert.assertNotNull(subscribedService);
         Assert.assertEquals(subscribedService.size(), 1);
+        Assert.assertTrue(subscribedService.contains(service));
+        
+        List<Service> services = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Service each = Service.newService("A", "B", "S" + i);
+            services.add(each);
+            clientServiceIndexesManager.onEvent(new ClientOperationEvent.ClientSubscribeServiceEvent(each, NACOS));
+        }
+        services.add(service);
+        Assert.assertEquals(101, subscribedService.size());
+        Assert.assertEquals(new HashSet<>(services), new HashSet<>(subscribedService));
     }
     
     @Test
-    public void testRemovePublisherIndexesByEmptyService() throws NoSuchFieldException, IllegalAccessException {
+    public void testRemovePublisherIndexesByEmptyService() {
         clientServiceIndexesManager.removePublisherIndexesByEmptyService(service);
         
-        Class<ClientServiceIndexesManager> clientServiceIndexesManagerClass = ClientServiceIndexesManager.class;
-        Field publisherIndexesField = clientServiceIndexesManagerClass.getDeclaredField("publisherIndexes");
-        publisherIndexesField.setAccessible(true);
-        ConcurrentMap<Service, Set<String>> publisherIndexes = (ConcurrentMap<Service, Set<String>>) publisherIndexesField
-                .get(clientServiceIndexesManager);
-        
-        Assert.assertEquals(publisherIndexes.size(), 1);
+        Assert.assertEquals(1, clientServiceIndexesManager.getAllClientsRegisteredService(service).size());
+    }
+    
+    @Test
+    public void testPublisherIndexListener() {
+        List<Service> changed = new ArrayList<>();
+        clientServiceIndexesManager.setPublisherIndexListener(changed::add);
+        Service newService = Service.newService("A", "B", "D");
+        clientServiceIndexesManager.onEvent(new ClientOperationEvent.ClientRegisterServiceEvent(newService, NACOS));
+        Assert.assertEquals(Collections.singletonList(newService), changed);
+        clientServiceIndexesManager.onEvent(new ClientOperationEvent.ClientSubscribeServiceEvent(newService, NACOS));
+        Assert.assertEquals(1, changed.size());
+        clientServiceIndexesManager.onEvent(new ClientOperationEvent.ClientDeregisterServiceEvent(newService, NACOS));
+        Assert.assertEquals(2, changed.size());
     }
     
     @Test
@@ -127,9 +148,16 @@ public class ClientServiceIndexesManagerTest {
     @Test
     public void testOnEvent() {
         Mockito.when(clientDisconnectEvent.getClient()).thenReturn(client);
+        Mockito.when(client.getClientId()).thenReturn(NACOS);
+        Mockito.when(client.getAllPublishedService()).thenReturn(Collections.singletonList(service));
+        Mockito.when(client.getAllSubscribeService()).thenReturn(Collections.singletonList(service));
+        Mockito.when(client.getInstancePublishInfo(service)).thenReturn(new InstancePublishInfo("1.1.1.1", 8848));
         clientServiceIndexesManager.onEvent(clientDisconnectEvent);
         
         Mockito.verify(clientDisconnectEvent).getClient();
+        Assert.assertTrue(clientServiceIndexesManager.getAllClientsRegisteredService(service).isEmpty());
+        Assert.assertTrue(clientServiceIndexesManager.getAllClientsSubscribeService(service).isEmpty());
+        Assert.assertTrue(clientServiceIndexesManager.getSubscribedService().isEmpty());
         
         clientServiceIndexesManager.onEvent(clientOperationEvent);
         
@@ -138,14 +166,9 @@ public class ClientServiceIndexesManagerTest {
     }
     
     @Test
-    public void testAddPublisherIndexes()
-            throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
+    public void testAddPublisherIndexes() {
         String clientId = "clientId";
-        Class<ClientServiceIndexesManager> clientServiceIndexesManagerClass = ClientServiceIndexesManager.class;
-        Method addPublisherIndexes = clientServiceIndexesManagerClass
-                .getDeclaredMethod("addPublisherIndexes", Service.class, String.class);
-        addPublisherIndexes.setAccessible(true);
-        addPublisherIndexes.invoke(clientServiceIndexesManager, service, clientId);
+        clientServiceIndexesManager.onEvent(new ClientOperationEvent.ClientRegisterServiceEvent(service, clientId));
         
         Collection<String> allClientsSubscribeService = clientServiceIndexesManager
                 .getAllClientsRegisteredService(service);
@@ -155,14 +178,9 @@ public class ClientServiceIndexesManagerTest {
     }
     
     @Test
-    public void testRemovePublisherIndexes()
-            throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
+    public void testRemovePublisherIndexes() {
         String clientId = "clientId";
-        Class<ClientServiceIndexesManager> clientServiceIndexesManagerClass = ClientServiceIndexesManager.class;
-        Method removePublisherIndexes = clientServiceIndexesManagerClass
-                .getDeclaredMethod("removePublisherIndexes", Service.class, String.class);
-        removePublisherIndexes.setAccessible(true);
-        removePublisherIndexes.invoke(clientServiceIndexesManager, service, clientId);
+        clientServiceIndexesManager.onEvent(new ClientOperationEvent.ClientDeregisterServiceEvent(service, clientId));
         
         Collection<String> allClientsSubscribeService = clientServiceIndexesManager
                 .getAllClientsRegisteredService(service);
@@ -172,14 +190,9 @@ public class ClientServiceIndexesManagerTest {
     }
     
     @Test
-    public void testAddSubscriberIndexes()
-            throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
+    public void testAddSubscriberIndexes() {
         String clientId = "clientId";
-        Class<ClientServiceIndexesManager> clientServiceIndexesManagerClass = ClientServiceIndexesManager.class;
-        Method addSubscriberIndexes = clientServiceIndexesManagerClass
-                .getDeclaredMethod("addSubscriberIndexes", Service.class, String.class);
-        addSubscriberIndexes.setAccessible(true);
-        addSubscriberIndexes.invoke(clientServiceIndexesManager, service, clientId);
+        clientServiceIndexesManager.onEvent(new ClientOperationEvent.ClientSubscribeServiceEvent(service, clientId));
         
         Collection<String> allClientsSubscribeService = clientServiceIndexesManager
                 .getAllClientsSubscribeService(service);
@@ -189,14 +202,9 @@ public class ClientServiceIndexesManagerTest {
     }
     
     @Test
-    public void testRemoveSubscriberIndexes()
-            throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
+    public void testRemoveSubscriberIndexes() {
         String clientId = "clientId";
-        Class<ClientServiceIndexesManager> clientServiceIndexesManagerClass = ClientServiceIndexesManager.class;
-        Method removeSubscriberIndexes = clientServiceIndexesManagerClass
-                .getDeclaredMethod("removeSubscriberIndexes", Service.class, String.class);
-        removeSubscriberIndexes.setAccessible(true);
-        removeSubscriberIndexes.invoke(clientServiceIndexesManager, service, clientId);
+        clientServiceIndexesManager.onEvent(new ClientOperationEvent.ClientUnsubscribeServiceEvent(service, clientId));
         
         Collection<String> allClientsSubscribeService = clientServiceIndexesManager
                 .getAllClientsSubscribeService(service);
@@ -205,4 +213,43 @@ public class ClientServiceIndexesManagerTest {
         Assert.assertEquals(allClientsSubscribeService.size(), 1);
     }
     
-}
\ No newline at end of file
+    @Test
+    public void testRemoveClientIndexes() {
+        List<Service> services = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Service each = Service.newService("A", "B", "S" + i);
+            services.add(each);
+            clientServiceIndexesManager.onEvent(new ClientOperationEvent.ClientRegisterServiceEvent(each, NACOS));
+            clientServiceIndexesManager.onEvent(new ClientOperationEvent.ClientSubscribeServiceEvent(each, NACOS));
+        }
+        services.add(service);
+        clientServiceIndexesManager.removeClientIndexes(NACOS, services, services);
+        for (Service each : services) {
+            Assert.assertTrue(clientServiceIndexesManager.getAllClientsRegisteredService(each).isEmpty());
+            Assert.assertTrue(clientServiceIndexesManager.getAllClientsSubscribeService(each).isEmpty());
+        }
+        Assert.assertTrue(clientServiceIndexesManager.getSubscribedService().isEmpty());
+    }
+    
+    @Test
+    public void testConcurrentAddPublisherIndexes() throws InterruptedException {
+        int threadCount = 8;
+        int clientCount = 1000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        for (int i = 0; i < threadCount; i++) {
+            final int thread = i;
+            executorService.execute(() -> {
+                for (int j = 0; j < clientCount; j++) {
+                    clientServiceIndexesManager.onEvent(
+                            new ClientOperationEvent.ClientRegisterServiceEvent(service, thread + "-" + j));
+                }
+                latch.countDown();
+            });
+        }
+        Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        executorService.shutdown();
+        Assert.assertEquals(threadCount * clientCount + 1,
+                clientServiceIndexesManager.getAllClientsRegisteredService(service).size());
+    }
+}
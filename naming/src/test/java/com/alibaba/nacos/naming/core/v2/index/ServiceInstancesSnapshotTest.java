@@ -0,0 +1,55 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.index;
+
+import com.alibaba.nacos.api.naming.pojo.Instance;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class ServiceInstancesSnapshotTest {
+    
+    @Test
+    public void testSelectionCached() {
+        ServiceInstancesSnapshot snapshot = new ServiceInstancesSnapshot(1L, Collections.singletonList(new Instance()));
+        AtomicInteger buildCount = new AtomicInteger();
+        Object selection = snapshot.getSelection("key", key -> {
+            buildCount.incrementAndGet();
+            return new Object();
+        });
+        assertSame(selection, snapshot.getSelection("key", key -> new Object()));
+        assertEquals(1, buildCount.get());
+        assertEquals(1L, snapshot.getRevision());
+    }
+    
+    @Test
+    public void testSelectionNotCachedOverLimit() {
+        ServiceInstancesSnapshot snapshot = new ServiceInstancesSnapshot(1L, Collections.emptyList());
+        for (int i = 0; i < 64; i++) {
+            snapshot.getSelection(i, key -> new Object());
+        }
+        AtomicInteger buildCount = new AtomicInteger();
+        snapshot.getSelection("other", key -> buildCount.incrementAndGet());
+        snapshot.getSelection("other", key -> buildCount.incrementAndGet());
+        assertEquals(2, buildCount.get());
+        assertSame(snapshot.getSelection(0, key -> new Object()), snapshot.getSelection(0, key -> new Object()));
+    }
+}
@@ -18,15 +18,21 @@ package com.alibaba.nacos.naming.core.v2.index;
 
 import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.naming.core.v2.ServiceManager;
+import com.alibaba.nacos.naming.core.v2.client.Client;
 import com.alibaba.nacos.naming.core.v2.client.manager.ClientManagerDelegate;
+import com.alibaba.nacos.naming.core.v2.event.service.ServiceEvent;
 import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
 import com.alibaba.nacos.naming.core.v2.pojo.InstancePublishInfo;
 import com.alibaba.nacos.naming.core.v2.pojo.Service;
 import com.alibaba.nacos.naming.misc.SwitchDomain;
+import com.alibaba.nacos.naming.utils.ServiceUtil;
+import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -34,12 +40,14 @@ import org.mockito.junit.MockitoJUnitRunner;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
 
 @RunWith(MockitoJUnitRunner.class)
 public class ServiceStorageTest {
@@ -86,6 +94,11 @@ public class ServiceStorageTest {
         infoConcurrentMap.put(SERVICE, serviceInfo);
     }
     
+    @After
+    public void tearDown() {
+        ServiceManager.getInstance().removeSingleton(SERVICE);
+    }
+    
     @Test
     public void testGetClusters() {
         Set<String> clusters = serviceStorage.getClusters(SERVICE);
@@ -111,6 +124,99 @@ public class ServiceStorageTest {
         Assert.assertNotNull(pushData);
     }
     
+    @Test
+    public void testGetPushDataIncrementally() {
+        ServiceManager.getInstance().getSingleton(SERVICE);
+        InstancePublishInfo instance1 = new InstancePublishInfo("1.1.1.1", 8848);
+        InstancePublishInfo instance2 = new InstancePublishInfo("2.2.2.2", 8848);
+        instance1.setCluster("cluster1");
+        instance2.setCluster("cluster2");
+        Client client1 = Mockito.mock(Client.class);
+        Client client2 = Mockito.mock(Client.class);
+        Mockito.when(client1.getInstancePublishInfo(SERVICE)).thenReturn(instance1);
+        Mockito.when(client2.getInstancePublishInfo(SERVICE)).thenReturn(instance2);
+        Mockito.when(clientManagerDelegate.getClient("client1")).thenReturn(client1);
+        Mockito.when(clientManagerDelegate.getClient("client2")).thenReturn(client2);
+        Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(SERVICE))
+                .thenReturn(Collections.singletonList("client1"));
+        
+        List<Instance> hosts = serviceStorage.getPushData(SERVICE).getHosts();
+        Assert.assertEquals(1, hosts.size());
+        Assert.assertEquals(1L, serviceStorage.getDataVersion(SERVICE));
+        // without change, the snapshot is reused.
+        Assert.assertSame(hosts.get(0), serviceStorage.getPushData(SERVICE).getHosts().get(0));
+        serviceStorage.onEvent(new ServiceEvent.ServiceChangedEvent(SERVICE));
+        Assert.assertSame(hosts.get(0), serviceStorage.getPushData(SERVICE).getHosts().get(0));
+        Assert.assertEquals(1L, serviceStorage.getDataVersion(SERVICE));
+        
+        Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(SERVICE))
+                .thenReturn(Arrays.asList("client1", "client2"));
+        serviceStorage.onEvent(new ServiceEvent.ServiceChangedEvent(SERVICE));
+        List<Instance> newHosts = serviceStorage.getPushData(SERVICE).getHosts();
+        Assert.assertEquals(2, newHosts.size());
+        Assert.assertEquals(2L, serviceStorage.getDataVersion(SERVICE));
+        Assert.assertTrue(newHosts.stream().anyMatch(each -> hosts.get(0) == each));
+        
+        instance2.setHealthy(true);
+        serviceStorage.onEvent(new ServiceEvent.ServiceChangedEvent(SERVICE));
+        newHosts = serviceStorage.getPushData(SERVICE).getHosts();
+        Assert.assertEquals(3L, serviceStorage.getDataVersion(SERVICE));
+        Assert.assertEquals(1, newHosts.stream().filter(Instance::isHealthy).count());
+        Assert.assertEquals(new HashSet<>(Arrays.asList("cluster1", "cluster2")), serviceStorage.getClusters(SERVICE));
+    }
+    
+    @Test
+    public void testPushDataSnapshotReusedInRevision() {
+        ServiceManager.getInstance().getSingleton(SERVICE);
+        InstancePublishInfo instance1 = new InstancePublishInfo("1.1.1.1", 8848);
+        InstancePublishInfo instance2 = new InstancePublishInfo("2.2.2.2", 8848);
+        instance1.setCluster("cluster1");
+        instance2.setCluster("cluster2");
+        Client client1 = Mockito.mock(Client.class);
+        Client client2 = Mockito.mock(Client.class);
+        Mockito.when(client1.getInstancePublishInfo(SERVICE)).thenReturn(instance1);
+        Mockito.when(client2.getInstancePublishInfo(SERVICE)).thenReturn(instance2);
+        Mockito.when(clientManagerDelegate.getClient("client1")).thenReturn(client1);
+        Mockito.when(clientManagerDelegate.getClient("client2")).thenReturn(client2);
+        Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(SERVICE))
+                .thenReturn(Arrays.asList("client1", "client2"));
+        
+        MaterializedServiceInfo pushData = (MaterializedServiceInfo) serviceStorage.getPushData(SERVICE);
+        Assert.assertEquals(1L, pushData.getSnapshot().getRevision());
+        Assert.assertEquals(1, ServiceUtil.selectInstances(pushData, "cluster1").getHosts().size());
+        Assert.assertEquals(2, ServiceUtil.selectInstances(pushData, "cluster1,cluster2").getHosts().size());
+        Assert.assertEquals(0, ServiceUtil.selectHealthyInstances(pushData).getHosts().size());
+        MaterializedServiceInfo samePushData = (MaterializedServiceInfo) serviceStorage.getPushData(SERVICE);
+        Assert.assertSame(pushData.getSnapshot(), samePushData.getSnapshot());
+        
+        instance1.setHealthy(true);
+        serviceStorage.onEvent(new ServiceEvent.ServiceChangedEvent(SERVICE));
+        MaterializedServiceInfo newPushData = (MaterializedServiceInfo) serviceStorage.getPushData(SERVICE);
+        Assert.assertEquals(2L, newPushData.getSnapshot().getRevision());
+        List<Instance> healthyHosts = ServiceUtil.selectHealthyInstances(newPushData).getHosts();
+        Assert.assertEquals(1, healthyHosts.size());
+        Assert.assertEquals("1.1.1.1", healthyHosts.get(0).getIp());
+    }
+    
+    @Test
+    public void testPushDataRefreshedByPublisherIndexListener() {
+        ArgumentCaptor<Consumer<Service>> listener = ArgumentCaptor.forClass(Consumer.class);
+        Mockito.verify(clientServiceIndexesManager).setPublisherIndexListener(listener.capture());
+        ServiceManager.getInstance().getSingleton(SERVICE);
+        Client client1 = Mockito.mock(Client.class);
+        Mockito.when(client1.getInstancePublishInfo(SERVICE)).thenReturn(new InstancePublishInfo("1.1.1.1", 8848));
+        Mockito.when(clientManagerDelegate.getClient("client1")).thenReturn(client1);
+        Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(SERVICE))
+                .thenReturn(Collections.emptyList());
+        Assert.assertEquals(0, serviceStorage.getPushData(SERVICE).getHosts().size());
+        
+        Mockito.when(clientServiceIndexesManager.getAllClientsRegisteredService(SERVICE))
+                .thenReturn(Collections.singletonList("client1"));
+        // the view is refreshed without waiting for the service changed event.
+        listener.getValue().accept(SERVICE);
+        Assert.assertEquals(1, serviceStorage.getPushData(SERVICE).getHosts().size());
+    }
+    
     @Test
     public void testRemoveData() throws NoSuchFieldException, IllegalAccessException {
         serviceStorage.removeData(SERVICE);
@@ -136,9 +242,10 @@ public class ServiceStorageTest {
         Method getAllInstancesFromIndex = serviceStorageClass
                 .getDeclaredMethod("getAllInstancesFromIndex", Service.class);
         getAllInstancesFromIndex.setAccessible(true);
-        List<Instance> list = (List<Instance>) getAllInstancesFromIndex.invoke(serviceStorage, SERVICE);
+        ServiceInstancesSnapshot snapshot = (ServiceInstancesSnapshot) getAllInstancesFromIndex
+                .invoke(serviceStorage, SERVICE);
         
-        Assert.assertNotNull(list);
+        Assert.assertNotNull(snapshot.getInstances());
     }
     
     @Test
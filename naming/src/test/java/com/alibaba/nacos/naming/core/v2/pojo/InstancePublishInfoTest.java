@@ -0,0 +1,136 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.pojo;
+
+import com.alibaba.nacos.consistency.SerializeFactory;
+import com.alibaba.nacos.consistency.Serializer;
+import com.alibaba.nacos.common.utils.JacksonUtils;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class InstancePublishInfoTest {
+    
+    @Test
+    public void testStringsInterned() {
+        InstancePublishInfo info1 = new InstancePublishInfo("1.1.1.1", 8848);
+        InstancePublishInfo info2 = new InstancePublishInfo("1.1.1.2", 8848);
+        info1.setCluster(new String("DEFAULT"));
+        info2.setCluster(new String("DEFAULT"));
+        info1.setExtendDatum(Collections.singletonMap(new String("key"), "value1"));
+        Map<String, Object> extendDatum = new HashMap<>();
+        extendDatum.put(new String("key"), "value2");
+        extendDatum.put("otherKey", "value3");
+        info2.setExtendDatum(extendDatum);
+        assertSame(info1.getCluster(), info2.getCluster());
+        assertSame(getKey(info1.getExtendDatum(), "key"), getKey(info2.getExtendDatum(), "key"));
+    }
+    
+    @Test
+    public void testExtendDatumMutable() {
+        InstancePublishInfo info = new InstancePublishInfo("1.1.1.1", 8848);
+        info.getExtendDatum().put("a", "1");
+        assertEquals("1", info.getExtendDatum().get("a"));
+        Map<String, Object> extendDatum = new HashMap<>();
+        extendDatum.put("b", "2");
+        info.setExtendDatum(extendDatum);
+        extendDatum.put("c", "3");
+        assertEquals(1, info.getExtendDatum().size());
+        info.getExtendDatum().put("c", "3");
+        assertEquals(2, info.getExtendDatum().size());
+        info.setExtendDatum(Collections.singletonMap("d", "4"));
+        info.getExtendDatum().put("e", "5");
+        assertEquals(2, info.getExtendDatum().size());
+    }
+    
+    @Test
+    public void testEmptyExtendDatumShared() {
+        InstancePublishInfo info1 = new InstancePublishInfo("1.1.1.1", 8848);
+        InstancePublishInfo info2 = new InstancePublishInfo("1.1.1.2", 8848);
+        info2.setExtendDatum(new HashMap<>());
+        assertTrue(info1.getExtendDatum().isEmpty());
+        info1.getExtendDatum().remove("a");
+        info1.getExtendDatum().clear();
+        info1.getExtendDatum().put("a", "1");
+        assertEquals(1, info1.getExtendDatum().size());
+        assertTrue(info2.getExtendDatum().isEmpty());
+        assertEquals(new InstancePublishInfo("1.1.1.2", 8848), info2);
+    }
+    
+    @Test
+    public void testSetExtendDatumWithoutCopy() {
+        InstancePublishInfo info = new InstancePublishInfo("1.1.1.1", 8848);
+        Map<String, Object> extendDatum = new HashMap<>();
+        extendDatum.put("a", "1");
+        info.setExtendDatumWithoutCopy(extendDatum);
+        assertSame(extendDatum, info.getExtendDatum());
+        info.setExtendDatumWithoutCopy(null);
+        assertTrue(info.getExtendDatum().isEmpty());
+    }
+    
+    @Test
+    public void testHessianSerialize() {
+        Serializer serializer = SerializeFactory.getDefault();
+        UnaryOperator<InstancePublishInfo> roundTrip = info -> serializer
+                .deserialize(serializer.serialize(info), InstancePublishInfo.class);
+        assertSerialize(roundTrip, Collections.emptyMap());
+        assertSerialize(roundTrip, Collections.singletonMap("key", "value"));
+        Map<String, Object> extendDatum = new HashMap<>();
+        extendDatum.put("key", "value");
+        extendDatum.put("weight", 2.0D);
+        assertSerialize(roundTrip, extendDatum);
+    }
+    
+    @Test
+    public void testJacksonSerialize() {
+        UnaryOperator<InstancePublishInfo> roundTrip = info -> JacksonUtils
+                .toObj(JacksonUtils.toJsonBytes(info), InstancePublishInfo.class);
+        assertSerialize(roundTrip, Collections.emptyMap());
+        assertSerialize(roundTrip, Collections.singletonMap("key", "value"));
+        Map<String, Object> extendDatum = new HashMap<>();
+        extendDatum.put("key", "value");
+        extendDatum.put("enabled", false);
+        assertSerialize(roundTrip, extendDatum);
+    }
+    
+    private void assertSerialize(UnaryOperator<InstancePublishInfo> roundTrip, Map<String, Object> extendDatum) {
+        InstancePublishInfo expected = new InstancePublishInfo("1.1.1.1", 8848);
+        expected.setCluster("DEFAULT");
+        expected.setHealthy(true);
+        expected.setExtendDatum(extendDatum);
+        InstancePublishInfo actual = roundTrip.apply(expected);
+        assertEquals(expected, actual);
+        assertSame(expected.getCluster(), actual.getCluster());
+        actual.getExtendDatum().put("mutable", true);
+    }
+    
+    private String getKey(Map<String, Object> extendDatum, String key) {
+        for (String each : extendDatum.keySet()) {
+            if (each.equals(key)) {
+                return each;
+            }
+        }
+        return null;
+    }
+}
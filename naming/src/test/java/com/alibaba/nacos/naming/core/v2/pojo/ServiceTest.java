@@ -0,0 +1,34 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.core.v2.pojo;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class ServiceTest {
+    
+    @Test
+    public void testNamespaceAndGroupInterned() {
+        Service service1 = Service.newService(new String("namespace"), new String("group"), "name1");
+        Service service2 = Service.newService(new String("namespace"), new String("group"), "name2", false);
+        assertSame(service1.getNamespace(), service2.getNamespace());
+        assertSame(service1.getGroup(), service2.getGroup());
+        assertEquals(Service.newService("namespace", "group", "name1"), service1);
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.alibaba.nacos.naming.healthcheck.heartbeat;
 
+import com.alibaba.nacos.api.common.Constants;
 import com.alibaba.nacos.api.naming.PreservedMetadataKeys;
 import com.alibaba.nacos.common.utils.InternetAddressUtil;
 import com.alibaba.nacos.naming.consistency.KeyBuilder;
@@ -158,6 +159,46 @@ public class ClientBeatCheckTaskV2Test {
         assertFalse(client.getInstancePublishInfo(Service.newService(NAMESPACE, GROUP_NAME, SERVICE_NAME)).isHealthy());
     }
     
+    @Test
+    public void testNextCheckTimeForHealthyInstance() {
+        long heartbeatTime = System.currentTimeMillis();
+        injectInstance(true, heartbeatTime);
+        when(globalConfig.isExpireInstance()).thenReturn(true);
+        beatCheckTask.run();
+        assertEquals(heartbeatTime + Constants.DEFAULT_HEART_BEAT_TIMEOUT + 1, beatCheckTask.getNextCheckTime());
+    }
+    
+    @Test
+    public void testNextCheckTimeForUnhealthyInstance() {
+        long heartbeatTime = System.currentTimeMillis() - 1000L;
+        injectInstance(false, heartbeatTime);
+        when(globalConfig.isExpireInstance()).thenReturn(true);
+        beatCheckTask.run();
+        assertEquals(heartbeatTime + Constants.DEFAULT_IP_DELETE_TIMEOUT + 1, beatCheckTask.getNextCheckTime());
+    }
+    
+    @Test
+    public void testNextCheckTimeWithoutChangeableInstance() {
+        injectInstance(false, System.currentTimeMillis());
+        long start = System.currentTimeMillis();
+        beatCheckTask.run();
+        long nextCheckTime = beatCheckTask.getNextCheckTime();
+        assertTrue(nextCheckTime >= start + BeatCheckTask.MAX_CHECK_INTERVAL);
+        assertTrue(nextCheckTime <= System.currentTimeMillis() + BeatCheckTask.MAX_CHECK_INTERVAL);
+    }
+    
+    @Test
+    public void testNextCheckTimeForNotResponsibleInstance() {
+        injectInstance(true, 0);
+        when(distroMapper.responsible(anyString())).thenReturn(false);
+        long start = System.currentTimeMillis();
+        beatCheckTask.run();
+        assertTrue(client.getInstancePublishInfo(Service.newService(NAMESPACE, GROUP_NAME, SERVICE_NAME)).isHealthy());
+        long nextCheckTime = beatCheckTask.getNextCheckTime();
+        assertTrue(nextCheckTime >= start + BeatCheckTask.CHECK_INTERVAL);
+        assertTrue(nextCheckTime <= System.currentTimeMillis() + BeatCheckTask.CHECK_INTERVAL);
+    }
+    
     private HealthCheckInstancePublishInfo injectInstance(boolean healthy, long heartbeatTime) {
         HealthCheckInstancePublishInfo instance = new HealthCheckInstancePublishInfo(IP, PORT);
         instance.setHealthy(healthy);
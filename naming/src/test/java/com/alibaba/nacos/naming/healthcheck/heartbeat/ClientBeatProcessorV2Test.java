@@ -0,0 +1,94 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck.heartbeat;
+
+import com.alibaba.nacos.api.common.Constants;
+import com.alibaba.nacos.naming.core.v2.client.impl.IpPortBasedClient;
+import com.alibaba.nacos.naming.core.v2.metadata.NamingMetadataManager;
+import com.alibaba.nacos.naming.core.v2.pojo.HealthCheckInstancePublishInfo;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.healthcheck.RsInfo;
+import com.alibaba.nacos.naming.misc.GlobalConfig;
+import com.alibaba.nacos.sys.utils.ApplicationUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ClientBeatProcessorV2Test {
+    
+    private static final String IP = "1.1.1.1";
+    
+    private static final int PORT = 10000;
+    
+    @Mock
+    private NamingMetadataManager namingMetadataManager;
+    
+    @Mock
+    private GlobalConfig globalConfig;
+    
+    @Mock
+    private ConfigurableApplicationContext applicationContext;
+    
+    @Mock
+    private IpPortBasedClient client;
+    
+    private RsInfo rsInfo;
+    
+    private HealthCheckInstancePublishInfo instance;
+    
+    @Before
+    public void setUp() {
+        when(applicationContext.getBean(NamingMetadataManager.class)).thenReturn(namingMetadataManager);
+        when(applicationContext.getBean(GlobalConfig.class)).thenReturn(globalConfig);
+        when(namingMetadataManager.getInstanceMetadata(any(), any())).thenReturn(Optional.empty());
+        ApplicationUtils.injectContext(applicationContext);
+        rsInfo = new RsInfo();
+        rsInfo.setIp(IP);
+        rsInfo.setPort(PORT);
+        rsInfo.setServiceName("group@@service");
+        rsInfo.setEphemeral(true);
+        instance = new HealthCheckInstancePublishInfo(IP, PORT);
+        when(client.getInstancePublishInfo(Service.newService("namespace", "group", "service"))).thenReturn(instance);
+    }
+    
+    @Test
+    public void testBeatReArmsCheckOfRecoveredInstance() {
+        instance.setHealthy(false);
+        instance.setLastHeartBeatTime(0L);
+        long start = System.currentTimeMillis();
+        new ClientBeatProcessorV2("namespace", rsInfo, client).run();
+        assertTrue(instance.isHealthy());
+        assertTrue(instance.getLastHeartBeatTime() >= start);
+        ArgumentCaptor<Long> nextCheckTime = ArgumentCaptor.forClass(Long.class);
+        Mockito.verify(client).rescheduleBeatCheck(nextCheckTime.capture());
+        assertEquals(instance.getLastHeartBeatTime() + Constants.DEFAULT_HEART_BEAT_TIMEOUT + 1,
+                nextCheckTime.getValue().longValue());
+    }
+}
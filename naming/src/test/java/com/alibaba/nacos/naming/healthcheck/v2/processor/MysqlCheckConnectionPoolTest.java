@@ -0,0 +1,109 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck.v2.processor;
+
+import com.alibaba.nacos.api.naming.pojo.healthcheck.impl.Mysql;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class MysqlCheckConnectionPoolTest {
+    
+    private static final String URL = "jdbc:mysql://127.0.0.1:3306?connectTimeout=500";
+    
+    private ScheduledExecutorService executor;
+    
+    private Mysql config;
+    
+    @Before
+    public void setUp() {
+        executor = Executors.newSingleThreadScheduledExecutor();
+        config = new Mysql();
+        config.setUser("user");
+        config.setPwd("pwd");
+    }
+    
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+    
+    @Test
+    public void testReuseTargetOfSameDatabase() {
+        MysqlCheckConnectionPool pool = new MysqlCheckConnectionPool(executor, 2, 1000L, 60000L, 60000L);
+        MysqlCheckConnectionPool.CheckTarget first = pool.tryAcquire("127.0.0.1", 3306, config, URL);
+        MysqlCheckConnectionPool.CheckTarget second = pool.tryAcquire("127.0.0.1", 3306, config, URL);
+        MysqlCheckConnectionPool.CheckTarget other = pool.tryAcquire("127.0.0.2", 3306, config, URL);
+        assertNotNull(first);
+        assertSame(first, second);
+        assertNotSame(first, other);
+        assertEquals(2, pool.getTargetCount());
+    }
+    
+    @Test
+    public void testSeparateTargetsForDifferentCredentials() {
+        MysqlCheckConnectionPool pool = new MysqlCheckConnectionPool(executor, 2, 1000L, 60000L, 60000L);
+        final MysqlCheckConnectionPool.CheckTarget first = pool.tryAcquire("127.0.0.1", 3306, config, URL);
+        Mysql newConfig = new Mysql();
+        newConfig.setUser("user");
+        newConfig.setPwd("newPwd");
+        MysqlCheckConnectionPool.CheckTarget second = pool.tryAcquire("127.0.0.1", 3306, newConfig, URL);
+        assertNotNull(second);
+        assertNotSame(first, second);
+        assertEquals(2, pool.getTargetCount());
+        // the target of old credential is still usable until it is idle
+        assertSame(first, pool.tryAcquire("127.0.0.1", 3306, config, URL));
+    }
+    
+    @Test
+    public void testConcurrentChecksCapped() {
+        MysqlCheckConnectionPool pool = new MysqlCheckConnectionPool(executor, 1, 1000L, 60000L, 60000L);
+        MysqlCheckConnectionPool.CheckTarget first = pool.tryAcquire("127.0.0.1", 3306, config, URL);
+        assertNotNull(first);
+        assertNull(pool.tryAcquire("127.0.0.1", 3306, config, URL));
+        assertNotNull(pool.tryAcquire("127.0.0.2", 3306, config, URL));
+        first.release();
+        assertSame(first, pool.tryAcquire("127.0.0.1", 3306, config, URL));
+    }
+    
+    @Test
+    public void testEvictIdleTargets() throws InterruptedException {
+        MysqlCheckConnectionPool pool = new MysqlCheckConnectionPool(executor, 1, 1000L, 60000L, 10L);
+        final MysqlCheckConnectionPool.CheckTarget busy = pool.tryAcquire("127.0.0.1", 3306, config, URL);
+        pool.tryAcquire("127.0.0.2", 3306, config, URL).release();
+        Thread.sleep(50L);
+        pool.evictIdleTargets();
+        assertEquals(1, pool.getTargetCount());
+        busy.release();
+        Thread.sleep(50L);
+        pool.evictIdleTargets();
+        assertEquals(0, pool.getTargetCount());
+        // evicted target is not reused
+        MysqlCheckConnectionPool.CheckTarget renewed = pool.tryAcquire("127.0.0.1", 3306, config, URL);
+        assertNotNull(renewed);
+        assertNotSame(busy, renewed);
+    }
+}
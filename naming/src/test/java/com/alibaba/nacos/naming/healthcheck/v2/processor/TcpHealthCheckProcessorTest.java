@@ -0,0 +1,236 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.healthcheck.v2.processor;
+
+import com.alibaba.nacos.api.naming.pojo.healthcheck.HealthCheckType;
+import com.alibaba.nacos.naming.core.v2.client.impl.IpPortBasedClient;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientEvent;
+import com.alibaba.nacos.naming.core.v2.event.client.ClientOperationEvent;
+import com.alibaba.nacos.naming.core.v2.event.metadata.MetadataEvent;
+import com.alibaba.nacos.naming.core.v2.metadata.ClusterMetadata;
+import com.alibaba.nacos.naming.core.v2.pojo.HealthCheckInstancePublishInfo;
+import com.alibaba.nacos.naming.core.v2.pojo.Service;
+import com.alibaba.nacos.naming.healthcheck.v2.HealthCheckTaskV2;
+import com.alibaba.nacos.naming.misc.SwitchDomain;
+import com.alibaba.nacos.naming.misc.UtilsAndCommons;
+import com.alibaba.nacos.sys.env.EnvUtil;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class TcpHealthCheckProcessorTest {
+    
+    @Mock
+    private HealthCheckCommonV2 healthCheckCommon;
+    
+    @Mock
+    private SwitchDomain switchDomain;
+    
+    @Mock
+    private HealthCheckTaskV2 healthCheckTaskV2;
+    
+    @Mock
+    private IpPortBasedClient ipPortBasedClient;
+    
+    private Service service;
+    
+    private ClusterMetadata clusterMetadata;
+    
+    private SwitchDomain.TcpHealthParams tcpHealthParams;
+    
+    private ServerSocket serverSocket;
+    
+    private HealthCheckInstancePublishInfo instance;
+    
+    private TcpHealthCheckProcessor tcpHealthCheckProcessor;
+    
+    private final List<Socket> backlogSockets = new ArrayList<>();
+    
+    @Before
+    public void setUp() throws IOException {
+        EnvUtil.setEnvironment(new MockEnvironment());
+        serverSocket = new ServerSocket(0);
+        service = Service.newService("namespace", "group", "service");
+        clusterMetadata = new ClusterMetadata();
+        clusterMetadata.setUseInstancePortForCheck(true);
+        instance = new HealthCheckInstancePublishInfo("127.0.0.1", serverSocket.getLocalPort());
+        instance.setCluster(UtilsAndCommons.DEFAULT_CLUSTER_NAME);
+        instance.initHealthCheck();
+        tcpHealthParams = new SwitchDomain.TcpHealthParams();
+        when(switchDomain.getTcpHealthParams()).thenReturn(tcpHealthParams);
+        when(healthCheckTaskV2.getClient()).thenReturn(ipPortBasedClient);
+        when(healthCheckTaskV2.getCheckRtNormalized()).thenReturn(1000L);
+        when(ipPortBasedClient.getInstancePublishInfo(service)).thenReturn(instance);
+        tcpHealthCheckProcessor = new TcpHealthCheckProcessor(healthCheckCommon, switchDomain, 1, 0L, 0.5);
+    }
+    
+    @After
+    public void tearDown() throws IOException {
+        tcpHealthCheckProcessor.shutdown();
+        for (Socket each : backlogSockets) {
+            each.close();
+        }
+        serverSocket.close();
+    }
+    
+    @Test
+    public void testGetType() {
+        Assert.assertEquals(HealthCheckType.TCP.name(), tcpHealthCheckProcessor.getType());
+    }
+    
+    @Test
+    public void testProcessConnected() {
+        tcpHealthCheckProcessor.process(healthCheckTaskV2, service, clusterMetadata);
+        verify(healthCheckCommon, timeout(3000)).checkOk(healthCheckTaskV2, service, "tcp:ok+");
+        verify(healthCheckCommon, timeout(3000))
+                .reEvaluateCheckRT(anyLong(), eq(healthCheckTaskV2), eq(tcpHealthParams));
+    }
+    
+    @Test
+    public void testProcessRefused() throws IOException {
+        serverSocket.close();
+        tcpHealthCheckProcessor.process(healthCheckTaskV2, service, clusterMetadata);
+        verify(healthCheckCommon, timeout(3000))
+                .checkFailNow(eq(healthCheckTaskV2), eq(service), startsWith("tcp:unable2connect:"));
+        verify(healthCheckCommon, never()).checkOk(healthCheckTaskV2, service, "tcp:ok+");
+    }
+    
+    @Test
+    public void testProcessUnfinishedCheck() {
+        Assert.assertTrue(instance.tryStartCheck());
+        tcpHealthCheckProcessor.process(healthCheckTaskV2, service, clusterMetadata);
+        verify(healthCheckCommon).reEvaluateCheckRT(2000L, healthCheckTaskV2, tcpHealthParams);
+        verify(healthCheckCommon, never()).checkOk(eq(healthCheckTaskV2), eq(service), anyString());
+    }
+    
+    @Test
+    public void testProcessTimeout() throws IOException {
+        serverSocket.close();
+        serverSocket = new ServerSocket(0, 1);
+        instance = new HealthCheckInstancePublishInfo("127.0.0.1", serverSocket.getLocalPort());
+        instance.initHealthCheck();
+        when(ipPortBasedClient.getInstancePublishInfo(service)).thenReturn(instance);
+        // fill the accept queue which is never accepted, so that the next connect can't be finished
+        for (int i = 0; i < 4; i++) {
+            Socket socket = new Socket();
+            backlogSockets.add(socket);
+            try {
+                socket.connect(serverSocket.getLocalSocketAddress(), 200);
+            } catch (IOException ignore) {
+            }
+        }
+        tcpHealthCheckProcessor.process(healthCheckTaskV2, service, clusterMetadata);
+        verify(healthCheckCommon, timeout(3000)).checkFail(healthCheckTaskV2, service, "tcp:timeout");
+        verify(healthCheckCommon, timeout(3000)).reEvaluateCheckRT(2000L, healthCheckTaskV2, tcpHealthParams);
+    }
+    
+    @Test
+    public void testJitterDelay() {
+        when(healthCheckTaskV2.getCheckRtNormalized()).thenReturn(4000L);
+        for (int i = 0; i < 100; i++) {
+            long delay = tcpHealthCheckProcessor.getJitterDelay(healthCheckTaskV2);
+            Assert.assertTrue(delay >= 0 && delay < 2000L);
+        }
+        // no time to delay when the check interval is shorter than twice of connect timeout
+        when(healthCheckTaskV2.getCheckRtNormalized()).thenReturn(1000L);
+        Assert.assertEquals(0L, tcpHealthCheckProcessor.getJitterDelay(healthCheckTaskV2));
+    }
+    
+    @Test
+    public void testProcessJitteredNotBeforeDelay() {
+        tcpHealthCheckProcessor.shutdown();
+        tcpHealthCheckProcessor = new TcpHealthCheckProcessor(healthCheckCommon, switchDomain, 1, 0L, 1.0);
+        when(healthCheckTaskV2.getCheckRtNormalized()).thenReturn(100000L);
+        tcpHealthCheckProcessor.process(healthCheckTaskV2, service, clusterMetadata);
+        // delayed randomly up to the check interval, so it is rarely started in the first 100 ms.
+        verify(healthCheckCommon, after(100).never()).checkOk(eq(healthCheckTaskV2), eq(service), anyString());
+    }
+    
+    @Test
+    public void testProcessByKeptConnection() {
+        useKeepAliveProcessor();
+        processAndFinish("tcp:ok+", 1);
+        processAndFinish("tcp:ok+keep-alive", 1);
+        processAndFinish("tcp:ok+keep-alive", 2);
+    }
+    
+    @Test
+    public void testEvictKeptConnectionWhenInstanceDeregistered() {
+        useKeepAliveProcessor();
+        processAndFinish("tcp:ok+", 1);
+        String clientId = IpPortBasedClient.getClientId(instance.getIp() + ":" + instance.getPort(), false);
+        tcpHealthCheckProcessor.onEvent(new ClientOperationEvent.ClientDeregisterServiceEvent(
+                Service.newService("namespace", "group", "other"), clientId));
+        processAndFinish("tcp:ok+keep-alive", 1);
+        tcpHealthCheckProcessor.onEvent(new ClientOperationEvent.ClientDeregisterServiceEvent(service, clientId));
+        processAndFinish("tcp:ok+", 2);
+    }
+    
+    @Test
+    public void testEvictKeptConnectionWhenClientDisconnected() {
+        useKeepAliveProcessor();
+        processAndFinish("tcp:ok+", 1);
+        when(ipPortBasedClient.getClientId())
+                .thenReturn(IpPortBasedClient.getClientId(instance.getIp() + ":" + instance.getPort(), false));
+        tcpHealthCheckProcessor.onEvent(new ClientEvent.ClientDisconnectEvent(ipPortBasedClient, true));
+        processAndFinish("tcp:ok+", 2);
+    }
+    
+    @Test
+    public void testEvictKeptConnectionWhenServiceRemoved() {
+        useKeepAliveProcessor();
+        processAndFinish("tcp:ok+", 1);
+        tcpHealthCheckProcessor.onEvent(new MetadataEvent.ServiceMetadataEvent(service, false));
+        processAndFinish("tcp:ok+keep-alive", 1);
+        tcpHealthCheckProcessor.onEvent(new MetadataEvent.ServiceMetadataEvent(service, true));
+        processAndFinish("tcp:ok+", 2);
+    }
+    
+    private void useKeepAliveProcessor() {
+        tcpHealthCheckProcessor.shutdown();
+        tcpHealthCheckProcessor = new TcpHealthCheckProcessor(healthCheckCommon, switchDomain, 1, 60000L, 0.5);
+    }
+    
+    private void processAndFinish(String expectedMsg, int expectedTimes) {
+        tcpHealthCheckProcessor.process(healthCheckTaskV2, service, clusterMetadata);
+        verify(healthCheckCommon, timeout(3000).times(expectedTimes)).checkOk(healthCheckTaskV2, service, expectedMsg);
+        // finished by health check common in normal
+        instance.finishCheck();
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.misc;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class KeyedCallbackExecutorTest {
+    
+    private AtomicLong rejectedCount;
+    
+    private KeyedCallbackExecutor executor;
+    
+    @Before
+    public void setUp() {
+        rejectedCount = new AtomicLong();
+        executor = new KeyedCallbackExecutor("test", "com.alibaba.nacos.naming.test.callback", 4, rejectedCount);
+    }
+    
+    @Test
+    public void testSelectSameExecutorForSameKey() {
+        assertEquals(4, executor.getShardCount());
+        assertSame(executor.select("1.1.1.1:8848"), executor.select("1.1.1.1:8848"));
+        assertSame(executor, executor.select(null));
+    }
+    
+    @Test
+    public void testExecuteInOrderForSameKey() throws InterruptedException {
+        List<Integer> result = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(100);
+        for (int i = 0; i < 100; i++) {
+            final int value = i;
+            executor.select("connection").execute(() -> {
+                result.add(value);
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, result.get(i).intValue());
+        }
+    }
+    
+    @Test
+    public void testQueueWithoutBlockWhenShardBusyAndKeepOrder() throws InterruptedException {
+        executor = new KeyedCallbackExecutor("test", "com.alibaba.nacos.naming.test.callback", 1, rejectedCount);
+        CountDownLatch blocker = new CountDownLatch(1);
+        String key = "blocked";
+        List<Integer> result = new CopyOnWriteArrayList<>();
+        blockShard(key, blocker);
+        // the submitting thread is neither blocked nor rejected by the busy shard.
+        for (int i = 0; i < 1000; i++) {
+            final int value = i;
+            executor.select(key).execute(() -> result.add(value));
+        }
+        assertEquals(1000, executor.getPendingCount());
+        assertTrue(result.isEmpty());
+        blocker.countDown();
+        CountDownLatch finished = new CountDownLatch(1);
+        executor.select(key).execute(finished::countDown);
+        assertTrue(finished.await(5, TimeUnit.SECONDS));
+        assertEquals(1000, result.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, result.get(i).intValue());
+        }
+        assertEquals(0, executor.getPendingCount());
+        assertEquals(0L, rejectedCount.get());
+    }
+    
+    private void blockShard(String key, CountDownLatch blocker) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        executor.select(key).execute(() -> {
+            started.countDown();
+            try {
+                blocker.await();
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    public void testRoundRobinWithoutKey() throws InterruptedException {
+        List<Thread> threads = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(2);
+        for (int i = 0; i < 2; i++) {
+            executor.execute(() -> {
+                threads.add(Thread.currentThread());
+                latch.countDown();
+            });
+        }
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertNotSame(threads.get(0), threads.get(1));
+    }
+}
@@ -20,18 +20,21 @@ import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
 import com.alibaba.nacos.api.naming.remote.request.NotifySubscriberRequest;
 import com.alibaba.nacos.api.remote.PushCallBack;
+import com.alibaba.nacos.common.remote.client.grpc.RequestPayloadTemplate;
 import com.alibaba.nacos.core.remote.RpcPushService;
 import com.alibaba.nacos.naming.core.v2.metadata.ServiceMetadata;
 import com.alibaba.nacos.naming.misc.GlobalExecutor;
 import com.alibaba.nacos.naming.pojo.Subscriber;
 import com.alibaba.nacos.naming.push.v2.PushDataWrapper;
 import com.alibaba.nacos.naming.push.v2.task.NamingPushCallback;
+import com.alibaba.nacos.naming.selector.LabelSelector;
 import com.alibaba.nacos.naming.selector.SelectorManager;
 import com.alibaba.nacos.sys.env.EnvUtil;
 import com.alibaba.nacos.sys.utils.ApplicationUtils;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.junit.MockitoJUnitRunner;
@@ -43,9 +46,11 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -82,9 +87,9 @@ public class PushExecutorRpcImplTest {
         pushData = new PushDataWrapper(serviceMetadata, new ServiceInfo("G@@S"));
         pushExecutor = new PushExecutorRpcImpl(pushService);
         EnvUtil.setEnvironment(new MockEnvironment());
-        doAnswer(new CallbackAnswer()).when(pushService)
-                .pushWithCallback(eq(rpcClientId), any(NotifySubscriberRequest.class), eq(pushCallBack),
-                        eq(GlobalExecutor.getCallbackExecutor()));
+        lenient().doAnswer(new CallbackAnswer()).when(pushService)
+                .pushWithCallback(eq(rpcClientId), any(NotifySubscriberRequest.class), any(RequestPayloadTemplate.class),
+                        eq(pushCallBack), eq(GlobalExecutor.getCallbackExecutor(rpcClientId)));
         ApplicationUtils.injectContext(context);
         when(context.getBean(SelectorManager.class)).thenReturn(selectorManager);
         when(selectorManager.select(any(), any(), any()))
@@ -103,13 +108,36 @@ public class PushExecutorRpcImplTest {
         verify(pushCallBack).onSuccess();
     }
     
+    @Test
+    public void testDoPushWithCallbackSharePayload() {
+        String anotherClientId = UUID.randomUUID().toString();
+        pushExecutor.doPushWithCallback(rpcClientId, subscriber, pushData, pushCallBack);
+        pushExecutor.doPushWithCallback(anotherClientId, subscriber, pushData, pushCallBack);
+        ArgumentCaptor<RequestPayloadTemplate> templates = ArgumentCaptor.forClass(RequestPayloadTemplate.class);
+        verify(pushService).pushWithCallback(eq(rpcClientId), any(NotifySubscriberRequest.class), templates.capture(),
+                eq(pushCallBack), eq(GlobalExecutor.getCallbackExecutor(rpcClientId)));
+        verify(pushService).pushWithCallback(eq(anotherClientId), any(NotifySubscriberRequest.class), templates.capture(),
+                eq(pushCallBack), eq(GlobalExecutor.getCallbackExecutor(anotherClientId)));
+        assertSame(templates.getAllValues().get(0), templates.getAllValues().get(1));
+    }
+    
+    @Test
+    public void testDoPushWithCallbackWithSelector() {
+        serviceMetadata.setSelector(new LabelSelector());
+        doAnswer(new CallbackAnswer()).when(pushService)
+                .pushWithCallback(eq(rpcClientId), any(NotifySubscriberRequest.class), eq(pushCallBack),
+                        eq(GlobalExecutor.getCallbackExecutor(rpcClientId)));
+        pushExecutor.doPushWithCallback(rpcClientId, subscriber, pushData, pushCallBack);
+        verify(pushCallBack).onSuccess();
+    }
+    
     private class CallbackAnswer implements Answer<Void> {
         
         @Override
         public Void answer(InvocationOnMock invocationOnMock) throws Throwable {
             NotifySubscriberRequest pushRequest = invocationOnMock.getArgument(1);
             assertEquals(pushData.getOriginalData().toString(), pushRequest.getServiceInfo().toString());
-            PushCallBack callBack = invocationOnMock.getArgument(2);
+            PushCallBack callBack = invocationOnMock.getArgument(invocationOnMock.getArguments().length - 2);
             callBack.onSuccess();
             return null;
         }
@@ -22,8 +22,10 @@ import com.alibaba.nacos.api.remote.request.RequestMeta;
 import com.alibaba.nacos.api.remote.response.ResponseCode;
 import com.alibaba.nacos.core.distributed.distro.DistroProtocol;
 import com.alibaba.nacos.core.distributed.distro.entity.DistroData;
+import com.alibaba.nacos.core.distributed.distro.entity.DistroKey;
 import com.alibaba.nacos.naming.cluster.remote.request.DistroDataRequest;
 import com.alibaba.nacos.naming.cluster.remote.response.DistroDataResponse;
+import com.alibaba.nacos.naming.consistency.ephemeral.distro.v2.DistroClientDataProcessor;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -83,4 +85,15 @@ public class DistroDataRequestHandlerTest {
         DistroDataResponse response4 = distroDataRequestHandler.handle(distroDataRequest, requestMeta);
         Assert.assertNull(response4.getDistroData());
     }
+    
+    @Test
+    public void testHandleSnapshotChunk() throws NacosException {
+        DistroData distroData = new DistroData();
+        Mockito.when(distroProtocol.onSnapshotChunk(DistroClientDataProcessor.TYPE, "1/2")).thenReturn(distroData);
+        DistroDataRequest distroDataRequest = new DistroDataRequest(
+                new DistroData(new DistroKey("1/2", DistroClientDataProcessor.TYPE), new byte[0]), SNAPSHOT);
+        DistroDataResponse response = distroDataRequestHandler.handle(distroDataRequest, new RequestMeta());
+        Assert.assertEquals(distroData, response.getDistroData());
+        Mockito.verify(distroProtocol, Mockito.never()).onSnapshot(Mockito.any());
+    }
 }
@@ -16,9 +16,14 @@
 
 package com.alibaba.nacos.naming.utils;
 
+import com.alibaba.nacos.api.naming.pojo.Instance;
 import com.alibaba.nacos.api.naming.pojo.ServiceInfo;
+import com.alibaba.nacos.common.utils.StringUtils;
 import org.junit.Test;
 
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
 public class ServiceUtilTest {
@@ -33,4 +38,29 @@ public class ServiceUtilTest {
         ServiceInfo cluster = ServiceUtil.selectInstances(serviceInfo, "cluster");
         assertNotNull(cluster);
     }
+    
+    @Test
+    public void testSelectInstancesByClusterAndHealthy() {
+        ServiceInfo serviceInfo = new ServiceInfo();
+        serviceInfo.setName("serviceName");
+        serviceInfo.addHost(newInstance("1.1.1.1", "cluster1", true, true));
+        serviceInfo.addHost(newInstance("2.2.2.2", "cluster2", false, true));
+        serviceInfo.addHost(newInstance("3.3.3.3", "cluster2", true, false));
+        assertEquals(3, ServiceUtil.selectInstances(serviceInfo, StringUtils.EMPTY).getHosts().size());
+        assertEquals(2, ServiceUtil.selectInstances(serviceInfo, "cluster2").getHosts().size());
+        assertEquals(2, ServiceUtil.selectHealthyInstances(serviceInfo).getHosts().size());
+        assertEquals(2, ServiceUtil.selectEnabledInstances(serviceInfo).getHosts().size());
+        List<Instance> hosts = ServiceUtil.selectInstances(serviceInfo, "cluster1,cluster2", true, true).getHosts();
+        assertEquals(1, hosts.size());
+        assertEquals("1.1.1.1", hosts.get(0).getIp());
+    }
+    
+    private Instance newInstance(String ip, String cluster, boolean healthy, boolean enabled) {
+        Instance result = new Instance();
+        result.setIp(ip);
+        result.setClusterName(cluster);
+        result.setHealthy(healthy);
+        result.setEnabled(enabled);
+        return result;
+    }
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright 1999-2022 Alibaba Group Holding Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.alibaba.nacos.naming.utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class StringInternerTest {
+    
+    @Test
+    public void testIntern() {
+        String first = new String("StringInternerTest.cluster");
+        String second = new String("StringInternerTest.cluster");
+        assertSame(first, StringInterner.intern(first));
+        assertSame(first, StringInterner.intern(second));
+        assertNull(StringInterner.intern(null));
+    }
+    
+    @Test
+    public void testBounded() {
+        StringInterner interner = new StringInterner(2);
+        String first = new String("first");
+        String second = new String("second");
+        assertSame(first, interner.get(first));
+        assertSame(second, interner.get(second));
+        assertEquals(2, interner.size());
+        // not pooled any more after the pool is full, the input value is returned as it is.
+        String third = new String("third");
+        assertSame(third, interner.get(third));
+        assertNotSame(third, interner.get(new String("third")));
+        assertEquals(2, interner.size());
+        assertSame(first, interner.get(new String("first")));
+    }
+}